@@ -454,6 +454,9 @@ public class Properties {
     @Parameter(key = "dse_negate_all_conditions", group = "DSE", description = "Negate all branch conditions in the path condition (covered or not)")
     public static boolean DSE_NEGATE_ALL_CONDITIONS = true;
 
+    @Parameter(key = "dse_constraint_independence", group = "DSE", description = "Only send to the solver the constraints that transitively share variables with the negated condition")
+    public static boolean DSE_CONSTRAINT_INDEPENDENCE = true;
+
     @Parameter(key = "dse_constraint_length", group = "DSE", description = "Maximal length of the constraints in DSE")
     public static int DSE_CONSTRAINT_LENGTH = 100000;
 
@@ -512,6 +515,9 @@ public class Properties {
     @Parameter(key = "cvc4_path", group = "DSE", description = "Indicates the path to the CVC4 solver")
     public static String CVC4_PATH = null;
 
+    @Parameter(key = "smt_solver_pool_size", group = "DSE", description = "Number of long-lived Z3/CVC4 processes kept per solver that receive queries incrementally (push/pop). If 0, a new solver process is launched for each query")
+    public static int SMT_SOLVER_POOL_SIZE = 0;
+
     public enum DSEStoppingConditionCriterion {
         TARGETCOVERAGE,
         MAXTIME,
@@ -948,11 +954,20 @@ public class Properties {
     @Parameter(key = "ctg_debug_port", group = "Continuous Test Generation", description = "Port for remote debugging of 'Master' spawn processes. 'Clinet' process will have port+1. This only applies when for a single CUT.")
     public static Integer CTG_DEBUG_PORT = null;
 
+    @Parameter(key = "ctg_worker_pool", group = "Continuous Test Generation", description = "Run the jobs in long-lived worker processes, one per core, instead of starting new processes for each job. Master and client of a job run in the same worker, and the static state is reset between jobs")
+    public static boolean CTG_WORKER_POOL = false;
+
+    @Parameter(key = "ctg_worker_max_heap", group = "Continuous Test Generation", description = "Fraction of its maximum heap that a worker process may use after a job and a garbage collection before it is restarted")
+    public static double CTG_WORKER_MAX_HEAP = 0.6;
+
+    @Parameter(key = "ctg_worker_max_loaded_classes", group = "Continuous Test Generation", description = "Number of loaded classes after which a worker process is restarted, as the classes of the SUT are loaded again for each job")
+    public static int CTG_WORKER_MAX_LOADED_CLASSES = 40000;
+
     /**
      * The types of CTG schedules that can be used
      */
     public enum AvailableSchedule {
-        SIMPLE, BUDGET, SEEDING, BUDGET_AND_SEEDING, HISTORY
+        SIMPLE, BUDGET, SEEDING, BUDGET_AND_SEEDING, HISTORY, NPE
     }
 
     /*
@@ -1173,6 +1188,9 @@ public class Properties {
     @Parameter(key = "max_mutants_per_test", group = "Output", description = "How many mutants to use when trying to find assertions for a test")
     public static int MAX_MUTANTS_PER_TEST = 100;
 
+    @Parameter(key = "assertion_share_mutant_prefix", group = "Output", description = "When executing a test on a mutant, do not observe again the statements before the first one that reaches the mutant")
+    public static boolean ASSERTION_SHARE_MUTANT_PREFIX = true;
+
     @Parameter(key = "max_mutants_per_method", group = "Output", description = "How many mutants can be inserted into a single method")
     public static int MAX_MUTANTS_PER_METHOD = 700;
 
@@ -1200,6 +1218,9 @@ public class Properties {
     @Parameter(key = "new_statistics", group = "Output", description = "Use the new statistics backend on the master")
     public static boolean NEW_STATISTICS = true;
 
+    @Parameter(key = "compact_statistics", group = "Output", description = "Send only the statistics values of the best individuals to the master, in batches, rather than whole test suites. Whole test suites are still sent if the statistics backend needs them")
+    public static boolean COMPACT_STATISTICS = true;
+
     @Parameter(key = "ignore_missing_statistics", group = "Output", description = "Return an empty string for missing output variables")
     public static boolean IGNORE_MISSING_STATISTICS = false;
 
@@ -1297,6 +1318,15 @@ public class Properties {
     @Parameter(key = "inheritance_file", description = "Cached version of inheritance tree")
     public static String INHERITANCE_FILE = "";
 
+    @Parameter(key = "classpath_index", description = "Keep a persistent index of the classes in the jars of the classpath, keyed by jar path, size and modification time, so that repeated runs do not rescan them")
+    public static boolean CLASSPATH_INDEX = true;
+
+    @Parameter(key = "classpath_index_dir", description = "Directory of the persistent classpath index. If empty, evosuite-classpath-index in the system temporary directory is used")
+    public static String CLASSPATH_INDEX_DIR = "";
+
+    @Parameter(key = "classpath_scan_threads", description = "Number of threads scanning the classpath entries. If 0, the number of available processors is used")
+    public static int CLASSPATH_SCAN_THREADS = 0;
+
     @Parameter(key = "branch_eval", description = "Jeremy's branch evaluation")
     public static boolean BRANCH_EVAL = false;
 
@@ -1692,6 +1722,52 @@ public class Properties {
     @Parameter(key = "npetest", group = "Runtime", description = "Allows EvoSuite to perform npetest")
     public static boolean NPETEST_ON = false;
 
+    @Parameter(key = "npe_target_class", group = "Runtime", description = "Class where a known NPE is thrown. When set, the time until npetest reproduces it is reported as Time_To_First_NPE")
+    public static String NPE_TARGET_CLASS = "";
+
+    @Parameter(key = "npe_target_line", group = "Runtime", description = "Line of npe_target_class where the known NPE is thrown")
+    public static int NPE_TARGET_LINE = -1;
+
+    @Parameter(key = "npe_archive_max_size", group = "Runtime", description = "Maximum number of tests kept in the npetest archive (0 = unbounded)")
+    public static int NPE_ARCHIVE_MAX_SIZE = 0;
+
+    @Parameter(key = "npe_archive_max_statements", group = "Runtime", description = "Maximum total number of statements of the tests kept in the npetest archive, which bounds its memory use (0 = unbounded)")
+    public static int NPE_ARCHIVE_MAX_STATEMENTS = 0;
+
+    public enum NPEArchiveEviction {
+        LOWEST_SCORE, OLDEST, DOMINATED
+    }
+
+    @Parameter(key = "npe_archive_eviction", group = "Runtime", description = "Which test is removed when the npetest archive is full. DOMINATED removes the longest test for which a shorter test with the same NPE sites is archived, and the lowest scoring test if there is none")
+    public static NPEArchiveEviction NPE_ARCHIVE_EVICTION = NPEArchiveEviction.DOMINATED;
+
+    @Parameter(key = "profile_components", group = "Runtime", description = "Measure the time spent in test generation, test execution, fitness evaluation, archive updates and static analysis, and report it as Time_* output variables")
+    public static boolean PROFILE_COMPONENTS = false;
+
+    @Parameter(key = "profile_components_jfr", group = "Runtime", description = "With profile_components, also record each timed section as a Java Flight Recorder event (org.evosuite.Component)")
+    public static boolean PROFILE_COMPONENTS_JFR = false;
+
+    @Parameter(key = "npe_summaries", group = "Runtime", description = "Compute nullness summaries (may return null, dereferenced parameters, fields written null) of all methods in the source root of the target class, so that calls to other classes are not assumed to return null")
+    public static boolean NPE_SUMMARIES = false;
+
+    @Parameter(key = "npe_summaries_cache", group = "Runtime", description = "File where the nullness summaries are cached and reused by later runs on the same source root. Defaults to npe_summaries.bin in ctg_dir")
+    public static String NPE_SUMMARIES_CACHE = "";
+
+    @Parameter(key = "npe_block_coverage", group = "Runtime", description = "Record the basic blocks of the target class covered by the executed tests, and favour the methods whose NPE candidate lines are not covered yet")
+    public static boolean NPE_BLOCK_COVERAGE = false;
+
+    @Parameter(key = "npe_uncovered_line_weight", group = "Runtime", description = "With npe_block_coverage, factor applied to the NPE paths of candidate lines that no test covered yet when scoring methods")
+    public static double NPE_UNCOVERED_LINE_WEIGHT = 2.0;
+
+    @Parameter(key = "npe_incremental_analysis", group = "Runtime", description = "Store the results of the static analysis of the target class in ctg_dir, and only analyze the methods that changed since the last run, and the methods depending on them, again")
+    public static boolean NPE_INCREMENTAL_ANALYSIS = false;
+
+    @Parameter(key = "npe_warm_start", group = "Runtime", description = "Start the npetest search from the tests of earlier runs on the target class which threw NPEs or reached NPE candidate lines, and store the ones of this run")
+    public static boolean NPE_WARM_START = false;
+
+    @Parameter(key = "npe_warm_start_file", group = "Runtime", description = "File of the tests used by npe_warm_start. Defaults to npe_seeds/<target class>.ser in ctg_dir")
+    public static String NPE_WARM_START_FILE = "";
+
     /**
      * Class under test
      */
@@ -36,6 +36,7 @@ import org.evosuite.graphs.cfg.BytecodeInstructionPool;
 import org.evosuite.graphs.cfg.CFGMethodAdapter;
 import org.evosuite.instrumentation.InstrumentingClassLoader;
 import org.evosuite.instrumentation.LinePool;
+import org.evosuite.junit.writer.TestCodeCache;
 import org.evosuite.runtime.Runtime;
 import org.evosuite.runtime.classhandling.ModifiedTargetStaticFields;
 import org.evosuite.runtime.instrumentation.MethodCallReplacementCache;
@@ -233,5 +234,6 @@ public class TestGenerationContext {
 
         InspectorManager.resetSingleton();
         ModifiedTargetStaticFields.resetSingleton();
+        TestCodeCache.resetSingleton();
     }
 }
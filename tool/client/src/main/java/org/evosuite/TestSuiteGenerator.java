@@ -51,6 +51,8 @@ import org.evosuite.seeding.ObjectPoolManager;
 import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.ExceptionMapGenerator;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.NPEBenchmarkMonitor;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.statistics.StatisticsSender;
 import org.evosuite.strategy.TestGenerationStrategy;
@@ -135,6 +137,8 @@ public class TestSuiteGenerator {
 
         LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Analyzing classpath: ");
 
+        NPEBenchmarkMonitor.generationStarted();
+        ComponentProfiler.reset();
         ClientServices.getInstance().getClientNode().changeState(ClientState.INITIALIZATION);
 
         // Deactivate loop counter to make sure classes initialize properly
@@ -218,7 +222,9 @@ public class TestSuiteGenerator {
             return TestGenerationResultBuilder.buildErrorResult("Could not load target class");
         }
 
+        NPEBenchmarkMonitor.searchStarted();
         TestSuiteChromosome testCases = generateTests();
+        NPEBenchmarkMonitor.searchFinished();
 
         // As post process phases such as minimisation, coverage analysis, etc., may call getFitness()
         // of each fitness function, which may try to update the Archive, in here we explicitly disable
@@ -248,6 +254,8 @@ public class TestSuiteGenerator {
         }
 
         TestCaseExecutor.pullDown();
+        NPEBenchmarkMonitor.sendStatistics();
+        ComponentProfiler.sendStatistics();
         /*
          * TODO: when we will have several processes running in parallel, we ll
          * need to handle the gathering of the statistics.
@@ -0,0 +1,272 @@
+package org.evosuite.analysis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * File holding the results of the static analysis of the methods of a target
+ * class, so that a later run on the same class only analyzes the methods which
+ * changed, and the ones depending on them, again.
+ * <p>
+ * Each method and field is stored with a hash of its source. A method is
+ * invalidated if its source changed, if it calls an invalidated method, or if
+ * it reads a field whose declaration changed or which an invalidated method
+ * writes, see {@link #getInvalidated(Map, Map, Map, Map)}.
+ */
+class AnalysisCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalysisCache.class);
+
+    private static final int MAGIC = 0x4e50414e; // "NPAN"
+
+    private static final int VERSION = 1;
+
+    /**
+     * Source hash, dependencies and analysis results of a method. Constructors
+     * and initializers only have dependencies, as they are always analyzed.
+     */
+    static class MethodResult {
+
+        final long hash;
+
+        final Set<String> callees = new HashSet<>();
+
+        final Set<String> readFields = new HashSet<>();
+
+        final Set<String> writtenFields = new HashSet<>();
+
+        /**
+         * Whether the method may return null, null if this was not decided
+         */
+        Boolean returnNull;
+
+        boolean target;
+
+        /**
+         * Lines of the nodes which may throw an NPE, relative to the first line of the method
+         */
+        int[] npeLines = new int[0];
+
+        /**
+         * Number of paths to each node which may throw an NPE
+         */
+        int[] npePaths = new int[0];
+
+        MethodResult(long hash) {
+            this.hash = hash;
+        }
+    }
+
+    private final File file;
+
+    AnalysisCache(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the results of a previous analysis of the target class
+     *
+     * @param fingerprint identifies whatever the analysis depends on besides the target class
+     * @return false if the file is missing, unreadable or of another class or fingerprint
+     */
+    boolean load(String targetClass, long fingerprint, Map<String, Long> fields, Map<String, MethodResult> methods) {
+        if (!file.exists()) return false;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(targetClass)
+                    || in.readLong() != fingerprint) return false;
+
+            int numFields = in.readInt();
+            for (int i = 0; i < numFields; i++) {
+                fields.put(in.readUTF(), in.readLong());
+            }
+
+            int numMethods = in.readInt();
+            for (int i = 0; i < numMethods; i++) {
+                String key = in.readUTF();
+                MethodResult result = new MethodResult(in.readLong());
+                readStrings(in, result.callees);
+                readStrings(in, result.readFields);
+                readStrings(in, result.writtenFields);
+
+                byte returnNull = in.readByte();
+                result.returnNull = returnNull < 0 ? null : returnNull == 1;
+                result.target = in.readBoolean();
+                result.npeLines = new int[in.readInt()];
+                result.npePaths = new int[result.npeLines.length];
+                for (int n = 0; n < result.npeLines.length; n++) {
+                    result.npeLines[n] = in.readInt();
+                    result.npePaths[n] = in.readInt();
+                }
+
+                methods.put(key, result);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable analysis cache {}: {}", file, e.getMessage());
+            fields.clear();
+            methods.clear();
+            return false;
+        }
+    }
+
+    void store(String targetClass, long fingerprint, Map<String, Long> fields,
+               Map<String, MethodResult> methods) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+            throw new IOException("Cannot create " + directory);
+        }
+
+        File tmp = File.createTempFile(file.getName(), ".tmp", directory);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(targetClass);
+                out.writeLong(fingerprint);
+
+                out.writeInt(fields.size());
+                for (Map.Entry<String, Long> entry : fields.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue());
+                }
+
+                out.writeInt(methods.size());
+                for (Map.Entry<String, MethodResult> entry : methods.entrySet()) {
+                    MethodResult result = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(result.hash);
+                    writeStrings(out, result.callees);
+                    writeStrings(out, result.readFields);
+                    writeStrings(out, result.writtenFields);
+
+                    out.writeByte(result.returnNull == null ? -1 : result.returnNull ? 1 : 0);
+                    out.writeBoolean(result.target);
+                    out.writeInt(result.npeLines.length);
+                    for (int n = 0; n < result.npeLines.length; n++) {
+                        out.writeInt(result.npeLines[n]);
+                        out.writeInt(result.npePaths[n]);
+                    }
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            tmp.delete();
+        }
+    }
+
+    private static void readStrings(DataInputStream in, Set<String> strings) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) strings.add(in.readUTF());
+    }
+
+    private static void writeStrings(DataOutputStream out, Set<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String s : strings) out.writeUTF(s);
+    }
+
+    /**
+     * Computes the methods whose previous results cannot be reused. The
+     * dependencies of both analyses are followed, so that the callers of a
+     * removed method and the readers of a field it wrote are invalidated too.
+     *
+     * @param previous       methods of the previous analysis
+     * @param current        methods of the current source, without results
+     * @param previousFields source hashes of the fields of the previous analysis
+     * @param currentFields  source hashes of the current fields
+     * @return the keys of the invalidated methods of the current source
+     */
+    static Set<String> getInvalidated(Map<String, MethodResult> previous, Map<String, MethodResult> current,
+                                      Map<String, Long> previousFields, Map<String, Long> currentFields) {
+        Map<String, Set<String>> callers = new HashMap<>();
+        Map<String, Set<String>> readers = new HashMap<>();
+        for (Map<String, MethodResult> methods : Arrays.asList(previous, current)) {
+            for (Map.Entry<String, MethodResult> entry : methods.entrySet()) {
+                for (String callee : entry.getValue().callees) {
+                    callers.computeIfAbsent(callee, k -> new HashSet<>()).add(entry.getKey());
+                }
+                for (String field : entry.getValue().readFields) {
+                    readers.computeIfAbsent(field, k -> new HashSet<>()).add(entry.getKey());
+                }
+            }
+        }
+
+        Set<String> invalidated = new HashSet<>();
+        Deque<String> worklist = new ArrayDeque<>();
+
+        for (Map.Entry<String, MethodResult> entry : current.entrySet()) {
+            MethodResult old = previous.get(entry.getKey());
+            if (old == null || old.hash != entry.getValue().hash) {
+                invalidated.add(entry.getKey());
+                worklist.add(entry.getKey());
+            }
+        }
+        for (String removed : previous.keySet()) {
+            if (!current.containsKey(removed) && invalidated.add(removed)) worklist.add(removed);
+        }
+
+        Set<String> changedFields = new HashSet<>();
+        for (Map.Entry<String, Long> entry : currentFields.entrySet()) {
+            if (!entry.getValue().equals(previousFields.get(entry.getKey()))) changedFields.add(entry.getKey());
+        }
+        for (String removed : previousFields.keySet()) {
+            if (!currentFields.containsKey(removed)) changedFields.add(removed);
+        }
+        for (String field : changedFields) {
+            for (String reader : readers.getOrDefault(field, Collections.emptySet())) {
+                if (invalidated.add(reader)) worklist.add(reader);
+            }
+        }
+
+        while (!worklist.isEmpty()) {
+            String method = worklist.poll();
+
+            for (String caller : callers.getOrDefault(method, Collections.emptySet())) {
+                if (invalidated.add(caller)) worklist.add(caller);
+            }
+
+            Set<String> written = new HashSet<>();
+            if (previous.containsKey(method)) written.addAll(previous.get(method).writtenFields);
+            if (current.containsKey(method)) written.addAll(current.get(method).writtenFields);
+            for (String field : written) {
+                for (String reader : readers.getOrDefault(field, Collections.emptySet())) {
+                    if (invalidated.add(reader)) worklist.add(reader);
+                }
+            }
+        }
+
+        invalidated.retainAll(current.keySet());
+        return invalidated;
+    }
+
+    /**
+     * @return a 64 bit FNV-1a hash of the source of a method or field
+     */
+    static long hash(String source) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < source.length(); i++) {
+            hash ^= source.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -3,6 +3,7 @@ package org.evosuite.analysis;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,7 +35,7 @@ import org.evosuite.analysis.controlflow.ControlFlowGraph;
 import org.evosuite.analysis.staticanalysis.NullableFieldAnalyzer;
 
 public class ClassInfo {
-    private static final ClassInfo instance = new ClassInfo();
+    private static ClassInfo instance = new ClassInfo();
 
     private HashSet<String> publicMethodSet = new HashSet<>();
     private HashSet<String> privateMethodSet = new HashSet<>();
@@ -71,6 +72,10 @@ public class ClassInfo {
         return instance;
     }
 
+    public static void resetSingleton() {
+        instance = new ClassInfo();
+    }
+
     private String currentMethod;
 
     public String getCurrentMethod() {
@@ -100,8 +105,13 @@ public class ClassInfo {
         return privateConstrSet;
     }
 
-    public HashSet<String> getAllMethods() {
-        return allMethods;
+    public Set<String> getAllMethods() {
+        return Collections.unmodifiableSet(allMethods);
+    }
+
+    public void addMethod(String methodSig) {
+        allMethods.add(methodSig);
+        methodKeyCache.clear();
     }
 
     public HashSet<String> getTargetMethods() {
@@ -219,7 +229,7 @@ public class ClassInfo {
                 publicMethodSet.add(methodSig);
             }
 
-            allMethods.add(methodSig);
+            addMethod(methodSig);
             // addTargetMethods(methodSig);
         }
     }
@@ -324,13 +334,20 @@ public class ClassInfo {
         return false;
     }
     
+    // Keys of the signatures looked up so far. Signatures without a key are not
+    // kept, as stack traces name arbitrary methods outside of the target class
+    private HashMap<String, String> methodKeyCache = new HashMap<>();
+
     public String getMethodKey (String sig) {
+        String key = methodKeyCache.get(sig);
+        if (key != null) return key;
+
         for (String m : allMethods) {
             if (sig.contains(m) || m.contains(sig)) {
+                methodKeyCache.put(sig, m);
                 return m;
             }
         }
-
         return null;
     }
     
@@ -373,33 +390,9 @@ public class ClassInfo {
         return false;
     }
 
-    HashMap<String, HashSet<Integer>> npeLineInfo = new HashMap<>();
-    HashMap<String, HashSet<Integer>> foundNpeLineInfo = new HashMap<>();
-
-    public HashSet<Integer> getFoundNPELineInfo(String key) {
-        return foundNpeLineInfo.getOrDefault(key, new HashSet<>());
-    }
-    
-
-    public void updateFoundNPELineInfo (String key, int line) {
-        if (!foundNpeLineInfo.containsKey(key)) {
-            foundNpeLineInfo.put(key, new HashSet<>());
-        }
-        foundNpeLineInfo.get(key).add(line);
-
-        // MethodInfo.getInstance().updateScore(key);
-    }
-
-
-    public HashSet<Integer> getNPELineInfo (String key) {
-        return npeLineInfo.getOrDefault(key, new HashSet<>());
-    }
-
     public void updateNPELineInfo (String key, int line) {
-        if (!npeLineInfo.containsKey(key)) {
-            npeLineInfo.put(key, new HashSet<>());
-        }
-        npeLineInfo.get(key).add(line);
+        // lines of inner classes are lines of the source file of the target class
+        NPECandidateIndex.getInstance().addCandidate(Properties.TARGET_CLASS, line);
 
         // MethodInfo.getInstance().updateScore(key);
     }
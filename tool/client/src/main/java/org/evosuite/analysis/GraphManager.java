@@ -31,14 +31,12 @@ public class GraphManager {
 
     private static final Logger logger = LoggerFactory.getLogger(GraphManager.class);
 
-    private static final GraphManager instance = new GraphManager();
+    private static GraphManager instance = new GraphManager();
 
     private HashMap<String, List<ControlFlowNode>> loopMap = new HashMap<>();
 
     private HashMap<ControlFlowNode, ControlFlowGraph> sccMap = new HashMap<>();
 
-    private HashSet<ControlFlowNode> reachableNodes = new HashSet<>();    
-
     private ControlFlowNode lastNode;
     private ControlFlowNode startNode;
 
@@ -49,6 +47,10 @@ public class GraphManager {
         return instance;
     }
 
+    public static void resetSingleton() {
+        instance = new GraphManager();
+    }
+
     public HashSet<ControlFlowNode> getReachableNodes(ControlFlowGraph graph, ControlFlowNode node) {
         HashSet<ControlFlowNode> result = new HashSet<>();
 
@@ -101,45 +103,23 @@ public class GraphManager {
         }
     }
 
-    public HashSet<ControlFlowNode> getReachableNodes(String methodSig, CtElement ele) throws NotFoundException {
-        if (!reachableNodes.isEmpty()) reachableNodes.clear();
-
+    // The nodes from which the given element can be reached
+    public Set<ControlFlowNode> getReachableNodes(String methodSig, CtElement ele) throws NotFoundException {
         ControlFlowGraph graph = ClassInfo.getInstance().getGraphBySig(methodSig);
 
         ControlFlowNode node = graph.findNode(ele);
 
-        buildReachableNodes(node, graph);
-
-        return reachableNodes;        
+        return graph.getReachabilityIndex().getPredecessors(node);
     }
 
-    public HashSet<ControlFlowNode> getReachableNodes(String methodSig, ControlFlowNode node) {
-        if (!reachableNodes.isEmpty()) reachableNodes.clear();
-
+    // The nodes from which the given node can be reached
+    public Set<ControlFlowNode> getReachableNodes(String methodSig, ControlFlowNode node) {
         ControlFlowGraph graph = ClassInfo.getInstance().getGraphBySig(methodSig);
 
         if (graph == null) return null;
 
-        buildReachableNodes(node, graph);
-
-        return reachableNodes;        
+        return graph.getReachabilityIndex().getPredecessors(node);
     }
-    
-	private void buildReachableNodes(ControlFlowNode startNode, ControlFlowGraph graph) {
-		if (startNode.getParent() == null) {
-            LoggingUtils.getEvoLogger().info("PARENT IS NULL + " + startNode.toString());
-			return;
-		}
-        
-        for (ControlFlowEdge e : graph.incomingEdgesOf(startNode)) {
-            ControlFlowNode n = e.getSourceNode();
-
-            if (reachableNodes.contains(n)) continue;
-
-            reachableNodes.add(n);
-            buildReachableNodes(n, graph);
-        }
-    }    
 
     private void computeScc(String methodSig, ControlFlowGraph graph) {
         List<ControlFlowNode> loopEntries = graph.findNodesOfKind(BranchKind.LOOPENTRY);
@@ -8,8 +8,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 
+import org.evosuite.Properties;
 import org.evosuite.analysis.controlflow.ControlFlowGraph;
 import org.evosuite.analysis.controlflow.ControlFlowNode;
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
+import org.evosuite.analysis.summary.MethodSummary;
+import org.evosuite.analysis.summary.NullnessSummaries;
 import org.evosuite.utils.LoggingUtils;
 import org.evosuite.utils.Randomness;
 
@@ -25,7 +29,9 @@ import spoon.reflect.declaration.CtConstructor;
 import spoon.reflect.declaration.CtElement;
 import spoon.reflect.declaration.CtMethod;
 import spoon.reflect.declaration.CtParameter;
+import spoon.reflect.reference.CtExecutableReference;
 import spoon.reflect.reference.CtFieldReference;
+import spoon.reflect.reference.CtTypeReference;
 import spoon.reflect.visitor.filter.TypeFilter;
 import spoon.support.reflect.code.CtCaseImpl;
 import spoon.support.reflect.code.CtConditionalImpl;
@@ -37,7 +43,7 @@ import spoon.support.reflect.code.CtSwitchImpl;
 import spoon.support.reflect.code.CtWhileImpl;
 
 public class MethodInfo {
-    private static final MethodInfo instance = new MethodInfo();
+    private static MethodInfo instance = new MethodInfo();
 
     private static HashMap<String, List<CtParameter<?>>> methodParamMap = new HashMap<>();
 
@@ -80,8 +86,6 @@ public class MethodInfo {
 
     private HashMap<String, Boolean> returnNullMap = new HashMap<>();
 
-    private HashMap<String, HashSet<Stack<ControlFlowNode>>> returnPaths = new HashMap<>();
-
     private HashMap<String, HashMap<String, Boolean>> nullableMap = new HashMap<>();
     
 
@@ -125,15 +129,21 @@ public class MethodInfo {
     }
 
 
+    public void addInvoCall(String methodKey, String callee) {
+        methodInvoMap.computeIfAbsent(methodKey, k -> new HashSet<>()).add(callee);
+    }
+
     public HashSet<String> getReadFields(String methodKey) {
         if (!readField.containsKey(methodKey)) return null;
         return readField.get(methodKey);
     }
 
     public void updateReadFields(String methodKey, HashSet<String> readFields) {
-        HashSet<String> tmp = readField.get(methodKey);
-        tmp.addAll(readFields);
-        readField.put(methodKey, tmp);
+        readField.computeIfAbsent(methodKey, k -> new HashSet<>()).addAll(readFields);
+    }
+
+    public void addReadField(String methodKey, String field) {
+        readField.computeIfAbsent(methodKey, k -> new HashSet<>()).add(field);
     }
 
     public void updateNPECandidates(String methodKey, List<CtElement> mayNPEs) {
@@ -148,16 +158,6 @@ public class MethodInfo {
         returnNullMap.put(methodKey, isReturn);
     }
 
-    public void setReturnPaths(String methodKey, HashSet<Stack<ControlFlowNode>> paths) {
-        returnPaths.put(methodKey, paths);
-    }
-
-    public HashSet<Stack<ControlFlowNode>> getReturnPaths(String methodKey) {
-        if (!returnPaths.containsKey(methodKey)) return null;
-
-        return returnPaths.get(methodKey);
-    }
-
     HashSet<String> analyzedReturns = new HashSet<>();
 
     public void updateAnalyzedReturns(String methodKey) {
@@ -168,6 +168,13 @@ public class MethodInfo {
         return analyzedReturns.contains(methodKey);
     }
     
+    /**
+     * @return whether the method may return null, or null if this is not decided
+     */
+    public Boolean getReturnNull(String methodKey) {
+        return returnNullMap.get(methodKey);
+    }
+
     public boolean isReturnNull(String methodKey) {
         if (!returnNullMap.containsKey(methodKey)) {
             return true;
@@ -175,15 +182,38 @@ public class MethodInfo {
         return returnNullMap.get(methodKey);
     }
 
+    // Methods of other classes are judged by their nullness summaries, if any
+    public boolean isReturnNull(CtExecutableReference<?> executable, String methodKey) {
+        MethodSummary summary = getExternalSummary(executable);
+        if (summary != null) return summary.mayReturnNull();
+
+        return isReturnNull(methodKey);
+    }
+
+    /**
+     * @return the nullness summary of a method declared outside of the class under test, or null if there is none
+     */
+    public MethodSummary getExternalSummary(CtExecutableReference<?> executable) {
+        if (!NullnessSummaries.getInstance().isLoaded() || executable == null) return null;
+
+        CtTypeReference<?> type = executable.getDeclaringType();
+        CtClass<?> codeClass = ClassInfo.getInstance().getCodeClass();
+        if (type == null || (codeClass != null && type.getQualifiedName().equals(codeClass.getQualifiedName()))) return null;
+
+        return NullnessSummaries.getInstance().get(executable);
+    }
+
     public HashSet<String> getWrittenFields(String methodKey) {
         if (!writtenField.containsKey(methodKey)) return null;
         return writtenField.get(methodKey);
     }
 
     public void updateWrittenFields(String methodKey, HashSet<String> writtenFields) {
-        HashSet<String> tmp = writtenField.get(methodKey);
-        tmp.addAll(writtenFields);
-        writtenField.put(methodKey, tmp);
+        writtenField.computeIfAbsent(methodKey, k -> new HashSet<>()).addAll(writtenFields);
+    }
+
+    public void addWrittenField(String methodKey, String field) {
+        writtenField.computeIfAbsent(methodKey, k -> new HashSet<>()).add(field);
     }
     
     public float getScore(String methodKey) {        
@@ -207,6 +237,23 @@ public class MethodInfo {
         return instance;
     }
 
+    public static void resetSingleton() {
+        instance = new MethodInfo();
+        methodParamMap.clear();
+        methodScoreMap.clear();
+        methodComplexScore.clear();
+        impureMethod.clear();
+        impureMethodSet.clear();
+        conditionElements.clear();
+        fieldReadMap.clear();
+        fieldWriteMap.clear();
+        targetParam.clear();
+        targetField.clear();
+        methodNames.clear();
+        analyzedMethod.clear();
+        literalsInMethod.clear();
+    }
+
     public int chooseParams(String key) {
         HashSet<Integer> paramCandidates = targetParam.get(key);
 
@@ -394,7 +441,7 @@ public class MethodInfo {
 
         int numParams = getMethodParams(targetMethod).size() == 0 ? 1 : getMethodParams(targetMethod).size();
 
-        int numNPEPath = calculateNPENumPath(targetMethod);
+        float numNPEPath = calculateNPENumPath(targetMethod);
 
         methodScoreMap.put(targetMethod, (float) (complexScore * numParams * numNPEPath));   
     }
@@ -457,12 +504,33 @@ public class MethodInfo {
         }
     }
 
+    // NPE candidate lines that no test reached yet are weighted up, to steer the search towards them
+    private float getLineWeight(int line) {
+        if (!Properties.NPE_BLOCK_COVERAGE || BasicBlockCoverage.getInstance().isLineCovered(Properties.TARGET_CLASS, line))
+            return 1.0f;
+
+        return (float) Properties.NPE_UNCOVERED_LINE_WEIGHT;
+    }
+
+    /**
+     * Recomputes the method scores after tests covered new basic blocks
+     */
+    public void updateCoverageScores() {
+        for (String methodSig : ClassInfo.getInstance().getAllMethods()) {
+            setMethodScore(methodSig);
+        }
+
+        for (String methodSig : ClassInfo.getInstance().getAllMethods()) {
+            addInnerMethodScore(methodSig);
+        }
+    }
+
     HashMap<Integer, Integer> numNPEPathMap = new HashMap<>();
 
     HashMap<String, HashSet<ControlFlowNode>> innerScoreMap = new HashMap<>();
 
-    private int calculateNPENumPath(String sig) {
-        int result = 0;
+    private float calculateNPENumPath(String sig) {
+        float result = 0;
         if (mayNPENode == null || mayNPENode.isEmpty() || !mayNPENode.containsKey(sig)) return 0;
 
         for (ControlFlowNode n : mayNPENode.get(sig)) {
@@ -472,7 +540,8 @@ public class MethodInfo {
                 innerScoreMap.get(sig).add(n);
 
             } else {
-                result += numNPEPathMap.getOrDefault(n.getStatement().getPosition().getLine(), 0);
+                int line = n.getStatement().getPosition().getLine();
+                result += numNPEPathMap.getOrDefault(line, 0) * getLineWeight(line);
             }
             
 
@@ -507,6 +576,10 @@ public class MethodInfo {
         setMethodScore(methodKey);
     }
 
+    public int getNumPathByLine(int line) {
+        return numNPEPathMap.getOrDefault(line, 0);
+    }
+
     public Integer getNumPathByNode(ControlFlowNode node) {
         return numNPEPathMap.getOrDefault(node, 0);
     }
@@ -0,0 +1,78 @@
+package org.evosuite.analysis;
+
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * NPE candidate lines found by the static analysis, and the lines at which the
+ * search saw an NPE thrown.
+ * <p>
+ * Inner classes share the source file, and thus the line numbers, of their top
+ * level class, so lines are kept per top level class.
+ */
+public class NPECandidateIndex {
+
+    private static NPECandidateIndex instance = new NPECandidateIndex();
+
+    public static NPECandidateIndex getInstance() {
+        return instance;
+    }
+
+    public static void resetSingleton() {
+        instance = new NPECandidateIndex();
+    }
+
+    // Per top level class, lines which may throw an NPE
+    private final Map<String, BitSet> candidateLines = new HashMap<>();
+
+    // Per top level class, lines at which an NPE was thrown
+    private final Map<String, BitSet> foundLines = new HashMap<>();
+
+    /**
+     * @param className class whose source file contains the line
+     */
+    public void addCandidate(String className, int line) {
+        if (line < 0) return;
+
+        candidateLines.computeIfAbsent(getTopLevelClass(className), c -> new BitSet()).set(line);
+    }
+
+    private static String getTopLevelClass(String className) {
+        int index = className.indexOf('$');
+        return index < 0 ? className : className.substring(0, index);
+    }
+
+    /**
+     * Records an NPE thrown at a line of a class. The line does not need to be
+     * a candidate.
+     *
+     * @return true if no NPE was thrown at the line before
+     */
+    public boolean markFound(String className, int line) {
+        if (line < 0) return false;
+
+        BitSet lines = foundLines.computeIfAbsent(getTopLevelClass(className), c -> new BitSet());
+        if (lines.get(line)) return false;
+
+        lines.set(line);
+        return true;
+    }
+
+    /**
+     * @return the number of candidates whose line was executed, as of the last {@link BasicBlockCoverage#update()}
+     */
+    public int getNumCoveredCandidates() {
+        BasicBlockCoverage coverage = BasicBlockCoverage.getInstance();
+        int covered = 0;
+        for (Map.Entry<String, BitSet> entry : candidateLines.entrySet()) {
+            BitSet lines = entry.getValue();
+            for (int line = lines.nextSetBit(0); line >= 0; line = lines.nextSetBit(line + 1)) {
+                if (coverage.isLineCovered(entry.getKey(), line)) covered++;
+            }
+        }
+        return covered;
+    }
+}
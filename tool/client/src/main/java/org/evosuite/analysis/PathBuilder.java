@@ -2,6 +2,7 @@ package org.evosuite.analysis;
 
 import static org.mockito.Mockito.verify;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Stack;
@@ -11,26 +12,20 @@ import org.evosuite.analysis.controlflow.ControlFlowEdge;
 import org.evosuite.analysis.controlflow.ControlFlowGraph;
 import org.evosuite.analysis.controlflow.ControlFlowNode;
 import org.evosuite.analysis.controlflow.NotFoundException;
+import org.evosuite.analysis.dataflow.DefUseIndex;
 import org.evosuite.utils.LoggingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import spoon.reflect.code.CtArrayAccess;
-import spoon.reflect.code.CtAssignment;
-import spoon.reflect.code.CtExpression;
 import spoon.reflect.code.CtIf;
-import spoon.reflect.code.CtLocalVariable;
-import spoon.reflect.code.CtVariableAccess;
 import spoon.reflect.declaration.CtElement;
-import spoon.reflect.reference.CtVariableReference;
-import spoon.reflect.visitor.filter.TypeFilter;
 
 
 public class PathBuilder {
 
     private static final Logger logger = LoggerFactory.getLogger(PathBuilder.class);
 
-    private static final PathBuilder instance = new PathBuilder();
+    private static PathBuilder instance = new PathBuilder();
 
     private HashSet<Stack<ControlFlowNode>> backPathSet = new HashSet<>();
     private HashSet<Stack<ControlFlowNode>> forwardPathSet = new HashSet<>();
@@ -40,52 +35,24 @@ public class PathBuilder {
     private static ControlFlowNode lastNode;
 
     
-	private Set<CtVariableReference<?>> defined (ControlFlowNode n) {
-		// Obtain the variables defined in this node
-		HashSet<CtVariableReference<?>> def = new HashSet<>();
-		if (n.getStatement() != null) {
-			if (n.getStatement() instanceof CtLocalVariable) {
-				CtLocalVariable<?> lv = ((CtLocalVariable<?>) n.getStatement());
-				if (lv.getDefaultExpression() != null) {
-					def.add(lv.getReference());
-				}
-			} else if (n.getStatement() instanceof CtAssignment) {
-				CtExpression<?> e = ((CtAssignment) n.getStatement()).getAssigned();
-				if (e instanceof CtVariableAccess) {
-					def.add(((CtVariableAccess<?>) e).getVariable());
-				} else if (e instanceof CtArrayAccess) {
-					CtExpression<?> exp = ((CtArrayAccess) e).getTarget();
-					if (exp instanceof CtVariableAccess) {
-						CtVariableReference<?> a = ((CtVariableAccess<?>) exp).getVariable();
-						def.add(a);
-					} else {
-						System.out.println("Could not obtain variable from expression");
-					}
-				}
-			}
-		}
-		return def;
-	}
-
-	private Set<CtVariableReference<?>> used (ControlFlowNode n) {
-		if (n.getStatement() == null) {
-			return new HashSet<>();
-		}
-
-		// Obtain variables used in the given node
-		HashSet<CtVariableReference<?>> used = new HashSet<>();
-		for (CtVariableAccess<?> a: n.getStatement().getElements(new TypeFilter<CtVariableAccess<?>>(CtVariableAccess.class))) {
-			used.add(a.getVariable());
-		}
-		return used;
-
-	}
+    // Variables read by the node, whose definitions are searched backwards
+    private BitSet getRelatedVars(ControlFlowNode targetNode) {
+        DefUseIndex index = DefUseIndex.of(targetNode);
 
+        BitSet relatedVars = (BitSet) index.getUsed(targetNode).clone();
+        relatedVars.andNot(index.getDefined(targetNode));
+        return relatedVars;
+    }
 
     public static PathBuilder getInstance() {
         return instance;
     }
 
+    public static void resetSingleton() {
+        instance = new PathBuilder();
+        lastNode = null;
+    }
+
     public void setLastNode(String methodSig, CtElement ele) {
         ControlFlowGraph graph = GraphManager.getInstance().buildMethodCfgBySig(methodSig);
 
@@ -169,13 +136,14 @@ public class PathBuilder {
         }
     }
     
-	private void buildDefUsePath(ControlFlowNode startNode, Stack<ControlFlowNode> prevStack, Stack<ControlFlowNode> prevVisited, Set<CtVariableReference<?>> relatedVars) {
+	private void buildDefUsePath(ControlFlowNode startNode, Stack<ControlFlowNode> prevStack, Stack<ControlFlowNode> prevVisited, BitSet relatedVars) {
 		if (startNode.getParent() == null) {
             LoggingUtils.getEvoLogger().info("PARENT IS NULL + " + startNode.toString());
 			return;
 		}
 
 		ControlFlowGraph graph = startNode.getParent();
+        DefUseIndex index = graph.getDefUseIndex();
         Stack<ControlFlowNode> stack = new Stack<>();
         Stack<ControlFlowNode> visited = new Stack<>();        
 
@@ -189,7 +157,7 @@ public class PathBuilder {
 
         //         if (visited.contains(n)) continue;
 
-        //         if (relatedVars.stream().anyMatch(v -> defined(n).contains(v))) {
+        //         if (index.getDefined(n).intersects(relatedVars)) {
         //             stack.push(n);
         //         }
         //         // visited.push(n);
@@ -209,9 +177,9 @@ public class PathBuilder {
             ControlFlowNode n = e.getSourceNode();
 
             // stack a new node
-            if (relatedVars.stream().anyMatch(v -> defined(n).contains(v)) || 
-                (n.getKind().equals(BranchKind.BRANCH) && relatedVars.stream().anyMatch(v -> used(n).contains(v))) ) {
-                relatedVars.addAll(used(n));
+            if (index.getDefined(n).intersects(relatedVars) || 
+                (n.getKind().equals(BranchKind.BRANCH) && index.getUsed(n).intersects(relatedVars)) ) {
+                relatedVars.or(index.getUsed(n));
                 stack.push(n);
                 
                 Stack<ControlFlowNode> stackss = new Stack<>();
@@ -385,8 +353,7 @@ public class PathBuilder {
             Stack<ControlFlowNode> stack = new Stack<>();
 
             Stack<ControlFlowNode> visited = new Stack<>();
-            Set<CtVariableReference<?>> relatedVars = new HashSet<>(used(targetNode));
-            relatedVars.removeAll(defined(targetNode));
+            BitSet relatedVars = getRelatedVars(targetNode);
 
             stack.push(targetNode);
             buildDefUsePath(targetNode, stack, visited, relatedVars);
@@ -411,8 +378,7 @@ public class PathBuilder {
         Stack<ControlFlowNode> stack = new Stack<>();
 
         Stack<ControlFlowNode> visited = new Stack<>();
-        Set<CtVariableReference<?>> relatedVars = new HashSet<>(used(targetNode));
-        relatedVars.removeAll(defined(targetNode));
+        BitSet relatedVars = getRelatedVars(targetNode);
 
         stack.push(targetNode);
         buildDefUsePath(targetNode, stack, visited, relatedVars);
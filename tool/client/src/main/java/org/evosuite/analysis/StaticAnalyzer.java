@@ -5,22 +5,33 @@ import org.evosuite.analysis.controlflow.BranchKind;
 import org.evosuite.analysis.controlflow.ControlFlowEdge;
 import org.evosuite.analysis.controlflow.ControlFlowGraph;
 import org.evosuite.analysis.controlflow.ControlFlowNode;
+import org.evosuite.analysis.dataflow.DataflowAnalysis;
+import org.evosuite.analysis.dataflow.DefUseIndex;
+import org.evosuite.analysis.dataflow.DefiniteDefinitionAnalysis;
+import org.evosuite.analysis.dataflow.MayNullAnalysis;
+import org.evosuite.analysis.dataflow.ReachingDefinitionAnalysis;
 import org.evosuite.analysis.staticanalysis.ComplexityAnalyzer;
 import org.evosuite.analysis.staticanalysis.NPEAnalysisManager;
 import org.evosuite.analysis.staticanalysis.NullableFieldAnalyzer;
 import org.evosuite.analysis.staticanalysis.PathAnalyzer;
+import org.evosuite.analysis.summary.MethodSummary;
+import org.evosuite.analysis.summary.NullnessSummaries;
 import org.evosuite.classpath.ClassPathHandler;
 import org.evosuite.seeding.ConstantPoolManager;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.stream.Collectors;
@@ -29,6 +40,7 @@ import org.evosuite.utils.LoggingUtils;
 import org.objectweb.asm.Type;
 
 import spoon.Launcher;
+import spoon.reflect.code.CtAbstractInvocation;
 import spoon.reflect.code.CtArrayAccess;
 import spoon.reflect.code.CtAssignment;
 import spoon.reflect.code.CtBlock;
@@ -49,9 +61,12 @@ import spoon.reflect.code.CtTargetedExpression;
 import spoon.reflect.code.CtThisAccess;
 import spoon.reflect.code.CtVariableAccess;
 import spoon.reflect.code.CtVariableRead;
+import spoon.reflect.cu.SourcePosition;
+import spoon.reflect.declaration.CtAnonymousExecutable;
 import spoon.reflect.declaration.CtClass;
 import spoon.reflect.declaration.CtConstructor;
 import spoon.reflect.declaration.CtElement;
+import spoon.reflect.declaration.CtExecutable;
 import spoon.reflect.declaration.CtField;
 import spoon.reflect.declaration.CtInterface;
 import spoon.reflect.declaration.CtMethod;
@@ -79,7 +94,7 @@ import org.slf4j.LoggerFactory;
 public class StaticAnalyzer {
 
     private static final Logger logger = LoggerFactory.getLogger(StaticAnalyzer.class);
-    private static final StaticAnalyzer instance = new StaticAnalyzer();
+    private static StaticAnalyzer instance = new StaticAnalyzer();
 
     private static Launcher l;
 
@@ -87,12 +102,15 @@ public class StaticAnalyzer {
 
 	Set<CtVariableReference<?>> initialized = new HashSet<>();
 
-    private HashMap<ControlFlowNode, InitFactors> nodeDefUseMap = new HashMap<>();
-
     public static StaticAnalyzer getInstance() {
         return instance;
     }
 
+    public static void resetSingleton() {
+        instance = new StaticAnalyzer();
+        l = null;
+    }
+
 	public Set<CtVariableReference<?>> getInitialized() {
 		return initialized;
 	}
@@ -102,120 +120,46 @@ public class StaticAnalyzer {
         HashSet<ControlFlowNode> accessed = new HashSet<>();
 	}
     
-	private class InitFactors {
-		Set<CtVariableReference<?>> defined = null;
-		Set<CtVariableReference<?>> used = new HashSet<>();
-	}
-
+	/**
+	 * Computes the variables initialized when the node is executed: the ones
+	 * defined on every path reaching it and the ones read before, e.g. fields and
+	 * parameters.
+	 */
 	public void run(ControlFlowNode node) {
-		HashMap<ControlFlowNode, InitFactors> factors = new HashMap<>();
-        initialized.clear();
-
-		if (node.getParent() != null) {
-			if (node.getParent().findNodesOfKind(BranchKind.BLOCK_END).size() > 0
-					|| node.getParent().findNodesOfKind(BranchKind.BLOCK_BEGIN).size() > 0
-					|| node.getParent().findNodesOfKind(BranchKind.CONVERGE).size() > 0) {
-				throw new RuntimeException("Invalid node types. Simplify the graph with the simplify() method.");
-			}
-		}
-
-		InitFactors fp = initialized(node, factors, true);
-		initialized = fp.defined;
-		initialized.addAll(fp.used);
-
-        nodeDefUseMap.put(node, fp);
-	}
+		initialized.clear();
 
-	private Set<CtVariableReference<?>> defined (ControlFlowNode n) {
-		// Obtain the variables defined in this node
-		HashSet<CtVariableReference<?>> def = new HashSet<>();
-		if (n.getStatement() != null) {
-			if (n.getStatement() instanceof CtLocalVariable) {
-				CtLocalVariable<?> lv = ((CtLocalVariable<?>) n.getStatement());
-				if (lv.getDefaultExpression() != null) {
-					def.add(lv.getReference());
-				}
-			} else if (n.getStatement() instanceof CtAssignment) {
-				CtExpression<?> e = ((CtAssignment) n.getStatement()).getAssigned();
-				if (e instanceof CtVariableAccess) {
-					def.add(((CtVariableAccess<?>) e).getVariable());
-				} else if (e instanceof CtArrayAccess) {
-					CtExpression<?> exp = ((CtArrayAccess) e).getTarget();
-					if (exp instanceof CtVariableAccess) {
-						CtVariableReference<?> a = ((CtVariableAccess<?>) exp).getVariable();
-						def.add(a);
-					} else {
-						System.out.println("Could not obtain variable from expression");
-					}
-				}
-			}
-		}
-		return def;
-	}
-
-	private Set<CtVariableReference<?>> used (ControlFlowNode n) {
-		if (n.getStatement() == null) {
-			return new HashSet<>();
-		}
-
-		// Obtain variables used in the given node
-		HashSet<CtVariableReference<?>> used = new HashSet<>();
-		for (CtVariableAccess<?> a: n.getStatement().getElements(new TypeFilter<CtVariableAccess<?>>(CtVariableAccess.class))) {
-			used.add(a.getVariable());
-		}
-		return used;
-
-	}
-    
-	private InitFactors initialized(ControlFlowNode n, HashMap<ControlFlowNode, InitFactors> factors, boolean includeDefinedInNode) {
-
-		if (n.getParent() == null) {
+		ControlFlowGraph graph = node.getParent();
+		if (graph == null) {
 			throw new RuntimeException("The node has no parent");
 		}
 
-		Set<CtVariableReference<?>> defN = includeDefinedInNode ? defined(n) : new HashSet<CtVariableReference<?>>();
-		Set<CtVariableReference<?>> usedN = includeDefinedInNode ? used(n) : new HashSet<CtVariableReference<?>>();
-		usedN.removeAll(defN);
+		if (graph.findNodesOfKind(BranchKind.BLOCK_END).size() > 0
+				|| graph.findNodesOfKind(BranchKind.BLOCK_BEGIN).size() > 0
+				|| graph.findNodesOfKind(BranchKind.CONVERGE).size() > 0) {
+			throw new RuntimeException("Invalid node types. Simplify the graph with the simplify() method.");
+		}
 
-		InitFactors result = new InitFactors();
+		DefUseIndex index = graph.getDefUseIndex();
 
-		for (ControlFlowEdge e : n.getParent().incomingEdgesOf(n)) {
-			if (e.isBackEdge()) {
-				continue;
-			}
-			ControlFlowNode p = e.getSourceNode();
+		DefiniteDefinitionAnalysis definitions = new DefiniteDefinitionAnalysis(graph);
+		definitions.solve();
 
-			InitFactors fp;
-			if (factors.containsKey(p)) {
-				fp = factors.get(p);
-			} else {
-				fp = initialized(p, factors, true);
+		DataflowAnalysis uses = new DataflowAnalysis(graph, DataflowAnalysis.Direction.FORWARD, true) {
+			@Override
+			protected int getNumberOfFacts() {
+				return index.getNumberOfVariables();
 			}
 
-			//[Def_P for each P ]
-			if (result.defined == null) {
-				result.defined = new HashSet<>();
-				result.defined.addAll(fp.defined);
-			} else {
-				result.defined.retainAll(fp.defined);
+			@Override
+			protected BitSet gen(ControlFlowNode n) {
+				return index.getUsed(n);
 			}
+		};
+		uses.solve();
 
-			fp.used.removeAll(fp.defined);
-			result.used.addAll(fp.used);
-		}
-
-		if (result.defined == null) {
-			result.defined = defN;
-		} else {
-			result.defined.addAll(defN);
-		}
-		result.used.addAll(usedN);
-		result.used.removeAll(result.defined);        
-		// result.defined.removeAll(result.used);
-
-		factors.put(n, result);
-		return result;
-	}    
+		initialized.addAll(index.toVariables(definitions.getOut(node)));
+		initialized.addAll(index.toVariables(uses.getOut(node)));
+	}
 
     private void setMethodParamMap(String methodSig) {
         CtMethod<?> method = ClassInfo.getInstance().getMethodBySig(methodSig);
@@ -496,12 +440,13 @@ public class StaticAnalyzer {
     }
 
     private Stack<ControlFlowNode> getDefUsePath(ControlFlowGraph graph, ControlFlowNode targetNode) {
-        Set<CtVariableReference<?>> usedVars = used(targetNode);
+        DefUseIndex index = graph.getDefUseIndex();
+        Set<CtVariableReference<?>> usedVars = index.getUsedVariables(targetNode);
 
         Set<ControlFlowNode> nodes = graph.getAllNodes();
 
         for (ControlFlowNode n : nodes) {
-            if (defined(n).stream().anyMatch(t -> ClassInfo.getInstance().getFieldInfo().contains(t))) {
+            if (index.getDefinedVariables(n).stream().anyMatch(t -> ClassInfo.getInstance().getFieldInfo().contains(t))) {
                                 
             }
         }
@@ -534,17 +479,15 @@ public class StaticAnalyzer {
             // ASTUtils.printAllEle(pp);
         }
 
-        for (ControlFlowNode n : fieldWriteNodes) {
-            Set<CtVariableReference<?>> tmpNode = used(n);
-            tmpNode.removeAll(defined(n));
-            
-            // HashSet<Stack<ControlFlowNode>> paths = PathBuilder.getInstance().buildDefUsePathByNode(constrSig, n);
+        DefUseIndex defUseIndex = graph.getDefUseIndex();
+        ReachingDefinitionAnalysis reaching = new ReachingDefinitionAnalysis(graph);
+        reaching.solve();
 
-            // for (Stack<ControlFlowNode> path : paths) {
-            //     LoggingUtils.getEvoLogger().info(path.toString());
-            // }
+        for (ControlFlowNode n : fieldWriteNodes) {
+            // Variables flowing into the written field, directly or through local variables
+            BitSet sources = getSourceVariables(n, defUseIndex, reaching);
 
-            for (CtVariableReference<?> vv : tmpNode) {
+            for (CtVariableReference<?> vv : defUseIndex.toVariables(sources)) {
                 if (vv.getDeclaration() instanceof CtParameter) {
                     int index = paramList.indexOf(vv.getDeclaration());
 
@@ -556,6 +499,31 @@ public class StaticAnalyzer {
         }
     }
     
+    private BitSet getSourceVariables(ControlFlowNode node, DefUseIndex index, ReachingDefinitionAnalysis reaching) {
+        BitSet result = new BitSet();
+        Set<ControlFlowNode> visited = new HashSet<>();
+        Worklist<ControlFlowNode> worklist = new Worklist<>();
+
+        visited.add(node);
+        worklist.add(node);
+
+        while (!worklist.isEmpty()) {
+            ControlFlowNode n = worklist.poll();
+
+            BitSet read = (BitSet) index.getUsed(n).clone();
+            read.andNot(index.getDefined(n));
+            result.or(read);
+
+            for (int v = read.nextSetBit(0); v >= 0; v = read.nextSetBit(v + 1)) {
+                for (ControlFlowNode def : reaching.getReachingDefinitions(n, v)) {
+                    if (visited.add(def)) worklist.add(def);
+                }
+            }
+        }
+
+        return result;
+    }
+
     private void analyzeParamToFieldMethod(String constrSig) {
         ControlFlowGraph graph = ClassInfo.getInstance().getGraphBySig(constrSig);
 
@@ -565,7 +533,7 @@ public class StaticAnalyzer {
 
         for (ControlFlowNode n : fieldWriteNodes) {
             if (passingNode(n)) continue;
-            Set<CtVariableReference<?>> tmpNode = used(n);
+            Set<CtVariableReference<?>> tmpNode = DefUseIndex.of(n).getUsedVariables(n);
         }
 
     }
@@ -673,17 +641,52 @@ public class StaticAnalyzer {
     private void analyzeReturns(String methodKey) {
         MethodInfo.getInstance().updateAnalyzedReturns(methodKey);
 
-        if (buildMethodReturnPaths(methodKey) == 0) {
+        if (checkReturnStatements(methodKey) == 0) {
           return;
         }
 
-        HashSet<Stack<ControlFlowNode>> returnPaths = MethodInfo.getInstance().getReturnPaths(methodKey);
+        ControlFlowGraph graph = ClassInfo.getInstance().getGraphBySig(methodKey);
 
-        for (Stack<ControlFlowNode> path : returnPaths) {
-            
-            MethodInfo.getInstance().setReturnNull(methodKey, PathAnalyzer.checkReturnPaths(methodKey, path));
+        if (graph == null) return;
+
+        MayNullAnalysis mayNull = new MayNullAnalysis(graph, getNullableAtEntry(graph.getDefUseIndex()), this::mayReturnNull);
+        mayNull.solve();
+
+        boolean analyzed = false;
+        boolean returnNull = false;
+
+        for (ControlFlowNode ret : graph.getReturnNodes()) {
+            CtExpression<?> returned = ((CtReturn<?>) ret.getStatement()).getReturnedExpression();
+
+            if (returned == null || isNPETarget(ret)) continue;
+
+            analyzed = true;
+            returnNull |= mayNull.mayBeNull(ret, returned);
         }
-        
+
+        if (analyzed) MethodInfo.getInstance().setReturnNull(methodKey, returnNull);
+    }
+
+    // Parameters and fields may be null when the method starts, unless the field is known to be non-null
+    private BitSet getNullableAtEntry(DefUseIndex index) {
+        return index.select(v -> {
+            CtVariable<?> declaration = v.getDeclaration();
+            return !(declaration instanceof CtLocalVariable) && !ClassInfo.getInstance().isNonNullFields(declaration);
+        });
+    }
+
+    private boolean mayReturnNull(CtInvocation<?> inv) {
+        if (inv.getExecutable() == null) return true;
+
+        MethodSummary summary = MethodInfo.getInstance().getExternalSummary(inv.getExecutable());
+        if (summary != null) return summary.mayReturnNull();
+
+        String exeSig = inv.getExecutable().getSignature();
+
+        if (!MethodInfo.getInstance().isReturnAnalyzed(exeSig))
+            analyzeReturns(exeSig);
+
+        return MethodInfo.getInstance().isReturnNull(exeSig);
     }
 
     private boolean checkConditionalNull(CtElement ele) {
@@ -713,8 +716,10 @@ public class StaticAnalyzer {
         return false;
     }
 
-        
-    private int buildMethodReturnPaths(String methodKey) {
+
+    // Decide the nullness of the returned values from the return statements alone when possible.
+    // Returns 0 if it is decided.
+    private int checkReturnStatements(String methodKey) {
         CtMethod<?> method = ClassInfo.getInstance().getMethodBySig(methodKey);
 
         if (method == null) return 0;
@@ -745,25 +750,6 @@ public class StaticAnalyzer {
             return 0;
         }
 
-        HashSet<Stack<ControlFlowNode>> defPaths = new HashSet<>();
-
-        // Remove return stmts which directly returns null
-        ControlFlowGraph graph = ClassInfo.getInstance().getGraphBySig(methodKey);
-
-        if (graph == null) return 0;
-
-        HashSet<ControlFlowNode> returnNodes = graph.getReturnNodes();
-
-        for (ControlFlowNode ret : returnNodes) {
-            if (isNPETarget(ret)) continue;
-
-            Set<CtVariableReference<?>> usedVar = used(ret);
-
-            defPaths.addAll(PathBuilder.getInstance().buildDefUsePathByNode(methodKey, ret));
-        }
-
-        MethodInfo.getInstance().setReturnPaths(methodKey, defPaths);
-
         return 1;
     }
 
@@ -834,7 +820,7 @@ public class StaticAnalyzer {
         if (npeNodes == null || npeNodes.isEmpty()) return;
 
         for (ControlFlowNode n : npeNodes) {
-            HashSet<ControlFlowNode> reachableNodes = GraphManager.getInstance().getReachableNodes(methodKey, n);
+            Set<ControlFlowNode> reachableNodes = GraphManager.getInstance().getReachableNodes(methodKey, n);
 
             if (reachableNodes == null || reachableNodes.isEmpty()) continue;
 
@@ -894,6 +880,10 @@ public class StaticAnalyzer {
         ClassInfo.getInstance().initSet();
         ClassInfo.getInstance().setClassFields();
         ClassInfo.getInstance().buildCfgs();
+
+        if (Properties.NPE_SUMMARIES) {
+            NullnessSummaries.getInstance().load(classPath);
+        }
     }
 
     private void analyzeMethod(String methodSig) {
@@ -908,9 +898,38 @@ public class StaticAnalyzer {
 
         analysisNPEMethod(methodSig);
 
+        analyzeSummarizedCalls(methodSig);
+
         reachableNodes(methodSig);
     }
 
+    // Parameters passed to methods of other classes which dereference them are mutation targets
+    private void analyzeSummarizedCalls(String methodSig) {
+        CtMethod<?> method = ClassInfo.getInstance().getMethodBySig(methodSig);
+
+        if (method == null || method.getBody() == null) return;
+
+        List<CtParameter<?>> paramList = method.getParameters();
+
+        List<CtAbstractInvocation<?>> calls = method.getBody().getElements(new TypeFilter<>(CtAbstractInvocation.class));
+
+        for (CtAbstractInvocation<?> call : calls) {
+            MethodSummary summary = MethodInfo.getInstance().getExternalSummary(call.getExecutable());
+
+            if (summary == null) continue;
+
+            List<CtExpression<?>> args = call.getArguments();
+
+            for (int i = 0; i < args.size(); i++) {
+                if (!summary.isDereferenced(i) || !(args.get(i) instanceof CtVariableRead)) continue;
+
+                int index = paramList.indexOf(((CtVariableRead<?>) args.get(i)).getVariable().getDeclaration());
+
+                if (index >= 0) MethodInfo.getInstance().addTargetParam(methodSig, index);
+            }
+        }
+    }
+
     public void analyze() {
         // First update the nullable fields in the given class
         NullableFieldAnalyzer.getInstance().analyze();
@@ -919,10 +938,246 @@ public class StaticAnalyzer {
             analyzeParamToFieldConstr(constrSig);
         }
 
+        Map<String, AnalysisCache.MethodResult> methods = null;
+        Map<String, Long> fields = null;
+        if (Properties.NPE_INCREMENTAL_ANALYSIS) {
+            methods = collectDependencies();
+            fields = getFieldHashes();
+            restoreUnchangedMethods(methods, fields);
+        }
+
         for (String methodSig : ClassInfo.getInstance().getAllMethods()) {
             analyzeMethod(methodSig);
         }
 
+        if (Properties.NPE_INCREMENTAL_ANALYSIS) {
+            storeAnalysis(methods, fields);
+        }
+
         MethodInfo.getInstance().updateMethodScore();
     }
+
+    private AnalysisCache getAnalysisCache() {
+        return new AnalysisCache(new File(Properties.CTG_DIR, "npe_analysis/" + Properties.TARGET_CLASS + ".bin"));
+    }
+
+    // Whatever the analysis of the target class depends on, besides its own source
+    private long getFingerprint() {
+        if (!NullnessSummaries.getInstance().isLoaded()) return 0;
+
+        return NullnessSummaries.getInstance().getFingerprint(Properties.TARGET_CLASS);
+    }
+
+    // The original source of an element, which unlike its printed form changes with the lines of the element
+    private static String getSource(CtElement element) {
+        SourcePosition position = element.getPosition();
+        if (!position.isValidPosition() || position.getCompilationUnit() == null) return element.toString();
+
+        String source = position.getCompilationUnit().getOriginalSourceCode();
+        if (source == null || position.getSourceEnd() >= source.length()) return element.toString();
+
+        return source.substring(position.getSourceStart(), position.getSourceEnd() + 1);
+    }
+
+    /**
+     * Records the methods of the class called by each method, constructor and
+     * initializer, and the fields of the class they read and write, in
+     * {@link MethodInfo}.
+     *
+     * @return the source hash and dependencies of each method, constructor and initializer
+     */
+    private Map<String, AnalysisCache.MethodResult> collectDependencies() {
+        Map<CtExecutable<?>, String> keys = new IdentityHashMap<>();
+        for (String sig : ClassInfo.getInstance().getAlls()) {
+            keys.put((CtExecutable<?>) ClassInfo.getInstance().getMethodConstr(sig), sig);
+        }
+
+        // initializers have no signature, but may write fields
+        int initializers = 0;
+        for (CtAnonymousExecutable initializer : codeClass.getElements(new TypeFilter<>(CtAnonymousExecutable.class))) {
+            keys.put(initializer, "<initializer " + initializers++ + ">");
+        }
+
+        Map<String, AnalysisCache.MethodResult> result = new HashMap<>();
+        for (Map.Entry<CtExecutable<?>, String> entry : keys.entrySet()) {
+            String sig = entry.getValue();
+            AnalysisCache.MethodResult dependencies = new AnalysisCache.MethodResult(AnalysisCache.hash(getSource(entry.getKey())));
+
+            for (CtAbstractInvocation<?> call : entry.getKey().getElements(new TypeFilter<>(CtAbstractInvocation.class))) {
+                CtExecutable<?> callee = call.getExecutable() == null ? null : call.getExecutable().getExecutableDeclaration();
+                String calleeSig = callee == null ? null : keys.get(callee);
+
+                if (calleeSig == null) continue;
+
+                dependencies.callees.add(calleeSig);
+                MethodInfo.getInstance().addInvoCall(sig, calleeSig);
+            }
+
+            for (CtFieldAccess<?> access : entry.getKey().getElements(new TypeFilter<>(CtFieldAccess.class))) {
+                CtFieldReference<?> field = access.getVariable();
+
+                if (field == null || !ClassInfo.getInstance().getFieldInfo().contains(field)) continue;
+
+                if (access instanceof CtFieldWrite) {
+                    dependencies.writtenFields.add(field.getQualifiedName());
+                    MethodInfo.getInstance().addWrittenField(sig, field.getQualifiedName());
+                } else {
+                    dependencies.readFields.add(field.getQualifiedName());
+                    MethodInfo.getInstance().addReadField(sig, field.getQualifiedName());
+                }
+            }
+
+            result.put(sig, dependencies);
+        }
+
+        return result;
+    }
+
+    private Map<String, Long> getFieldHashes() {
+        Map<String, Long> result = new HashMap<>();
+        for (CtField<?> field : codeClass.getElements(new TypeFilter<>(CtField.class))) {
+            result.put(field.getReference().getQualifiedName(), AnalysisCache.hash(getSource(field)));
+        }
+        return result;
+    }
+
+    // Marks the methods whose results of the previous run are still valid as analyzed, with these results
+    private void restoreUnchangedMethods(Map<String, AnalysisCache.MethodResult> methods, Map<String, Long> fields) {
+        Map<String, AnalysisCache.MethodResult> previous = new HashMap<>();
+        Map<String, Long> previousFields = new HashMap<>();
+
+        if (!getAnalysisCache().load(Properties.TARGET_CLASS, getFingerprint(), previousFields, previous)) {
+            logger.info("No previous analysis of {} to reuse", Properties.TARGET_CLASS);
+            return;
+        }
+
+        Set<String> invalidated = AnalysisCache.getInvalidated(previous, methods, previousFields, fields);
+
+        // Methods whose NPE nodes are not found again are analyzed again, as if they changed
+        Map<String, List<ControlFlowNode>> npeNodes = new HashMap<>();
+        boolean unmatched = false;
+        for (String methodSig : ClassInfo.getInstance().getAllMethods()) {
+            if (invalidated.contains(methodSig) || !previous.containsKey(methodSig)) continue;
+
+            List<ControlFlowNode> nodes = findNPENodes(methodSig, previous.get(methodSig));
+            if (nodes == null) {
+                previous.remove(methodSig);
+                unmatched = true;
+            } else {
+                npeNodes.put(methodSig, nodes);
+            }
+        }
+        if (unmatched) {
+            invalidated = AnalysisCache.getInvalidated(previous, methods, previousFields, fields);
+        }
+
+        int reused = 0;
+        for (Map.Entry<String, List<ControlFlowNode>> entry : npeNodes.entrySet()) {
+            if (invalidated.contains(entry.getKey())) continue;
+
+            restoreMethod(entry.getKey(), previous.get(entry.getKey()), entry.getValue());
+            reused++;
+        }
+
+        logger.info("Reusing the previous analysis of {} of {} methods of {}", reused,
+                ClassInfo.getInstance().getAllMethods().size(), Properties.TARGET_CLASS);
+    }
+
+    private static int getFirstLine(CtElement element) {
+        return element.getPosition().isValidPosition() ? element.getPosition().getLine() : 0;
+    }
+
+    /**
+     * @return the nodes of the current graph of the method at the lines of its previous NPE nodes, or null
+     * if the number of statements at one of these lines differs
+     */
+    private List<ControlFlowNode> findNPENodes(String methodSig, AnalysisCache.MethodResult previous) {
+        List<ControlFlowNode> result = new ArrayList<>();
+        if (previous.npeLines.length == 0) return result;
+
+        ControlFlowGraph graph = ClassInfo.getInstance().getGraphBySig(methodSig);
+        if (graph == null) return null;
+
+        int firstLine = getFirstLine(ClassInfo.getInstance().getMethodBySig(methodSig));
+
+        Map<Integer, List<ControlFlowNode>> nodesByLine = new HashMap<>();
+        for (ControlFlowNode n : graph.getAllStatementNodes()) {
+            if (n.getStatement() == null || !n.getStatement().getPosition().isValidPosition()) continue;
+
+            nodesByLine.computeIfAbsent(n.getStatement().getPosition().getLine() - firstLine, k -> new ArrayList<>()).add(n);
+        }
+
+        Map<Integer, Integer> seen = new HashMap<>();
+        for (int line : previous.npeLines) {
+            seen.merge(line, 1, Integer::sum);
+        }
+
+        for (int line : previous.npeLines) {
+            List<ControlFlowNode> nodes = nodesByLine.get(line);
+            if (nodes == null || nodes.size() != seen.get(line)) return null;
+
+            // nodes of the same line are taken in the order of the graph
+            result.add(nodes.get(nodes.size() - seen.get(line)));
+            seen.merge(line, -1, Integer::sum);
+        }
+
+        return result;
+    }
+
+    // Same effects as analyzeMethod(), with the paths and returns of the previous run
+    private void restoreMethod(String methodSig, AnalysisCache.MethodResult previous, List<ControlFlowNode> npeNodes) {
+        MethodInfo.getInstance().addAnalyzed(methodSig);
+
+        ComplexityAnalyzer.getInstance().analyze(methodSig);
+        MethodInfo.getInstance().updateComplexity(methodSig, ComplexityAnalyzer.getInstance().getScore(methodSig));
+
+        MethodInfo.getInstance().updateAnalyzedReturns(methodSig);
+        if (previous.returnNull != null) MethodInfo.getInstance().setReturnNull(methodSig, previous.returnNull);
+
+        for (int i = 0; i < npeNodes.size(); i++) {
+            ControlFlowNode n = npeNodes.get(i);
+            MethodInfo.getInstance().addMayNPENode(methodSig, n, previous.npePaths[i]);
+            ClassInfo.getInstance().updateNPELineInfo(methodSig, n.getStatement().getPosition().getLine());
+        }
+
+        if (previous.target) ClassInfo.getInstance().addTargetMethods(methodSig);
+
+        analyzeSummarizedCalls(methodSig);
+
+        reachableNodes(methodSig);
+    }
+
+    private void storeAnalysis(Map<String, AnalysisCache.MethodResult> methods, Map<String, Long> fields) {
+        for (Map.Entry<String, AnalysisCache.MethodResult> entry : methods.entrySet()) {
+            String methodSig = entry.getKey();
+            CtMethod<?> method = ClassInfo.getInstance().getMethodBySig(methodSig);
+
+            // only the dependencies of constructors and initializers are kept
+            if (method == null) continue;
+
+            AnalysisCache.MethodResult result = entry.getValue();
+            result.returnNull = MethodInfo.getInstance().getReturnNull(methodSig);
+            result.target = ClassInfo.getInstance().getTargetMethods().contains(methodSig);
+
+            HashSet<ControlFlowNode> npeNodes = MethodInfo.getInstance().getNPENodes(methodSig);
+            if (npeNodes == null) continue;
+
+            int firstLine = getFirstLine(method);
+            result.npeLines = new int[npeNodes.size()];
+            result.npePaths = new int[npeNodes.size()];
+            int i = 0;
+            for (ControlFlowNode n : npeNodes) {
+                int line = n.getStatement().getPosition().getLine();
+                result.npeLines[i] = line - firstLine;
+                result.npePaths[i++] = MethodInfo.getInstance().getNumPathByLine(line);
+            }
+        }
+
+        try {
+            getAnalysisCache().store(Properties.TARGET_CLASS, getFingerprint(), fields, methods);
+        } catch (IOException e) {
+            // the cache is only an optimization
+            logger.debug("Cannot store the analysis of {}: {}", Properties.TARGET_CLASS, e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package org.evosuite.analysis;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Strongly connected components of a graph whose nodes are numbered from 0 to
+ * n - 1, computed with Tarjan's algorithm. The algorithm is iterative so that
+ * large graphs do not overflow the stack.
+ * <p>
+ * Components are numbered in reverse topological order: every component is
+ * numbered after the components it reaches.
+ */
+public class StronglyConnectedComponents {
+
+    private StronglyConnectedComponents() {
+
+    }
+
+    /**
+     * @param next successors of each node, indexed by node id
+     * @return the component of each node, indexed by node id
+     */
+    public static int[] compute(List<int[]> next) {
+        int size = next.size();
+        int[] component = new int[size];
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        boolean[] onStack = new boolean[size];
+        Arrays.fill(index, -1);
+
+        Deque<Integer> stack = new ArrayDeque<>();
+        Deque<int[]> callStack = new ArrayDeque<>();
+        int counter = 0;
+        int components = 0;
+
+        for (int root = 0; root < size; root++) {
+            if (index[root] >= 0) continue;
+
+            // frame: node, position in its successor list
+            callStack.push(new int[]{root, 0});
+            index[root] = lowLink[root] = counter++;
+            stack.push(root);
+            onStack[root] = true;
+
+            while (!callStack.isEmpty()) {
+                int[] frame = callStack.peek();
+                int v = frame[0];
+                int[] targets = next.get(v);
+
+                if (frame[1] < targets.length) {
+                    int w = targets[frame[1]++];
+                    if (index[w] < 0) {
+                        index[w] = lowLink[w] = counter++;
+                        stack.push(w);
+                        onStack[w] = true;
+                        callStack.push(new int[]{w, 0});
+                    } else if (onStack[w]) {
+                        lowLink[v] = Math.min(lowLink[v], index[w]);
+                    }
+                    continue;
+                }
+
+                callStack.pop();
+                if (!callStack.isEmpty()) {
+                    int parent = callStack.peek()[0];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+                }
+
+                if (lowLink[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack.pop();
+                        onStack[w] = false;
+                        component[w] = components;
+                    } while (w != v);
+                    components++;
+                }
+            }
+        }
+
+        return component;
+    }
+
+    /**
+     * @return the number of components of the result of {@link #compute(List)}
+     */
+    public static int count(int[] component) {
+        int max = -1;
+        for (int c : component) max = Math.max(max, c);
+        return max + 1;
+    }
+}
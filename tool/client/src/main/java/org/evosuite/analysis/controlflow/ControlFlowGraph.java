@@ -21,6 +21,7 @@
  */
 package org.evosuite.analysis.controlflow;
 
+import org.evosuite.analysis.dataflow.DefUseIndex;
 import org.jgrapht.graph.DefaultDirectedGraph;
 
 import spoon.reflect.code.CtReturn;
@@ -28,7 +29,9 @@ import spoon.reflect.declaration.CtElement;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -45,6 +48,15 @@ public class ControlFlowGraph extends DefaultDirectedGraph<ControlFlowNode, Cont
 	
 	private ControlFlowNode beginNode;
 
+	private DefUseIndex defUseIndex;
+
+	private ReachabilityIndex reachabilityIndex;
+
+	/**
+	 * First node added for each element, to find nodes without scanning the graph
+	 */
+	private final Map<CtElement, ControlFlowNode> elementNodes = new IdentityHashMap<>();
+
 	public ControlFlowGraph(Class<? extends ControlFlowEdge> edgeClass) {
 		super(edgeClass);
 	}
@@ -89,6 +101,10 @@ public class ControlFlowGraph extends DefaultDirectedGraph<ControlFlowNode, Cont
 	 */
 	public ControlFlowNode findNode(CtElement e) throws NotFoundException {
 		if (e != null) {
+			ControlFlowNode node = elementNodes.get(e);
+			if (node != null && node.getStatement() == e) {
+				return node;
+			}
 			for (ControlFlowNode n : vertexSet()) {
 				if (e == n.getStatement()) {
 					return n;
@@ -128,6 +144,30 @@ public class ControlFlowGraph extends DefaultDirectedGraph<ControlFlowNode, Cont
 		return result;
 	}
 
+	@Override
+	public boolean addVertex(ControlFlowNode v) {
+		boolean added = super.addVertex(v);
+		if (added) {
+			reachabilityIndex = null;
+			if (v.getStatement() != null) {
+				elementNodes.putIfAbsent(v.getStatement(), v);
+			}
+		}
+		return added;
+	}
+
+	@Override
+	public boolean removeVertex(ControlFlowNode v) {
+		boolean removed = super.removeVertex(v);
+		if (removed) {
+			reachabilityIndex = null;
+			if (v.getStatement() != null) {
+				elementNodes.remove(v.getStatement(), v);
+			}
+		}
+		return removed;
+	}
+
 	@Override
 	public ControlFlowEdge addEdge(ControlFlowNode source, ControlFlowNode target) {
 		if (!containsVertex(source)) {
@@ -136,9 +176,32 @@ public class ControlFlowGraph extends DefaultDirectedGraph<ControlFlowNode, Cont
 		if (!containsVertex(target)) {
 			addVertex(target);
 		}
+		reachabilityIndex = null;
 		return super.addEdge(source, target);
 	}
 
+	@Override
+	public boolean removeEdge(ControlFlowEdge e) {
+		reachabilityIndex = null;
+		return super.removeEdge(e);
+	}
+
+	@Override
+	public boolean addEdge(ControlFlowNode source, ControlFlowNode target, ControlFlowEdge e) {
+		reachabilityIndex = null;
+		return super.addEdge(source, target, e);
+	}
+
+	/**
+	 * Does not go through {@link #removeEdge(ControlFlowEdge)} in JGraphT.
+	 * The other mutators of the graph delegate to the ones overridden here.
+	 */
+	@Override
+	public ControlFlowEdge removeEdge(ControlFlowNode source, ControlFlowNode target) {
+		reachabilityIndex = null;
+		return super.removeEdge(source, target);
+	}
+
 	/**
 	 * Returns all statements
 	 */
@@ -181,6 +244,7 @@ public class ControlFlowGraph extends DefaultDirectedGraph<ControlFlowNode, Cont
 		}
 		//Clean the exit node
 		exitNode = null;
+		defUseIndex = null;
 	}
 
 	/**
@@ -250,6 +314,26 @@ public class ControlFlowGraph extends DefaultDirectedGraph<ControlFlowNode, Cont
 		return returnNodes;
 	}
 
+	/**
+	 * Reachability between the nodes, built on first use and dropped when the graph changes
+	 */
+	public synchronized ReachabilityIndex getReachabilityIndex() {
+		if (reachabilityIndex == null) {
+			reachabilityIndex = new ReachabilityIndex(this);
+		}
+		return reachabilityIndex;
+	}
+
+	/**
+	 * Variables defined and used by each node, built on first use
+	 */
+	public DefUseIndex getDefUseIndex() {
+		if (defUseIndex == null) {
+			defUseIndex = new DefUseIndex(this);
+		}
+		return defUseIndex;
+	}
+
 	public ControlFlowNode getExitNode() {
 		if (exitNode == null) {
 			exitNode = findNodesOfKind(BranchKind.EXIT).get(0);
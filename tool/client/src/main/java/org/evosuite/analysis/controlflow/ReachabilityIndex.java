@@ -0,0 +1,161 @@
+package org.evosuite.analysis.controlflow;
+
+import org.evosuite.analysis.StronglyConnectedComponents;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reachability between the nodes of a {@link ControlFlowGraph}, precomputed
+ * once per graph.
+ * <p>
+ * Nodes are numbered densely and grouped into strongly connected components
+ * (loops). The transitive closure of the condensed, acyclic graph is stored as
+ * one bit set per component in each direction, so that checking whether a node
+ * reaches another is constant time. A node reaches itself only if it is part of
+ * a cycle.
+ */
+public class ReachabilityIndex {
+
+    private final List<ControlFlowNode> nodes = new ArrayList<>();
+
+    private final Map<ControlFlowNode, Integer> ids = new HashMap<>();
+
+    /**
+     * Component of each node, indexed by node id. Components are numbered in
+     * reverse topological order.
+     */
+    private int[] component;
+
+    /**
+     * Nodes of each component, indexed by component id
+     */
+    private final List<BitSet> members = new ArrayList<>();
+
+    /**
+     * Components reachable from each component
+     */
+    private final List<BitSet> successors = new ArrayList<>();
+
+    /**
+     * Components reaching each component
+     */
+    private final List<BitSet> predecessors = new ArrayList<>();
+
+    // The index is immutable once built, only these caches are filled on demand
+    private final Map<ControlFlowNode, Set<ControlFlowNode>> predecessorCache = new ConcurrentHashMap<>();
+
+    private final Map<ControlFlowNode, Set<ControlFlowNode>> successorCache = new ConcurrentHashMap<>();
+
+    public ReachabilityIndex(ControlFlowGraph graph) {
+        for (ControlFlowNode n : graph.vertexSet()) {
+            ids.put(n, nodes.size());
+            nodes.add(n);
+        }
+
+        List<int[]> next = new ArrayList<>(nodes.size());
+        for (ControlFlowNode n : nodes) {
+            Set<ControlFlowEdge> outgoing = graph.outgoingEdgesOf(n);
+            int[] targets = new int[outgoing.size()];
+            int i = 0;
+            for (ControlFlowEdge e : outgoing) {
+                targets[i++] = ids.get(e.getTargetNode());
+            }
+            next.add(targets);
+        }
+
+        computeComponents(next);
+        computeClosure(next);
+    }
+
+    private void computeComponents(List<int[]> next) {
+        component = StronglyConnectedComponents.compute(next);
+
+        int count = StronglyConnectedComponents.count(component);
+        for (int c = 0; c < count; c++) {
+            members.add(new BitSet());
+        }
+        for (int v = 0; v < component.length; v++) {
+            members.get(component[v]).set(v);
+        }
+    }
+
+    private void computeClosure(List<int[]> next) {
+        int count = members.size();
+        for (int c = 0; c < count; c++) {
+            successors.add(new BitSet(count));
+            predecessors.add(new BitSet(count));
+        }
+
+        // Successors first: reachable components have smaller numbers
+        for (int c = 0; c < count; c++) {
+            BitSet reach = successors.get(c);
+            BitSet scc = members.get(c);
+            for (int v = scc.nextSetBit(0); v >= 0; v = scc.nextSetBit(v + 1)) {
+                for (int w : next.get(v)) {
+                    int d = component[w];
+                    reach.set(d);
+                    if (d != c) reach.or(successors.get(d));
+                }
+            }
+        }
+
+        for (int c = 0; c < count; c++) {
+            BitSet reach = successors.get(c);
+            for (int d = reach.nextSetBit(0); d >= 0; d = reach.nextSetBit(d + 1)) {
+                predecessors.get(d).set(c);
+            }
+        }
+    }
+
+    /**
+     * @return whether there is a non-empty path from <code>from</code> to <code>to</code>
+     */
+    public boolean reaches(ControlFlowNode from, ControlFlowNode to) {
+        Integer f = ids.get(from);
+        Integer t = ids.get(to);
+        if (f == null || t == null) return false;
+
+        return successors.get(component[f]).get(component[t]);
+    }
+
+    /**
+     * @return the nodes from which the node can be reached
+     */
+    public Set<ControlFlowNode> getPredecessors(ControlFlowNode node) {
+        return predecessorCache.computeIfAbsent(node, n -> toNodes(n, predecessors));
+    }
+
+    /**
+     * @return the nodes that can be reached from the node
+     */
+    public Set<ControlFlowNode> getSuccessors(ControlFlowNode node) {
+        return successorCache.computeIfAbsent(node, n -> toNodes(n, successors));
+    }
+
+    private Set<ControlFlowNode> toNodes(ControlFlowNode node, List<BitSet> closure) {
+        Integer id = ids.get(node);
+        if (id == null) return Collections.emptySet();
+
+        Set<ControlFlowNode> result = new HashSet<>();
+        BitSet components = closure.get(component[id]);
+        for (int c = components.nextSetBit(0); c >= 0; c = components.nextSetBit(c + 1)) {
+            BitSet scc = members.get(c);
+            for (int v = scc.nextSetBit(0); v >= 0; v = scc.nextSetBit(v + 1)) {
+                result.add(nodes.get(v));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    public int getNumberOfComponents() {
+        return members.size();
+    }
+}
@@ -0,0 +1,213 @@
+package org.evosuite.analysis.dataflow;
+
+import org.evosuite.analysis.Worklist;
+import org.evosuite.analysis.controlflow.ControlFlowEdge;
+import org.evosuite.analysis.controlflow.ControlFlowGraph;
+import org.evosuite.analysis.controlflow.ControlFlowNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bit-vector dataflow analysis over a {@link ControlFlowGraph}, solved with a
+ * worklist until a fixed point is reached.
+ * <p>
+ * Facts are numbered from 0 to {@link #getNumberOfFacts()} - 1. A may analysis
+ * joins the facts of the incoming paths with a union, a must analysis with an
+ * intersection. Nodes without predecessors (in the direction of the analysis)
+ * start from {@link #getBoundary()}. By default the transfer function of a node
+ * is <code>gen(n) | (facts & ~kill(n))</code>.
+ */
+public abstract class DataflowAnalysis {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataflowAnalysis.class);
+
+    public enum Direction {
+        FORWARD, BACKWARD
+    }
+
+    protected static final BitSet EMPTY = new BitSet();
+
+    protected final ControlFlowGraph graph;
+
+    private final Direction direction;
+
+    private final boolean may;
+
+    private final Map<ControlFlowNode, BitSet> in = new HashMap<>();
+
+    private final Map<ControlFlowNode, BitSet> out = new HashMap<>();
+
+    private int iterations = 0;
+
+    protected DataflowAnalysis(ControlFlowGraph graph, Direction direction, boolean may) {
+        this.graph = graph;
+        this.direction = direction;
+        this.may = may;
+    }
+
+    protected abstract int getNumberOfFacts();
+
+    /**
+     * Facts holding at the nodes without predecessors
+     */
+    protected BitSet getBoundary() {
+        return EMPTY;
+    }
+
+    protected BitSet gen(ControlFlowNode n) {
+        return EMPTY;
+    }
+
+    protected BitSet kill(ControlFlowNode n) {
+        return EMPTY;
+    }
+
+    /**
+     * @param facts facts before the node, in the direction of the analysis. Must not be modified.
+     * @return facts after the node, in the direction of the analysis
+     */
+    protected BitSet transfer(ControlFlowNode n, BitSet facts) {
+        BitSet result = (BitSet) facts.clone();
+        result.andNot(kill(n));
+        result.or(gen(n));
+        return result;
+    }
+
+    public void solve() {
+        boolean forward = direction == Direction.FORWARD;
+        // facts before/after each node in the direction of the analysis
+        Map<ControlFlowNode, BitSet> before = forward ? in : out;
+        Map<ControlFlowNode, BitSet> after = forward ? out : in;
+
+        in.clear();
+        out.clear();
+        iterations = 0;
+
+        BitSet top = new BitSet();
+        if (!may) top.set(0, getNumberOfFacts());
+
+        List<ControlFlowNode> order = getOrder();
+        for (ControlFlowNode n : order) {
+            after.put(n, top);
+        }
+
+        Worklist<ControlFlowNode> worklist = new Worklist<>(order);
+        while (!worklist.isEmpty()) {
+            ControlFlowNode n = worklist.poll();
+            iterations++;
+
+            BitSet facts = null;
+            for (ControlFlowEdge e : forward ? graph.incomingEdgesOf(n) : graph.outgoingEdgesOf(n)) {
+                BitSet predecessor = after.get(forward ? e.getSourceNode() : e.getTargetNode());
+                if (facts == null) {
+                    facts = (BitSet) predecessor.clone();
+                } else if (may) {
+                    facts.or(predecessor);
+                } else {
+                    facts.and(predecessor);
+                }
+            }
+            if (facts == null) facts = (BitSet) getBoundary().clone();
+
+            before.put(n, facts);
+
+            BitSet result = transfer(n, facts);
+            if (result.equals(after.get(n))) continue;
+
+            after.put(n, result);
+            for (ControlFlowEdge e : forward ? graph.outgoingEdgesOf(n) : graph.incomingEdgesOf(n)) {
+                worklist.add(forward ? e.getTargetNode() : e.getSourceNode());
+            }
+        }
+
+        logger.debug("Dataflow analysis {} of {} nodes reached a fixed point after {} iterations",
+                getClass().getSimpleName(), order.size(), iterations);
+    }
+
+    /**
+     * Reverse post order in the direction of the analysis, so that most nodes
+     * are visited after their predecessors and loops need few iterations
+     */
+    private List<ControlFlowNode> getOrder() {
+        List<ControlFlowNode> postOrder = new ArrayList<>();
+        Set<ControlFlowNode> visited = new HashSet<>();
+
+        for (ControlFlowNode n : graph.vertexSet()) {
+            if (predecessors(n).isEmpty()) visit(n, visited, postOrder);
+        }
+        // Cycles that are not reachable from any root
+        for (ControlFlowNode n : graph.vertexSet()) {
+            visit(n, visited, postOrder);
+        }
+
+        Collections.reverse(postOrder);
+        return postOrder;
+    }
+
+    private void visit(ControlFlowNode root, Set<ControlFlowNode> visited, List<ControlFlowNode> postOrder) {
+        if (!visited.add(root)) return;
+
+        Deque<ControlFlowNode> nodes = new ArrayDeque<>();
+        Deque<Iterator<ControlFlowNode>> successors = new ArrayDeque<>();
+        nodes.push(root);
+        successors.push(successors(root).iterator());
+
+        while (!nodes.isEmpty()) {
+            Iterator<ControlFlowNode> iter = successors.peek();
+            if (iter.hasNext()) {
+                ControlFlowNode next = iter.next();
+                if (visited.add(next)) {
+                    nodes.push(next);
+                    successors.push(successors(next).iterator());
+                }
+            } else {
+                successors.pop();
+                postOrder.add(nodes.pop());
+            }
+        }
+    }
+
+    private List<ControlFlowNode> successors(ControlFlowNode n) {
+        List<ControlFlowNode> result = new ArrayList<>();
+        if (direction == Direction.FORWARD) {
+            for (ControlFlowEdge e : graph.outgoingEdgesOf(n)) result.add(e.getTargetNode());
+        } else {
+            for (ControlFlowEdge e : graph.incomingEdgesOf(n)) result.add(e.getSourceNode());
+        }
+        return result;
+    }
+
+    private Set<ControlFlowEdge> predecessors(ControlFlowNode n) {
+        return direction == Direction.FORWARD ? graph.incomingEdgesOf(n) : graph.outgoingEdgesOf(n);
+    }
+
+    /**
+     * @return facts holding just before the node is executed. Must not be modified.
+     */
+    public BitSet getIn(ControlFlowNode n) {
+        return in.getOrDefault(n, EMPTY);
+    }
+
+    /**
+     * @return facts holding just after the node is executed. Must not be modified.
+     */
+    public BitSet getOut(ControlFlowNode n) {
+        return out.getOrDefault(n, EMPTY);
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+}
@@ -0,0 +1,179 @@
+package org.evosuite.analysis.dataflow;
+
+import org.evosuite.analysis.controlflow.ControlFlowGraph;
+import org.evosuite.analysis.controlflow.ControlFlowNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import spoon.reflect.code.CtArrayAccess;
+import spoon.reflect.code.CtAssignment;
+import spoon.reflect.code.CtExpression;
+import spoon.reflect.code.CtLocalVariable;
+import spoon.reflect.code.CtVariableAccess;
+import spoon.reflect.reference.CtVariableReference;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Numbers the variables of a method and caches, for each node of its control
+ * flow graph, the variables defined and used by the node as bit sets over these
+ * numbers. Every node is scanned once, instead of once per query.
+ * <p>
+ * The bit sets returned by {@link #getDefined(ControlFlowNode)} and
+ * {@link #getUsed(ControlFlowNode)} are shared and must not be modified.
+ */
+public class DefUseIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefUseIndex.class);
+
+    private final Map<CtVariableReference<?>, Integer> ids = new HashMap<>();
+
+    private final List<CtVariableReference<?>> variables = new ArrayList<>();
+
+    private final Map<ControlFlowNode, CtVariableReference<?>> definedVariable = new HashMap<>();
+
+    private final Map<ControlFlowNode, BitSet> defined = new HashMap<>();
+
+    private final Map<ControlFlowNode, BitSet> used = new HashMap<>();
+
+    public DefUseIndex(ControlFlowGraph graph) {
+        for (ControlFlowNode n : graph.vertexSet()) {
+            index(n);
+        }
+    }
+
+    /**
+     * @return the index of the graph the node belongs to
+     */
+    public static DefUseIndex of(ControlFlowNode node) {
+        return node.getParent().getDefUseIndex();
+    }
+
+    private void index(ControlFlowNode n) {
+        BitSet def = new BitSet();
+        BitSet use = new BitSet();
+
+        if (n.getStatement() != null) {
+            CtVariableReference<?> var = definedVariable(n);
+            if (var != null) {
+                definedVariable.put(n, var);
+                def.set(getOrCreateId(var));
+            }
+
+            for (CtVariableAccess<?> a : n.getStatement().getElements(new TypeFilter<CtVariableAccess<?>>(CtVariableAccess.class))) {
+                use.set(getOrCreateId(a.getVariable()));
+            }
+        }
+
+        defined.put(n, def);
+        used.put(n, use);
+    }
+
+    private static CtVariableReference<?> definedVariable(ControlFlowNode n) {
+        if (n.getStatement() instanceof CtLocalVariable) {
+            CtLocalVariable<?> lv = ((CtLocalVariable<?>) n.getStatement());
+            if (lv.getDefaultExpression() != null) {
+                return lv.getReference();
+            }
+        } else if (n.getStatement() instanceof CtAssignment) {
+            CtExpression<?> e = ((CtAssignment<?, ?>) n.getStatement()).getAssigned();
+            if (e instanceof CtVariableAccess) {
+                return ((CtVariableAccess<?>) e).getVariable();
+            } else if (e instanceof CtArrayAccess) {
+                CtExpression<?> exp = ((CtArrayAccess<?, ?>) e).getTarget();
+                if (exp instanceof CtVariableAccess) {
+                    return ((CtVariableAccess<?>) exp).getVariable();
+                }
+                logger.debug("Could not obtain variable from expression {}", e);
+            }
+        }
+        return null;
+    }
+
+    private int getOrCreateId(CtVariableReference<?> var) {
+        Integer id = ids.get(var);
+        if (id == null) {
+            id = variables.size();
+            ids.put(var, id);
+            variables.add(var);
+        }
+        return id;
+    }
+
+    private void ensureIndexed(ControlFlowNode n) {
+        // Nodes added to the graph after the index was built
+        if (!defined.containsKey(n)) index(n);
+    }
+
+    public int getNumberOfVariables() {
+        return variables.size();
+    }
+
+    /**
+     * @return the number of the variable, or -1 if no node of the graph accesses it
+     */
+    public int getId(CtVariableReference<?> var) {
+        Integer id = ids.get(var);
+        return id == null ? -1 : id;
+    }
+
+    public CtVariableReference<?> getVariable(int id) {
+        return variables.get(id);
+    }
+
+    public BitSet getDefined(ControlFlowNode n) {
+        ensureIndexed(n);
+        return defined.get(n);
+    }
+
+    public BitSet getUsed(ControlFlowNode n) {
+        ensureIndexed(n);
+        return used.get(n);
+    }
+
+    /**
+     * @return the variable defined by the node, or null if it does not define one
+     */
+    public CtVariableReference<?> getDefinedVariable(ControlFlowNode n) {
+        ensureIndexed(n);
+        return definedVariable.get(n);
+    }
+
+    public Set<CtVariableReference<?>> getDefinedVariables(ControlFlowNode n) {
+        return toVariables(getDefined(n));
+    }
+
+    public Set<CtVariableReference<?>> getUsedVariables(ControlFlowNode n) {
+        return toVariables(getUsed(n));
+    }
+
+    /**
+     * @return a new set with the variables whose bits are set
+     */
+    public Set<CtVariableReference<?>> toVariables(BitSet bits) {
+        Set<CtVariableReference<?>> result = new HashSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            result.add(variables.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return the variables of the method that satisfy the filter
+     */
+    public BitSet select(Predicate<CtVariableReference<?>> filter) {
+        BitSet result = new BitSet(variables.size());
+        for (int i = 0; i < variables.size(); i++) {
+            if (filter.test(variables.get(i))) result.set(i);
+        }
+        return result;
+    }
+}
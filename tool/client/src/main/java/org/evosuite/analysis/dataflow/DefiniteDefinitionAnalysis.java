@@ -0,0 +1,30 @@
+package org.evosuite.analysis.dataflow;
+
+import org.evosuite.analysis.controlflow.ControlFlowGraph;
+import org.evosuite.analysis.controlflow.ControlFlowNode;
+
+import java.util.BitSet;
+
+/**
+ * Forward must analysis of the variables that are defined on every path
+ * reaching a node. Facts are the variable numbers of the {@link DefUseIndex}.
+ */
+public class DefiniteDefinitionAnalysis extends DataflowAnalysis {
+
+    private final DefUseIndex index;
+
+    public DefiniteDefinitionAnalysis(ControlFlowGraph graph) {
+        super(graph, Direction.FORWARD, false);
+        this.index = graph.getDefUseIndex();
+    }
+
+    @Override
+    protected int getNumberOfFacts() {
+        return index.getNumberOfVariables();
+    }
+
+    @Override
+    protected BitSet gen(ControlFlowNode n) {
+        return index.getDefined(n);
+    }
+}
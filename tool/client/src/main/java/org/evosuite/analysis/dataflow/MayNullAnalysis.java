@@ -0,0 +1,121 @@
+package org.evosuite.analysis.dataflow;
+
+import org.evosuite.analysis.TypeUtils;
+import org.evosuite.analysis.controlflow.ControlFlowGraph;
+import org.evosuite.analysis.controlflow.ControlFlowNode;
+
+import spoon.reflect.code.CtAssignment;
+import spoon.reflect.code.CtBinaryOperator;
+import spoon.reflect.code.CtConditional;
+import spoon.reflect.code.CtConstructorCall;
+import spoon.reflect.code.CtExpression;
+import spoon.reflect.code.CtInvocation;
+import spoon.reflect.code.CtLiteral;
+import spoon.reflect.code.CtLocalVariable;
+import spoon.reflect.code.CtNewArray;
+import spoon.reflect.code.CtThisAccess;
+import spoon.reflect.code.CtTypeAccess;
+import spoon.reflect.code.CtUnaryOperator;
+import spoon.reflect.code.CtVariableAccess;
+import spoon.reflect.code.CtVariableRead;
+import spoon.reflect.reference.CtVariableReference;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Forward may analysis of the variables that may hold null. Facts are the
+ * variable numbers of the {@link DefUseIndex}.
+ * <p>
+ * A definition makes its variable nullable if the assigned expression may
+ * evaluate to null: the null literal, a read of a nullable variable, a call of a
+ * method that may return null or a conditional with a nullable branch. Objects
+ * created with <code>new</code>, literals and primitive values are not null.
+ * Other expressions are conservatively assumed to be nullable.
+ */
+public class MayNullAnalysis extends DataflowAnalysis {
+
+    private final DefUseIndex index;
+
+    private final BitSet nullableAtEntry;
+
+    private final Predicate<CtInvocation<?>> mayReturnNull;
+
+    /**
+     * @param nullableAtEntry variables that may be null when the method starts, e.g. parameters and fields
+     * @param mayReturnNull whether an invoked method may return null
+     */
+    public MayNullAnalysis(ControlFlowGraph graph, BitSet nullableAtEntry, Predicate<CtInvocation<?>> mayReturnNull) {
+        super(graph, Direction.FORWARD, true);
+        this.index = graph.getDefUseIndex();
+        this.nullableAtEntry = nullableAtEntry;
+        this.mayReturnNull = mayReturnNull;
+    }
+
+    @Override
+    protected int getNumberOfFacts() {
+        return index.getNumberOfVariables();
+    }
+
+    @Override
+    protected BitSet getBoundary() {
+        return nullableAtEntry;
+    }
+
+    @Override
+    protected BitSet transfer(ControlFlowNode n, BitSet facts) {
+        CtExpression<?> value = null;
+        if (n.getStatement() instanceof CtLocalVariable) {
+            value = ((CtLocalVariable<?>) n.getStatement()).getDefaultExpression();
+        } else if (n.getStatement() instanceof CtAssignment
+                && ((CtAssignment<?, ?>) n.getStatement()).getAssigned() instanceof CtVariableAccess) {
+            // Writing an array element does not change the nullness of the array
+            value = ((CtAssignment<?, ?>) n.getStatement()).getAssignment();
+        }
+
+        CtVariableReference<?> var = index.getDefinedVariable(n);
+        if (value == null || var == null) return facts;
+
+        int id = index.getId(var);
+        if (mayBeNull(value, facts) == facts.get(id)) return facts;
+
+        BitSet result = (BitSet) facts.clone();
+        result.flip(id);
+        return result;
+    }
+
+    /**
+     * @return whether the expression may evaluate to null just before the node is executed
+     */
+    public boolean mayBeNull(ControlFlowNode n, CtExpression<?> exp) {
+        return mayBeNull(exp, getIn(n));
+    }
+
+    private boolean mayBeNull(CtExpression<?> exp, BitSet nullable) {
+        if (exp == null || TypeUtils.isNull(exp.getType())) return true;
+
+        if (TypeUtils.isPrimitive(exp.getType())) return false;
+
+        if (exp instanceof CtConstructorCall || exp instanceof CtNewArray || exp instanceof CtLiteral
+                || exp instanceof CtThisAccess || exp instanceof CtTypeAccess
+                || exp instanceof CtBinaryOperator || exp instanceof CtUnaryOperator) {
+            return false;
+        }
+
+        if (exp instanceof CtVariableRead) {
+            int id = index.getId(((CtVariableRead<?>) exp).getVariable());
+            return id < 0 || nullable.get(id);
+        }
+
+        if (exp instanceof CtInvocation) {
+            return mayReturnNull.test((CtInvocation<?>) exp);
+        }
+
+        if (exp instanceof CtConditional) {
+            CtConditional<?> cond = (CtConditional<?>) exp;
+            return mayBeNull(cond.getThenExpression(), nullable) || mayBeNull(cond.getElseExpression(), nullable);
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package org.evosuite.analysis.dataflow;
+
+import org.evosuite.analysis.controlflow.ControlFlowGraph;
+import org.evosuite.analysis.controlflow.ControlFlowNode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forward may analysis of the definitions that reach a node without being
+ * overwritten. Facts are the numbers of the nodes defining a variable.
+ */
+public class ReachingDefinitionAnalysis extends DataflowAnalysis {
+
+    private final DefUseIndex index;
+
+    private final List<ControlFlowNode> definitions = new ArrayList<>();
+
+    private final Map<ControlFlowNode, BitSet> gen = new HashMap<>();
+
+    /**
+     * Definitions of each variable, indexed by variable number
+     */
+    private final Map<Integer, BitSet> definitionsOf = new HashMap<>();
+
+    public ReachingDefinitionAnalysis(ControlFlowGraph graph) {
+        super(graph, Direction.FORWARD, true);
+        this.index = graph.getDefUseIndex();
+
+        for (ControlFlowNode n : graph.vertexSet()) {
+            BitSet def = index.getDefined(n);
+            if (def.isEmpty()) continue;
+
+            int id = definitions.size();
+            definitions.add(n);
+
+            BitSet bits = new BitSet();
+            bits.set(id);
+            gen.put(n, bits);
+            definitionsOf.computeIfAbsent(def.nextSetBit(0), k -> new BitSet()).set(id);
+        }
+    }
+
+    @Override
+    protected int getNumberOfFacts() {
+        return definitions.size();
+    }
+
+    @Override
+    protected BitSet gen(ControlFlowNode n) {
+        return gen.getOrDefault(n, EMPTY);
+    }
+
+    @Override
+    protected BitSet kill(ControlFlowNode n) {
+        BitSet def = index.getDefined(n);
+        if (def.isEmpty()) return EMPTY;
+
+        return definitionsOf.get(def.nextSetBit(0));
+    }
+
+    /**
+     * @return the definitions of the variable that reach the node
+     */
+    public List<ControlFlowNode> getReachingDefinitions(ControlFlowNode n, int variable) {
+        List<ControlFlowNode> result = new ArrayList<>();
+        BitSet candidates = definitionsOf.get(variable);
+        if (candidates == null) return result;
+
+        BitSet reaching = (BitSet) getIn(n).clone();
+        reaching.and(candidates);
+        for (int i = reaching.nextSetBit(0); i >= 0; i = reaching.nextSetBit(i + 1)) {
+            result.add(definitions.get(i));
+        }
+        return result;
+    }
+}
@@ -6,7 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ActualRuntimeType {
-  private static final ActualRuntimeType instance = new ActualRuntimeType();
+  private static ActualRuntimeType instance = new ActualRuntimeType();
 
   private ActualRuntimeType() {
   }
@@ -15,6 +15,11 @@ public class ActualRuntimeType {
     return instance;
   }
 
+  public static void resetSingleton() {
+    instance = new ActualRuntimeType();
+    variableNameToActualTypes.clear();
+  }
+
   private static final Map<String, CtType<?>> variableNameToActualTypes = new HashMap<>();
 
   private boolean enabled = false;
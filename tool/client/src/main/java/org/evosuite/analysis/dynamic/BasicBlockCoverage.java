@@ -1,12 +1,24 @@
 package org.evosuite.analysis.dynamic;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Basic blocks covered by the executed tests.
+ * <p>
+ * The methods of the instrumented classes are registered when they are
+ * instrumented, which numbers them and their basic blocks. The probe inserted
+ * at the start of each block only sets an entry of a <code>boolean[]</code>
+ * per method, see {@link #passedBlock(int, int)}. The hits are folded into the
+ * covered source lines by {@link #update()}.
+ */
 public class BasicBlockCoverage {
-  private static BasicBlockCoverage instance = new BasicBlockCoverage();
+  private static final BasicBlockCoverage instance = new BasicBlockCoverage();
 
   private BasicBlockCoverage(){
   }
@@ -15,14 +27,25 @@ public class BasicBlockCoverage {
     return instance;
   }
 
-  private final Map<String, Map<Integer, Boolean>> basicBlockHits = new HashMap<>();
+  private static volatile boolean enabled = false;
 
-  // recorded method in this run
-  private final Set<String> methodHits = new HashSet<>();
+  // Registered methods, indexed by method id
+  private final Map<String, Integer> methodIds = new HashMap<>();
 
-  private final Map<String, Integer> methodBasicBlockCoveredCount = new HashMap<>();
+  private final List<String> methodKeys = new ArrayList<>();
 
-  private boolean enabled = false;
+  private final List<String> methodClasses = new ArrayList<>();
+
+  // Source lines of each block of each method
+  private final List<int[][]> blockLines = new ArrayList<>();
+
+  // Hits of the probes, grown when methods are registered
+  private volatile boolean[][] hits = new boolean[16][];
+
+  // Blocks already folded into the covered lines
+  private final List<BitSet> covered = new ArrayList<>();
+
+  private final Map<String, Set<Integer>> coveredLines = new HashMap<>();
 
   public void enable() {
     enabled = true;
@@ -32,39 +55,126 @@ public class BasicBlockCoverage {
     enabled = false;
   }
 
-  public void reset() {
-    enabled = false;
-    methodHits.clear();
+  public boolean isEnabled() {
+    return enabled;
   }
 
+  /**
+   * Disables the probes and forgets the coverage. Registered methods keep their ids,
+   * as their classes stay instrumented.
+   */
+  public synchronized void reset() {
+    enabled = false;
+    for (int m = 0; m < methodKeys.size(); m++) {
+      hits[m] = new boolean[blockLines.get(m).length];
+      covered.get(m).clear();
+    }
+    coveredLines.clear();
+  }
 
+  /**
+   * Called by the probe at the start of each basic block of the instrumented methods
+   */
   @SuppressWarnings("unused")
-  public void recordBasicBlockHit(String methodKey, String index) {
+  public static void passedBlock(int method, int block) {
     if (enabled) {
-      int id = Integer.parseInt(index);
-      basicBlockHits.computeIfAbsent(methodKey, m -> new HashMap<>()).put(id, true);
-      methodHits.add(methodKey);
+      instance.hits[method][block] = true;
+      if (block == 0) {
+        MethodTrace.getInstance().recordMethodEntry(method);
+      }
     }
   }
 
-  public void updateBasicBlockCoverage() {
-    for (String methodKey : methodHits) {
-      updateBasicBlockCoverage(methodKey);
+  /**
+   * Numbers a method and its basic blocks. Instrumenting the same method again,
+   * e.g. in another class loader, returns the same id.
+   *
+   * @param className  name of the class declaring the method
+   * @param methodName name and descriptor of the method
+   * @param lines      source lines of each basic block
+   * @return the id of the method, to be passed to {@link #passedBlock(int, int)}
+   */
+  public synchronized int registerMethod(String className, String methodName, int[][] lines) {
+    String key = className + "." + methodName;
+    Integer id = methodIds.get(key);
+    if (id != null && blockLines.get(id).length == lines.length) {
+      return id;
+    }
+
+    id = methodKeys.size();
+    methodIds.put(key, id);
+    methodKeys.add(key);
+    methodClasses.add(getTopLevelClass(className));
+    blockLines.add(lines);
+    covered.add(new BitSet(lines.length));
+
+    boolean[][] current = hits;
+    if (id >= current.length) {
+      boolean[][] grown = new boolean[current.length * 2][];
+      System.arraycopy(current, 0, grown, 0, current.length);
+      current = grown;
     }
+    current[id] = new boolean[lines.length];
+    hits = current;
+    return id;
   }
 
-  public void updateBasicBlockCoverage(String methodKey) {
-    Map<Integer, Boolean> hits = basicBlockHits.computeIfAbsent(methodKey, m -> new HashMap<>());
-    int coveredBlockCount = (int) hits.values().stream().filter(b -> b).count();
-    methodBasicBlockCoveredCount.put(methodKey, coveredBlockCount);
+  // Inner classes share the source file, and thus the line numbers, of their top level class
+  private static String getTopLevelClass(String className) {
+    int index = className.indexOf('$');
+    return index < 0 ? className : className.substring(0, index);
   }
 
-  public int getCoveredBasicBlockCount(String methodKey) {
-    return methodBasicBlockCoveredCount.getOrDefault(methodKey, 0);
+  /**
+   * Adds the lines of the blocks hit since the last update to the covered lines
+   *
+   * @return true if new lines are covered
+   */
+  public synchronized boolean update() {
+    boolean changed = false;
+    boolean[][] current = hits;
+
+    for (int m = 0; m < methodKeys.size(); m++) {
+      boolean[] methodHits = current[m];
+      BitSet methodCovered = covered.get(m);
+      for (int b = 0; b < methodHits.length; b++) {
+        if (!methodHits[b] || methodCovered.get(b)) continue;
+
+        methodCovered.set(b);
+        Set<Integer> lines = coveredLines.computeIfAbsent(methodClasses.get(m), c -> new HashSet<>());
+        for (int line : blockLines.get(m)[b]) {
+          changed |= lines.add(line);
+        }
+      }
+    }
+
+    return changed;
   }
 
-  public float getCoverage(String methodKey) {
-    Map<Integer, Boolean> hits = basicBlockHits.computeIfAbsent(methodKey, m -> new HashMap<>());
-    return hits.isEmpty() ? 0.0f : (float) getCoveredBasicBlockCount(methodKey) / hits.size();
+  /**
+   * @return whether a block with code of the line was executed, as of the last {@link #update()}
+   */
+  public synchronized boolean isLineCovered(String className, int line) {
+    Set<Integer> lines = coveredLines.get(getTopLevelClass(className));
+    return lines != null && lines.contains(line);
+  }
+
+  public synchronized String getMethodKey(int method) {
+    return methodKeys.get(method);
+  }
+
+  /**
+   * @param methodKey class name, a dot and the name and descriptor of the method
+   */
+  public synchronized int getCoveredBasicBlockCount(String methodKey) {
+    Integer id = methodIds.get(methodKey);
+    return id == null ? 0 : covered.get(id).cardinality();
+  }
+
+  public synchronized float getCoverage(String methodKey) {
+    Integer id = methodIds.get(methodKey);
+    if (id == null || blockLines.get(id).length == 0) return 0.0f;
+
+    return (float) covered.get(id).cardinality() / blockLines.get(id).length;
   }
 }
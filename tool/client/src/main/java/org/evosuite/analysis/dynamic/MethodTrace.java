@@ -1,22 +1,16 @@
 package org.evosuite.analysis.dynamic;
 
-import spoon.reflect.code.CtAbstractInvocation;
-import spoon.reflect.code.CtExpression;
-import spoon.reflect.code.CtInvocation;
-import spoon.reflect.code.CtLocalVariable;
-import spoon.reflect.code.CtStatement;
-import spoon.reflect.declaration.CtMethod;
-
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+/**
+ * Methods entered while running an object sequence or a test case. Methods are
+ * identified by the ids of {@link BasicBlockCoverage}, whose probe of the first
+ * block of each method calls {@link #recordMethodEntry(int)}.
+ */
 public class MethodTrace {
   private static final MethodTrace instance = new MethodTrace();
 
@@ -24,9 +18,9 @@ public class MethodTrace {
     return instance;
   }
 
-  private final Map<Integer, List<String>> statementIndexToCalledMethods = new HashMap<>();
+  private final Map<Integer, BitSet> statementIndexToCalledMethods = new HashMap<>();
 
-  private final Set<String> calledMethodsSet = new HashSet<>();
+  private final BitSet calledMethodsSet = new BitSet();
 
   private final Set<String> globalNPEMethodCoverage = new HashSet<>();
 
@@ -57,20 +51,43 @@ public class MethodTrace {
     currentIndex++;
   }
 
-  @SuppressWarnings("unused")
-  public void recordMethodEntry(String methodKey) {
+  public void recordMethodEntry(int method) {
+    if (mode == null) return;
+
     switch(mode) {
       case OBJ:
-        calledMethodsSet.add(methodKey);
+        calledMethodsSet.set(method);
         break;
       case TC:
-        statementIndexToCalledMethods.computeIfAbsent(currentIndex, i -> new ArrayList<>()).add(methodKey);
+        statementIndexToCalledMethods.computeIfAbsent(currentIndex, i -> new BitSet()).set(method);
         break;
       default:
         break;
     }
   }
 
+  /**
+   * @return keys of the methods entered while running the object sequence
+   */
+  public Set<String> getCalledMethods() {
+    return toMethodKeys(calledMethodsSet);
+  }
+
+  /**
+   * @return keys of the methods entered while running the statement of the test case
+   */
+  public Set<String> getCalledMethods(int statementIndex) {
+    return toMethodKeys(statementIndexToCalledMethods.getOrDefault(statementIndex, new BitSet()));
+  }
+
+  private static Set<String> toMethodKeys(BitSet methods) {
+    Set<String> result = new HashSet<>();
+    for (int m = methods.nextSetBit(0); m >= 0; m = methods.nextSetBit(m + 1)) {
+      result.add(BasicBlockCoverage.getInstance().getMethodKey(m));
+    }
+    return result;
+  }
+
 
   public Set<String> getGlobalNPEMethodCoverage() {
     return globalNPEMethodCoverage;
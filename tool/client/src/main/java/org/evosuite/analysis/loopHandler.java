@@ -21,7 +21,7 @@ public class loopHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(loopHandler.class);
 
-    private static final loopHandler instance = new loopHandler();    
+    private static loopHandler instance = new loopHandler();    
 
     private HashMap<String, ControlFlowGraph> loopMap = new HashMap<String, ControlFlowGraph>();
 
@@ -35,6 +35,10 @@ public class loopHandler {
         return instance;
     }
 
+    public static void resetSingleton() {
+        instance = new loopHandler();
+    }
+
     private static boolean checkEnd(ControlFlowNode node) {
         switch (node.getKind()) {
             case BEGIN:
@@ -19,7 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 public class ComplexityAnalyzer {
-  private static final ComplexityAnalyzer instance = new ComplexityAnalyzer();
+  private static ComplexityAnalyzer instance = new ComplexityAnalyzer();
 
   private ComplexityAnalyzer() {
   }
@@ -28,6 +28,10 @@ public class ComplexityAnalyzer {
     return instance;
   }
 
+  public static void resetSingleton() {
+    instance = new ComplexityAnalyzer();
+  }
+
   private final Map<String, Integer> complexityScores = new HashMap<>();
 
   public void analyze(String methodKey) {
@@ -35,7 +39,19 @@ public class ComplexityAnalyzer {
     if (method == null || method.getBody() == null || complexityScores.containsKey(methodKey)) {
       return;
     }
+    complexityScores.put(methodKey, computeScore(method, methodKey));
+  }
+
+  /**
+   * Number of branches, loops and recursive calls in the body of the method
+   *
+   * @param methodKey the key of the method, to recognize recursive calls
+   */
+  public static int computeScore(CtMethod<?> method, String methodKey) {
     CtBlock<?> methodBody = method.getBody();
+    if (methodBody == null) {
+      return 0;
+    }
     List<CtIfImpl> ifConstructs = methodBody.filterChildren(new TypeFilter<>(CtIfImpl.class)).list();
     List<CtForImpl> forConstructs = methodBody.filterChildren(new TypeFilter<>(CtForImpl.class)).list();
     List<CtForEachImpl> forEachConstructs = methodBody.filterChildren(new TypeFilter<>(CtForEachImpl.class)).list();
@@ -45,9 +61,7 @@ public class ComplexityAnalyzer {
             )
             .list();
             
-    int score = (ifConstructs.size() + forConstructs.size() + forEachConstructs.size() + recursiveCalls.size());
-    
-    complexityScores.put(methodKey, score);
+    return (ifConstructs.size() + forConstructs.size() + forEachConstructs.size() + recursiveCalls.size());
   }
 
   public int getScore(String methodKey) {
@@ -1,5 +1,17 @@
 package org.evosuite.analysis.staticanalysis;
 
+import org.evosuite.analysis.ClassInfo;
+import org.evosuite.analysis.GraphManager;
+import org.evosuite.analysis.MethodInfo;
+import org.evosuite.analysis.NPECandidateIndex;
+import org.evosuite.analysis.PathBuilder;
+import org.evosuite.analysis.StaticAnalyzer;
+import org.evosuite.analysis.dynamic.ActualRuntimeType;
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
+import org.evosuite.analysis.dynamic.MethodTrace;
+import org.evosuite.analysis.loopHandler;
+import org.evosuite.ga.archive.NPEArchive;
+
 @SuppressWarnings("unused")
 public class NPEAnalysisManager {
   private NPEAnalysisManager() {
@@ -13,6 +25,31 @@ public class NPEAnalysisManager {
     // NullableParameterAccessAnalyzer.getInstance().analyze(methodKey);
   }
   
+  /**
+   * Forgets the analysis of the target class, so that another class can be analyzed in the same JVM.
+   * The nullness summaries of the source root are kept, as they do not depend on the target class.
+   */
+  public static void reset() {
+    ClassInfo.resetSingleton();
+    MethodInfo.resetSingleton();
+    NPECandidateIndex.resetSingleton();
+    StaticAnalyzer.resetSingleton();
+    GraphManager.resetSingleton();
+    PathBuilder.resetSingleton();
+    loopHandler.resetSingleton();
+    PathAnalyzer.resetSingleton();
+    ComplexityAnalyzer.resetSingleton();
+    NullLiteralAnalyzer.resetSingleton();
+    NullableFieldAnalyzer.resetSingleton();
+    NullableFieldAccessAnalyzer.resetSingleton();
+    NullableGetterInvocationAnalyzer.resetSingleton();
+    NullableParameterAccessAnalyzer.resetSingleton();
+    ActualRuntimeType.resetSingleton();
+    BasicBlockCoverage.getInstance().reset();
+    MethodTrace.getInstance().reset();
+    NPEArchive.instance.reset();
+  }
+
   public static int getWeight(String methodKey) {
     int weight = 0;
     weight += NullLiteralAnalyzer.getInstance().getScore(methodKey);
@@ -33,7 +33,7 @@ import java.util.Map;
 import java.util.Set;
 
 public class NullLiteralAnalyzer {
-  private static final NullLiteralAnalyzer instance = new NullLiteralAnalyzer();
+  private static NullLiteralAnalyzer instance = new NullLiteralAnalyzer();
 
   private final Map<String, Set<String>> nullableParamMap = new HashMap<>();
 
@@ -47,6 +47,10 @@ public class NullLiteralAnalyzer {
     return instance;
   }
 
+  public static void resetSingleton() {
+    instance = new NullLiteralAnalyzer();
+  }
+
   public void analyze(String methodKey) {
     /* 3. Check nullable field getter call*/
     CtMethod<?> method = ClassInfo.getInstance().getMethodBySig(methodKey);
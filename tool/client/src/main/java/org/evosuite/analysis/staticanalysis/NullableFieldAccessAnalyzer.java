@@ -18,12 +18,16 @@ import java.util.Map;
 import java.util.Set;
 
 public class NullableFieldAccessAnalyzer  {
-  private static final NullableFieldAccessAnalyzer instance = new NullableFieldAccessAnalyzer();
+  private static NullableFieldAccessAnalyzer instance = new NullableFieldAccessAnalyzer();
 
   public static NullableFieldAccessAnalyzer getInstance() {
     return instance;
   }
 
+  public static void resetSingleton() {
+    instance = new NullableFieldAccessAnalyzer();
+  }
+
   private final Map<String, Integer> nullableFieldAccessCounts = new HashMap<>();
 
   public void analyze(String methodKey) {
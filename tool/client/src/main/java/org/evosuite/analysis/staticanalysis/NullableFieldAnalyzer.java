@@ -5,6 +5,7 @@ import org.evosuite.analysis.ClassInfo;
 import org.evosuite.analysis.MethodInfo;
 import org.evosuite.analysis.PathBuilder;
 import org.evosuite.analysis.TypeUtils;
+import org.evosuite.analysis.summary.NullnessSummaries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import spoon.reflect.code.BinaryOperatorKind;
@@ -44,12 +45,16 @@ import java.util.stream.Collectors;
 
 public class NullableFieldAnalyzer {
   private static final Logger logger = LoggerFactory.getLogger(NullableFieldAnalyzer.class);
-  private static final NullableFieldAnalyzer instance = new NullableFieldAnalyzer();
+  private static NullableFieldAnalyzer instance = new NullableFieldAnalyzer();
 
   public static NullableFieldAnalyzer getInstance() {
     return instance;
   }
 
+  public static void resetSingleton() {
+    instance = new NullableFieldAnalyzer();
+  }
+
   private final Set<CtField<?>> nonNullableFields = new HashSet<>();
 
   private final Map<String, Set<CtField<?>>> unInitializedFieldsMap = new HashMap<>();
@@ -63,6 +68,15 @@ public class NullableFieldAnalyzer {
     
     this.nullableFields.addAll(nullableFields);
 
+    // Fields that a method of the source root, possibly of another class, may set to null
+    if (NullnessSummaries.getInstance().isLoaded()) {
+      for (CtField<?> field : targetClass.getFields()) {
+        if (!TypeUtils.isPrimitive(field.getType()) && NullnessSummaries.getInstance().isWrittenNull(field)) {
+          this.nullableFields.add(field);
+        }
+      }
+    }
+
     ClassInfo.getInstance().updateNullableFields(this.nullableFields);
 
     // for (CtField<?> f : this.nullableFields) {
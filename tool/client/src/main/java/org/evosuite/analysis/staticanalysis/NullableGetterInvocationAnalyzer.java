@@ -13,12 +13,16 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class NullableGetterInvocationAnalyzer {
-  private static final NullableGetterInvocationAnalyzer instance = new NullableGetterInvocationAnalyzer();
+  private static NullableGetterInvocationAnalyzer instance = new NullableGetterInvocationAnalyzer();
 
   public static NullableGetterInvocationAnalyzer getInstance() {
     return instance;
   }
 
+  public static void resetSingleton() {
+    instance = new NullableGetterInvocationAnalyzer();
+  }
+
   private final Map<String, Integer> nullableGetterCallCounts = new HashMap<>();
 
 
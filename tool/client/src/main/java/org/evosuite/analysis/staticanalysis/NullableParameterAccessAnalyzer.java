@@ -12,12 +12,16 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class NullableParameterAccessAnalyzer {
-  private static final NullableParameterAccessAnalyzer instance = new NullableParameterAccessAnalyzer();
+  private static NullableParameterAccessAnalyzer instance = new NullableParameterAccessAnalyzer();
 
   public static NullableParameterAccessAnalyzer getInstance() {
     return instance;
   }
 
+  public static void resetSingleton() {
+    instance = new NullableParameterAccessAnalyzer();
+  }
+
   private final Map<String, Integer> nullableParameterAccessCounts = new HashMap<>();
 
   public void analyze(String methodKey) {
@@ -61,7 +61,7 @@ public class PathAnalyzer {
 
   private static final Logger logger = LoggerFactory.getLogger(PathAnalyzer.class);
 
-  private static final PathAnalyzer instance = new PathAnalyzer();
+  private static PathAnalyzer instance = new PathAnalyzer();
 
   String typeKey = "";
   String targetClass = "";
@@ -84,48 +84,11 @@ public class PathAnalyzer {
     return instance;
   }
 
-  
-	private static CtVariableReference<?> defined (ControlFlowNode n) {
-		// Obtain the variables defined in this node
-		CtVariableReference<?> def = null;
-		if (n.getStatement() != null) {
-			if (n.getStatement() instanceof CtLocalVariable) {
-				CtLocalVariable<?> lv = ((CtLocalVariable<?>) n.getStatement());
-				if (lv.getDefaultExpression() != null) {
-					def = lv.getReference();
-				}
-			} else if (n.getStatement() instanceof CtAssignment) {
-				CtExpression<?> e = ((CtAssignment) n.getStatement()).getAssigned();
-				if (e instanceof CtVariableAccess) {
-					def = ((CtVariableAccess<?>) e).getVariable();
-				} else if (e instanceof CtArrayAccess) {
-					CtExpression<?> exp = ((CtArrayAccess) e).getTarget();
-					if (exp instanceof CtVariableAccess) {
-						CtVariableReference<?> a = ((CtVariableAccess<?>) exp).getVariable();
-						def = a;
-					} else {
-						System.out.println("Could not obtain variable from expression");
-					}
-				}
-			}
-		}
-		return def;
-	}
-
-	private static Set<CtVariableReference<?>> used (ControlFlowNode n) {
-		if (n.getStatement() == null) {
-			return new HashSet<>();
-		}
-
-		// Obtain variables used in the given node
-		HashSet<CtVariableReference<?>> used = new HashSet<>();
-		for (CtVariableAccess<?> a: n.getStatement().getElements(new TypeFilter<CtVariableAccess<?>>(CtVariableAccess.class))) {
-			used.add(a.getVariable());
-		}
-		return used;
-
-	}
+  public static void resetSingleton() {
+    instance = new PathAnalyzer();
+  }
 
+  
   // Propagate nodes in a path to find nullable variables in the given path
   public static void propagatePaths(String methodKey, Stack<ControlFlowNode> path) {
     CtElement next = null;
@@ -172,7 +135,7 @@ public class PathAnalyzer {
             calledInvocation == null ? ((CtInvocation<?>) rhs).getExecutable().getSignature() :
                                        calledInvocation.getSignature();
 
-          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(calledInvocationName));
+          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(((CtInvocation<?>) rhs).getExecutable(), calledInvocationName));
 
         } else if (rhs instanceof CtVariableRead) {
 
@@ -191,7 +154,7 @@ public class PathAnalyzer {
         } else if (rhs instanceof CtInvocation) {
           String calledInvocationName = ((CtInvocation<?>) rhs).getExecutable().getSignature();
 
-          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(calledInvocationName));
+          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(((CtInvocation<?>) rhs).getExecutable(), calledInvocationName));
 
         } else if (rhs instanceof CtVariableRead) {
 
@@ -293,7 +256,7 @@ public class PathAnalyzer {
             calledInvocation == null ? ((CtInvocation<?>) rhs).getExecutable().getSignature() :
                                        calledInvocation.getSignature();
 
-          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(calledInvocationName));
+          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(((CtInvocation<?>) rhs).getExecutable(), calledInvocationName));
 
         } else if (rhs instanceof CtVariableRead) {
 
@@ -315,7 +278,7 @@ public class PathAnalyzer {
         } else if (rhs instanceof CtInvocation) {
           String calledInvocationName = ((CtInvocation<?>) rhs).getExecutable().getSignature();
 
-          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(calledInvocationName));
+          nullableVar.put(lhs.toString(), MethodInfo.getInstance().isReturnNull(((CtInvocation<?>) rhs).getExecutable(), calledInvocationName));
 
         } else if (rhs instanceof CtVariableRead) {
 
@@ -342,118 +305,6 @@ public class PathAnalyzer {
     else return 0;
   }
 
-  public static boolean checkReturnPaths(String methodKey, Stack<ControlFlowNode> path) {
-    CtElement next = null;
-
-    if (path.isEmpty()) return false;
-
-    Set<CtParameter<?>> nullableParams = NullLiteralAnalyzer.getInstance().getNullParams(methodKey);  
-      
-    HashMap<CtVariableReference<?>, Boolean> nullableVar = new HashMap<>();
-    // MethodInfo.getInstance().getNullableMap(methodKey);
-
-    if (nullableVar.isEmpty()) {
-      
-      HashMap<CtVariableReference<?>, Boolean> paramVarMap = new HashMap<>();
-      
-      for (CtParameter<?> pp : nullableParams) {
-        
-        paramVarMap.put((CtVariableReference<?>)pp.getDefaultExpression(), true);
-      }
-      
-      nullableVar.putAll(paramVarMap);
-    }
-
-    ControlFlowNode node = null;
-
-    do {
-
-      node = path.pop();
-
-      next = node.getStatement();
-
-      if (next instanceof CtLocalVariable) {
-        CtElement lhs = ((CtLocalVariable<?>) next).getReference();
-        CtExpression<?> rhs = ((CtLocalVariable<?>) next).getAssignment();
-
-        if (rhs == null || rhs.getType() == null || TypeUtils.isPrimitive(rhs.getType())) {
-          node = path.pop();
-          next = node.getStatement();
-          continue;
-        }
-
-        if (rhs instanceof CtConstructorCall) {
-          nullableVar.put((CtVariableReference<?>) lhs, false);
-
-        } else if(rhs instanceof CtInvocation) {
-          CtExecutable<?> calledInvocation = ((CtInvocation<?>) rhs).getExecutable().getExecutableDeclaration();
-
-          String calledInvocationName = 
-            calledInvocation == null ? ((CtInvocation<?>) rhs).getExecutable().getSignature() :
-                                       calledInvocation.getSignature();
-
-          nullableVar.put((CtVariableReference<?>) lhs, MethodInfo.getInstance().isReturnNull(calledInvocationName));
-
-        } else if (rhs instanceof CtVariableRead) {
-          
-          if (!nullableVar.keySet().contains((((CtVariableRead)rhs).getVariable()))) nullableVar.put((CtVariableReference<?>) lhs, true);
-          else nullableVar.put((CtVariableReference<?>) lhs, nullableVar.get((((CtVariableRead)rhs).getVariable())));
-        } 
-
-      } else if (next instanceof CtAssignment) {
-        CtCodeElement rhs = next.getValueByRole(CtRole.ASSIGNMENT);
-        CtExpression<?> lhs = ((CtAssignment)next).getAssigned();
-
-        if (defined(node) == null) continue;
-
-        CtVariableReference<?> var = defined(node);
-
-        if (TypeUtils.isPrimitive(((CtExpression<?>)lhs).getType())) continue;
-
-        if (rhs instanceof CtConstructorCall) {
-          nullableVar.put(var, false);
-        } else if (rhs instanceof CtInvocation) {
-          String calledInvocationName = ((CtInvocation<?>) rhs).getExecutable().getSignature();
-
-          nullableVar.put(var, MethodInfo.getInstance().isReturnNull(calledInvocationName));
-
-        } else if (rhs instanceof CtVariableRead) {
-          CtExpression<?> tmp = null;
-          if (rhs instanceof CtFieldRead) {
-            tmp = ((CtFieldRead<?>)rhs).getTarget();
-            if (tmp instanceof CtVariableAccess) {
-
-              if (!nullableVar.keySet().contains(var)) nullableVar.put((CtVariableReference<?>) lhs, true);
-              else nullableVar.put(((CtVariableAccess<?>) lhs).getVariable(), nullableVar.get(var));              
-            }
-          } 
-
-        } 
-      } 
-
-    } while (!path.isEmpty());
-
-    boolean result = false;
-
-    for (CtVariableReference<?> vv : used(node)) {
-      result |= nullableVar.getOrDefault(vv, true);  
-    }
-
-    // LoggingUtils.getEvoLogger().info(nullableVar.toString() + " - " + Boolean.toString(result));
-    
-    return result;
-  }
-
-  
-  private void analysisReturnPath(String methodKey) {
-
-    HashSet<Stack<ControlFlowNode>> returnPaths = MethodInfo.getInstance().getReturnPaths(methodKey);
-
-    for (Stack<ControlFlowNode> path : returnPaths) {
-      propagatePaths(methodKey, path);
-    }
-  }
-
   private void analysisNullablePath(String methodKey) {
     // logger.debug("NULLABLE PATH ANALSYSI STARTS: " + methodKey);
     if (MethodInfo.getInstance().getMayNullPaths(methodKey).isEmpty()) return;
@@ -462,41 +313,4 @@ public class PathAnalyzer {
     // IF the given method has any path reaching to NPE
     // we set the value to false
   }
-
-  // gather all paths to the return statements
-  // to check whether the given method must not return nonnull.   
-  private int buildMethodReturnPaths(String methodKey) {
-    CtMethod<?> method = ClassInfo.getInstance().getMethodBySig(methodKey);
-
-    CtTypeReference<?> returnType = method.getType();
-
-    // Given methods does not have return value    
-    if (TypeUtils.isVoidPrimitive(returnType) || TypeUtils.isPrimitive(returnType)) {
-      MethodInfo.getInstance().setReturnNull(methodKey, false);
-      return 0;
-    }
-
-    List<CtReturn<?>> returnEles = method.filterChildren(new TypeFilter<>(CtReturn.class))
-      .select(e -> ((CtReturn<?>)e).getReturnedExpression() != null)
-      .list();    
-
-    // check whether there exists any return stmt which directly returns null
-    if (returnEles.stream().filter(e -> TypeUtils.isNull(e.getReturnedExpression().getType())).count() != 0) {
-      MethodInfo.getInstance().setReturnNull(methodKey, true);
-      return 0;
-    }
-
-    HashSet<Stack<ControlFlowNode>> paths = new HashSet<>();
-
-    // Remove return stmts which directly returns null
-    returnEles.removeIf(e -> TypeUtils.isNull(e.getReturnedExpression().getType()));
-
-    for (CtReturn<?> ret : returnEles) {      
-      paths.addAll(PathBuilder.getInstance().buildBackPathByEle(methodKey, ret));
-    }
-
-    MethodInfo.getInstance().setReturnPaths(methodKey, paths);
-
-    return 1;
-  }
 }
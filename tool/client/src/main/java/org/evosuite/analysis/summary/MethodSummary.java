@@ -0,0 +1,85 @@
+package org.evosuite.analysis.summary;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Nullness summary of one method or constructor, valid for every call site.
+ * <p>
+ * A summary records whether the method may return null, which parameters it
+ * dereferences (directly or by passing them to a callee that does) and which
+ * fields it may set to null (directly or through its callees). Fields are
+ * identified by {@link #fieldKey(String, String)}.
+ */
+public class MethodSummary {
+
+    /**
+     * Summary of a method that could not be analyzed
+     */
+    public static final MethodSummary UNKNOWN = new MethodSummary(true, new BitSet(), Collections.emptySet());
+
+    /**
+     * Initial summary of the methods of a recursive cycle, refined until a fixed point is reached
+     */
+    static final MethodSummary BOTTOM = new MethodSummary(false, new BitSet(), Collections.emptySet());
+
+    private final boolean mayReturnNull;
+
+    private final BitSet dereferencedParameters;
+
+    private final Set<String> fieldsWrittenNull;
+
+    public MethodSummary(boolean mayReturnNull, BitSet dereferencedParameters, Set<String> fieldsWrittenNull) {
+        this.mayReturnNull = mayReturnNull;
+        this.dereferencedParameters = (BitSet) dereferencedParameters.clone();
+        this.fieldsWrittenNull = Collections.unmodifiableSet(new HashSet<>(fieldsWrittenNull));
+    }
+
+    public static String fieldKey(String declaringType, String fieldName) {
+        return declaringType + "#" + fieldName;
+    }
+
+    public boolean mayReturnNull() {
+        return mayReturnNull;
+    }
+
+    public boolean isDereferenced(int parameter) {
+        return dereferencedParameters.get(parameter);
+    }
+
+    /**
+     * @return a copy of the indices of the dereferenced parameters
+     */
+    public BitSet getDereferencedParameters() {
+        return (BitSet) dereferencedParameters.clone();
+    }
+
+    public Set<String> getFieldsWrittenNull() {
+        return fieldsWrittenNull;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MethodSummary)) return false;
+
+        MethodSummary other = (MethodSummary) o;
+        return mayReturnNull == other.mayReturnNull
+                && dereferencedParameters.equals(other.dereferencedParameters)
+                && fieldsWrittenNull.equals(other.fieldsWrittenNull);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mayReturnNull, dereferencedParameters, fieldsWrittenNull);
+    }
+
+    @Override
+    public String toString() {
+        return "mayReturnNull=" + mayReturnNull + ", dereferenced=" + dereferencedParameters
+                + ", writtenNull=" + fieldsWrittenNull;
+    }
+}
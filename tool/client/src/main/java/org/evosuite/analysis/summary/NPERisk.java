@@ -0,0 +1,45 @@
+package org.evosuite.analysis.summary;
+
+/**
+ * Static NPE risk of a class, as computed by {@link NPERiskAnalyzer}
+ */
+public class NPERisk {
+
+    public static final NPERisk NONE = new NPERisk(0, 0, 0);
+
+    /**
+     * Dereferences of values that may be null: nullable fields, parameters of
+     * non-private methods and results of methods which may return null
+     */
+    private final int candidates;
+
+    private final int nullableFields;
+
+    /**
+     * Sum of the {@link org.evosuite.analysis.staticanalysis.ComplexityAnalyzer} scores of the methods
+     */
+    private final int complexity;
+
+    public NPERisk(int candidates, int nullableFields, int complexity) {
+        this.candidates = candidates;
+        this.nullableFields = nullableFields;
+        this.complexity = complexity;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public int getNullableFields() {
+        return nullableFields;
+    }
+
+    public int getComplexity() {
+        return complexity;
+    }
+
+    @Override
+    public String toString() {
+        return "candidates=" + candidates + ", nullableFields=" + nullableFields + ", complexity=" + complexity;
+    }
+}
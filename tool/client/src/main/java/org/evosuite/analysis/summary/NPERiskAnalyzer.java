@@ -0,0 +1,200 @@
+package org.evosuite.analysis.summary;
+
+import org.evosuite.analysis.staticanalysis.ComplexityAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import spoon.Launcher;
+import spoon.reflect.code.CtAssignment;
+import spoon.reflect.code.CtExpression;
+import spoon.reflect.code.CtFieldRead;
+import spoon.reflect.code.CtFieldWrite;
+import spoon.reflect.code.CtInvocation;
+import spoon.reflect.code.CtLiteral;
+import spoon.reflect.code.CtReturn;
+import spoon.reflect.code.CtTargetedExpression;
+import spoon.reflect.code.CtVariableRead;
+import spoon.reflect.declaration.CtClass;
+import spoon.reflect.declaration.CtElement;
+import spoon.reflect.declaration.CtField;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.declaration.CtModifiable;
+import spoon.reflect.declaration.CtParameter;
+import spoon.reflect.declaration.CtType;
+import spoon.reflect.reference.CtExecutableReference;
+import spoon.reflect.reference.CtFieldReference;
+import spoon.reflect.reference.CtParameterReference;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cheap pre-pass over all the classes of a source root, which estimates how
+ * many NPEs a search could find in each class, see {@link NPERisk}.
+ * <p>
+ * Unlike the analysis of the target class, no control flow graph and no path
+ * is built: a field is nullable if it is not initialized or set to null
+ * somewhere, and a method may return null if it returns the null literal.
+ * If the {@link NullnessSummaries} of the source root are loaded, they are
+ * used instead for fields and called methods.
+ */
+public class NPERiskAnalyzer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NPERiskAnalyzer.class);
+
+    private final Set<String> nullableFields = new HashSet<>();
+
+    private final Set<String> nullReturningMethods = new HashSet<>();
+
+    /**
+     * @return the source root of a project directory, as searched by the analysis of the target class
+     */
+    public static String getSourceRoot(String projectDir) {
+        for (String sub : new String[]{"/src/main/java", "/src"}) {
+            File dir = new File(projectDir + sub);
+            if (dir.isDirectory()) {
+                return dir.getPath();
+            }
+        }
+        return projectDir;
+    }
+
+    /**
+     * @return the risk of each top level class of the source root, by fully qualified name
+     */
+    public Map<String, NPERisk> analyze(String root) {
+        Map<String, NPERisk> result = new HashMap<>();
+
+        Launcher launcher = new Launcher();
+        launcher.addInputResource(root);
+        launcher.getEnvironment().setNoClasspath(true);
+        launcher.getEnvironment().setCommentEnabled(false);
+
+        try {
+            launcher.buildModel();
+        } catch (RuntimeException e) {
+            logger.warn("Cannot build the model of {}: {}", root, e.getMessage());
+            return result;
+        }
+
+        long start = System.currentTimeMillis();
+        collectNullableFields(launcher);
+        collectNullReturningMethods(launcher);
+
+        for (CtType<?> type : launcher.getModel().getAllTypes()) {
+            if (type instanceof CtClass) {
+                result.put(type.getQualifiedName(), analyzeClass(type));
+            }
+        }
+
+        logger.info("Computed the NPE risk of {} classes of {} in {} ms", result.size(), root,
+                System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private NPERisk analyzeClass(CtType<?> type) {
+        int candidates = 0;
+        for (CtTargetedExpression<?, ?> expression : type.getElements(new TypeFilter<>(CtTargetedExpression.class))) {
+            if (mayBeNull(expression.getTarget())) {
+                candidates++;
+            }
+        }
+
+        int fields = 0;
+        for (CtField<?> field : type.getElements(new TypeFilter<>(CtField.class))) {
+            if (isNullable(field)) {
+                fields++;
+            }
+        }
+
+        int complexity = 0;
+        for (CtMethod<?> method : type.getElements(new TypeFilter<>(CtMethod.class))) {
+            String methodKey = method.getDeclaringType().getQualifiedName() + "." + method.getSignature();
+            complexity += ComplexityAnalyzer.computeScore(method, methodKey);
+        }
+
+        return new NPERisk(candidates, fields, complexity);
+    }
+
+    private boolean mayBeNull(CtExpression<?> target) {
+        if (target instanceof CtFieldRead) {
+            CtFieldReference<?> field = ((CtFieldRead<?>) target).getVariable();
+            return field != null && nullableFields.contains(getKey(field));
+        }
+        if (target instanceof CtVariableRead) {
+            // tests may pass null to any method they can call
+            if (!(((CtVariableRead<?>) target).getVariable() instanceof CtParameterReference)) return false;
+
+            CtParameter<?> parameter = ((CtParameterReference<?>) ((CtVariableRead<?>) target).getVariable()).getDeclaration();
+            if (parameter == null) return false;
+
+            CtElement executable = parameter.getParent();
+            return executable instanceof CtModifiable && !((CtModifiable) executable).isPrivate();
+        }
+        if (target instanceof CtInvocation) {
+            CtExecutableReference<?> callee = ((CtInvocation<?>) target).getExecutable();
+            if (NullnessSummaries.getInstance().isLoaded()) {
+                MethodSummary summary = NullnessSummaries.getInstance().get(callee);
+                return summary != null && summary.mayReturnNull();
+            }
+            return callee != null && nullReturningMethods.contains(getKey(callee));
+        }
+        return false;
+    }
+
+    private boolean isNullable(CtField<?> field) {
+        if (field.getType() == null || field.getType().isPrimitive() || field.getDeclaringType() == null) {
+            return false;
+        }
+        return nullableFields.contains(MethodSummary.fieldKey(field.getDeclaringType().getQualifiedName(),
+                field.getSimpleName()));
+    }
+
+    private void collectNullableFields(Launcher launcher) {
+        for (CtField<?> field : launcher.getModel().getElements(new TypeFilter<>(CtField.class))) {
+            if (field.getType() == null || field.getType().isPrimitive() || field.getDeclaringType() == null) continue;
+
+            CtExpression<?> init = field.getDefaultExpression();
+            if ((init == null && !field.isFinal()) || isNullLiteral(init)
+                    || NullnessSummaries.getInstance().isWrittenNull(field)) {
+                nullableFields.add(MethodSummary.fieldKey(field.getDeclaringType().getQualifiedName(),
+                        field.getSimpleName()));
+            }
+        }
+
+        for (CtAssignment<?, ?> assignment : launcher.getModel().getElements(new TypeFilter<>(CtAssignment.class))) {
+            if (assignment.getAssigned() instanceof CtFieldWrite && isNullLiteral(assignment.getAssignment())) {
+                CtFieldReference<?> field = ((CtFieldWrite<?>) assignment.getAssigned()).getVariable();
+                if (field != null) nullableFields.add(getKey(field));
+            }
+        }
+    }
+
+    private void collectNullReturningMethods(Launcher launcher) {
+        for (CtReturn<?> ret : launcher.getModel().getElements(new TypeFilter<>(CtReturn.class))) {
+            CtMethod<?> method = ret.getParent(CtMethod.class);
+            if (method != null && isNullLiteral(ret.getReturnedExpression())) {
+                nullReturningMethods.add(getKey(method.getReference()));
+            }
+        }
+    }
+
+    private static boolean isNullLiteral(CtExpression<?> expression) {
+        return expression instanceof CtLiteral && ((CtLiteral<?>) expression).getValue() == null;
+    }
+
+    private static String getKey(CtFieldReference<?> field) {
+        String type = field.getDeclaringType() == null ? "" : field.getDeclaringType().getQualifiedName();
+        return MethodSummary.fieldKey(type, field.getSimpleName());
+    }
+
+    // Parameter types may not be resolved without the classpath of the project
+    private static String getKey(CtExecutableReference<?> executable) {
+        String type = executable.getDeclaringType() == null ? "" : executable.getDeclaringType().getQualifiedName();
+        return type + "." + executable.getSimpleName() + "/" + executable.getParameters().size();
+    }
+}
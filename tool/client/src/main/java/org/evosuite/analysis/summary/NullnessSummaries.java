@@ -0,0 +1,438 @@
+package org.evosuite.analysis.summary;
+
+import org.evosuite.Properties;
+import org.evosuite.analysis.GraphManager;
+import org.evosuite.analysis.StronglyConnectedComponents;
+import org.evosuite.analysis.TypeUtils;
+import org.evosuite.analysis.controlflow.ControlFlowGraph;
+import org.evosuite.analysis.controlflow.ControlFlowNode;
+import org.evosuite.analysis.dataflow.MayNullAnalysis;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import spoon.Launcher;
+import spoon.reflect.code.CtAbstractInvocation;
+import spoon.reflect.code.CtAssignment;
+import spoon.reflect.code.CtExpression;
+import spoon.reflect.code.CtFieldWrite;
+import spoon.reflect.code.CtInvocation;
+import spoon.reflect.code.CtReturn;
+import spoon.reflect.code.CtTargetedExpression;
+import spoon.reflect.code.CtVariableRead;
+import spoon.reflect.declaration.CtConstructor;
+import spoon.reflect.declaration.CtExecutable;
+import spoon.reflect.declaration.CtField;
+import spoon.reflect.declaration.CtMethod;
+import spoon.reflect.declaration.CtParameter;
+import spoon.reflect.reference.CtExecutableReference;
+import spoon.reflect.reference.CtFieldReference;
+import spoon.reflect.reference.CtParameterReference;
+import spoon.reflect.reference.CtTypeReference;
+import spoon.reflect.visitor.filter.TypeFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Nullness summaries of all the methods and constructors of a source root.
+ * <p>
+ * The summaries are computed bottom-up over the call graph: the strongly
+ * connected components (recursive cycles) are visited callees first, and the
+ * summaries of the methods of a cycle are iterated from {@link MethodSummary#BOTTOM}
+ * until they do not change anymore. Each method is analyzed once with a
+ * {@link MayNullAnalysis}, in which calls of methods of the source root use
+ * their summaries and calls of library methods may return null. Parameters are
+ * assumed to be non-null when a method starts, as whether they may be null
+ * depends on the call site, while fields may be null.
+ * <p>
+ * Calls are resolved to the method declared by the static type of the call,
+ * overriding methods are not considered. The summaries of a source root are
+ * stored in a {@link SummaryCache} and reused as long as no source file of the
+ * root changed, so that the clients of different target classes share them.
+ */
+public class NullnessSummaries {
+
+    private static final Logger logger = LoggerFactory.getLogger(NullnessSummaries.class);
+
+    private static final NullnessSummaries instance = new NullnessSummaries();
+
+    /**
+     * Iterations over a recursive cycle after which its methods are given up as {@link MethodSummary#UNKNOWN}
+     */
+    private static final int MAX_ITERATIONS = 20;
+
+    private String sourceRoot;
+
+    private final Map<String, MethodSummary> summaries = new HashMap<>();
+
+    private final Map<String, String> fallbackKeys = new HashMap<>();
+
+    /**
+     * Summaries by fallback key, null if several methods have the same fallback key
+     */
+    private final Map<String, MethodSummary> fallbackIndex = new HashMap<>();
+
+    private final Set<String> fieldsWrittenNull = new HashSet<>();
+
+    public static NullnessSummaries getInstance() {
+        return instance;
+    }
+
+    /**
+     * Loads the summaries of the source root from the cache, or computes them if
+     * the cache is missing or out of date
+     */
+    public synchronized void load(String root) {
+        String path = new File(root).getAbsolutePath();
+        if (path.equals(sourceRoot)) return;
+
+        clear();
+        sourceRoot = path;
+
+        Map<String, Long> stamps;
+        try {
+            stamps = getStamps(new File(path));
+        } catch (IOException e) {
+            logger.warn("Cannot list the source files of {}: {}", path, e.getMessage());
+            return;
+        }
+
+        SummaryCache cache = new SummaryCache(getCacheFile());
+        if (cache.load(path, stamps, summaries, fallbackKeys)) {
+            logger.info("Loaded {} nullness summaries of {}", summaries.size(), path);
+        } else {
+            long start = System.currentTimeMillis();
+            build(path);
+            logger.info("Computed {} nullness summaries of {} in {} ms", summaries.size(), path,
+                    System.currentTimeMillis() - start);
+
+            try {
+                if (!summaries.isEmpty()) cache.store(path, stamps, summaries, fallbackKeys);
+            } catch (IOException e) {
+                // the cache is only an optimization
+                logger.debug("Cannot store the nullness summaries: {}", e.getMessage());
+            }
+        }
+
+        index();
+    }
+
+    public synchronized void clear() {
+        sourceRoot = null;
+        summaries.clear();
+        fallbackKeys.clear();
+        fallbackIndex.clear();
+        fieldsWrittenNull.clear();
+    }
+
+    public boolean isLoaded() {
+        return sourceRoot != null;
+    }
+
+    /**
+     * @return a hash of the summaries of the methods declared outside of a class and its inner classes
+     */
+    public synchronized long getFingerprint(String className) {
+        long fingerprint = 17;
+        for (Map.Entry<String, MethodSummary> entry : new TreeMap<>(summaries).entrySet()) {
+            String key = entry.getKey();
+            if (key.startsWith(className + ".") || key.startsWith(className + "$")) continue;
+
+            fingerprint = 31 * fingerprint + key.hashCode();
+            fingerprint = 31 * fingerprint + entry.getValue().hashCode();
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @return the summary of the called method, or null if it is not declared in the source root
+     */
+    public MethodSummary get(CtExecutableReference<?> executable) {
+        return resolve(executable, summaries, fallbackIndex);
+    }
+
+    /**
+     * @return whether a method of the source root may set the field to null
+     */
+    public boolean isWrittenNull(CtField<?> field) {
+        if (field.getDeclaringType() == null) return false;
+
+        return fieldsWrittenNull.contains(
+                MethodSummary.fieldKey(field.getDeclaringType().getQualifiedName(), field.getSimpleName()));
+    }
+
+    private File getCacheFile() {
+        if (Properties.NPE_SUMMARIES_CACHE != null && !Properties.NPE_SUMMARIES_CACHE.isEmpty()) {
+            return new File(Properties.NPE_SUMMARIES_CACHE);
+        }
+        return new File(Properties.CTG_DIR, "npe_summaries.bin");
+    }
+
+    private static Map<String, Long> getStamps(File root) throws IOException {
+        Map<String, Long> stamps = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(root.toPath())) {
+            files.filter(p -> p.toString().endsWith(".java"))
+                    .forEach(p -> stamps.put(p.toString(), p.toFile().lastModified()));
+        }
+        return stamps;
+    }
+
+    private void index() {
+        for (Map.Entry<String, String> entry : fallbackKeys.entrySet()) {
+            // an ambiguous fallback key is kept with a null summary
+            fallbackIndex.put(entry.getValue(),
+                    fallbackIndex.containsKey(entry.getValue()) ? null : summaries.get(entry.getKey()));
+        }
+        for (MethodSummary summary : summaries.values()) {
+            fieldsWrittenNull.addAll(summary.getFieldsWrittenNull());
+        }
+    }
+
+    private static String getKey(CtExecutableReference<?> executable) {
+        CtTypeReference<?> type = executable.getDeclaringType();
+        if (type == null) return null;
+
+        return type.getQualifiedName() + "." + executable.getSignature();
+    }
+
+    // Parameter types of calls may not be resolved without the classpath of the project
+    private static String getFallbackKey(CtExecutableReference<?> executable) {
+        CtTypeReference<?> type = executable.getDeclaringType();
+        if (type == null) return null;
+
+        return type.getQualifiedName() + "." + executable.getSimpleName() + "/" + executable.getParameters().size();
+    }
+
+    private static <T> T resolve(CtExecutableReference<?> executable, Map<String, T> byKey,
+                                 Map<String, T> byFallbackKey) {
+        if (executable == null) return null;
+
+        try {
+            String key = getKey(executable);
+            if (key == null) return null;
+
+            T result = byKey.get(key);
+            return result != null ? result : byFallbackKey.get(getFallbackKey(executable));
+        } catch (RuntimeException e) {
+            // unresolved references may fail to print their signature
+            return null;
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------
+
+    private final List<CtExecutable<?>> executables = new ArrayList<>();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    private final Map<String, Integer> fallbackIds = new HashMap<>();
+
+    private MethodSummary[] current;
+
+    private void build(String root) {
+        Launcher launcher = new Launcher();
+        launcher.addInputResource(root);
+        launcher.getEnvironment().setNoClasspath(true);
+        launcher.getEnvironment().setCommentEnabled(false);
+
+        try {
+            launcher.buildModel();
+        } catch (RuntimeException e) {
+            logger.warn("Cannot build the model of {}: {}", root, e.getMessage());
+            return;
+        }
+
+        for (CtExecutable<?> exe : launcher.getModel().getElements(new TypeFilter<>(CtExecutable.class))) {
+            if (!(exe instanceof CtMethod || exe instanceof CtConstructor) || exe.getBody() == null) continue;
+
+            String key = getKey(exe.getReference());
+            if (key == null || ids.containsKey(key)) continue;
+
+            ids.put(key, executables.size());
+            fallbackKeys.put(key, getFallbackKey(exe.getReference()));
+            executables.add(exe);
+        }
+        for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+            String fallbackKey = fallbackKeys.get(entry.getKey());
+            fallbackIds.put(fallbackKey, fallbackIds.containsKey(fallbackKey) ? null : entry.getValue());
+        }
+
+        List<int[]> next = new ArrayList<>(executables.size());
+        for (CtExecutable<?> exe : executables) {
+            Set<Integer> callees = new HashSet<>();
+            for (CtAbstractInvocation<?> call : getCalls(exe)) {
+                Integer callee = resolveId(call.getExecutable());
+                if (callee != null) callees.add(callee);
+            }
+            next.add(callees.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        int[] component = StronglyConnectedComponents.compute(next);
+        List<List<Integer>> members = new ArrayList<>();
+        for (int c = StronglyConnectedComponents.count(component); c > 0; c--) {
+            members.add(new ArrayList<>());
+        }
+        for (int v = 0; v < component.length; v++) {
+            members.get(component[v]).add(v);
+        }
+
+        current = new MethodSummary[executables.size()];
+
+        // Callees are numbered before their callers
+        for (List<Integer> scc : members) {
+            int v = scc.get(0);
+            boolean recursive = scc.size() > 1 || contains(next.get(v), v);
+
+            if (!recursive) {
+                current[v] = summarize(executables.get(v));
+                continue;
+            }
+
+            for (int m : scc) current[m] = MethodSummary.BOTTOM;
+
+            boolean changed = true;
+            for (int i = 0; changed && i < MAX_ITERATIONS; i++) {
+                changed = false;
+                for (int m : scc) {
+                    MethodSummary summary = summarize(executables.get(m));
+                    if (!summary.equals(current[m])) {
+                        current[m] = summary;
+                        changed = true;
+                    }
+                }
+            }
+            if (changed) {
+                for (int m : scc) current[m] = MethodSummary.UNKNOWN;
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+            summaries.put(entry.getKey(), current[entry.getValue()]);
+        }
+
+        // The model is not needed anymore
+        executables.clear();
+        ids.clear();
+        fallbackIds.clear();
+        current = null;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) return true;
+        }
+        return false;
+    }
+
+    private static List<CtAbstractInvocation<?>> getCalls(CtExecutable<?> exe) {
+        return exe.getBody().getElements(new TypeFilter<>(CtAbstractInvocation.class));
+    }
+
+    private Integer resolveId(CtExecutableReference<?> executable) {
+        return resolve(executable, ids, fallbackIds);
+    }
+
+    private MethodSummary getCurrent(CtExecutableReference<?> executable) {
+        Integer callee = resolveId(executable);
+        if (callee == null || current[callee] == null) return null;
+
+        return current[callee];
+    }
+
+    private MethodSummary summarize(CtExecutable<?> exe) {
+        List<CtParameter<?>> parameters = exe.getParameters();
+        BitSet dereferenced = new BitSet();
+        Set<String> writtenNull = new HashSet<>();
+
+        List<CtTargetedExpression<?, ?>> accesses = exe.getBody().getElements(new TypeFilter<>(CtTargetedExpression.class));
+        for (CtTargetedExpression<?, ?> access : accesses) {
+            int p = getParameter(parameters, access.getTarget());
+            if (p >= 0) dereferenced.set(p);
+        }
+
+        for (CtAbstractInvocation<?> call : getCalls(exe)) {
+            MethodSummary callee = getCurrent(call.getExecutable());
+            if (callee == null) continue;
+
+            List<CtExpression<?>> arguments = call.getArguments();
+            for (int a = 0; a < arguments.size(); a++) {
+                if (!callee.isDereferenced(a)) continue;
+
+                int p = getParameter(parameters, arguments.get(a));
+                if (p >= 0) dereferenced.set(p);
+            }
+            writtenNull.addAll(callee.getFieldsWrittenNull());
+        }
+
+        boolean returnsValue = exe instanceof CtMethod && exe.getType() != null
+                && !TypeUtils.isPrimitive(exe.getType()) && !"void".equals(exe.getType().getSimpleName());
+
+        ControlFlowGraph graph;
+        try {
+            graph = GraphManager.getInstance().buildCfg(exe.getBody());
+        } catch (Exception e) {
+            // Not every construct is supported by the control flow builder
+            return new MethodSummary(returnsValue, dereferenced, writtenNull);
+        }
+
+        MayNullAnalysis mayNull = new MayNullAnalysis(graph,
+                graph.getDefUseIndex().select(v -> v instanceof CtFieldReference), this::mayReturnNull);
+        mayNull.solve();
+
+        boolean mayReturnNull = false;
+        if (returnsValue) {
+            for (ControlFlowNode ret : graph.getReturnNodes()) {
+                CtExpression<?> returned = ((CtReturn<?>) ret.getStatement()).getReturnedExpression();
+                if (returned != null && mayNull.mayBeNull(ret, returned)) {
+                    mayReturnNull = true;
+                    break;
+                }
+            }
+        }
+
+        for (ControlFlowNode n : graph.getAllStatementNodes()) {
+            if (!(n.getStatement() instanceof CtAssignment)) continue;
+
+            CtAssignment<?, ?> assignment = (CtAssignment<?, ?>) n.getStatement();
+            if (!(assignment.getAssigned() instanceof CtFieldWrite)
+                    || !mayNull.mayBeNull(n, assignment.getAssignment())) continue;
+
+            CtFieldReference<?> field = ((CtFieldWrite<?>) assignment.getAssigned()).getVariable();
+            if (field != null && field.getDeclaringType() != null) {
+                writtenNull.add(MethodSummary.fieldKey(field.getDeclaringType().getQualifiedName(), field.getSimpleName()));
+            }
+        }
+
+        return new MethodSummary(mayReturnNull, dereferenced, writtenNull);
+    }
+
+    private boolean mayReturnNull(CtInvocation<?> invocation) {
+        MethodSummary callee = getCurrent(invocation.getExecutable());
+        return callee == null || callee.mayReturnNull();
+    }
+
+    /**
+     * @return the index of the parameter read by the expression, -1 if it does not read a parameter
+     */
+    private static int getParameter(List<CtParameter<?>> parameters, CtExpression<?> exp) {
+        if (!(exp instanceof CtVariableRead)
+                || !(((CtVariableRead<?>) exp).getVariable() instanceof CtParameterReference)) return -1;
+
+        CtParameter<?> declaration = ((CtParameterReference<?>) ((CtVariableRead<?>) exp).getVariable()).getDeclaration();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i) == declaration) return i;
+        }
+        return -1;
+    }
+}
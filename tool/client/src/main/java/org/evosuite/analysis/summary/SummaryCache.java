@@ -0,0 +1,122 @@
+package org.evosuite.analysis.summary;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * File holding the summaries of a source root. The file is only valid for the
+ * same source root with the same modification times of all its source files,
+ * otherwise the summaries are computed again.
+ */
+class SummaryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryCache.class);
+
+    private static final int MAGIC = 0x4e50534d; // "NPSM"
+
+    private static final int VERSION = 1;
+
+    private final File file;
+
+    SummaryCache(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the summaries and their fallback keys if the file matches the source root
+     *
+     * @return false if the file is missing, unreadable or out of date
+     */
+    boolean load(String root, Map<String, Long> stamps, Map<String, MethodSummary> summaries,
+                 Map<String, String> fallbackKeys) {
+        if (!file.exists()) return false;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(root)) return false;
+
+            int files = in.readInt();
+            if (files != stamps.size()) return false;
+            for (int i = 0; i < files; i++) {
+                Long stamp = stamps.get(in.readUTF());
+                if (stamp == null || stamp != in.readLong()) return false;
+            }
+
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String key = in.readUTF();
+                fallbackKeys.put(key, in.readUTF());
+
+                boolean mayReturnNull = in.readBoolean();
+                long[] words = new long[in.readInt()];
+                for (int w = 0; w < words.length; w++) words[w] = in.readLong();
+                int fields = in.readInt();
+                Set<String> writtenNull = new HashSet<>();
+                for (int f = 0; f < fields; f++) writtenNull.add(in.readUTF());
+
+                summaries.put(key, new MethodSummary(mayReturnNull, BitSet.valueOf(words), writtenNull));
+            }
+            return true;
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable summary cache {}: {}", file, e.getMessage());
+            summaries.clear();
+            fallbackKeys.clear();
+            return false;
+        }
+    }
+
+    void store(String root, Map<String, Long> stamps, Map<String, MethodSummary> summaries,
+               Map<String, String> fallbackKeys) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+            throw new IOException("Cannot create " + directory);
+        }
+
+        // write to a temporary file first, as clients of other target classes may read the cache concurrently
+        File tmp = File.createTempFile(file.getName(), ".tmp", directory);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(root);
+
+                out.writeInt(stamps.size());
+                for (Map.Entry<String, Long> entry : stamps.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue());
+                }
+
+                out.writeInt(summaries.size());
+                for (Map.Entry<String, MethodSummary> entry : summaries.entrySet()) {
+                    MethodSummary summary = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(fallbackKeys.get(entry.getKey()));
+
+                    out.writeBoolean(summary.mayReturnNull());
+                    long[] words = summary.getDereferencedParameters().toLongArray();
+                    out.writeInt(words.length);
+                    for (long w : words) out.writeLong(w);
+                    out.writeInt(summary.getFieldsWrittenNull().size());
+                    for (String field : summary.getFieldsWrittenNull()) out.writeUTF(field);
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            tmp.delete();
+        }
+    }
+}
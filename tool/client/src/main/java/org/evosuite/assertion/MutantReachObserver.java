@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.assertion;
+
+import org.evosuite.testcase.execution.ExecutionObserver;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTracer;
+import org.evosuite.testcase.execution.Scope;
+import org.evosuite.testcase.statements.Statement;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Records, for each mutant touched by a test execution, the position of the
+ * first statement that reached it. Statements before that position behave the
+ * same on the original unit and on the mutant.
+ */
+class MutantReachObserver extends ExecutionObserver {
+
+    private final Supplier<Set<Integer>> touchedMutants;
+
+    private final Map<Integer, Integer> firstPositions = new LinkedHashMap<>();
+
+    private int lastPosition = 0;
+
+    MutantReachObserver() {
+        this(() -> ExecutionTracer.getExecutionTracer().getTouchedMutants());
+    }
+
+    MutantReachObserver(Supplier<Set<Integer>> touchedMutants) {
+        this.touchedMutants = touchedMutants;
+    }
+
+    /**
+     * Mutants are only ever added to the trace, so comparing sizes tells
+     * whether the last statement touched any new ones
+     */
+    private void update(int position) {
+        Set<Integer> touched = touchedMutants.get();
+        if (touched.size() == firstPositions.size())
+            return;
+
+        synchronized (touched) {
+            for (Integer mutationId : touched) {
+                firstPositions.putIfAbsent(mutationId, position);
+            }
+        }
+    }
+
+    /**
+     * Position of the first statement that touched the mutant, or 0 if it
+     * was not touched
+     *
+     * @param mutationId
+     * @return
+     */
+    public int getFirstPosition(int mutationId) {
+        return firstPositions.getOrDefault(mutationId, 0);
+    }
+
+    public Map<Integer, Integer> getFirstPositions() {
+        return Collections.unmodifiableMap(firstPositions);
+    }
+
+    @Override
+    public void output(int position, String output) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeStatement(Statement statement, Scope scope) {
+        // Anything touched before the statement is attributed to its predecessor
+        update(Math.max(0, statement.getPosition() - 1));
+    }
+
+    @Override
+    public void afterStatement(Statement statement, Scope scope, Throwable exception) {
+        lastPosition = statement.getPosition();
+        update(lastPosition);
+    }
+
+    @Override
+    public void testExecutionFinished(ExecutionResult r, Scope s) {
+        update(lastPosition);
+    }
+
+    @Override
+    public void clear() {
+        firstPositions.clear();
+        lastPosition = 0;
+    }
+}
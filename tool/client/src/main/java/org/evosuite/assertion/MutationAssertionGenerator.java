@@ -29,6 +29,7 @@ import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.execution.ExecutionObserver;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
@@ -74,6 +75,25 @@ public abstract class MutationAssertionGenerator extends AssertionGenerator {
 
     protected final static Map<Mutation, Integer> exceptionMutations = new HashMap<>();
 
+    protected final static MutantReachObserver reachObserver = new MutantReachObserver();
+
+    /**
+     * The assertion observers, wrapped so that the prefix of a test that does
+     * not reach a mutant is only observed on the original unit
+     */
+    protected final List<PrefixSkippingObserver> prefixObservers = new ArrayList<>();
+
+    /**
+     * Number of test executions on mutants
+     */
+    protected int mutantExecutions = 0;
+
+    /**
+     * Number of statements whose observation was shared with the execution on
+     * the original unit
+     */
+    protected int sharedPrefixStatements = 0;
+
     /**
      * Constant <code>observerClasses</code>
      */
@@ -89,15 +109,14 @@ public abstract class MutationAssertionGenerator extends AssertionGenerator {
             mutants.put(m.getId(), m);
         }
         TestCaseExecutor.getInstance().newObservers();
-        TestCaseExecutor.getInstance().addObserver(primitiveObserver);
-        TestCaseExecutor.getInstance().addObserver(comparisonObserver);
-        TestCaseExecutor.getInstance().addObserver(sameObserver);
-        TestCaseExecutor.getInstance().addObserver(inspectorObserver);
-        TestCaseExecutor.getInstance().addObserver(fieldObserver);
-        TestCaseExecutor.getInstance().addObserver(nullObserver);
-        TestCaseExecutor.getInstance().addObserver(arrayObserver);
-        TestCaseExecutor.getInstance().addObserver(arrayLengthObserver);
-        TestCaseExecutor.getInstance().addObserver(containsTraceObserver);
+        TestCaseExecutor.getInstance().addObserver(reachObserver);
+        for (ExecutionObserver observer : Arrays.asList(primitiveObserver, comparisonObserver,
+                sameObserver, inspectorObserver, fieldObserver, nullObserver, arrayObserver,
+                arrayLengthObserver, containsTraceObserver)) {
+            PrefixSkippingObserver prefixObserver = new PrefixSkippingObserver(observer);
+            prefixObservers.add(prefixObserver);
+            TestCaseExecutor.getInstance().addObserver(prefixObserver);
+        }
     }
 
     /**
@@ -117,6 +136,20 @@ public abstract class MutationAssertionGenerator extends AssertionGenerator {
      * @param mutant The mutant on which the test case shall be executed
      */
     protected ExecutionResult runTest(TestCase test, Mutation mutant) {
+        return runTest(test, mutant, 0);
+    }
+
+    /**
+     * Execute a test case on a mutant, without observing the first
+     * <code>sharedPrefix</code> statements. The traces of the result contain no
+     * entries for these statements, which is the same for trace comparisons as
+     * having entries equal to those of the original unit.
+     *
+     * @param test         The test case that should be executed
+     * @param mutant       The mutant on which the test case shall be executed
+     * @param sharedPrefix Number of statements that do not reach the mutant
+     */
+    protected ExecutionResult runTest(TestCase test, Mutation mutant, int sharedPrefix) {
         ExecutionResult result = new ExecutionResult(test, mutant);
         // resetObservers();
         comparisonObserver.clear();
@@ -128,14 +161,22 @@ public abstract class MutationAssertionGenerator extends AssertionGenerator {
         arrayObserver.clear();
         arrayLengthObserver.clear();
         containsTraceObserver.clear();
+        reachObserver.clear();
         try {
             logger.debug("Executing test");
             if (mutant == null) {
                 MutationObserver.deactivateMutation();
             } else {
                 MutationObserver.activateMutation(mutant);
+                mutantExecutions++;
+                sharedPrefixStatements += sharedPrefix;
+            }
+            prefixObservers.forEach(o -> o.setFirstObservedPosition(sharedPrefix));
+            try {
+                result = TestCaseExecutor.getInstance().execute(test);
+            } finally {
+                prefixObservers.forEach(o -> o.setFirstObservedPosition(0));
             }
-            result = TestCaseExecutor.getInstance().execute(test);
             MutationObserver.deactivateMutation(mutant);
 
             int num = test.size();
@@ -158,6 +199,42 @@ public abstract class MutationAssertionGenerator extends AssertionGenerator {
         return result;
     }
 
+    /**
+     * Number of statements at the beginning of a test that do not need to be
+     * observed again when the test is executed on the mutant
+     *
+     * @param firstPositions positions of the first statements that touched each
+     *                       mutant during the execution on the original unit
+     * @param mutant         the mutant
+     * @return
+     */
+    protected int getSharedPrefix(Map<Integer, Integer> firstPositions, Mutation mutant) {
+        if (!Properties.ASSERTION_SHARE_MUTANT_PREFIX || isObservable(mutant))
+            return 0;
+
+        return firstPositions.getOrDefault(mutant.getId(), 0);
+    }
+
+    /**
+     * The observers call inspectors, equals, hashCode and contains on the
+     * objects in scope, but without tracing the touched mutants. A mutant in
+     * such a method could change the traces of statements that do not reach it.
+     */
+    private static boolean isObservable(Mutation mutant) {
+        String method = mutant.getMethodName();
+        int descriptorStart = method.indexOf('(');
+        if (descriptorStart < 0)
+            return true;
+
+        String name = method.substring(0, descriptorStart);
+        String descriptor = method.substring(descriptorStart);
+        if (descriptor.startsWith("()") && !descriptor.equals("()V"))
+            return true;
+
+        return name.equals("equals") || name.equals("hashCode")
+                || name.equals("compareTo") || name.equals("contains");
+    }
+
     protected Criterion[] oldCriterion = Properties.CRITERION;
 
     /**
@@ -215,6 +292,9 @@ public abstract class MutationAssertionGenerator extends AssertionGenerator {
             LoggingUtils.getEvoLogger().info(
                     "* Resulting test suite's mutation score: " + NumberFormat.getPercentInstance().format(score));
         }
+
+        ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Assertion_Mutant_Executions, mutantExecutions);
+        ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Assertion_Shared_Prefix_Statements, sharedPrefixStatements);
     }
 
     /**
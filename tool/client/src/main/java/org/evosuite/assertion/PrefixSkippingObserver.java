@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.assertion;
+
+import org.evosuite.testcase.execution.ExecutionObserver;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.Scope;
+import org.evosuite.testcase.statements.Statement;
+
+/**
+ * Forwards the execution events to an observer, except for the statements
+ * before a given position. When a test is re-executed on a mutant, the output
+ * traces of the prefix that does not reach the mutant are the same as on the
+ * original unit, so there is no need to observe it again.
+ */
+class PrefixSkippingObserver extends ExecutionObserver {
+
+    private final ExecutionObserver delegate;
+
+    private int firstObservedPosition = 0;
+
+    PrefixSkippingObserver(ExecutionObserver delegate) {
+        this.delegate = delegate;
+    }
+
+    public ExecutionObserver getDelegate() {
+        return delegate;
+    }
+
+    public int getFirstObservedPosition() {
+        return firstObservedPosition;
+    }
+
+    /**
+     * @param position statements before this position are not observed
+     */
+    public void setFirstObservedPosition(int position) {
+        this.firstObservedPosition = position;
+    }
+
+    private boolean isObserved(int position) {
+        return position >= firstObservedPosition;
+    }
+
+    @Override
+    public void output(int position, String output) {
+        if (isObserved(position))
+            delegate.output(position, output);
+    }
+
+    @Override
+    public void beforeStatement(Statement statement, Scope scope) {
+        if (isObserved(statement.getPosition()))
+            delegate.beforeStatement(statement, scope);
+    }
+
+    @Override
+    public void afterStatement(Statement statement, Scope scope, Throwable exception) {
+        if (isObserved(statement.getPosition()))
+            delegate.afterStatement(statement, scope, exception);
+    }
+
+    @Override
+    public void testExecutionFinished(ExecutionResult r, Scope s) {
+        delegate.testExecutionFinished(r, s);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
@@ -131,6 +131,7 @@ public class SimpleMutationAssertionGenerator extends MutationAssertionGenerator
             return;
         }
 
+        Map<Integer, Integer> firstPositions = new HashMap<>(reachObserver.getFirstPositions());
         Map<Mutation, List<OutputTrace<?>>> mutationTraces = new HashMap<>();
         List<Mutation> executedMutants = new ArrayList<>();
 
@@ -185,7 +186,7 @@ public class SimpleMutationAssertionGenerator extends MutationAssertionGenerator
 			*/
 
             logger.debug("Running test on mutation {}", m.getMutationName());
-            ExecutionResult mutantResult = runTest(test, m);
+            ExecutionResult mutantResult = runTest(test, m, getSharedPrefix(firstPositions, m));
 
             int numKilled = 0;
             for (Class<?> observerClass : observerClasses) {
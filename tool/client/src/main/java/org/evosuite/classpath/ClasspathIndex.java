@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.classpath;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Persistent index of the classes in the jar files of the classpath, so that
+ * repeated runs on the same classpath do not have to open and scan every jar.
+ * <p>
+ * There is one index file per jar, which is valid as long as the path, size and
+ * modification time of the jar are unchanged. Besides the class names, the index
+ * stores a header of each class (its access flags plus {@link #TESTABLE}), which
+ * answers {@link ResourceList#isClassAnInterface}, {@link ResourceList#isClassDeprecated}
+ * and {@link ResourceList#isClassTestable} without reading the class again.
+ */
+class ClasspathIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClasspathIndex.class);
+
+    private static final int MAGIC = 0x45564350; // "EVCP"
+
+    private static final int VERSION = 1;
+
+    /**
+     * Header flag set if the class has at least one non-private method
+     */
+    public static final int TESTABLE = 1 << 30;
+
+    /**
+     * Header of a class that was not (or could not be) read
+     */
+    public static final int UNKNOWN = -1;
+
+    private final File directory;
+
+    ClasspathIndex(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the classes of the jar, from the index if it is up to date, or
+     * by scanning the jar (and updating the index) otherwise.
+     *
+     * @param jar
+     * @return class names in entry order, mapped to their headers (possibly {@link #UNKNOWN})
+     * @throws IOException if the jar cannot be read
+     */
+    Map<String, Integer> getClasses(File jar) throws IOException {
+        Map<String, Integer> classes = load(jar);
+        if (classes != null) {
+            return classes;
+        }
+
+        classes = scan(jar, true);
+        try {
+            store(jar, classes);
+        } catch (IOException e) {
+            // the index is only an optimization
+            logger.debug("Cannot store classpath index of {}: {}", jar, e.getMessage());
+        }
+        return classes;
+    }
+
+    private File getIndexFile(File jar) {
+        return new File(directory, jar.getName() + "-" + Integer.toHexString(jar.getAbsolutePath().hashCode()) + ".idx");
+    }
+
+    private Map<String, Integer> load(File jar) {
+        File indexFile = getIndexFile(jar);
+        if (!indexFile.exists()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            // different jars may end up with the same file name
+            if (!in.readUTF().equals(jar.getAbsolutePath()) || in.readLong() != jar.length()
+                    || in.readLong() != jar.lastModified()) {
+                return null;
+            }
+            int size = in.readInt();
+            Map<String, Integer> headers = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                headers.put(in.readUTF(), in.readInt());
+            }
+            return headers;
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable classpath index {}: {}", indexFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(File jar, Map<String, Integer> classes) throws IOException {
+        if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+            throw new IOException("Cannot create " + directory);
+        }
+
+        // write to a temporary file first, as other EvoSuite processes may read the index concurrently
+        File tmp = File.createTempFile(jar.getName(), ".tmp", directory);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(jar.getAbsolutePath());
+                out.writeLong(jar.length());
+                out.writeLong(jar.lastModified());
+                out.writeInt(classes.size());
+                for (Map.Entry<String, Integer> entry : classes.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue());
+                }
+            }
+            Files.move(tmp.toPath(), getIndexFile(jar).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            tmp.delete();
+        }
+    }
+
+    /**
+     * Lists the classes of a jar
+     *
+     * @param jar
+     * @param readHeaders if false, all headers are {@link #UNKNOWN}
+     * @return class names in entry order, mapped to their headers
+     * @throws IOException
+     */
+    static Map<String, Integer> scan(File jar, boolean readHeaders) throws IOException {
+        Map<String, Integer> headers = new LinkedHashMap<>();
+        try (JarFile zf = new JarFile(jar)) {
+            Enumeration<JarEntry> e = zf.entries();
+            while (e.hasMoreElements()) {
+                JarEntry ze = e.nextElement();
+                if (!ze.getName().endsWith(".class")) {
+                    continue;
+                }
+                String className = ResourceList.getClassNameFromResourcePath(ze.getName());
+                if (headers.containsKey(className)) {
+                    continue;
+                }
+                if (!readHeaders) {
+                    headers.put(className, UNKNOWN);
+                    continue;
+                }
+                try {
+                    headers.put(className, readHeader(zf.getInputStream(ze)));
+                } catch (IOException | RuntimeException ex) {
+                    // ASM fails on malformed classes (e.g. in multi-release or obfuscated jars)
+                    logger.debug("Cannot read header of {} in {}: {}", className, jar, ex.getMessage());
+                    headers.put(className, UNKNOWN);
+                }
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Reads the access flags of a class, plus {@link #TESTABLE}, skipping method bodies
+     *
+     * @param input closed by this method
+     * @return
+     * @throws IOException
+     */
+    static int readHeader(InputStream input) throws IOException {
+        try {
+            ClassReader reader = new ClassReader(input);
+            HeaderVisitor visitor = new HeaderVisitor();
+            reader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return visitor.header;
+        } finally {
+            input.close(); //VERY IMPORTANT, as ASM does not close the stream
+        }
+    }
+
+    private static class HeaderVisitor extends ClassVisitor {
+
+        private int header = 0;
+
+        HeaderVisitor() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            header |= access;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            if ((access & Opcodes.ACC_PRIVATE) == 0) {
+                header |= TESTABLE;
+            }
+            return null;
+        }
+    }
+}
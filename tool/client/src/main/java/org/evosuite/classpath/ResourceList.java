@@ -19,16 +19,15 @@
  */
 package org.evosuite.classpath;
 
+import org.evosuite.Properties;
 import org.evosuite.runtime.InitializingListenerUtils;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.tree.ClassNode;
-import org.objectweb.asm.tree.MethodNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -71,6 +70,13 @@ public class ResourceList {
          */
         public Set<String> missingClasses = new LinkedHashSet<>();
 
+        /**
+         * Key -> full qualifying name of a class
+         * <p>
+         * Value -> its access flags, plus {@link ClasspathIndex#TESTABLE}
+         */
+        public Map<String, Integer> classHeaders = new HashMap<>();
+
 
         public void addPrefix(String prefix, String cpEntry) {
             Set<String> classPathEntries = mapPrefixToCPs.get(prefix);
@@ -327,22 +333,25 @@ public class ResourceList {
 
     public static boolean isInterface(String resource) throws IOException {
         InputStream input = ResourceList.class.getClassLoader().getResourceAsStream(resource);
-        return isClassAnInterface(input);
+        if (input == null) {
+            throw new IOException("Resource not found: " + resource);
+        }
+        return (ClasspathIndex.readHeader(input) & Opcodes.ACC_INTERFACE) == Opcodes.ACC_INTERFACE;
     }
 
     public boolean isClassAnInterface(String className) throws IOException {
-        InputStream input = getClassAsStream(className);
-        return isClassAnInterface(input);
+        return (getClassHeader(className) & Opcodes.ACC_INTERFACE) == Opcodes.ACC_INTERFACE;
     }
 
     public boolean isClassDeprecated(String className) throws IOException {
-        InputStream input = getClassAsStream(className);
-        return isClassDeprecated(input);
+        return (getClassHeader(className) & Opcodes.ACC_DEPRECATED) == Opcodes.ACC_DEPRECATED;
     }
 
+    /**
+     * Returns {@code true} if there is at least one non-private method in the class; returns {@code false} otherwise.
+     */
     public boolean isClassTestable(String className) throws IOException {
-        InputStream input = getClassAsStream(className);
-        return isClassTestable(input);
+        return (getClassHeader(className) & ClasspathIndex.TESTABLE) == ClasspathIndex.TESTABLE;
     }
 
     /**
@@ -378,61 +387,25 @@ public class ResourceList {
         return is;
     }
 
-    private static boolean isClassAnInterface(InputStream input) throws IOException {
-        try {
-            ClassReader reader = new ClassReader(input);
-            ClassNode cn = new ClassNode();
-            reader.accept(cn, ClassReader.SKIP_FRAMES);
-            return (cn.access & Opcodes.ACC_INTERFACE) == Opcodes.ACC_INTERFACE;
-        } finally {
-            input.close(); //VERY IMPORTANT, as ASM does not close the stream
-        }
-    }
-
     /**
-     * Returns {@code true} if the class is deprecated; returns {@code false} otherwise.
+     * Returns the access flags of the class plus {@link ClasspathIndex#TESTABLE},
+     * read from the classpath index or from the class file the first time
      *
-     * @param input the input stream
-     * @return {@code true} if the class is deprecated, {@code false} otherwise
-     * @throws IOException if an error occurs while reading the input stream
-     */
-
-    private static boolean isClassDeprecated(InputStream input) throws IOException {
-        try {
-            ClassReader reader = new ClassReader(input);
-            ClassNode cn = new ClassNode();
-            reader.accept(cn, ClassReader.SKIP_FRAMES);
-            return (cn.access & Opcodes.ACC_DEPRECATED) == Opcodes.ACC_DEPRECATED;
-        } finally {
-            input.close(); //VERY IMPORTANT, as ASM does not close the stream
-        }
-    }
-
-    /**
-     * Returns {@code true} if there is at least one public method in the class; returns {@code false} otherwise.
-     *
-     * @param input the input stream
-     * @return {@code true} if there is at least one public method in the class, {@code false} otherwise
-     * @throws IOException if an error occurs while reading the input stream
+     * @param className
+     * @return
+     * @throws IOException if the class cannot be found or read
      */
-    private static boolean isClassTestable(InputStream input) throws IOException {
-        try {
-            ClassReader reader = new ClassReader(input);
-            ClassNode cn = new ClassNode();
-            reader.accept(cn, ClassReader.SKIP_FRAMES);
-            @SuppressWarnings("unchecked")
-            List<MethodNode> l = cn.methods;
-            for (MethodNode m : l) {
-                if ((m.access & Opcodes.ACC_PUBLIC) == Opcodes.ACC_PUBLIC ||
-                        (m.access & Opcodes.ACC_PROTECTED) == Opcodes.ACC_PROTECTED ||
-                        (m.access & Opcodes.ACC_PRIVATE) == 0 /* default */) {
-                    return true;
-                }
+    private int getClassHeader(String className) throws IOException {
+        Integer header = getCache().classHeaders.get(className);
+        if (header == null || header == ClasspathIndex.UNKNOWN) {
+            InputStream input = getClassAsStream(className);
+            if (input == null) {
+                throw new IOException("Class not found: " + className);
             }
-            return false;
-        } finally {
-            input.close(); //VERY IMPORTANT, as ASM does not close the stream
+            header = ClasspathIndex.readHeader(input);
+            getCache().classHeaders.put(className, header);
         }
+        return header;
     }
 
     /**
@@ -472,13 +445,95 @@ public class ResourceList {
         cache = new Cache();
 
         String cp = ClassPathHandler.getInstance().getTargetProjectClasspath();
+        String[] entries = cp.split(File.pathSeparator);
+
+        Map<String, Map<String, Integer>> listings = listEntries(entries);
+        for (String entry : entries) {
+            addEntry(entry, listings.get(new File(entry).getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Lists the classes of the classpath entries in parallel. Entries are merged
+     * into the cache afterwards in classpath order, as the first occurrence of a
+     * class wins.
+     *
+     * @param entries
+     * @return map from the absolute path of each valid entry to its classes. Empty
+     * if there is nothing to parallelize
+     */
+    private static Map<String, Map<String, Integer>> listEntries(String[] entries) {
+        Set<File> files = new LinkedHashSet<>();
+        for (String entry : entries) {
+            File file = new File(entry).getAbsoluteFile();
+            if (file.isDirectory() || (file.isFile() && file.getName().endsWith(".jar"))) {
+                files.add(file);
+            }
+        }
+
+        int threads = Properties.CLASSPATH_SCAN_THREADS > 0 ? Properties.CLASSPATH_SCAN_THREADS
+                : Runtime.getRuntime().availableProcessors();
+        threads = Math.min(threads, files.size());
+        Map<String, Map<String, Integer>> listings = new ConcurrentHashMap<>();
+        if (threads <= 1) {
+            return listings;
+        }
 
-        for (String entry : cp.split(File.pathSeparator)) {
-            addEntry(entry);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "ResourceList-scanner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (File file : files) {
+                futures.add(executor.submit(() -> listings.put(file.getPath(), listEntry(file))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // entries that were not listed are scanned again sequentially
+            logger.warn("Error while scanning the classpath: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return listings;
+    }
+
+    /**
+     * @param file an existing folder or jar file
+     * @return class names in classpath order, mapped to their header or {@link ClasspathIndex#UNKNOWN}
+     */
+    private static Map<String, Integer> listEntry(File file) {
+        Map<String, Integer> classes = new LinkedHashMap<>();
+        if (file.isDirectory()) {
+            scanDirectory(file, file.getAbsolutePath(), classes);
+            return classes;
+        }
+
+        try {
+            if (Properties.CLASSPATH_INDEX) {
+                String directory = Properties.CLASSPATH_INDEX_DIR.isEmpty()
+                        ? System.getProperty("java.io.tmpdir") + File.separator + "evosuite-classpath-index"
+                        : Properties.CLASSPATH_INDEX_DIR;
+                return new ClasspathIndex(new File(directory)).getClasses(file);
+            } else {
+                return ClasspathIndex.scan(file, false);
+            }
+        } catch (IOException e) {
+            logger.error("Error while reading jar file " + file + ": " + e.getMessage(), e);
+            return classes;
         }
     }
 
     private void addEntry(String classPathElement) throws IllegalArgumentException {
+        addEntry(classPathElement, null);
+    }
+
+    private void addEntry(String classPathElement, Map<String, Integer> classes) throws IllegalArgumentException {
         final File file = new File(classPathElement);
 
         classPathElement = file.getAbsolutePath();
@@ -495,18 +550,46 @@ public class ResourceList {
                     + file.getAbsolutePath() + " does not exist");
         }
 
-        if (file.isDirectory()) {
-            scanDirectory(file, classPathElement);
-        } else if (file.getName().endsWith(".jar")) {
-            scanJar(classPathElement);
-        } else {
+        if (!file.isDirectory() && !file.getName().endsWith(".jar")) {
             throw new IllegalArgumentException("The class path resource "
                     + file.getAbsolutePath() + " is not valid");
         }
+
+        if (classes == null) {
+            classes = listEntry(file);
+        }
+
+        for (Map.Entry<String, Integer> entry : classes.entrySet()) {
+            String className = entry.getKey();
+
+            // The same class may exist in different classpath entries
+            // and only the first one is kept
+            if (getCache().mapClassToCP.containsKey(className))
+                continue;
+
+            // If there is an outer class, then we also have a classpath
+            // problem and should ignore this
+            if (className.contains("$")) {
+                String outerClass = className.substring(0, className.indexOf('$'));
+                if (getCache().mapClassToCP.containsKey(outerClass)) {
+                    if (!getCache().mapClassToCP.get(outerClass).equals(classPathElement)) {
+                        continue;
+                    }
+                }
+            }
+
+            getCache().mapClassToCP.put(className, classPathElement);
+            getCache().mapCPtoClasses.get(classPathElement).add(className);
+            getCache().addPrefix(getParentPackageName(className), classPathElement);
+            if (entry.getValue() != ClasspathIndex.UNKNOWN) {
+                getCache().classHeaders.put(className, entry.getValue());
+            }
+        }
     }
 
-    private void scanDirectory(final File directory,
-                               final String classPathFolder) {
+    private static void scanDirectory(final File directory,
+                                      final String classPathFolder,
+                                      final Map<String, Integer> classes) {
 
         if (!directory.exists()) {
             return;
@@ -519,79 +602,20 @@ public class ResourceList {
             return;
         }
 
-        String prefix = directory.getAbsolutePath().replace(classPathFolder + File.separator, "");
-        prefix = prefix.replace(File.separatorChar, '.');
-
         File[] fileList = directory.listFiles();
         for (final File file : fileList) {
             if (file.isDirectory()) {
                 /*
                  * recursion till we get to a file that is not a folder.
                  */
-                scanDirectory(file, classPathFolder);
+                scanDirectory(file, classPathFolder, classes);
             } else {
                 if (!file.getName().endsWith(".class")) {
                     continue; // we are only interested in class files
                 }
                 String relativeFilePath = file.getAbsolutePath().replace(classPathFolder + File.separator, "");
-                String className = getClassNameFromResourcePath(relativeFilePath);
-
-                // The same class may exist in different classpath entries
-                // and only the first one is kept
-                if (getCache().mapClassToCP.containsKey(className))
-                    continue;
-
-                // If there is an outer class, then we also have a classpath
-                // problem and should ignore this
-                if (className.contains("$")) {
-                    String outerClass = className.substring(0, className.indexOf('$'));
-                    if (getCache().mapClassToCP.containsKey(outerClass)) {
-                        if (!getCache().mapClassToCP.get(outerClass).equals(classPathFolder)) {
-                            continue;
-                        }
-                    }
-                }
-
-
-                getCache().mapClassToCP.put(className, classPathFolder);
-                getCache().mapCPtoClasses.get(classPathFolder).add(className);
-                getCache().addPrefix(prefix, classPathFolder);
+                classes.putIfAbsent(getClassNameFromResourcePath(relativeFilePath), ClasspathIndex.UNKNOWN);
             }
         }
     }
-
-    private void scanJar(String jarEntry) {
-        JarFile zf = getCache().getJar(jarEntry);
-
-        Enumeration<?> e = zf.entries();
-        while (e.hasMoreElements()) {
-            JarEntry ze = (JarEntry) e.nextElement();
-            String entryName = ze.getName();
-
-            if (!entryName.endsWith(".class")) {
-                continue;
-            }
-
-            String className = getClassNameFromResourcePath(entryName);
-
-            // The same class may exist in different classpath entries
-            // and only the first one is kept
-            if (getCache().mapClassToCP.containsKey(className))
-                continue;
-
-            if (className.contains("$")) {
-                String outerClass = className.substring(0, className.indexOf('$'));
-                if (getCache().mapClassToCP.containsKey(outerClass)) {
-                    if (!getCache().mapClassToCP.get(outerClass).equals(jarEntry)) {
-                        continue;
-                    }
-                }
-            }
-
-            getCache().mapClassToCP.put(className, jarEntry);//getPackageName
-            getCache().mapCPtoClasses.get(jarEntry).add(className);
-            getCache().addPrefix(getParentPackageName(className), jarEntry);
-        }
-    }
-
-}
\ No newline at end of file
+}
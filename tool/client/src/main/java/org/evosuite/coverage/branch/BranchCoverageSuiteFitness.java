@@ -175,7 +175,9 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
                 callCount.put(name, 1);
                 if (branchlessMethodCoverageMap.containsKey(name)) {
                     TestFitnessFunction goal = branchlessMethodCoverageMap.get(name);
-                    test.getTestCase().addCoveredGoal(goal);
+                    if (!test.getTestCaseForReading().isGoalCovered(goal)) {
+                        test.getTestCase().addCoveredGoal(goal);
+                    }
                     toRemoveRootBranches.add(name);
                     if (Properties.TEST_ARCHIVE) {
                         Archive.getArchiveInstance().updateArchive(goal, test, 0.0);
@@ -201,7 +203,9 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
             // if this is a target branch or not
             if (branchlessMethodCoverageMap.containsKey(entry.getKey())) {
                 TestFitnessFunction goal = branchlessMethodCoverageMap.get(entry.getKey());
-                test.getTestCase().addCoveredGoal(goal);
+                if (!test.getTestCaseForReading().isGoalCovered(goal)) {
+                    test.getTestCase().addCoveredGoal(goal);
+                }
                 toRemoveRootBranches.add(entry.getKey());
                 if (Properties.TEST_ARCHIVE) {
                     Archive.getArchiveInstance().updateArchive(goal, test, 0.0);
@@ -240,7 +244,9 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
             BranchCoverageTestFitness goal = (BranchCoverageTestFitness) this.branchCoverageTrueMap.get(entry.getKey());
             assert goal != null;
             if ((Double.compare(entry.getValue(), 0.0) == 0)) {
-                test.getTestCase().addCoveredGoal(goal);
+                if (!test.getTestCaseForReading().isGoalCovered(goal)) {
+                    test.getTestCase().addCoveredGoal(goal);
+                }
                 toRemoveBranchesT.add(entry.getKey());
             }
             if (Properties.TEST_ARCHIVE) {
@@ -264,7 +270,9 @@ public class BranchCoverageSuiteFitness extends TestSuiteFitnessFunction {
             BranchCoverageTestFitness goal = (BranchCoverageTestFitness) this.branchCoverageFalseMap.get(entry.getKey());
             assert goal != null;
             if ((Double.compare(entry.getValue(), 0.0) == 0)) {
-                test.getTestCase().addCoveredGoal(goal);
+                if (!test.getTestCaseForReading().isGoalCovered(goal)) {
+                    test.getTestCase().addCoveredGoal(goal);
+                }
                 toRemoveBranchesF.add(entry.getKey());
             }
             if (Properties.TEST_ARCHIVE) {
@@ -169,7 +169,9 @@ public class BranchCoverageTestFitness extends TestFitnessFunction {
         updateIndividual(individual, fitness);
 
         if (fitness == 0.0) {
-            individual.getTestCase().addCoveredGoal(this);
+            if (!individual.getTestCaseForReading().isGoalCovered(this)) {
+                individual.getTestCase().addCoveredGoal(this);
+            }
         }
 
         if (Properties.TEST_ARCHIVE) {
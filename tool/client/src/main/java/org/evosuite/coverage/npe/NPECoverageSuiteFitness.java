@@ -175,7 +175,9 @@ public class NPECoverageSuiteFitness extends TestSuiteFitnessFunction {
     
                         NPECoverageTestFitness goal = new NPECoverageTestFitness(Properties.TARGET_CLASS, methodIdentifier, line, isTriggered);
                         
-                        test.getTestCase().addCoveredGoal(goal);
+                        if (!test.getTestCaseForReading().isGoalCovered(goal)) {
+                            test.getTestCase().addCoveredGoal(goal);
+                        }
                     }
 
                 }
@@ -127,7 +127,9 @@ public class NPECoverageTestFitness extends TestFitnessFunction {
         LoggingUtils.getEvoLogger().info("UPDATE INDIVIDUAL ADDCOVERED GOAL");
 
         if (fitness == 0.0) {
-            individual.getTestCase().addCoveredGoal(this);
+            if (!individual.getTestCaseForReading().isGoalCovered(this)) {
+                individual.getTestCase().addCoveredGoal(this);
+            }
         }
         LoggingUtils.getEvoLogger().info("UPDATE INDIVIDUAL - done");
 
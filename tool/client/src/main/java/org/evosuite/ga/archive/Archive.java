@@ -179,8 +179,8 @@ public abstract class Archive implements Serializable {
         // Check if solutions are using any functional mock or private access. A solution is considered
         // better than any other solution if does not use functional mock / private access at all, or if
         // it uses less of those functionalities.
-        int penaltyCurrentSolution = this.calculatePenalty(currentSolution.getTestCase());
-        int penaltyCandidateSolution = this.calculatePenalty(candidateSolution.getTestCase());
+        int penaltyCurrentSolution = this.calculatePenalty(currentSolution.getTestCaseForReading());
+        int penaltyCandidateSolution = this.calculatePenalty(candidateSolution.getTestCaseForReading());
 
         if (penaltyCandidateSolution < penaltyCurrentSolution) {
             return true;
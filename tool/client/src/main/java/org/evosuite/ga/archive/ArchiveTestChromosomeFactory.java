@@ -21,6 +21,8 @@ package org.evosuite.ga.archive;
 
 import org.evosuite.Properties;
 import org.evosuite.ga.ChromosomeFactory;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.factories.RandomLengthTestFactory;
 import org.evosuite.testsuite.TestSuiteSerialization;
@@ -54,40 +56,42 @@ public class ArchiveTestChromosomeFactory implements ChromosomeFactory<TestChrom
 
     @Override
     public TestChromosome getChromosome() {
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.TEST_GENERATION)) {
 
-        if (seededTests != null && !seededTests.isEmpty()) {
-      /*
-              Ideally, we should populate the archive directly when EvoSuite starts.
-              But might be bit tricky based on current archive implementation (which needs executed tests).
-              So, easiest approach is to just return tests here, with no mutation on those.
-              However, this is done just once per test, as anyway those will end up
-              in archive.
-       */
-            TestChromosome
-                    test =
-                    seededTests
-                            .remove(seededTests.size() - 1); //pull out one element, 'last' just for efficiency
-            test.getTestCase().removeAssertions(); // no assertions are used during search
-            return test;
-        }
+            if (seededTests != null && !seededTests.isEmpty()) {
+          /*
+                  Ideally, we should populate the archive directly when EvoSuite starts.
+                  But might be bit tricky based on current archive implementation (which needs executed tests).
+                  So, easiest approach is to just return tests here, with no mutation on those.
+                  However, this is done just once per test, as anyway those will end up
+                  in archive.
+           */
+                TestChromosome
+                        test =
+                        seededTests
+                                .remove(seededTests.size() - 1); //pull out one element, 'last' just for efficiency
+                test.getTestCase().removeAssertions(); // no assertions are used during search
+                return test;
+            }
 
-        TestChromosome test = null;
-        // double P = (double)Archive.getArchiveInstance().getNumberOfCoveredTargets() / (double)Archive.getArchiveInstance().getNumberOfTargets();
-        if (!Archive.getArchiveInstance().isArchiveEmpty()
-                && Randomness.nextDouble() < Properties.SEED_CLONE) {
-            logger.info("Creating test based on archive");
-            test = new TestChromosome();
-            test.setTestCase(Archive.getArchiveInstance().getRandomSolution().getTestCase());
-            int mutations = Randomness.nextInt(Properties.SEED_MUTATIONS);
-            for (int i = 0; i < mutations; i++) {
-                test.mutate();
+            TestChromosome test = null;
+            // double P = (double)Archive.getArchiveInstance().getNumberOfCoveredTargets() / (double)Archive.getArchiveInstance().getNumberOfTargets();
+            if (!Archive.getArchiveInstance().isArchiveEmpty()
+                    && Randomness.nextDouble() < Properties.SEED_CLONE) {
+                logger.info("Creating test based on archive");
+                test = new TestChromosome();
+                test.setTestCase(Archive.getArchiveInstance().getRandomSolution().getTestCase());
+                int mutations = Randomness.nextInt(Properties.SEED_MUTATIONS);
+                for (int i = 0; i < mutations; i++) {
+                    test.mutate();
+                }
+            } else {
+                logger.info("Creating random test");
+                test = defaultFactory.getChromosome();
             }
-        } else {
-            logger.info("Creating random test");
-            test = defaultFactory.getChromosome();
-        }
 
-        return test;
+            return test;
+        }
     }
 
 }
@@ -22,6 +22,8 @@ package org.evosuite.ga.archive;
 import org.evosuite.Properties;
 import org.evosuite.ga.FitnessFunction;
 import org.evosuite.runtime.util.AtMostOnceLogger;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.ExecutionResult;
@@ -91,31 +93,33 @@ public class CoverageArchive extends Archive {
      */
     @Override
     public void updateArchive(TestFitnessFunction target, TestChromosome solution, double fitnessValue) {
-        super.updateArchive(target, solution, fitnessValue);
-        assert this.covered.containsKey(target) || this.uncovered.contains(target) : "Unknown goal: " + target;
-
-        if (fitnessValue > 0.0) {
-            // as this type of archive only cares about covered targets, it ignores all
-            // targets with a fitness value greater than 0.0
-            return;
-        }
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.ARCHIVE)) {
+            super.updateArchive(target, solution, fitnessValue);
+            assert this.covered.containsKey(target) || this.uncovered.contains(target) : "Unknown goal: " + target;
+
+            if (fitnessValue > 0.0) {
+                // as this type of archive only cares about covered targets, it ignores all
+                // targets with a fitness value greater than 0.0
+                return;
+            }
 
-        boolean isNewCoveredTarget = false;
-        boolean isNewSolutionBetterThanCurrent = false;
+            boolean isNewCoveredTarget = false;
+            boolean isNewSolutionBetterThanCurrent = false;
 
-        TestChromosome currentSolution = this.covered.get(target);
+            TestChromosome currentSolution = this.covered.get(target);
 
-        if (currentSolution == null) {
-            logger.debug("Solution for non-covered target '" + target + "'");
-            isNewCoveredTarget = true;
-        } else {
-            isNewSolutionBetterThanCurrent = this.isBetterThanCurrent(currentSolution, solution);
-        }
+            if (currentSolution == null) {
+                logger.debug("Solution for non-covered target '" + target + "'");
+                isNewCoveredTarget = true;
+            } else {
+                isNewSolutionBetterThanCurrent = this.isBetterThanCurrent(currentSolution, solution);
+            }
 
-        if (isNewCoveredTarget || isNewSolutionBetterThanCurrent) {
-            // update the archive if a new target has been covered, or if solution covers already existing
-            // covered targets but it has been considered a better solution
-            this.addToArchive(target, solution);
+            if (isNewCoveredTarget || isNewSolutionBetterThanCurrent) {
+                // update the archive if a new target has been covered, or if solution covers already existing
+                // covered targets but it has been considered a better solution
+                this.addToArchive(target, solution);
+            }
         }
     }
 
@@ -22,6 +22,8 @@ package org.evosuite.ga.archive;
 import org.evosuite.Properties;
 import org.evosuite.analysis.ClassInfo;
 import org.evosuite.ga.ChromosomeFactory;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.TestCaseExecutor;
@@ -62,39 +64,41 @@ public class GuidedArchiveTestChromosomeFactory implements ChromosomeFactory<Tes
 
     @Override
     public TestChromosome getChromosome() {
-        TestChromosome test = null;
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.TEST_GENERATION)) {
+            TestChromosome test = null;
 
-        if (!Archive.getArchiveInstance().isArchiveEmpty()
-                && Randomness.nextDouble() < 0.7) {
+            if (!Archive.getArchiveInstance().isArchiveEmpty()
+                    && Randomness.nextDouble() < 0.7) {
 
-            Archive.numMutant++;
-            Properties.NUM_MUTATION++;
+                Archive.numMutant++;
+                Properties.NUM_MUTATION++;
+
+                test = new TestChromosome();
+
+                if (Randomness.nextDouble() < 0.3) { 
+                    test.setTestCase(Archive.getArchiveInstance().getRandomSolution().getTestCase());
+                } else {
+                    test.setTestCase(Archive.getArchiveInstance().getGuidedSolution().getTestCase());                
+                }
+
+                int mutations = Randomness.nextInt(Properties.SEED_MUTATIONS * 2);
+
+                for (int i = 0; i < mutations; i++) {
+                    test.guidedMutate();
+                }
 
-            test = new TestChromosome();
-            
-            if (Randomness.nextDouble() < 0.3) { 
-                test.setTestCase(Archive.getArchiveInstance().getRandomSolution().getTestCase());
             } else {
-                test.setTestCase(Archive.getArchiveInstance().getGuidedSolution().getTestCase());                
-            }
-            
-            int mutations = Randomness.nextInt(Properties.SEED_MUTATIONS * 2);
-            
-            for (int i = 0; i < mutations; i++) {
-                test.guidedMutate();
-            }
+                Archive.numGen++;
+                Properties.NUM_GENERATION++;
+                logger.info("Creating random test");
+                test = defaultFactory.getChromosome();
 
-        } else {
-            Archive.numGen++;
-            Properties.NUM_GENERATION++;
-            logger.info("Creating random test");
-            test = defaultFactory.getChromosome();
+                logger.debug("Created Random Test");
+                logger.debug(test.toString());
+            }
 
-            logger.debug("Created Random Test");
-            logger.debug(test.toString());
+            return test;
         }
-
-        return test;
     }
 
     public int getNumMutant() {
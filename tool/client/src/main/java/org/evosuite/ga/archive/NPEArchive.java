@@ -26,6 +26,8 @@ import org.evosuite.analysis.MethodInfo;
 import org.evosuite.analysis.WeightedCollection;
 import org.evosuite.ga.FitnessFunction;
 import org.evosuite.runtime.util.AtMostOnceLogger;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.ExecutionResult;
@@ -37,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -45,7 +48,6 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 /**
  * Coverage Archive.
@@ -85,6 +87,55 @@ public class NPEArchive extends Archive {
 
     private boolean archiveChanged = true;
 
+    /**
+     * What is kept of the execution of the tests in {@link #archive}, in the
+     * order they were archived. The archived tests themselves do not keep their
+     * execution results, as the traces would take most of the memory. Eviction
+     * iterates in this order, so ties evict the oldest test.
+     */
+    private final Map<TestChromosome, ArchiveEntry> entries = new LinkedHashMap<>();
+
+    /**
+     * Method keys of the executed methods, as looking them up is linear in the
+     * number of methods of the class under test
+     */
+    private final Map<String, String> methodKeys = new HashMap<>();
+
+    private int numArchivedStatements = 0;
+
+    private int numEvicted = 0;
+
+    private static class ArchiveEntry {
+
+        private final int size;
+
+        /**
+         * Number of calls per method key. Constructors and methods without a key
+         * are counted as <code>null</code>, they all score 0.1
+         */
+        private final Map<String, Integer> calledMethods;
+
+        private final Set<String> npeSites;
+
+        private ArchiveEntry(int size, Map<String, Integer> calledMethods, Set<String> npeSites) {
+            this.size = size;
+            this.calledMethods = calledMethods;
+            this.npeSites = npeSites;
+        }
+
+        /**
+         * Same as {@link TestChromosome#getScore()} on the dropped execution result
+         */
+        private float getScore() {
+            float score = 0f;
+            for (Map.Entry<String, Integer> call : calledMethods.entrySet()) {
+                float methodScore = call.getKey() == null ? 0.1f : MethodInfo.getInstance().getScore(call.getKey());
+                score += methodScore * call.getValue();
+            }
+            return score;
+        }
+    }
+
 
     /**
      * {@inheritDoc}
@@ -111,39 +162,40 @@ public class NPEArchive extends Archive {
      */
     @Override
     public void updateArchive(TestFitnessFunction target, TestChromosome solution, double fitnessValue) {
-        super.updateArchive(target, solution, fitnessValue);
-        assert this.covered.containsKey(target) || this.uncovered.contains(target) : "Unknown goal: " + target;
-
-        if (fitnessValue > 0.0) {
-            // as this type of archive only cares about covered targets, it ignores all
-            // targets with a fitness value greater than 0.0
-            return;
-        }
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.ARCHIVE)) {
+            super.updateArchive(target, solution, fitnessValue);
+            assert this.covered.containsKey(target) || this.uncovered.contains(target) : "Unknown goal: " + target;
+
+            if (fitnessValue > 0.0) {
+                // as this type of archive only cares about covered targets, it ignores all
+                // targets with a fitness value greater than 0.0
+                return;
+            }
 
-        boolean isNewCoveredTarget = false;
-        boolean isNewSolutionBetterThanCurrent = false;
+            boolean isNewCoveredTarget = false;
+            boolean isNewSolutionBetterThanCurrent = false;
 
-        TestChromosome currentSolution = this.covered.get(target);
+            TestChromosome currentSolution = this.covered.get(target);
 
-        if (currentSolution == null) {
-            logger.debug("Solution for non-covered target '" + target + "'");
-            isNewCoveredTarget = true;
-        } else {
-            isNewSolutionBetterThanCurrent = this.isBetterThanCurrent(currentSolution, solution);
-        }
+            if (currentSolution == null) {
+                logger.debug("Solution for non-covered target '" + target + "'");
+                isNewCoveredTarget = true;
+            } else {
+                isNewSolutionBetterThanCurrent = this.isBetterThanCurrent(currentSolution, solution);
+            }
 
-        if (isNewCoveredTarget || isNewSolutionBetterThanCurrent) {
-            // update the archive if a new target has been covered, or if solution covers already existing
-            // covered targets but it has been considered a better solution
-            this.addToArchive(target, solution);
+            if (isNewCoveredTarget || isNewSolutionBetterThanCurrent) {
+                // update the archive if a new target has been covered, or if solution covers already existing
+                // covered targets but it has been considered a better solution
+                this.addToArchive(target, solution);
+            }
         }
     }
     
 
     private void addToArchive(TestFitnessFunction target, TestChromosome solution) {
         this.uncovered.remove(target);
-        this.covered.put(target, solution);
-        this.archive.add(solution);
+        this.covered.put(target, this.store(solution));
         
         archiveChanged = true;
 
@@ -169,7 +221,9 @@ public class NPEArchive extends Archive {
 
     @Override
     public void updateArchive(TestChromosome solution) {
-        this.addToArchive(solution);
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.ARCHIVE)) {
+            this.addToArchive(solution);
+        }
     }
 
     private void addToArchive(TestChromosome solution) {
@@ -177,7 +231,7 @@ public class NPEArchive extends Archive {
 
         if (Properties.NPETEST_ON) {
             if (!hashCodeSet.contains(solution.hashCode())) {
-                this.archive.add(solution);        
+                this.store(solution);
                 hashCodeSet.add(solution.hashCode());   
                 updateWeightedCollection();
                 archiveChanged = true;
@@ -187,6 +241,149 @@ public class NPEArchive extends Archive {
         }
     }
 
+    /**
+     * Archives a copy of the solution without its execution result, and evicts
+     * tests if the archive exceeds {@link Properties#NPE_ARCHIVE_MAX_SIZE} or
+     * {@link Properties#NPE_ARCHIVE_MAX_STATEMENTS}
+     *
+     * @return the archived copy, or the archived test equal to the solution
+     */
+    private TestChromosome store(TestChromosome solution) {
+        if (this.archive.contains(solution)) {
+            for (TestChromosome archived : this.archive) {
+                if (archived.equals(solution)) {
+                    return archived;
+                }
+            }
+        }
+
+        // The test case is shared until either chromosome changes it
+        TestChromosome archived = solution.copyOnWriteClone();
+        archived.clearCachedResults();
+
+        ExecutionResult result = solution.getLastExecutionResult();
+        ArchiveEntry entry = new ArchiveEntry(archived.size(),
+                getCalledMethods(result), getNPESites(result));
+        this.entries.put(archived, entry);
+        this.archive.add(archived);
+        numArchivedStatements += entry.size;
+
+        while (isFull() && this.archive.size() > 1) {
+            evict(chooseEvicted());
+        }
+        return archived;
+    }
+
+    private Map<String, Integer> getCalledMethods(ExecutionResult result) {
+        if (result == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Integer> calledMethods = new HashMap<>();
+        for (MethodCall m : result.getTrace().getMethodCalls()) {
+            String executedMethod = m.className + "." + m.methodName;
+            String methodKey = null;
+            if (!TestChromosome.isConstructorCall(executedMethod)) {
+                if (!methodKeys.containsKey(executedMethod)) {
+                    methodKeys.put(executedMethod, ClassInfo.getInstance().getExecutedMethodKey(executedMethod));
+                }
+                methodKey = methodKeys.get(executedMethod);
+            }
+            calledMethods.merge(methodKey, 1, Integer::sum);
+        }
+        return calledMethods;
+    }
+
+    private static Set<String> getNPESites(ExecutionResult result) {
+        if (result == null) {
+            return Collections.emptySet();
+        }
+
+        Set<String> npeSites = new HashSet<>();
+        for (Throwable t : result.getAllThrownExceptions()) {
+            if (t instanceof NullPointerException && t.getStackTrace().length > 0) {
+                StackTraceElement site = t.getStackTrace()[0];
+                npeSites.add(site.getClassName() + "." + site.getMethodName() + ":" + site.getLineNumber());
+            }
+        }
+        return npeSites;
+    }
+
+    private boolean isFull() {
+        return (Properties.NPE_ARCHIVE_MAX_SIZE > 0 && this.archive.size() > Properties.NPE_ARCHIVE_MAX_SIZE)
+                || (Properties.NPE_ARCHIVE_MAX_STATEMENTS > 0
+                && numArchivedStatements > Properties.NPE_ARCHIVE_MAX_STATEMENTS);
+    }
+
+    private TestChromosome chooseEvicted() {
+        switch (Properties.NPE_ARCHIVE_EVICTION) {
+            case OLDEST:
+                return this.entries.keySet().iterator().next();
+            case DOMINATED:
+                TestChromosome dominated = getLongestDominated();
+                if (dominated != null) {
+                    return dominated;
+                }
+                // fall through
+            case LOWEST_SCORE:
+            default:
+                return getLowestScore();
+        }
+    }
+
+    /**
+     * @return the longest test for which a shorter test with the same NPE
+     * sites is archived, or <code>null</code> if there is none
+     */
+    private TestChromosome getLongestDominated() {
+        Map<Set<String>, Integer> shortest = new HashMap<>();
+        for (ArchiveEntry entry : this.entries.values()) {
+            shortest.merge(entry.npeSites, entry.size, Math::min);
+        }
+
+        TestChromosome longest = null;
+        int longestSize = 0;
+        for (Map.Entry<TestChromosome, ArchiveEntry> entry : this.entries.entrySet()) {
+            int size = entry.getValue().size;
+            if (size > shortest.get(entry.getValue().npeSites) && size > longestSize) {
+                longest = entry.getKey();
+                longestSize = size;
+            }
+        }
+        return longest;
+    }
+
+    private TestChromosome getLowestScore() {
+        TestChromosome lowest = null;
+        float lowestScore = Float.MAX_VALUE;
+        for (Map.Entry<TestChromosome, ArchiveEntry> entry : this.entries.entrySet()) {
+            float score = entry.getValue().getScore();
+            if (lowest == null || score < lowestScore) {
+                lowest = entry.getKey();
+                lowestScore = score;
+            }
+        }
+        return lowest;
+    }
+
+    private void evict(TestChromosome test) {
+        logger.debug("Evicting test from the full archive");
+        ArchiveEntry entry = this.entries.remove(test);
+        this.archive.remove(test);
+        this.normalizedScoreMap.remove(test);
+        this.overallScoreMap.remove(test);
+        numArchivedStatements -= entry.size;
+        numEvicted++;
+        archiveChanged = true;
+    }
+
+    /**
+     * @return the number of tests removed from the archive because it was full
+     */
+    public int getNumberOfEvictedTests() {
+        return numEvicted;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -329,8 +526,10 @@ public class NPEArchive extends Archive {
     }
 
     private void updateWeightedCollection() {
-        Map<TestChromosome, Float> scoreMap = this.archive.stream()
-                .collect(Collectors.toMap(t -> t, TestChromosome::getScore, (v1, v2) -> v1));
+        Map<TestChromosome, Float> scoreMap = new HashMap<>();
+        for (Map.Entry<TestChromosome, ArchiveEntry> entry : this.entries.entrySet()) {
+            scoreMap.put(entry.getKey(), entry.getValue().getScore());
+        }
 
         float max = scoreMap.values().stream().reduce(Float::max).orElse(-1f);
         float min = scoreMap.values().stream().reduce(Float::min).orElse(-1f);
@@ -399,7 +598,7 @@ public class NPEArchive extends Archive {
             // whether that 'target' is covered or not (and therefore, it could be more expensive)
             boolean isGoalCovered = false;
             for (TestChromosome test : mergedSolution.getTestChromosomes()) {
-                if (test.getTestCase().isGoalCovered(target)) {
+                if (test.getTestCaseForReading().isGoalCovered(target)) {
                     isGoalCovered = true;
                     break;
                 }
@@ -453,5 +652,15 @@ public class NPEArchive extends Archive {
         super.reset();
         this.covered.clear();
         this.uncovered.clear();
+        this.hashCodeSet.clear();
+        this.archive.clear();
+        this.entries.clear();
+        this.methodKeys.clear();
+        this.normalizedScoreMap.clear();
+        this.overallScoreMap.clear();
+        this.wc = null;
+        this.archiveChanged = true;
+        this.numArchivedStatements = 0;
+        this.numEvicted = 0;
     }
 }
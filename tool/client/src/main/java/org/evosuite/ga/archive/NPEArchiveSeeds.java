@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.archive;
+
+import org.evosuite.Properties;
+import org.evosuite.analysis.MethodInfo;
+import org.evosuite.analysis.NPECandidateIndex;
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.TestCaseExecutor;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.evosuite.testsuite.TestSuiteSerialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests of earlier runs on the target class which threw an NPE in the class
+ * or reached new NPE candidate lines, with which the npetest search starts
+ * when {@link Properties#NPE_WARM_START} is set.
+ * <p>
+ * The tests are loaded and executed against the current classes before the
+ * search, and the ones still doing either are added to the archive. Candidate
+ * lines are only tracked with {@link Properties#NPE_BLOCK_COVERAGE}.
+ */
+public class NPEArchiveSeeds {
+
+    private static final Logger logger = LoggerFactory.getLogger(NPEArchiveSeeds.class);
+
+    private final Set<TestChromosome> seeds = new LinkedHashSet<>();
+
+    private int coveredCandidates = 0;
+
+    public static File getFile() {
+        if (Properties.NPE_WARM_START_FILE != null && !Properties.NPE_WARM_START_FILE.isEmpty()) {
+            return new File(Properties.NPE_WARM_START_FILE).getAbsoluteFile();
+        }
+        return new File(Properties.CTG_DIR, "npe_seeds" + File.separator + Properties.TARGET_CLASS + ".ser");
+    }
+
+    /**
+     * Executes the tests of the earlier runs, which are kept as seeds of this run
+     * if they still throw an NPE in the target class or reach new candidate lines
+     *
+     * @return the kept tests, with their execution results
+     */
+    public List<TestChromosome> load() {
+        List<TestChromosome> result = new ArrayList<>();
+
+        File file = getFile();
+        if (!file.exists()) return result;
+
+        List<TestChromosome> loaded = TestSuiteSerialization.loadTests(file);
+        for (TestChromosome test : loaded) {
+            test.getTestCase().removeAssertions();
+            if (!test.getTestCase().isValid()) continue;
+
+            ExecutionResult executionResult = TestCaseExecutor.runTest(test.getTestCase());
+            test.setLastExecutionResult(executionResult);
+
+            // statements failing on their own no longer fit the classes under test
+            if (executionResult.hasTestException()) continue;
+
+            boolean reached = reachedNewCandidates();
+            if (throwsNPEInTargetClass(executionResult) || reached) {
+                result.add(test);
+                add(test);
+            }
+        }
+
+        if (Properties.NPE_BLOCK_COVERAGE && !result.isEmpty()) {
+            MethodInfo.getInstance().updateCoverageScores();
+        }
+
+        logger.info("Kept {} of {} tests of earlier runs from {}", result.size(), loaded.size(), file);
+        return result;
+    }
+
+    /**
+     * Updates the covered lines with the last executed tests
+     *
+     * @return whether lines of NPE candidates were covered since the last call
+     */
+    public boolean reachedNewCandidates() {
+        if (!Properties.NPE_BLOCK_COVERAGE) return false;
+
+        BasicBlockCoverage.getInstance().update();
+        int covered = NPECandidateIndex.getInstance().getNumCoveredCandidates();
+        if (covered <= coveredCandidates) return false;
+
+        coveredCandidates = covered;
+        return true;
+    }
+
+    public void add(TestChromosome test) {
+        seeds.add(test.clone());
+    }
+
+    public int getNumSeeds() {
+        return seeds.size();
+    }
+
+    /**
+     * Stores the seeds of this run for the next runs
+     */
+    public void save() {
+        if (seeds.isEmpty()) return;
+
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        for (TestChromosome test : seeds) {
+            suite.addTest(test);
+        }
+
+        File file = getFile();
+        if (TestSuiteSerialization.saveTests(suite, file)) {
+            logger.info("Stored {} tests for later runs in {}", seeds.size(), file);
+        }
+    }
+
+    static boolean throwsNPEInTargetClass(ExecutionResult result) {
+        for (Throwable t : result.getAllThrownExceptions()) {
+            if (!(t instanceof NullPointerException)) continue;
+
+            for (StackTraceElement site : t.getStackTrace()) {
+                String className = site.getClassName();
+                if (className.equals(Properties.TARGET_CLASS) || className.startsWith(Properties.TARGET_CLASS + "$")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -39,6 +39,8 @@ import org.evosuite.ga.populationlimit.IndividualPopulationLimit;
 import org.evosuite.ga.populationlimit.PopulationLimit;
 import org.evosuite.ga.stoppingconditions.MaxGenerationStoppingCondition;
 import org.evosuite.ga.stoppingconditions.StoppingCondition;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.symbolic.dse.DSEStatistics;
 import org.evosuite.testcase.execution.ExecutionTracer;
 import org.evosuite.testsuite.TestSuiteChromosome;
@@ -581,10 +583,12 @@ public abstract class GeneticAlgorithm<T extends Chromosome<T>> implements Searc
      * @param c
      */
     protected void calculateFitness(T c) {
-        fitnessFunctions.forEach(ff -> {
-            ff.getFitness(c);
-            notifyEvaluation(c);
-        });
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.FITNESS)) {
+            fitnessFunctions.forEach(ff -> {
+                ff.getFitness(c);
+                notifyEvaluation(c);
+            });
+        }
     }
 
     /**
@@ -29,6 +29,8 @@ import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.archive.Archive;
 import org.evosuite.ga.comparators.DominanceComparator;
 import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
@@ -486,19 +488,21 @@ public abstract class AbstractMOSA extends GeneticAlgorithm<TestChromosome> {
      */
     @Override
     protected void calculateFitness(TestChromosome c) {
-        this.fitnessFunctions.forEach(fitnessFunction -> fitnessFunction.getFitness(c));
-
-        // if one of the coverage criterion is Criterion.EXCEPTION, then we have to analyse the results
-        // of the execution to look for generated exceptions
-        if (ArrayUtil.contains(Properties.CRITERION, Properties.Criterion.EXCEPTION)) {
-            ExceptionCoverageSuiteFitness.calculateExceptionInfo(
-                    Collections.singletonList(c.getLastExecutionResult()),
-                    new HashMap<>(), new HashMap<>(), new HashMap<>(), new ExceptionCoverageSuiteFitness());
-        }
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.FITNESS)) {
+            this.fitnessFunctions.forEach(fitnessFunction -> fitnessFunction.getFitness(c));
+
+            // if one of the coverage criterion is Criterion.EXCEPTION, then we have to analyse the results
+            // of the execution to look for generated exceptions
+            if (ArrayUtil.contains(Properties.CRITERION, Properties.Criterion.EXCEPTION)) {
+                ExceptionCoverageSuiteFitness.calculateExceptionInfo(
+                        Collections.singletonList(c.getLastExecutionResult()),
+                        new HashMap<>(), new HashMap<>(), new HashMap<>(), new ExceptionCoverageSuiteFitness());
+            }
 
-        this.notifyEvaluation(c);
-        // update the time needed to reach the max coverage
-        this.budgetMonitor.checkMaxCoverage(this.getNumberOfCoveredGoals());
+            this.notifyEvaluation(c);
+            // update the time needed to reach the max coverage
+            this.budgetMonitor.checkMaxCoverage(this.getNumberOfCoveredGoals());
+        }
     }
 
     /**
@@ -46,6 +46,8 @@ import org.evosuite.graphs.cfg.ControlDependency;
 import org.evosuite.setup.CallContext;
 import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.callgraph.CallGraph;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
@@ -381,105 +383,107 @@ public class MultiCriteriaManager extends StructuralGoalManager implements Seria
      */
     @Override
     public void calculateFitness(TestChromosome c, GeneticAlgorithm<TestChromosome> ga) {
-        // Run the test and record the execution result.
-        TestCase test = c.getTestCase();
-        ExecutionResult result = TestCaseExecutor.runTest(test);
-        c.setLastExecutionResult(result);
-        c.setChanged(false);
-
-        // If the test failed to execute properly, or if the test does not cover anything,
-        // it means none of the current gaols could be reached.
-        if (result.hasTimeout() || result.hasTestException() || result.getTrace().getCoveredLines().size() == 0) {
-            currentGoals.forEach(f -> c.setFitness(f, Double.MAX_VALUE)); // assume minimization
-            return;
-        }
-
-        Set<TestFitnessFunction> visitedTargets = new LinkedHashSet<>(getUncoveredGoals().size() * 2);
-
-        /*
-         * The processing list of current targets. If it turns out that any such target has been
-         * reached, we also enqueue its structural and control-dependent children. This is to
-         * determine which of those children are already reached by control flow. Only the missed
-         * children will be part of the currentGoals for the next generation (together with the
-         * missed goals of the currentGoals of the current generation).
-         */
-        LinkedList<TestFitnessFunction> targets = new LinkedList<>(this.currentGoals);
-
-        // 1) We update the set of current goals.
-        while (targets.size() > 0 && !ga.isFinished()) {
-            // We evaluate the given test case against all current targets.
-            // (There might have been serendipitous coverage of other targets, though.)
-            TestFitnessFunction target = targets.poll();
-
-            int pastSize = visitedTargets.size();
-            visitedTargets.add(target);
-            if (pastSize == visitedTargets.size())
-                continue;
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.FITNESS)) {
+            // Run the test and record the execution result.
+            TestCase test = c.getTestCase();
+            ExecutionResult result = TestCaseExecutor.runTest(test);
+            c.setLastExecutionResult(result);
+            c.setChanged(false);
+
+            // If the test failed to execute properly, or if the test does not cover anything,
+            // it means none of the current gaols could be reached.
+            if (result.hasTimeout() || result.hasTestException() || result.getTrace().getCoveredLines().size() == 0) {
+                currentGoals.forEach(f -> c.setFitness(f, Double.MAX_VALUE)); // assume minimization
+                return;
+            }
 
-            double fitness = target.getFitness(c);
+            Set<TestFitnessFunction> visitedTargets = new LinkedHashSet<>(getUncoveredGoals().size() * 2);
 
             /*
-             * Checks if the current test target has been reached and, in accordance, marks it as
-             * covered or uncovered.
+             * The processing list of current targets. If it turns out that any such target has been
+             * reached, we also enqueue its structural and control-dependent children. This is to
+             * determine which of those children are already reached by control flow. Only the missed
+             * children will be part of the currentGoals for the next generation (together with the
+             * missed goals of the currentGoals of the current generation).
              */
-            if (fitness == 0.0) { // assume minimization function
-                updateCoveredGoals(target, c); // marks the current goal as covered
+            LinkedList<TestFitnessFunction> targets = new LinkedList<>(this.currentGoals);
+
+            // 1) We update the set of current goals.
+            while (targets.size() > 0 && !ga.isFinished()) {
+                // We evaluate the given test case against all current targets.
+                // (There might have been serendipitous coverage of other targets, though.)
+                TestFitnessFunction target = targets.poll();
+
+                int pastSize = visitedTargets.size();
+                visitedTargets.add(target);
+                if (pastSize == visitedTargets.size())
+                    continue;
+
+                double fitness = target.getFitness(c);
 
                 /*
-                 * If the coverage criterion is branch coverage, we also add structural children
-                 * and control dependencies of the current target to the processing queue. This is
-                 * to see which ones of those goals are already reached by control flow.
+                 * Checks if the current test target has been reached and, in accordance, marks it as
+                 * covered or uncovered.
                  */
-                if (target instanceof BranchCoverageTestFitness) {
-                    for (TestFitnessFunction child : graph.getStructuralChildren(target)) {
-                        targets.addLast(child);
-                    }
-                    for (TestFitnessFunction dependentTarget : dependencies.get(target)) {
-                        targets.addLast(dependentTarget);
+                if (fitness == 0.0) { // assume minimization function
+                    updateCoveredGoals(target, c); // marks the current goal as covered
+
+                    /*
+                     * If the coverage criterion is branch coverage, we also add structural children
+                     * and control dependencies of the current target to the processing queue. This is
+                     * to see which ones of those goals are already reached by control flow.
+                     */
+                    if (target instanceof BranchCoverageTestFitness) {
+                        for (TestFitnessFunction child : graph.getStructuralChildren(target)) {
+                            targets.addLast(child);
+                        }
+                        for (TestFitnessFunction dependentTarget : dependencies.get(target)) {
+                            targets.addLast(dependentTarget);
+                        }
                     }
+                } else {
+                    currentGoals.add(target); // marks the goal as uncovered
                 }
-            } else {
-                currentGoals.add(target); // marks the goal as uncovered
             }
-        }
 
-        // Removes all newly covered goals from the list of currently uncovered goals.
-        currentGoals.removeAll(this.getCoveredGoals());
+            // Removes all newly covered goals from the list of currently uncovered goals.
+            currentGoals.removeAll(this.getCoveredGoals());
 
-        // 2) We update the archive.
-        final ExecutionTrace trace = result.getTrace();
-        for (int branchid : trace.getCoveredFalseBranches()) {
-            TestFitnessFunction branch = this.branchCoverageFalseMap.get(branchid);
-            if (branch == null)
-                continue;
-            updateCoveredGoals(branch, c);
-        }
-        for (int branchid : trace.getCoveredTrueBranches()) {
-            TestFitnessFunction branch = this.branchCoverageTrueMap.get(branchid);
-            if (branch == null)
-                continue;
-            updateCoveredGoals(branch, c);
-        }
-        for (String method : trace.getCoveredBranchlessMethods()) {
-            TestFitnessFunction branch = this.branchlessMethodCoverageMap.get(method);
-            if (branch == null)
-                continue;
-            updateCoveredGoals(branch, c);
-        }
+            // 2) We update the archive.
+            final ExecutionTrace trace = result.getTrace();
+            for (int branchid : trace.getCoveredFalseBranches()) {
+                TestFitnessFunction branch = this.branchCoverageFalseMap.get(branchid);
+                if (branch == null)
+                    continue;
+                updateCoveredGoals(branch, c);
+            }
+            for (int branchid : trace.getCoveredTrueBranches()) {
+                TestFitnessFunction branch = this.branchCoverageTrueMap.get(branchid);
+                if (branch == null)
+                    continue;
+                updateCoveredGoals(branch, c);
+            }
+            for (String method : trace.getCoveredBranchlessMethods()) {
+                TestFitnessFunction branch = this.branchlessMethodCoverageMap.get(method);
+                if (branch == null)
+                    continue;
+                updateCoveredGoals(branch, c);
+            }
 
-        // let's manage the exception coverage
-        if (ArrayUtil.contains(Properties.CRITERION, Criterion.EXCEPTION)) {
-            // if one of the coverage criterion is Criterion.EXCEPTION,
-            // then we have to analyze the results of the execution do look
-            // for generated exceptions
-            Set<ExceptionCoverageTestFitness> set = deriveCoveredExceptions(c);
-            for (ExceptionCoverageTestFitness exp : set) {
-                // let's update the list of fitness functions
-                updateCoveredGoals(exp, c);
-                // new covered exceptions (goals) have to be added to the archive
-                if (!ExceptionCoverageFactory.getGoals().containsKey(exp.getKey())) {
-                    // let's update the newly discovered exceptions to ExceptionCoverageFactory
-                    ExceptionCoverageFactory.getGoals().put(exp.getKey(), exp);
+            // let's manage the exception coverage
+            if (ArrayUtil.contains(Properties.CRITERION, Criterion.EXCEPTION)) {
+                // if one of the coverage criterion is Criterion.EXCEPTION,
+                // then we have to analyze the results of the execution do look
+                // for generated exceptions
+                Set<ExceptionCoverageTestFitness> set = deriveCoveredExceptions(c);
+                for (ExceptionCoverageTestFitness exp : set) {
+                    // let's update the list of fitness functions
+                    updateCoveredGoals(exp, c);
+                    // new covered exceptions (goals) have to be added to the archive
+                    if (!ExceptionCoverageFactory.getGoals().containsKey(exp.getKey())) {
+                        // let's update the newly discovered exceptions to ExceptionCoverageFactory
+                        ExceptionCoverageFactory.getGoals().put(exp.getKey(), exp);
+                    }
                 }
             }
         }
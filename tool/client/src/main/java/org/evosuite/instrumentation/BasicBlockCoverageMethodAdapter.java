@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.instrumentation;
+
+import org.evosuite.PackageInfo;
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inserts a probe at the start of each basic block of a method, which records
+ * the block in {@link BasicBlockCoverage}. The method and its blocks are
+ * numbered when the method is instrumented, so that the probe only passes two
+ * int constants.
+ * <p>
+ * A probe marks its whole block as covered. Blocks end at calls, so a block
+ * is not covered beyond a call that throws. Other instructions that throw, such
+ * as a null dereference, do not end a block, so an exception thrown by one
+ * still marks the rest of its block as covered.
+ * <p>
+ * The method is buffered, instrumented and then passed on to the next visitor
+ * in {@link #visitEnd()}.
+ */
+public class BasicBlockCoverageMethodAdapter extends MethodNode {
+
+    private final MethodVisitor next;
+
+    private final String className;
+
+    /**
+     * <p>Constructor for BasicBlockCoverageMethodAdapter.</p>
+     *
+     * @param mv         the visitor receiving the instrumented method
+     * @param className  the name of the class, with dots
+     */
+    public BasicBlockCoverageMethodAdapter(MethodVisitor mv, String className, int access, String name,
+                                           String desc, String signature, String[] exceptions) {
+        super(Opcodes.ASM9, access, name, desc, signature, exceptions);
+        this.next = mv;
+        this.className = className;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visitEnd() {
+        instrument();
+        accept(next);
+    }
+
+    private void instrument() {
+        List<AbstractInsnNode> leaders = getLeaders();
+        if (leaders.isEmpty()) return;
+
+        // Source lines of each block: the line the block starts in, and any line started within it
+        Set<AbstractInsnNode> isLeader = Collections.newSetFromMap(new IdentityHashMap<>());
+        isLeader.addAll(leaders);
+        List<Set<Integer>> lines = new ArrayList<>();
+        int line = -1;
+        for (AbstractInsnNode insn = instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            if (insn instanceof LineNumberNode) {
+                line = ((LineNumberNode) insn).line;
+                // a line starting right before a leader belongs to the next block only
+                if (!lines.isEmpty() && !isLeader.contains(firstInstruction(insn))) {
+                    lines.get(lines.size() - 1).add(line);
+                }
+            } else if (isLeader.contains(insn)) {
+                lines.add(new LinkedHashSet<>());
+                if (line >= 0) lines.get(lines.size() - 1).add(line);
+            }
+        }
+
+        int[][] blockLines = new int[lines.size()][];
+        for (int b = 0; b < blockLines.length; b++) {
+            blockLines[b] = lines.get(b).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int method = BasicBlockCoverage.getInstance().registerMethod(className, name + desc, blockLines);
+
+        // leaders are in instruction order, so block ids follow the numbering above
+        int block = 0;
+        for (AbstractInsnNode leader : leaders) {
+            instructions.insertBefore(leader, getProbe(method, block++));
+        }
+    }
+
+    /**
+     * @return the first instruction of each basic block, in instruction order
+     */
+    private List<AbstractInsnNode> getLeaders() {
+        Set<AbstractInsnNode> leaders = Collections.newSetFromMap(new IdentityHashMap<>());
+        leaders.add(firstInstruction(instructions.getFirst()));
+
+        for (AbstractInsnNode insn = instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            if (insn instanceof JumpInsnNode) {
+                leaders.add(firstInstruction(((JumpInsnNode) insn).label));
+                leaders.add(firstInstruction(insn.getNext()));
+            } else if (insn instanceof TableSwitchInsnNode) {
+                TableSwitchInsnNode sw = (TableSwitchInsnNode) insn;
+                leaders.add(firstInstruction(sw.dflt));
+                for (LabelNode label : sw.labels) leaders.add(firstInstruction(label));
+            } else if (insn instanceof LookupSwitchInsnNode) {
+                LookupSwitchInsnNode sw = (LookupSwitchInsnNode) insn;
+                leaders.add(firstInstruction(sw.dflt));
+                for (LabelNode label : sw.labels) leaders.add(firstInstruction(label));
+            } else if (isExit(insn.getOpcode())
+                    || insn instanceof MethodInsnNode || insn instanceof InvokeDynamicInsnNode) {
+                leaders.add(firstInstruction(insn.getNext()));
+            }
+        }
+        for (TryCatchBlockNode tryCatch : tryCatchBlocks) {
+            leaders.add(firstInstruction(tryCatch.handler));
+        }
+        leaders.remove(null);
+
+        List<AbstractInsnNode> result = new ArrayList<>();
+        for (AbstractInsnNode insn = instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            if (leaders.contains(insn)) result.add(insn);
+        }
+        return result;
+    }
+
+    private static boolean isExit(int opcode) {
+        return (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) || opcode == Opcodes.ATHROW;
+    }
+
+    // Labels, line numbers and frames are not instructions
+    private static AbstractInsnNode firstInstruction(AbstractInsnNode insn) {
+        while (insn != null && insn.getOpcode() < 0) {
+            insn = insn.getNext();
+        }
+        return insn;
+    }
+
+    private static InsnList getProbe(int method, int block) {
+        InsnList probe = new InsnList();
+        probe.add(pushInt(method));
+        probe.add(pushInt(block));
+        probe.add(new MethodInsnNode(Opcodes.INVOKESTATIC,
+                PackageInfo.getNameWithSlash(BasicBlockCoverage.class),
+                "passedBlock", "(II)V", false));
+        return probe;
+    }
+
+    private static AbstractInsnNode pushInt(int value) {
+        if (value >= -1 && value <= 5) return new InsnNode(Opcodes.ICONST_0 + value);
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) return new IntInsnNode(Opcodes.BIPUSH, value);
+        if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) return new IntInsnNode(Opcodes.SIPUSH, value);
+        return new LdcInsnNode(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visitMaxs(int maxStack, int maxLocals) {
+        // the probe pushes two ints
+        super.visitMaxs(maxStack + 2, maxLocals);
+    }
+}
@@ -139,6 +139,10 @@ public class ExecutionPathClassAdapter extends ClassVisitor {
         mv = new ArrayAllocationLimitMethodAdapter(mv, className, name, methodAccess,
                 descriptor);
         mv = new ExplicitExceptionHandler(mv, className, name, descriptor);
+        if (Properties.NPE_BLOCK_COVERAGE) {
+            mv = new BasicBlockCoverageMethodAdapter(mv, className, methodAccess, name, descriptor,
+                    signature, exceptions);
+        }
         return mv;
     }
 
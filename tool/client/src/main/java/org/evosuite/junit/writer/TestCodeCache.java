@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit.writer;
+
+import org.evosuite.junit.UnitTestAdapter;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestCodeVisitor;
+
+import java.util.*;
+
+/**
+ * Code of the tests as last rendered by any test suite writer. The same tests
+ * are written several times, for the JUnit checks and for the final output,
+ * and a test is only rendered again if it changed since.
+ *
+ * <p>The code of a test is kept together with the modification count of the
+ * test and the exceptions it is written with. The code also depends on
+ * the class names the visitor assigned before, so the classes named by the test
+ * are named again on the visitor that asks for the code, and the code is only
+ * reused if they get the same names. This also leaves the visitor with the
+ * imports it would have after visiting the test.
+ */
+public class TestCodeCache {
+
+    private static TestCodeCache instance = null;
+
+    private final Map<TestCase, RenderedTest> renderedTests = new IdentityHashMap<>();
+
+    private static class RenderedTest {
+
+        private final Class<?> adapter;
+
+        private final Class<?> visitor;
+
+        private final long modificationCount;
+
+        private final Map<Integer, String> exceptions;
+
+        private final Map<Class<?>, String> classNames;
+
+        private final String code;
+
+        private RenderedTest(Class<?> adapter, Class<?> visitor, long modificationCount,
+                             Map<Integer, String> exceptions, Map<Class<?>, String> classNames, String code) {
+            this.adapter = adapter;
+            this.visitor = visitor;
+            this.modificationCount = modificationCount;
+            this.exceptions = exceptions;
+            this.classNames = classNames;
+            this.code = code;
+        }
+    }
+
+    private TestCodeCache() {
+    }
+
+    public static TestCodeCache getInstance() {
+        if (instance == null)
+            instance = new TestCodeCache();
+        return instance;
+    }
+
+    public static void resetSingleton() {
+        instance = null;
+    }
+
+    /**
+     * Code of the body of a test, visiting the test only if it changed since
+     * it was last rendered
+     *
+     * @param adapter    the adapter rendering the test
+     * @param id         Index of the test case
+     * @param test       the test case
+     * @param exceptions the exceptions thrown by the statements of the test
+     * @param visitor    the visitor of the writer, which collects the imports
+     * @return the statements and assertions of the test
+     */
+    public String getTestCode(UnitTestAdapter adapter, int id, TestCase test,
+                              Map<Integer, Throwable> exceptions, TestCodeVisitor visitor) {
+        long modificationCount = test.getModificationCount();
+        Map<Integer, String> thrown = describeExceptions(exceptions);
+
+        RenderedTest rendered = renderedTests.get(test);
+        if (rendered != null && rendered.adapter == adapter.getClass()
+                && rendered.visitor == visitor.getClass()
+                && rendered.modificationCount == modificationCount
+                && rendered.exceptions.equals(thrown)
+                && hasSameClassNames(rendered, visitor)) {
+            return rendered.code;
+        }
+
+        visitor.clearExceptions();
+        String code = adapter.getTestString(id, test, exceptions, visitor);
+        Map<Class<?>, String> classNames = new LinkedHashMap<>();
+        for (Class<?> clazz : visitor.getNamedClasses()) {
+            classNames.put(clazz, visitor.getClassName(clazz));
+        }
+        renderedTests.put(test, new RenderedTest(adapter.getClass(), visitor.getClass(),
+                modificationCount, thrown, classNames, code));
+        return code;
+    }
+
+    /**
+     * Name the classes of the rendered test on the visitor in the order in
+     * which the test named them. If the names differ, visiting the test again
+     * names them the same way, as the names assigned here are kept.
+     */
+    private static boolean hasSameClassNames(RenderedTest rendered, TestCodeVisitor visitor) {
+        for (Map.Entry<Class<?>, String> entry : rendered.classNames.entrySet()) {
+            if (!visitor.getClassName(entry.getKey()).equals(entry.getValue()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * The visitor only writes the type, the message and the throwing class of
+     * an exception, which stay the same when the test is executed again
+     */
+    private static Map<Integer, String> describeExceptions(Map<Integer, Throwable> exceptions) {
+        Map<Integer, String> thrown = new HashMap<>();
+        for (Map.Entry<Integer, Throwable> entry : exceptions.entrySet()) {
+            Throwable exception = entry.getValue();
+            String message;
+            try {
+                message = exception.getMessage();
+            } catch (Throwable t) {
+                message = t.getClass().getName();
+            }
+            StackTraceElement[] stackTrace = exception.getStackTrace();
+            String source = stackTrace.length == 0 ? "" : stackTrace[0].getClassName();
+            thrown.put(entry.getKey(), exception.getClass().getName() + "\n" + message + "\n" + source);
+        }
+        return thrown;
+    }
+}
@@ -51,8 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
-import java.io.File;
-import java.io.PrintStream;
+import java.io.*;
 import java.util.*;
 
 import static org.evosuite.junit.writer.TestSuiteWriterUtils.*;
@@ -92,6 +91,44 @@ public class TestSuiteWriter implements Opcodes {
 
     private TestNameGenerationStrategy nameGenerator = null;
 
+    /**
+     * Writes to a file and keeps a copy of everything written, which is the
+     * code of the whole test suite reported in the test generation result
+     */
+    private static class SuiteCodeWriter extends Writer {
+
+        private final Writer file;
+
+        private final StringBuilder suiteCode;
+
+        private SuiteCodeWriter(File file, StringBuilder suiteCode) throws IOException {
+            this.file = new BufferedWriter(new FileWriter(file));
+            this.suiteCode = suiteCode;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            file.write(cbuf, off, len);
+            suiteCode.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            file.write(str, off, len);
+            suiteCode.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            file.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+
     /**
      * Add test to suite. If the test is a prefix of an existing test, just keep
      * existing test. If an existing test is a prefix of the test, replace the
@@ -207,7 +244,7 @@ public class TestSuiteWriter implements Opcodes {
 
         List<File> generated = new ArrayList<>();
         String dir = TestSuiteWriterUtils.makeDirectory(directory);
-        String content = "";
+        StringBuilder content = new StringBuilder();
 
         // Execute all tests
         executor.newObservers();
@@ -235,9 +272,11 @@ public class TestSuiteWriter implements Opcodes {
                 results.add(result);
             }
 
-            logger.debug("\n");
-            logger.debug("IN WRITE TEST SUITE: " + Boolean.toString(added));
-            logger.debug(test.toCode());
+            if (logger.isDebugEnabled()) {
+                logger.debug("\n");
+                logger.debug("IN WRITE TEST SUITE: " + Boolean.toString(added));
+                logger.debug(test.toCode());
+            }
         }
 
         if (Properties.TEST_NAMING_STRATEGY == Properties.TestNamingStrategy.NUMBERED) {
@@ -257,30 +296,30 @@ public class TestSuiteWriter implements Opcodes {
         if (!Properties.NPETEST_ON) 
             removeAssertionsAfterException(results);
 
-        logger.debug("Tracing results");
-        for (ExecutionResult rr : results) {
-            logger.debug("GET COVERED METHODS");
-            logger.debug(rr.getTrace().getCoveredMethods().toString());
-            logger.debug(rr.test.toCode());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Tracing results");
+            for (ExecutionResult rr : results) {
+                logger.debug("GET COVERED METHODS");
+                logger.debug(rr.getTrace().getCoveredMethods().toString());
+                logger.debug(rr.test.toCode());
+            }
         }
 
 
         if (Properties.OUTPUT_GRANULARITY == OutputGranularity.MERGED || testCases.size() == 0) {
             File file = new File(dir + "/" + name + ".java");
             //executor.newObservers();
-            content = getUnitTestsAllInSameFile(name, results);
-            FileIOUtils.writeFile(content, file);
+            writeUnitTestsAllInSameFile(name, results, file, content);
             generated.add(file);
         } else {
             for (int i = 0; i < testCases.size(); i++) {
                 File file = new File(dir + "/" + name + "_" + i + ".java"); // e.g., dir/Foo_ESTest_0.java
                 //executor.newObservers();
-                String testCode = getOneUnitTestInAFile(name, i, results);
-                FileIOUtils.writeFile(testCode, file);
-                content += testCode;
+                int start = content.length();
+                writeOneUnitTestInAFile(name, i, results, file, content);
 
                 LoggingUtils.getEvoLogger().info("GET TEST CODE");
-                LoggingUtils.getEvoLogger().info(testCode.toString());
+                LoggingUtils.getEvoLogger().info(content.substring(start));
 
                 generated.add(file);
             }
@@ -293,12 +332,12 @@ public class TestSuiteWriter implements Opcodes {
                     TestSuiteWriterUtils.hasAnySecurityException(results));
             FileIOUtils.writeFile(scaffoldingContent, file);
             generated.add(file);
-            content += scaffoldingContent;
+            content.append(scaffoldingContent);
         }
 
         writeCoveredGoalsFile();
 
-        TestGenerationResultBuilder.getInstance().setTestSuiteCode(content);
+        TestGenerationResultBuilder.getInstance().setTestSuiteCode(content.toString());
         return generated;
     }
 
@@ -311,7 +350,7 @@ public class TestSuiteWriter implements Opcodes {
 
         List<File> generated = new ArrayList<>();
         //String dir = TestSuiteWriterUtils.makeDirectory(directory);
-        String content = "";
+        StringBuilder content = new StringBuilder();
 
         // Execute all tests
         executor.newObservers();
@@ -346,16 +385,13 @@ public class TestSuiteWriter implements Opcodes {
         if (Properties.OUTPUT_GRANULARITY == OutputGranularity.MERGED || testCases.size() == 0) {
             File file = new File(directory + "/" + name + ".java");
             //executor.newObservers();
-            content = getUnitTestsAllInSameFile(name, results);
-            FileIOUtils.writeFile(content, file);
+            writeUnitTestsAllInSameFile(name, results, file, content);
             generated.add(file);
         } else {
             for (int i = 0; i < testCases.size(); i++) {
                 File file = new File(directory + "/" + name + "_" + i + ".java"); // e.g., dir/Foo_ESTest_0.java
                 //executor.newObservers();
-                String testCode = getOneUnitTestInAFile(name, i, results);
-                FileIOUtils.writeFile(testCode, file);
-                content += testCode;
+                writeOneUnitTestInAFile(name, i, results, file, content);
                 generated.add(file);
             }
         }
@@ -367,7 +403,7 @@ public class TestSuiteWriter implements Opcodes {
         //             TestSuiteWriterUtils.hasAnySecurityException(results));
         //     FileIOUtils.writeFile(scaffoldingContent, file);
         //     generated.add(file);
-        //     content += scaffoldingContent;
+        //     content.append(scaffoldingContent);
         // }
 
         return generated;
@@ -414,10 +450,12 @@ public class TestSuiteWriter implements Opcodes {
     /**
      * Create JUnit file for given class name
      *
-     * @param name Name of the class file
-     * @return String representation of JUnit test file
+     * @param name      Name of the class file
+     * @param file      File the test class is streamed to
+     * @param suiteCode Code of the whole test suite, the test class is appended to it
      */
-    private String getUnitTestsAllInSameFile(String name, List<ExecutionResult> results) {
+    private void writeUnitTestsAllInSameFile(String name, List<ExecutionResult> results,
+                                             File file, StringBuilder suiteCode) {
 
         /*
          * if there was any security exception, then we need to scaffold the
@@ -425,49 +463,51 @@ public class TestSuiteWriter implements Opcodes {
          */
         boolean wasSecurityException = TestSuiteWriterUtils.hasAnySecurityException(results);
 
-        StringBuilder builder = new StringBuilder();
-
-        builder.append(getHeader(name, name, results));
+        try (Writer out = new SuiteCodeWriter(file, suiteCode)) {
+            out.write(getHeader(name, name, results));
 
-        if (!Properties.TEST_SCAFFOLDING && !Properties.NO_RUNTIME_DEPENDENCY) {
-            builder.append(new Scaffolding().getBeforeAndAfterMethods(name, wasSecurityException, results));
-        }
+            if (!Properties.TEST_SCAFFOLDING && !Properties.NO_RUNTIME_DEPENDENCY) {
+                out.write(new Scaffolding().getBeforeAndAfterMethods(name, wasSecurityException, results));
+            }
 
-        if (testCases.isEmpty()) {
-            builder.append(getEmptyTest());
-        } else {
-            for (int i = 0; i < testCases.size(); i++) {
-                builder.append(testToString(i, i, results.get(i)));
+            if (testCases.isEmpty()) {
+                out.write(getEmptyTest());
+            } else {
+                for (int i = 0; i < testCases.size(); i++) {
+                    out.write(testToString(i, i, results.get(i)));
+                }
             }
+            out.write(getFooter());
+        } catch (IOException e) {
+            logger.error("Error while writing file " + file.getName() + " , " + e.getMessage(), e);
         }
-        builder.append(getFooter());
-
-        return builder.toString();
     }
 
     /**
      * Create JUnit file for given class name
      *
-     * @param name   Name of the class file
-     * @param testId a int.
-     * @return String representation of JUnit test file
+     * @param name      Name of the class file
+     * @param testId    a int.
+     * @param file      File the test class is streamed to
+     * @param suiteCode Code of the whole test suite, the test class is appended to it
      */
-    private String getOneUnitTestInAFile(String name, int testId, List<ExecutionResult> results) {
+    private void writeOneUnitTestInAFile(String name, int testId, List<ExecutionResult> results,
+                                         File file, StringBuilder suiteCode) {
 
         boolean wasSecurityException = results.get(testId).hasSecurityException();
 
-        StringBuilder builder = new StringBuilder();
+        try (Writer out = new SuiteCodeWriter(file, suiteCode)) {
+            out.write(getHeader(name + "_" + testId, name, results));
 
-        builder.append(getHeader(name + "_" + testId, name, results));
+            if (!Properties.TEST_SCAFFOLDING) {
+                out.write(new Scaffolding().getBeforeAndAfterMethods(name + "_" + testId, wasSecurityException, results));
+            }
 
-        if (!Properties.TEST_SCAFFOLDING) {
-            builder.append(new Scaffolding().getBeforeAndAfterMethods(name + "_" + testId, wasSecurityException, results));
+            out.write(testToString(testId, testId, results.get(testId)));
+            out.write(getFooter());
+        } catch (IOException e) {
+            logger.error("Error while writing file " + file.getName() + " , " + e.getMessage(), e);
         }
-
-        builder.append(testToString(testId, testId, results.get(testId)));
-        builder.append(getFooter());
-
-        return builder.toString();
     }
 
     /**
@@ -511,16 +551,15 @@ public class TestSuiteWriter implements Opcodes {
         boolean wasSecurityException = TestSuiteWriterUtils.hasAnySecurityException(results);
         boolean hasException = false;
 
-        for (ExecutionResult result : results) {
-            visitor.clearExceptions();
-            visitor.setExceptions(result.exposeExceptionMapping());
-            result.test.accept(visitor);
-            imports.addAll(visitor.getImports());
+        for (int i = 0; i < results.size(); i++) {
+            ExecutionResult result = results.get(i);
+            getTestCode(i, result.test, result);
             accessedClasses.addAll(result.test.getAccessedClasses());
             if (!hasException)
                 hasException = !result.noThrownExceptions();
         }
-        visitor.clearExceptions();
+        // The class names of the visitor include those of all tests visited so far
+        imports.addAll(visitor.getImports());
 
         if (doesUseMocks(results)) {
             String mockito = Mockito.class.getCanonicalName();
@@ -791,8 +830,7 @@ public class TestSuiteWriter implements Opcodes {
             CODE_SPACE = INNER_INNER_INNER_BLOCK_SPACE;
         }
 
-        for (String line : adapter.getTestString(id, test,
-                result.exposeExceptionMapping(), visitor).split("\\r?\\n")) {
+        for (String line : getTestCode(id, test, result).split("\\r?\\n")) {
             builder.append(CODE_SPACE);
             builder.append(line);
             builder.append(NEWLINE);
@@ -837,6 +875,20 @@ public class TestSuiteWriter implements Opcodes {
         return testCode;
     }
 
+    /**
+     * Code of the body of a test, visiting the test only if it changed since
+     * it was last rendered by any writer
+     *
+     * @param id     Index of the test case
+     * @param test   the test case, which might have been chopped since it was executed
+     * @param result a {@link org.evosuite.testcase.execution.ExecutionResult} object.
+     * @return the statements and assertions of the test
+     */
+    private String getTestCode(int id, TestCase test, ExecutionResult result) {
+        return TestCodeCache.getInstance().getTestCode(adapter, id, test,
+                result.exposeExceptionMapping(), visitor);
+    }
+
     /**
      * When writing out the JUnit test file, each test can have a text comment
      *
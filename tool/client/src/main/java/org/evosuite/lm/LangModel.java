@@ -20,8 +20,10 @@
 package org.evosuite.lm;
 
 import java.io.*;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
@@ -30,6 +32,10 @@ import java.util.regex.Pattern;
 /**
  * Represents a language model, a set of bigrams, unigrams and associated
  * log-probabilities.
+ * <p>
+ * Once loaded, the model is compiled into dense tables indexed by symbol id,
+ * where each char of the model has an id, so that {@link #score(String)} and
+ * the predictions do not look up or allocate any string.
  */
 public class LangModel {
 
@@ -56,20 +62,38 @@ public class LangModel {
     private double unknown_char_prob = 0;
 
 
-    // Hashes to store most probable next characters in bigram
+    // Maximum number of characters to predict for each bigram
+    int predicted_chars = 10;
+
+    // Compiled model
     /**
-     * Mapping of the nth most likely unigrams to follow each unigram.
-     * Encoded as: <code>(unigram)(n)> -> (unigram)</code>
+     * Ids of the unigrams. The last id is used for anything not in the model.
      */
-    private final HashMap<String, String> context_char = new HashMap<>();
+    private final Map<String, Integer> symbol_ids = new LinkedHashMap<>();
     /**
-     * Mapping of the probability of the nth most likely unigram to follow each unigram.
-     * Encoded as: <code>(unigram)(n)> -> (log_probability)</code>
+     * Id of each char. A space is the start of a new word.
      */
-    private final HashMap<String, Double> context_prob = new HashMap<>();
+    private final int[] char_ids = new int[Character.MAX_VALUE + 1];
 
-    // Maximum number of characters to predict for each bigram
-    int predicted_chars = 10;
+    private int num_symbols;
+
+    private int start_id;
+    /**
+     * Log-probability that the second unigram follows the first, indexed by
+     * <code>first * num_symbols + second</code>. Bigrams not in the model are
+     * already estimated from the unigrams.
+     */
+    private double[] bigram_table;
+    /**
+     * The nth most likely unigram to follow each unigram, indexed by
+     * <code>unigram * predicted_chars + n</code>
+     */
+    private String[] context_char;
+    /**
+     * Probability (not log) of the nth most likely unigram to follow each unigram,
+     * indexed as {@link #context_char}
+     */
+    private double[] context_prob;
 
     // Constructors
     // Read in data from language model to be manipulated later
@@ -164,40 +188,92 @@ public class LangModel {
         //Store bigrams sorted by probability:
         sorted_bigram_probs.putAll(bigram_probs);
 
+        compile(sorted_bigram_probs);
+
+    } // LangModel
+
+    /**
+     * Build the tables of the compiled model
+     *
+     * @param sorted_bigram_probs bigrams, most likely first
+     */
+    private void compile(Map<String, Double> sorted_bigram_probs) {
+        for (String unigram : unigram_probs.keySet()) {
+            symbol_ids.putIfAbsent(unigram, symbol_ids.size());
+        }
+        for (String bigram : bigram_probs.keySet()) {
+            String[] unigrams = bigram.split(" ");
+            symbol_ids.putIfAbsent(unigrams[0], symbol_ids.size());
+            symbol_ids.putIfAbsent(unigrams[1], symbol_ids.size());
+        }
+        int unknown_id = symbol_ids.size();
+        num_symbols = unknown_id + 1;
+
+        String[] symbols = new String[num_symbols];
+        for (Map.Entry<String, Integer> entry : symbol_ids.entrySet()) {
+            symbols[entry.getValue()] = entry.getKey();
+        }
+
+        Arrays.fill(char_ids, unknown_id);
+        for (Map.Entry<String, Integer> entry : symbol_ids.entrySet()) {
+            if (entry.getKey().length() == 1) {
+                char_ids[entry.getKey().charAt(0)] = entry.getValue();
+            }
+        }
+        char_ids[' '] = symbol_ids.getOrDefault(START_NEW_WORD, unknown_id);
+        start_id = symbol_ids.getOrDefault(START_OF_STRING, unknown_id);
+
+        // Same estimation as score(String, boolean)
+        bigram_table = new double[num_symbols * num_symbols];
+        for (int first = 0; first < num_symbols; first++) {
+            for (int second = 0; second < num_symbols; second++) {
+                double log_prob = unknown_char_prob;
+                if (first != unknown_id && second != unknown_id) {
+                    Double bigram_prob = bigram_probs.get(symbols[first] + " " + symbols[second]);
+                    if (bigram_prob != null) {
+                        log_prob = bigram_prob;
+                    } else if (unigram_probs.containsKey(symbols[second])
+                            && unigram_backoff_probs.containsKey(symbols[first])) {
+                        log_prob = unigram_backoff_probs.get(symbols[first]) + unigram_probs.get(symbols[second]);
+                    }
+                }
+                bigram_table[first * num_symbols + second] = log_prob;
+            }
+        }
+
         // Regular expressions setup
         Pattern context_p = Pattern.compile("(\\S+) (\\S+)");
 
+        context_char = new String[num_symbols * predicted_chars];
+        context_prob = new double[num_symbols * predicted_chars];
+        int[] num_predicted = new int[num_symbols];
+
         //Go through each bigram in order (most likely first) and build a
         // table of the predicted_chars most likely characters to follow each character.
         for (Map.Entry<String, Double> entry : sorted_bigram_probs.entrySet()) {
             Matcher match_context = context_p.matcher(entry.getKey());
             if (match_context.find()) {
-                String pre = match_context.group(1);
+                int pre = symbol_ids.get(match_context.group(1));
                 String middle = match_context.group(2);
 
-                // Add to hash (do this by starting counter at 0 and then
-                // testing hash and
-                // filling first empty slot. If no empty slot found then value
+                // Fill the first empty slot of pre. If there is none, the bigram
                 // is not stored.
-                for (int c = 0; c < predicted_chars; c++) {
-                    String key = pre + c;
-                    if (!context_char.containsKey(key)) {
-                        context_char.put(key, middle);
-                        context_prob.put(key, entry.getValue());
-                        break;
-                    } // if
-                } // for
+                if (num_predicted[pre] < predicted_chars) {
+                    int slot = pre * predicted_chars + num_predicted[pre]++;
+                    context_char[slot] = middle;
+                    context_prob[slot] = Math.pow(10, entry.getValue());
+                } // if
             } // if
 
         } // for
+    }
 
-        // Print out as sanity check
-        //for (Map.Entry<String, String> entry : context_char.entrySet()) {
-        // System.out.println("Key = " + entry.getKey() + ", Value = " +
-        // entry.getValue());
-        //}
-
-    } // LangModel
+    private int getId(String symbol) {
+        if (symbol.length() == 1) {
+            return char_ids[symbol.charAt(0)];
+        }
+        return symbol_ids.getOrDefault(symbol, num_symbols - 1);
+    }
 
     // Method which returns language model score for string str Splits
     // string into bigrams and looks up the probability for each. If
@@ -220,6 +296,10 @@ public class LangModel {
      */
     public double score(String str, boolean verbose) {
 
+        if (!verbose) {
+            return score(str);
+        }
+
         if (verbose == true) {
             System.out.println("String is " + str);
         } // if
@@ -305,11 +385,23 @@ public class LangModel {
     } // score
 
     /**
-     * Convenience method for {@link #score(String, boolean)} with verbose flag set to false.
+     * Same as {@link #score(String, boolean)} with verbose flag set to false,
+     * computed on the compiled model without any allocation.
      */
     public double score(String str) {
 
-        return score(str, false);
+        double log_prob = 0;
+
+        int no_chars = str.length();
+
+        int previous = start_id;
+        for (int i = 0; i < no_chars; i++) {
+            int current = char_ids[str.charAt(i)];
+            log_prob += bigram_table[previous * num_symbols + current];
+            previous = current;
+        } // for
+
+        return Math.pow(10, log_prob / ((double) no_chars));
 
     } // score
 
@@ -318,16 +410,10 @@ public class LangModel {
      */
     public String predict_char(String pre, int n) {
 
-        if (pre.equals(" ")) {
-            pre = "<w>";
-        }
-
-        String key = pre + n;
-
-        if (n < 0 || n > predicted_chars) {
+        if (n < 0 || n >= predicted_chars) {
             return null;
         } else {
-            return context_char.get(key);
+            return context_char[getId(pre) * predicted_chars + n];
         } // if/else
 
     } // predict_char
@@ -349,23 +435,11 @@ public class LangModel {
      */
     public double predict_char_prob(String pre, int n) {
 
-        if (n < 0 || n > predicted_chars) {
+        if (n < 0 || n >= predicted_chars) {
             return 0;
         }
 
-        if (pre.equals(" ")) {
-            pre = "<w>";
-        }
-
-        String key = pre + n;
-        Double prob = context_prob.get(key);
-
-        if (prob != null) {
-            prob = Math.pow(10, prob);
-            return prob;
-        } // if
-
-        return 0.0;
+        return context_prob[getId(pre) * predicted_chars + n];
 
     } // predict_char_prob
 
@@ -33,7 +33,10 @@ import org.evosuite.runtime.sandbox.PermissionStatistics;
 import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.PhaseMemoryMonitor;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.StatisticsBatch;
+import org.evosuite.statistics.StatisticsSnapshot;
 import org.evosuite.utils.FileIOUtils;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
@@ -85,12 +88,19 @@ public class ClientNodeImpl<T extends Chromosome<T>>
 
     protected final ExecutorService searchExecutor = Executors.newSingleThreadExecutor();
 
-    private final BlockingQueue<OutputVariable> outputVariableQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<StatisticsBatch.Entry> outputVariableQueue = new LinkedBlockingQueue<>();
+
+    /**
+     * Makes sure batches of output variables are sent to master in the order they were queued
+     */
+    private final Object statisticsLock = new Object();
 
     private Collection<Set<T>> bestSolutions;
 
     private Thread statisticsThread;
 
+    private final PhaseMemoryMonitor memoryMonitor = new PhaseMemoryMonitor();
+
     //only for testing
     protected ClientNodeImpl() {
     }
@@ -104,17 +114,6 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         this.bestSolutions = Collections.synchronizedList(new ArrayList<>(Properties.NUM_PARALLEL_CLIENTS));
     }
 
-    private static class OutputVariable {
-        public RuntimeVariable variable;
-        public Object value;
-
-        public OutputVariable(RuntimeVariable variable, Object value) {
-            super();
-            this.variable = variable;
-            this.value = value;
-        }
-    }
-
     @Override
     public void startNewSearch() throws RemoteException, IllegalStateException {
         if (!state.equals(ClientState.NOT_STARTED)) {
@@ -226,6 +225,7 @@ public class ClientNodeImpl<T extends Chromosome<T>>
     public void changeState(ClientState state, ClientStateInformation information) {
         if (this.state != state) {
             logger.info(ClientProcess.getPrettyPrintIdentifier() + "Client changing state from " + this.state + " to " + state);
+            memoryMonitor.phaseChanged(this.state).forEach(this::trackOutputVariable);
         }
 
         this.state = state;
@@ -272,11 +272,18 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         }
     }
 
+    @Override
+    public void updateStatistics(StatisticsSnapshot snapshot) {
+        logger.info("Queuing statistics of current best individual for master process");
+        outputVariableQueue.offer(StatisticsBatch.Entry.ofSnapshot(snapshot));
+    }
+
     @Override
     public void flushStatisticsForClassChange() {
         logger.info("Flushing output variables to master process");
 
         try {
+            sendQueuedStatistics(null);
             masterNode.evosuite_flushStatisticsForClassChange(clientRmiIdentifier);
         } catch (RemoteException e) {
             logger.error("Cannot inform master of change of state", e);
@@ -302,7 +309,7 @@ public class ClientNodeImpl<T extends Chromosome<T>>
          * As this code might be called from unsafe blocks, we just put the values
          * on a queue, and have a privileged thread doing the RMI connection to master
          */
-        outputVariableQueue.offer(new OutputVariable(variable, value));
+        outputVariableQueue.offer(StatisticsBatch.Entry.ofVariable(variable, value));
     }
 
     @Override
@@ -350,15 +357,10 @@ public class ClientNodeImpl<T extends Chromosome<T>>
     public void stop() {
         if (statisticsThread != null) {
             statisticsThread.interrupt();
-            List<OutputVariable> vars = new ArrayList<>();
-            outputVariableQueue.drainTo(vars);
-            for (OutputVariable ov : vars) {
-                try {
-                    masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
-                } catch (RemoteException e) {
-                    logger.error("Error when exporting statistics: " + ov.variable + "=" + ov.value, e);
-                    break;
-                }
+            try {
+                sendQueuedStatistics(null);
+            } catch (RemoteException e) {
+                logger.error("Error when exporting statistics", e);
             }
 
             try {
@@ -372,6 +374,24 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         changeState(ClientState.FINISHED);
     }
 
+    /**
+     * Sends all the queued output variables and snapshots to master with a single RMI call
+     *
+     * @param first an entry already taken from the queue, or null
+     */
+    private void sendQueuedStatistics(StatisticsBatch.Entry first) throws RemoteException {
+        synchronized (statisticsLock) {
+            List<StatisticsBatch.Entry> entries = new ArrayList<>();
+            if (first != null) {
+                entries.add(first);
+            }
+            outputVariableQueue.drainTo(entries);
+            if (!entries.isEmpty()) {
+                masterNode.evosuite_collectStatisticsBatch(clientRmiIdentifier, new StatisticsBatch(entries));
+            }
+        }
+    }
+
     @Override
     public boolean init() {
         try {
@@ -384,14 +404,13 @@ public class ClientNodeImpl<T extends Chromosome<T>>
                 @Override
                 public void run() {
                     while (!this.isInterrupted()) {
-                        OutputVariable ov = null;
                         try {
-                            ov = outputVariableQueue.take(); //this is blocking
-                            masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
+                            StatisticsBatch.Entry first = outputVariableQueue.take(); //this is blocking
+                            sendQueuedStatistics(first);
                         } catch (InterruptedException e) {
                             break;
                         } catch (RemoteException e) {
-                            logger.error("Error when exporting statistics: " + ov.variable + "=" + ov.value, e);
+                            logger.error("Error when exporting statistics", e);
                             break;
                         }
                     }
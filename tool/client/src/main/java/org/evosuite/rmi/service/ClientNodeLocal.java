@@ -21,6 +21,7 @@ package org.evosuite.rmi.service;
 
 import org.evosuite.ga.Chromosome;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.StatisticsSnapshot;
 import org.evosuite.utils.Listenable;
 
 import java.util.Set;
@@ -46,6 +47,12 @@ public interface ClientNodeLocal<T extends Chromosome<T>> extends Listenable<Set
     
     void updateStatisticsNPETest(T individual);
 
+    /**
+     * Queues the statistics values of the current best individual, to be sent
+     * to the master in a batch with the other output variables.
+     */
+    void updateStatistics(StatisticsSnapshot snapshot);
+
     void flushStatisticsForClassChange();
 
     void updateProperty(String propertyName, Object value);
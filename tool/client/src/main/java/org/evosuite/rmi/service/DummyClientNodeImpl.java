@@ -21,6 +21,7 @@ package org.evosuite.rmi.service;
 
 import org.evosuite.ga.Chromosome;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.StatisticsSnapshot;
 
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
@@ -68,6 +69,12 @@ public class DummyClientNodeImpl<T extends Chromosome<T>> extends ClientNodeImpl
         // TODO Auto-generated method stub
 
     }
+
+    @Override
+    public void updateStatistics(StatisticsSnapshot snapshot) {
+
+    }
+
     @Override
     public void trackOutputVariable(RuntimeVariable name, Object value) {
         // TODO Auto-generated method stub
@@ -23,6 +23,7 @@ import org.evosuite.Properties.NoSuchParameterException;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.result.TestGenerationResult;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.StatisticsBatch;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
@@ -53,6 +54,8 @@ public interface MasterNodeRemote extends Remote {
 
     void evosuite_collectStatistics(String clientRmiIdentifier, RuntimeVariable variable, Object value) throws RemoteException;
 
+    void evosuite_collectStatisticsBatch(String clientRmiIdentifier, StatisticsBatch batch) throws RemoteException;
+
     void evosuite_collectTestGenerationResult(String clientRmiIdentifier, List<TestGenerationResult> results) throws RemoteException;
 
     void evosuite_flushStatisticsForClassChange(String clientRmiIdentifier) throws RemoteException;
@@ -205,4 +205,49 @@ public class InheritanceTree {
         return inheritanceGraph.vertexSet().size();
     }
 
+    /*
+     * Raw access used by InheritanceTreeIndex to (de)serialize the tree
+     */
+
+    Set<String> getAnalyzedClasses() {
+        initialiseMap();
+        return analyzedMethods.keySet();
+    }
+
+    Set<String> getAnalyzedMethods(String className) {
+        initialiseMap();
+        Set<String> methods = analyzedMethods.get(className);
+        return methods == null ? Collections.emptySet() : methods;
+    }
+
+    Set<String> getInterfaces() {
+        initialiseMap();
+        return interfacesSet;
+    }
+
+    Set<String> getAbstractClasses() {
+        initialiseMap();
+        return abstractClassesSet;
+    }
+
+    void addAnalyzedClass(String className) {
+        initialiseMap();
+        analyzedMethods.computeIfAbsent(className, k -> new LinkedHashSet<>());
+    }
+
+    /**
+     * Direct superclasses and interfaces, in the order they were added
+     */
+    List<String> getDirectSuperclasses(String className) {
+        List<String> result = new ArrayList<>();
+        for (DefaultEdge edge : inheritanceGraph.incomingEdgesOf(className)) {
+            result.add(inheritanceGraph.getEdgeSource(edge));
+        }
+        return result;
+    }
+
+    void addClass(String className) {
+        inheritanceGraph.addVertex(className);
+    }
+
 }
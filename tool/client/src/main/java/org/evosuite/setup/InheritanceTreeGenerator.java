@@ -54,6 +54,11 @@ public class InheritanceTreeGenerator {
     private static final String resourceFolder = "client/src/main/resources/";
     private static final String jdkFile = "JDK_inheritance.xml";
     private static final String shadedJdkFile = "JDK_inheritance_shaded.xml";
+    // the index contains no Java type names, so the same file works for shaded and non-shaded jars
+    private static final String jdkIndexFile = "JDK_inheritance.bin";
+
+    private static long loadTime = 0L;
+    private static long totalTime = 0L;
 
     /**
      * Iterate over items in classpath and analyze them
@@ -62,9 +67,12 @@ public class InheritanceTreeGenerator {
      * @return
      */
     public static InheritanceTree createFromClassPath(List<String> classPath) {
+        long startTime = System.currentTimeMillis();
         if (!Properties.INSTRUMENT_CONTEXT && !Properties.INHERITANCE_FILE.isEmpty()) {
             try {
                 InheritanceTree tree = readInheritanceTree(Properties.INHERITANCE_FILE);
+                loadTime = System.currentTimeMillis() - startTime;
+                totalTime = loadTime;
                 LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() +
                         "Inheritance tree loaded from {}", Properties.INHERITANCE_FILE);
                 return tree;
@@ -80,6 +88,7 @@ public class InheritanceTreeGenerator {
         if (inheritanceTree == null) {
             inheritanceTree = new InheritanceTree();
         }
+        loadTime = System.currentTimeMillis() - startTime;
 
         logger.debug("CP: {}", classPath);
         for (String classPathEntry : classPath) {
@@ -101,6 +110,7 @@ public class InheritanceTreeGenerator {
 
             // analyze(inheritanceTree, classPathEntry);
         }
+        totalTime = System.currentTimeMillis() - startTime;
         return inheritanceTree;
     }
 
@@ -143,6 +153,10 @@ public class InheritanceTreeGenerator {
     public static void gatherStatistics(InheritanceTree inheritanceTree) {
         ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Classpath_Classes,
                 inheritanceTree.getNumClasses());
+        ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Inheritance_Tree_Load_Time,
+                loadTime);
+        ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Inheritance_Tree_Time,
+                totalTime);
     }
 
 
@@ -432,9 +446,29 @@ public class InheritanceTreeGenerator {
         } catch (FileNotFoundException e) {
             logger.error("", e);
         }
+
+        try {
+            writeInheritanceTreeIndex(inheritanceTree, new File(resourceFolder + jdkIndexFile));
+        } catch (IOException e) {
+            logger.error("", e);
+        }
     }
 
+    /**
+     * Reads the JDK inheritance tree, from the binary index if it is available
+     * and from the XStream XML file otherwise.
+     *
+     * @return null if neither is in the resource path
+     */
     public static InheritanceTree readJDKData() {
+        try (InputStream index = InheritanceTreeGenerator.class.getResourceAsStream("/" + jdkIndexFile)) {
+            if (index != null) {
+                return InheritanceTreeIndex.read(index).toInheritanceTree();
+            }
+        } catch (IOException e) {
+            logger.warn("Error reading JDK inheritance index, falling back to XML: " + e.getMessage());
+        }
+
         XStream xstream = new XStream();
         XStream.setupDefaultSecurity(xstream);
         xstream.allowTypesByWildcard(new String[]{"org.evosuite.**", "org.jgrapht.**"});
@@ -456,11 +490,24 @@ public class InheritanceTreeGenerator {
         }
     }
 
+    /**
+     * Reads an inheritance tree written either by {@link #writeInheritanceTreeIndex}
+     * (memory-mapped) or by {@link #writeInheritanceTree} (GZIP compressed XML)
+     *
+     * @param fileName
+     * @return
+     * @throws IOException
+     */
     public static InheritanceTree readInheritanceTree(String fileName) throws IOException {
+        File file = new File(fileName);
+        if (InheritanceTreeIndex.isIndex(file)) {
+            return InheritanceTreeIndex.map(file).toInheritanceTree();
+        }
+
         XStream xstream = new XStream();
         XStream.setupDefaultSecurity(xstream);
         xstream.allowTypesByWildcard(new String[]{"org.evosuite.**", "org.jgrapht.**"});
-        GZIPInputStream inheritance = new GZIPInputStream(new FileInputStream(new File(fileName)));
+        GZIPInputStream inheritance = new GZIPInputStream(new FileInputStream(file));
         return (InheritanceTree) xstream.fromXML(inheritance);
     }
 
@@ -484,6 +531,10 @@ public class InheritanceTreeGenerator {
     }
 
 
+    public static void writeInheritanceTreeIndex(InheritanceTree tree, File file) throws IOException {
+        InheritanceTreeIndex.write(tree, file);
+    }
+
     public static Collection<String> getAllResources() {
         Collection<String> retval = getResources(System.getProperty("java.class.path", "."));
         retval.addAll(getResources(System.getProperty("sun.boot.class.path")));
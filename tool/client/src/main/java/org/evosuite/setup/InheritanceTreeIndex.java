@@ -0,0 +1,524 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Compact binary form of an {@link InheritanceTree} that can be memory-mapped
+ * and queried in place, without building the object graph that XStream needs.
+ * <p>
+ * Class names and method signatures are interned into two string tables sorted
+ * by their UTF-8 bytes, so that lookups are binary searches on the raw buffer.
+ * Inheritance edges and analyzed methods are stored as adjacency arrays
+ * (an offset array of size n+1 plus a flat array of ids), in both directions
+ * for the edges. All values are big-endian ints, except for one flag byte per class.
+ *
+ * <pre>
+ * header:  MAGIC VERSION numClasses numVertices numMethods
+ *          position of each of the SECTIONS sections
+ * classes: string table (offsets, bytes), flags
+ * edges:   subclass adjacency, superclass adjacency
+ * methods: method adjacency, string table (offsets, bytes)
+ * </pre>
+ */
+public class InheritanceTreeIndex {
+
+    public static final int MAGIC = 0x45564954; // "EVIT"
+
+    public static final int VERSION = 1;
+
+    private static final int FLAG_INTERFACE = 1;
+    private static final int FLAG_ABSTRACT = 1 << 1;
+    private static final int FLAG_ANALYZED = 1 << 2;
+    private static final int FLAG_VERTEX = 1 << 3;
+
+    private static final int CLASS_OFFSETS = 0;
+    private static final int CLASS_BYTES = 1;
+    private static final int FLAGS = 2;
+    private static final int SUB_OFFSETS = 3;
+    private static final int SUB_IDS = 4;
+    private static final int SUPER_OFFSETS = 5;
+    private static final int SUPER_IDS = 6;
+    private static final int METHOD_OFFSETS = 7;
+    private static final int METHOD_IDS = 8;
+    private static final int METHOD_NAME_OFFSETS = 9;
+    private static final int METHOD_NAME_BYTES = 10;
+    private static final int SECTIONS = 11;
+
+    private static final int HEADER_SIZE = 4 * (5 + SECTIONS);
+
+    private static final Comparator<byte[]> UTF8_ORDER = (a, b) -> {
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+            if (cmp != 0)
+                return cmp;
+        }
+        return Integer.compare(a.length, b.length);
+    };
+
+    private final ByteBuffer buffer;
+
+    private final int numClasses;
+
+    private final int numVertices;
+
+    private final int numMethods;
+
+    private final int[] sections = new int[SECTIONS];
+
+    private InheritanceTreeIndex(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IOException("Not an inheritance tree index");
+        if (buffer.getInt(4) != VERSION)
+            throw new IOException("Unsupported inheritance tree index version " + buffer.getInt(4));
+        numClasses = buffer.getInt(8);
+        numVertices = buffer.getInt(12);
+        numMethods = buffer.getInt(16);
+        for (int i = 0; i < SECTIONS; i++) {
+            sections[i] = buffer.getInt(20 + 4 * i);
+            if (sections[i] < HEADER_SIZE || sections[i] > buffer.capacity())
+                throw new IOException("Corrupt inheritance tree index");
+        }
+    }
+
+    /**
+     * Maps an index file into memory. The mapping stays valid after the
+     * channel is closed.
+     *
+     * @param file
+     * @return
+     * @throws IOException if the file cannot be read or is not an index
+     */
+    public static InheritanceTreeIndex map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new InheritanceTreeIndex(mapped);
+        }
+    }
+
+    /**
+     * Reads an index from a stream (e.g. a resource inside a jar, which cannot be mapped)
+     *
+     * @param input
+     * @return
+     * @throws IOException
+     */
+    public static InheritanceTreeIndex read(InputStream input) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+        byte[] chunk = new byte[1 << 16];
+        int read;
+        while ((read = input.read(chunk)) != -1) {
+            bytes.write(chunk, 0, read);
+        }
+        return new InheritanceTreeIndex(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    /**
+     * @param file
+     * @return true if the file starts with the index magic number
+     */
+    public static boolean isIndex(File file) {
+        try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            return input.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public int getNumClasses() {
+        return numVertices;
+    }
+
+    public boolean hasClass(String className) {
+        int id = classId(className);
+        return id >= 0 && hasFlag(id, FLAG_VERTEX);
+    }
+
+    public boolean isClassDefined(String className) {
+        int id = classId(className);
+        return id >= 0 && hasFlag(id, FLAG_ANALYZED);
+    }
+
+    public boolean isInterface(String className) {
+        int id = classId(className);
+        return id >= 0 && hasFlag(id, FLAG_INTERFACE);
+    }
+
+    public boolean isAbstractClass(String className) {
+        int id = classId(className);
+        return id >= 0 && hasFlag(id, FLAG_ABSTRACT);
+    }
+
+    public boolean isMethodDefined(String className, String methodNameWdescriptor) {
+        int id = classId(className);
+        if (id < 0)
+            return false;
+        int methodId = find(METHOD_NAME_OFFSETS, METHOD_NAME_BYTES, numMethods,
+                methodNameWdescriptor.getBytes(StandardCharsets.UTF_8));
+        if (methodId < 0)
+            return false;
+
+        // method ids of a class are sorted
+        int low = adjacencyStart(METHOD_OFFSETS, id);
+        int high = adjacencyStart(METHOD_OFFSETS, id + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = buffer.getInt(sections[METHOD_IDS] + 4 * mid);
+            if (value < methodId)
+                low = mid + 1;
+            else if (value > methodId)
+                high = mid - 1;
+            else
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param className
+     * @return the class and all its transitive subclasses, sorted by name
+     */
+    public Set<String> getSubclasses(String className) {
+        return reachable(className, SUB_OFFSETS, SUB_IDS);
+    }
+
+    /**
+     * @param className
+     * @return the class and all its transitive superclasses and interfaces, sorted by name
+     */
+    public Set<String> getSuperclasses(String className) {
+        return reachable(className, SUPER_OFFSETS, SUPER_IDS);
+    }
+
+    /**
+     * Builds a mutable inheritance tree with the content of this index, e.g.
+     * to extend the JDK tree with the classes of the project classpath.
+     *
+     * @return
+     */
+    public InheritanceTree toInheritanceTree() {
+        String[] names = new String[numClasses];
+        for (int i = 0; i < numClasses; i++) {
+            names[i] = className(i);
+        }
+
+        InheritanceTree tree = new InheritanceTree();
+        for (int i = 0; i < numClasses; i++) {
+            if (hasFlag(i, FLAG_VERTEX))
+                tree.addClass(names[i]);
+            if (hasFlag(i, FLAG_INTERFACE))
+                tree.registerInterface(names[i]);
+            if (hasFlag(i, FLAG_ABSTRACT))
+                tree.registerAbstractClass(names[i]);
+        }
+
+        Map<Integer, String> methodNames = new HashMap<>();
+        for (int i = 0; i < numClasses; i++) {
+            // superclasses are stored in insertion order, which keeps getOrderedSuperclasses stable
+            for (int j = adjacencyStart(SUPER_OFFSETS, i); j < adjacencyStart(SUPER_OFFSETS, i + 1); j++) {
+                tree.addSuperclass(names[i], names[buffer.getInt(sections[SUPER_IDS] + 4 * j)], 0);
+            }
+            if (hasFlag(i, FLAG_ANALYZED)) {
+                tree.addAnalyzedClass(names[i]);
+                for (int j = adjacencyStart(METHOD_OFFSETS, i); j < adjacencyStart(METHOD_OFFSETS, i + 1); j++) {
+                    String method = methodNames.computeIfAbsent(buffer.getInt(sections[METHOD_IDS] + 4 * j),
+                            id -> string(METHOD_NAME_OFFSETS, METHOD_NAME_BYTES, id));
+                    tree.addAnalyzedMethod(names[i], method, "");
+                }
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Writes the tree in index format
+     *
+     * @param tree
+     * @param file
+     * @throws IOException
+     */
+    public static void write(InheritanceTree tree, File file) throws IOException {
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(tree, output);
+        }
+    }
+
+    public static void write(InheritanceTree tree, OutputStream output) throws IOException {
+        Set<String> vertices = tree.getAllClasses();
+        Set<String> classSet = new LinkedHashSet<>(vertices);
+        classSet.addAll(tree.getAnalyzedClasses());
+        classSet.addAll(tree.getInterfaces());
+        classSet.addAll(tree.getAbstractClasses());
+
+        byte[][] classNames = sortedUtf8(classSet);
+        Map<String, Integer> classIds = new HashMap<>();
+        for (int i = 0; i < classNames.length; i++) {
+            classIds.put(new String(classNames[i], StandardCharsets.UTF_8), i);
+        }
+
+        Set<String> methodSet = new HashSet<>();
+        for (String name : tree.getAnalyzedClasses()) {
+            methodSet.addAll(tree.getAnalyzedMethods(name));
+        }
+        byte[][] methodNames = sortedUtf8(methodSet);
+        Map<String, Integer> methodIds = new HashMap<>();
+        for (int i = 0; i < methodNames.length; i++) {
+            methodIds.put(new String(methodNames[i], StandardCharsets.UTF_8), i);
+        }
+
+        int n = classNames.length;
+        byte[] flags = new byte[n];
+        int[][] superIds = new int[n][];
+        int[][] subIds = new int[n][];
+        int[][] classMethodIds = new int[n][];
+        List<List<Integer>> subLists = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            subLists.add(new ArrayList<>());
+        }
+        int numVertices = 0;
+
+        for (int i = 0; i < n; i++) {
+            String name = new String(classNames[i], StandardCharsets.UTF_8);
+            int flag = 0;
+            if (tree.isInterface(name))
+                flag |= FLAG_INTERFACE;
+            if (tree.isAbstractClass(name))
+                flag |= FLAG_ABSTRACT;
+            if (tree.getAnalyzedClasses().contains(name))
+                flag |= FLAG_ANALYZED;
+
+            if (vertices.contains(name)) {
+                flag |= FLAG_VERTEX;
+                numVertices++;
+                // the graph is a multigraph, but duplicate edges carry no information
+                LinkedHashSet<Integer> supers = new LinkedHashSet<>();
+                for (String superName : tree.getDirectSuperclasses(name)) {
+                    supers.add(classIds.get(superName));
+                }
+                superIds[i] = toArray(supers);
+                for (int superId : superIds[i]) {
+                    subLists.get(superId).add(i);
+                }
+            } else {
+                superIds[i] = new int[0];
+            }
+            flags[i] = (byte) flag;
+
+            Set<String> methods = tree.getAnalyzedMethods(name);
+            classMethodIds[i] = new int[methods.size()];
+            int j = 0;
+            for (String method : methods) {
+                classMethodIds[i][j++] = methodIds.get(method);
+            }
+            Arrays.sort(classMethodIds[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            subIds[i] = toArray(subLists.get(i));
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        int[] sections = new int[SECTIONS];
+
+        sections[CLASS_OFFSETS] = HEADER_SIZE + out.size();
+        writeStringOffsets(out, classNames);
+        sections[CLASS_BYTES] = HEADER_SIZE + out.size();
+        writeStringBytes(out, classNames);
+        sections[FLAGS] = HEADER_SIZE + out.size();
+        out.write(flags);
+        // keep the int arrays aligned
+        while (out.size() % 4 != 0)
+            out.writeByte(0);
+        sections[SUB_OFFSETS] = HEADER_SIZE + out.size();
+        writeAdjacencyOffsets(out, subIds);
+        sections[SUB_IDS] = HEADER_SIZE + out.size();
+        writeAdjacencyIds(out, subIds);
+        sections[SUPER_OFFSETS] = HEADER_SIZE + out.size();
+        writeAdjacencyOffsets(out, superIds);
+        sections[SUPER_IDS] = HEADER_SIZE + out.size();
+        writeAdjacencyIds(out, superIds);
+        sections[METHOD_OFFSETS] = HEADER_SIZE + out.size();
+        writeAdjacencyOffsets(out, classMethodIds);
+        sections[METHOD_IDS] = HEADER_SIZE + out.size();
+        writeAdjacencyIds(out, classMethodIds);
+        sections[METHOD_NAME_OFFSETS] = HEADER_SIZE + out.size();
+        writeStringOffsets(out, methodNames);
+        sections[METHOD_NAME_BYTES] = HEADER_SIZE + out.size();
+        writeStringBytes(out, methodNames);
+        out.flush();
+
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeInt(n);
+        header.writeInt(numVertices);
+        header.writeInt(methodNames.length);
+        for (int section : sections) {
+            header.writeInt(section);
+        }
+        body.writeTo(header);
+        header.flush();
+    }
+
+    private static byte[][] sortedUtf8(Collection<String> strings) {
+        byte[][] result = new byte[strings.size()][];
+        int i = 0;
+        for (String s : strings) {
+            result[i++] = s.getBytes(StandardCharsets.UTF_8);
+        }
+        Arrays.sort(result, UTF8_ORDER);
+        return result;
+    }
+
+    private static int[] toArray(Collection<Integer> values) {
+        int[] result = new int[values.size()];
+        int i = 0;
+        for (int value : values) {
+            result[i++] = value;
+        }
+        return result;
+    }
+
+    private static void writeStringOffsets(DataOutputStream out, byte[][] strings) throws IOException {
+        int offset = 0;
+        out.writeInt(offset);
+        for (byte[] s : strings) {
+            offset += s.length;
+            out.writeInt(offset);
+        }
+    }
+
+    private static void writeStringBytes(DataOutputStream out, byte[][] strings) throws IOException {
+        for (byte[] s : strings) {
+            out.write(s);
+        }
+        while (out.size() % 4 != 0)
+            out.writeByte(0);
+    }
+
+    private static void writeAdjacencyOffsets(DataOutputStream out, int[][] adjacency) throws IOException {
+        int offset = 0;
+        out.writeInt(offset);
+        for (int[] ids : adjacency) {
+            offset += ids.length;
+            out.writeInt(offset);
+        }
+    }
+
+    private static void writeAdjacencyIds(DataOutputStream out, int[][] adjacency) throws IOException {
+        for (int[] ids : adjacency) {
+            for (int id : ids) {
+                out.writeInt(id);
+            }
+        }
+    }
+
+    private boolean hasFlag(int id, int flag) {
+        return (buffer.get(sections[FLAGS] + id) & flag) != 0;
+    }
+
+    private int adjacencyStart(int offsetsSection, int id) {
+        return buffer.getInt(sections[offsetsSection] + 4 * id);
+    }
+
+    private int classId(String className) {
+        return find(CLASS_OFFSETS, CLASS_BYTES, numClasses, className.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String className(int id) {
+        return string(CLASS_OFFSETS, CLASS_BYTES, id);
+    }
+
+    private String string(int offsetsSection, int bytesSection, int id) {
+        int start = buffer.getInt(sections[offsetsSection] + 4 * id);
+        int end = buffer.getInt(sections[offsetsSection] + 4 * (id + 1));
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(sections[bytesSection] + start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Binary search of a string table, comparing the UTF-8 bytes in place
+     */
+    private int find(int offsetsSection, int bytesSection, int size, byte[] key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(offsetsSection, bytesSection, mid, key);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -1;
+    }
+
+    private int compare(int offsetsSection, int bytesSection, int id, byte[] key) {
+        int start = buffer.getInt(sections[offsetsSection] + 4 * id);
+        int end = buffer.getInt(sections[offsetsSection] + 4 * (id + 1));
+        int base = sections[bytesSection] + start;
+        int length = Math.min(end - start, key.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = Integer.compare(buffer.get(base + i) & 0xff, key[i] & 0xff);
+            if (cmp != 0)
+                return cmp;
+        }
+        return Integer.compare(end - start, key.length);
+    }
+
+    private Set<String> reachable(String className, int offsetsSection, int idsSection) {
+        // TreeSet so that classes are sorted by name, as in InheritanceTree
+        Set<String> result = new TreeSet<>();
+        int start = classId(className);
+        if (start < 0 || !hasFlag(start, FLAG_VERTEX))
+            return result;
+
+        BitSet visited = new BitSet(numClasses);
+        Deque<Integer> queue = new ArrayDeque<>();
+        visited.set(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int id = queue.poll();
+            result.add(className(id));
+            for (int j = adjacencyStart(offsetsSection, id); j < adjacencyStart(offsetsSection, id + 1); j++) {
+                int next = buffer.getInt(sections[idsSection] + 4 * j);
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    queue.add(next);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -40,6 +40,9 @@ import org.evosuite.seeding.CastClassManager;
 import org.evosuite.seeding.ConstantPoolManager;
 import org.evosuite.setup.PutStaticMethodCollector.MethodIdentifier;
 import org.evosuite.setup.callgraph.CallGraph;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
+import org.evosuite.statistics.NPEBenchmarkMonitor;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.utils.ArrayUtil;
 import org.evosuite.utils.LoggingUtils;
@@ -117,8 +120,12 @@ public class TestClusterGenerator {
         
         if (Properties.NPETEST_ON) {
             logger.info("Initialize Static Analaysis");
-            StaticAnalyzer.getInstance().setup();
-            StaticAnalyzer.getInstance().analyze();
+            long staticAnalysisStartTime = System.currentTimeMillis();
+            try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.STATIC_ANALYSIS)) {
+                StaticAnalyzer.getInstance().setup();
+                StaticAnalyzer.getInstance().analyze();
+            }
+            NPEBenchmarkMonitor.addStaticAnalysisTime(System.currentTimeMillis() - staticAnalysisStartTime);
         }
 
         logger.info("Handling cast classes");
@@ -22,7 +22,8 @@ package org.evosuite.statistics;
 import org.evosuite.testsuite.TestSuiteChromosome;
 
 /**
- * Factory to create an output variable when given a test suite chromosome
+ * Factory to create an output variable when given a test suite chromosome,
+ * or a snapshot of its values
  *
  * @param <T>
  * @author gordon
@@ -35,10 +36,14 @@ public abstract class ChromosomeOutputVariableFactory<T> {
         this.variable = variable;
     }
 
-    protected abstract T getData(TestSuiteChromosome individual);
+    protected abstract T getData(StatisticsSnapshot individual);
 
     public OutputVariable<T> getVariable(TestSuiteChromosome chromosome) {
-        return new OutputVariable<>(variable.name(), getData(chromosome));
+        return getVariable(StatisticsSnapshot.of(chromosome));
+    }
+
+    public OutputVariable<T> getVariable(StatisticsSnapshot snapshot) {
+        return new OutputVariable<>(variable.name(), getData(snapshot));
     }
 
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.evosuite.Properties;
+import org.evosuite.rmi.ClientServices;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures how much of the test generation time is spent in each of the main
+ * components of the search loop. Timed sections are opened with
+ * {@link #time(Component)} in a try-with-resources statement:
+ *
+ * <pre>
+ * try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.FITNESS)) {
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * Sections nest: the time of a section is only counted for its own component,
+ * not for the enclosing one (e.g. tests executed while computing the fitness
+ * count as {@link Component#TEST_EXECUTION}), so the times of all components
+ * add up to at most the wall time.
+ * <p>
+ * Unless {@link Properties#PROFILE_COMPONENTS} is set, {@link #time(Component)}
+ * returns <code>null</code>, which try-with-resources does not close, so the
+ * disabled profiler costs a field read per section. With
+ * {@link Properties#PROFILE_COMPONENTS_JFR} every section is also committed as an
+ * <code>org.evosuite.Component</code> event to the Java Flight Recorder.
+ */
+public class ComponentProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComponentProfiler.class);
+
+    public enum Component {
+        TEST_GENERATION(RuntimeVariable.Time_Test_Generation),
+        TEST_EXECUTION(RuntimeVariable.Time_Test_Execution),
+        FITNESS(RuntimeVariable.Time_Fitness_Evaluation),
+        ARCHIVE(RuntimeVariable.Time_Archive),
+        STATIC_ANALYSIS(RuntimeVariable.Time_Static_Analysis);
+
+        private final RuntimeVariable variable;
+
+        Component(RuntimeVariable variable) {
+            this.variable = variable;
+        }
+
+        public RuntimeVariable getVariable() {
+            return variable;
+        }
+    }
+
+    /**
+     * Total nanoseconds spent in each component, indexed by ordinal
+     */
+    private static final AtomicLongArray totalNanos = new AtomicLongArray(Component.values().length);
+
+    private static final AtomicLongArray sections = new AtomicLongArray(Component.values().length);
+
+    private static final ThreadLocal<Deque<Timer>> openTimers = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Source of the nanosecond times, replaced in the tests
+     */
+    private static volatile LongSupplier clock = System::nanoTime;
+
+    private static volatile long startTime = clock.getAsLong();
+
+    private static volatile boolean jfrAvailable = true;
+
+    private static FlightRecorderEvents flightRecorderEvents = null;
+
+    /**
+     * An open section of a component. Closing it adds its time, minus the time
+     * of the sections nested in it, to the component.
+     */
+    public static final class Timer implements AutoCloseable {
+
+        private final Component component;
+
+        private final Deque<Timer> stack;
+
+        private final long start;
+
+        private long resumed;
+
+        private long selfNanos = 0;
+
+        private Timer(Component component, Deque<Timer> stack, long now) {
+            this.component = component;
+            this.stack = stack;
+            this.start = now;
+            this.resumed = now;
+        }
+
+        @Override
+        public void close() {
+            long now = clock.getAsLong();
+            selfNanos += now - resumed;
+
+            // Sections are closed in reverse order, unless a timer leaked
+            Timer top;
+            do {
+                top = stack.poll();
+            } while (top != null && top != this);
+            Timer parent = stack.peek();
+            if (parent != null) {
+                parent.resumed = now;
+            }
+
+            totalNanos.addAndGet(component.ordinal(), selfNanos);
+            sections.incrementAndGet(component.ordinal());
+
+            if (Properties.PROFILE_COMPONENTS_JFR && jfrAvailable) {
+                commitEvent(component, now - start, selfNanos);
+            }
+        }
+    }
+
+    /**
+     * Opens a section of the given component in the current thread.
+     *
+     * @param component
+     * @return the timer to close at the end of the section, or <code>null</code>
+     * if the profiler is disabled
+     */
+    public static Timer time(Component component) {
+        if (!Properties.PROFILE_COMPONENTS)
+            return null;
+
+        long now = clock.getAsLong();
+        Deque<Timer> stack = openTimers.get();
+        Timer parent = stack.peek();
+        if (parent != null) {
+            parent.selfNanos += now - parent.resumed;
+            parent.resumed = now;
+        }
+        Timer timer = new Timer(component, stack, now);
+        stack.push(timer);
+        return timer;
+    }
+
+    private static synchronized void commitEvent(Component component, long durationNanos, long selfNanos) {
+        try {
+            if (flightRecorderEvents == null) {
+                flightRecorderEvents = new FlightRecorderEvents();
+            }
+            flightRecorderEvents.commit(component.name(), durationNanos, selfNanos);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // jdk.jfr is only available on Java 11 and on Java 8 since update 262
+            jfrAvailable = false;
+            logger.warn("Java Flight Recorder is not available, not recording component events: {}", e.toString());
+        }
+    }
+
+    /**
+     * Flight Recorder event for a timed section. The client is built against
+     * the Java 8 API, which does not include <code>jdk.jfr</code>, so the event
+     * type is defined through reflection with <code>jdk.jfr.EventFactory</code>.
+     */
+    private static final class FlightRecorderEvents {
+
+        private final Object factory;
+
+        private final Method newEvent;
+
+        private final Method isEnabled;
+
+        private final Method set;
+
+        private final Method commit;
+
+        private FlightRecorderEvents() throws ReflectiveOperationException {
+            Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+            Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+            Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            Class<?> event = Class.forName("jdk.jfr.Event");
+            Constructor<?> newAnnotation = annotationElement.getConstructor(Class.class, Object.class);
+            Constructor<?> newField = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+
+            List<Object> annotations = Arrays.asList(
+                    annotation(newAnnotation, "Name", "org.evosuite.Component"),
+                    annotation(newAnnotation, "Label", "Component"),
+                    annotation(newAnnotation, "Category", new String[]{"EvoSuite"}),
+                    annotation(newAnnotation, "Description", "Time spent in a component of the search loop"),
+                    annotation(newAnnotation, "StackTrace", false));
+            List<Object> fields = Arrays.asList(
+                    newField.newInstance(String.class, "component", Collections.singletonList(
+                            annotation(newAnnotation, "Label", "Component"))),
+                    newField.newInstance(long.class, "durationNanos", Arrays.asList(
+                            annotation(newAnnotation, "Label", "Duration"),
+                            annotation(newAnnotation, "Timespan", "NANOSECONDS"))),
+                    newField.newInstance(long.class, "selfNanos", Arrays.asList(
+                            annotation(newAnnotation, "Label", "Self Time"),
+                            annotation(newAnnotation, "Description",
+                                    "Duration minus the time of the nested sections of other components"),
+                            annotation(newAnnotation, "Timespan", "NANOSECONDS"))));
+
+            this.factory = eventFactory.getMethod("create", List.class, List.class)
+                    .invoke(null, annotations, fields);
+            this.newEvent = eventFactory.getMethod("newEvent");
+            this.isEnabled = event.getMethod("isEnabled");
+            this.set = event.getMethod("set", int.class, Object.class);
+            this.commit = event.getMethod("commit");
+        }
+
+        private static Object annotation(Constructor<?> newAnnotation, String type, Object value)
+                throws ReflectiveOperationException {
+            return newAnnotation.newInstance(Class.forName("jdk.jfr." + type), value);
+        }
+
+        private void commit(String component, long durationNanos, long selfNanos)
+                throws IllegalAccessException, InvocationTargetException {
+            Object event = newEvent.invoke(factory);
+            if (!(Boolean) isEnabled.invoke(event))
+                return;
+            set.invoke(event, 0, component);
+            set.invoke(event, 1, durationNanos);
+            set.invoke(event, 2, selfNanos);
+            commit.invoke(event);
+        }
+    }
+
+    /**
+     * @param component
+     * @return the milliseconds spent in the component since the last {@link #reset()}
+     */
+    public static long getTime(Component component) {
+        return totalNanos.get(component.ordinal()) / 1_000_000;
+    }
+
+    /**
+     * @param component
+     * @return the number of timed sections of the component since the last {@link #reset()}
+     */
+    public static long getNumberOfSections(Component component) {
+        return sections.get(component.ordinal());
+    }
+
+    /**
+     * @return the milliseconds spent in each component
+     */
+    public static Map<Component, Long> getTimes() {
+        Map<Component, Long> times = new EnumMap<>(Component.class);
+        for (Component component : Component.values()) {
+            times.put(component, getTime(component));
+        }
+        return times;
+    }
+
+    /**
+     * Called when the test generation for the target class starts
+     */
+    public static void reset() {
+        for (int i = 0; i < totalNanos.length(); i++) {
+            totalNanos.set(i, 0);
+            sections.set(i, 0);
+        }
+        openTimers.remove();
+        startTime = clock.getAsLong();
+    }
+
+    /**
+     * Replace the clock of the profiler, for testing
+     *
+     * @param nanoTime the source of nanosecond times, {@link System#nanoTime()} by default
+     */
+    static void setClock(LongSupplier nanoTime) {
+        clock = nanoTime;
+    }
+
+    /**
+     * Send the time of each component to master, if the profiler is enabled
+     */
+    public static void sendStatistics() {
+        if (!Properties.PROFILE_COMPONENTS)
+            return;
+
+        long wallTime = Math.max(1, (clock.getAsLong() - startTime) / 1_000_000);
+        for (Map.Entry<Component, Long> entry : getTimes().entrySet()) {
+            logger.info("Time in {}: {}ms ({}% of {}ms, {} sections)", entry.getKey(), entry.getValue(),
+                    entry.getValue() * 100 / wallTime, wallTime, getNumberOfSections(entry.getKey()));
+            ClientServices.getInstance().getClientNode().trackOutputVariable(
+                    entry.getKey().getVariable(), entry.getValue());
+        }
+    }
+}
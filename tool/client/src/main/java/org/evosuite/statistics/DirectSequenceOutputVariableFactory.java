@@ -19,8 +19,6 @@
  */
 package org.evosuite.statistics;
 
-import org.evosuite.testsuite.TestSuiteChromosome;
-
 /**
  * Sequence output variable whose value can be set directly,
  * instead of retrieved from individual.
@@ -39,7 +37,7 @@ public class DirectSequenceOutputVariableFactory<T extends Number> extends Seque
     }
 
     @Override
-    public T getValue(TestSuiteChromosome individual) {
+    public T getValue(StatisticsSnapshot individual) {
         return this.value;
     }
 
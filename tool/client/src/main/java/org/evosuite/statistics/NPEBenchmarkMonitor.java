@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.stoppingconditions.MaxTestsStoppingCondition;
+import org.evosuite.rmi.ClientServices;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * Collects the performance figures used to benchmark npetest on subjects with
+ * a known NPE: time until the NPE at {@link Properties#NPE_TARGET_CLASS}:{@link Properties#NPE_TARGET_LINE}
+ * is first thrown, test execution throughput, static analysis time and peak heap usage.
+ *
+ * @see RuntimeVariable#Time_To_First_NPE
+ */
+public class NPEBenchmarkMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(NPEBenchmarkMonitor.class);
+
+    private static final int MAX_CAUSE_DEPTH = 10;
+
+    private static long generationStartTime = System.currentTimeMillis();
+
+    private static long searchStartTime = -1;
+
+    private static long searchEndTime = -1;
+
+    private static long testsExecutedBeforeSearch = 0;
+
+    private static long testsExecutedInSearch = 0;
+
+    private static long staticAnalysisTime = 0;
+
+    private static volatile long timeToFirstNPE = -1;
+
+    /**
+     * Called when the test generation for the target class starts
+     */
+    public static void generationStarted() {
+        generationStartTime = System.currentTimeMillis();
+        searchStartTime = -1;
+        searchEndTime = -1;
+        testsExecutedBeforeSearch = 0;
+        testsExecutedInSearch = 0;
+        staticAnalysisTime = 0;
+        timeToFirstNPE = -1;
+    }
+
+    public static void searchStarted() {
+        searchStartTime = System.currentTimeMillis();
+        testsExecutedBeforeSearch = MaxTestsStoppingCondition.getNumExecutedTests();
+    }
+
+    public static void searchFinished() {
+        searchEndTime = System.currentTimeMillis();
+        testsExecutedInSearch = MaxTestsStoppingCondition.getNumExecutedTests() - testsExecutedBeforeSearch;
+    }
+
+    public static void addStaticAnalysisTime(long millis) {
+        staticAnalysisTime += millis;
+    }
+
+    /**
+     * @return whether a known NPE location was given
+     */
+    public static boolean hasTarget() {
+        return Properties.NPE_TARGET_CLASS != null && !Properties.NPE_TARGET_CLASS.isEmpty()
+                && Properties.NPE_TARGET_LINE > 0;
+    }
+
+    /**
+     * Checks whether the execution threw the known NPE
+     *
+     * @param result the result of a test execution
+     */
+    public static void testExecuted(ExecutionResult result) {
+        if (timeToFirstNPE >= 0 || result == null || !hasTarget())
+            return;
+
+        for (Throwable t : result.getAllThrownExceptions()) {
+            if (isTargetNPE(t, Properties.NPE_TARGET_CLASS, Properties.NPE_TARGET_LINE)) {
+                timeToFirstNPE = System.currentTimeMillis() - generationStartTime;
+                logger.info("Known NPE at {}:{} reproduced after {}ms", Properties.NPE_TARGET_CLASS,
+                        Properties.NPE_TARGET_LINE, timeToFirstNPE);
+                ClientServices.getInstance().getClientNode().trackOutputVariable(
+                        RuntimeVariable.Time_To_First_NPE, timeToFirstNPE);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the exception, or one of its causes, is a NullPointerException
+     * thrown at the given line of the given class (or one of its inner classes)
+     *
+     * @param t
+     * @param className
+     * @param line
+     * @return
+     */
+    public static boolean isTargetNPE(Throwable t, String className, int line) {
+        // bounded, as cause chains may contain cycles
+        int depth = 0;
+        for (Throwable current = t; current != null && depth < MAX_CAUSE_DEPTH; current = current.getCause(), depth++) {
+            if (!(current instanceof NullPointerException))
+                continue;
+
+            for (StackTraceElement element : current.getStackTrace()) {
+                String frameClass = element.getClassName();
+                if (element.getLineNumber() == line
+                        && (frameClass.equals(className) || frameClass.startsWith(className + "$"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static long getTimeToFirstNPE() {
+        return timeToFirstNPE;
+    }
+
+    /**
+     * @return the sum of the peak usage of all heap memory pools, in MB
+     */
+    public static long getPeakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak / (1024 * 1024);
+    }
+
+    /**
+     * Send the collected values to master
+     */
+    public static void sendStatistics() {
+        double testsPerSecond = 0.0;
+        if (searchStartTime >= 0 && searchEndTime > searchStartTime) {
+            testsPerSecond = testsExecutedInSearch * 1000.0 / (searchEndTime - searchStartTime);
+        }
+
+        ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Tests_Executed_Per_Second, testsPerSecond);
+        ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Static_Analysis_Time, staticAnalysisTime);
+        ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Peak_Heap_Usage, getPeakHeapUsage());
+        if (hasTarget() && timeToFirstNPE < 0) {
+            ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Time_To_First_NPE, -1L);
+        }
+    }
+}
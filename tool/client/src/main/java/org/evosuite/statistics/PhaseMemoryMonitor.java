@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.evosuite.rmi.service.ClientState;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Samples the heap, the garbage collections and the bytes allocated by the
+ * threads of the client at each change of {@link ClientState}, so that the
+ * memory used by each phase of the test generation can be written to the
+ * statistics.
+ * <p>
+ * The allocated bytes are those of the threads alive at the end of a phase,
+ * and require a HotSpot JVM. They are reported as 0 otherwise.
+ */
+public class PhaseMemoryMonitor {
+
+    private static final long MB = 1024 * 1024;
+
+    /**
+     * Heap usage, allocated memory and GC time of the phases reported in the
+     * statistics. Phases entered several times are summed up.
+     */
+    private static final Map<ClientState, RuntimeVariable[]> PHASE_VARIABLES = new EnumMap<>(ClientState.class);
+
+    static {
+        PHASE_VARIABLES.put(ClientState.INITIALIZATION, new RuntimeVariable[]{RuntimeVariable.Heap_Usage_Initialization,
+                RuntimeVariable.Allocated_Memory_Initialization, RuntimeVariable.GC_Time_Initialization});
+        PHASE_VARIABLES.put(ClientState.SEARCH, new RuntimeVariable[]{RuntimeVariable.Heap_Usage_Search,
+                RuntimeVariable.Allocated_Memory_Search, RuntimeVariable.GC_Time_Search});
+        RuntimeVariable[] minimization = {RuntimeVariable.Heap_Usage_Minimization,
+                RuntimeVariable.Allocated_Memory_Minimization, RuntimeVariable.GC_Time_Minimization};
+        PHASE_VARIABLES.put(ClientState.MINIMIZING_VALUES, minimization);
+        PHASE_VARIABLES.put(ClientState.MINIMIZATION, minimization);
+        PHASE_VARIABLES.put(ClientState.ASSERTION_GENERATION, new RuntimeVariable[]{RuntimeVariable.Heap_Usage_Assertion_Generation,
+                RuntimeVariable.Allocated_Memory_Assertion_Generation, RuntimeVariable.GC_Time_Assertion_Generation});
+        PHASE_VARIABLES.put(ClientState.WRITING_TESTS, new RuntimeVariable[]{RuntimeVariable.Heap_Usage_Writing_Tests,
+                RuntimeVariable.Allocated_Memory_Writing_Tests, RuntimeVariable.GC_Time_Writing_Tests});
+    }
+
+    /**
+     * Memory figures of the JVM at one point in time
+     */
+    static class Sample {
+
+        final long heapUsed;
+
+        final long gcTime;
+
+        final Map<Long, Long> allocatedBytes;
+
+        Sample(long heapUsed, long gcTime, Map<Long, Long> allocatedBytes) {
+            this.heapUsed = heapUsed;
+            this.gcTime = gcTime;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        static Sample take() {
+            long gcTime = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                // -1 if not supported by the collector
+                gcTime += Math.max(0, gc.getCollectionTime());
+            }
+
+            Map<Long, Long> allocatedBytes = new HashMap<>();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean hotspotThreads = (com.sun.management.ThreadMXBean) threads;
+                if (hotspotThreads.isThreadAllocatedMemorySupported() && hotspotThreads.isThreadAllocatedMemoryEnabled()) {
+                    long[] ids = hotspotThreads.getAllThreadIds();
+                    long[] bytes = hotspotThreads.getThreadAllocatedBytes(ids);
+                    for (int i = 0; i < ids.length; i++) {
+                        // -1 if the thread died in between
+                        if (bytes[i] >= 0) {
+                            allocatedBytes.put(ids[i], bytes[i]);
+                        }
+                    }
+                }
+            }
+
+            return new Sample(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), gcTime, allocatedBytes);
+        }
+
+        /**
+         * @return the bytes allocated since the earlier sample by the threads alive now
+         */
+        long getAllocatedBytesSince(Sample earlier) {
+            long allocated = 0;
+            for (Map.Entry<Long, Long> thread : allocatedBytes.entrySet()) {
+                allocated += thread.getValue() - earlier.allocatedBytes.getOrDefault(thread.getKey(), 0L);
+            }
+            return allocated;
+        }
+    }
+
+    private Sample phaseStart = null;
+
+    private final Map<RuntimeVariable, Long> allocatedBytes = new EnumMap<>(RuntimeVariable.class);
+
+    private final Map<RuntimeVariable, Long> gcTime = new EnumMap<>(RuntimeVariable.class);
+
+    /**
+     * Samples the memory at the end of a phase and the start of the next one
+     *
+     * @param previous the phase that has ended
+     * @return the statistics of the ended phase, which are empty if it is not reported
+     */
+    public synchronized Map<RuntimeVariable, Object> phaseChanged(ClientState previous) {
+        Sample now = Sample.take();
+        Map<RuntimeVariable, Object> values = getValues(previous, phaseStart, now);
+        phaseStart = now;
+        return values;
+    }
+
+    Map<RuntimeVariable, Object> getValues(ClientState phase, Sample start, Sample end) {
+        Map<RuntimeVariable, Object> values = new LinkedHashMap<>();
+        RuntimeVariable[] variables = PHASE_VARIABLES.get(phase);
+        if (variables == null || start == null) {
+            return values;
+        }
+
+        long allocated = allocatedBytes.merge(variables[1], end.getAllocatedBytesSince(start), Long::sum);
+        long gc = gcTime.merge(variables[2], end.gcTime - start.gcTime, Long::sum);
+
+        values.put(variables[0], end.heapUsed / MB);
+        values.put(variables[1], allocated / MB);
+        values.put(variables[2], gc);
+        return values;
+    }
+}
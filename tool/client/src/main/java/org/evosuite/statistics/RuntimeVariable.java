@@ -58,6 +58,14 @@ public enum RuntimeVariable {
      * Number of classes in classpath
      */
     Classpath_Classes,
+    /**
+     * Milliseconds spent loading the precomputed inheritance tree (inheritance file or JDK data)
+     */
+    Inheritance_Tree_Load_Time,
+    /**
+     * Milliseconds spent building the inheritance tree, including the classpath analysis
+     */
+    Inheritance_Tree_Time,
     /**
      * Number of classes analyzed for test cluster
      */
@@ -122,6 +130,14 @@ public enum RuntimeVariable {
      * Number of mutants
      */
     Mutants,
+    /**
+     * Number of test executions on mutants during assertion generation
+     */
+    Assertion_Mutant_Executions,
+    /**
+     * Number of statements of these executions whose output traces were shared with the original unit
+     */
+    Assertion_Shared_Prefix_Statements,
     /**
      * Total number of statements executed
      */
@@ -626,7 +642,80 @@ public enum RuntimeVariable {
      */
     QueryCacheSize,
     QueryCacheCalls,
-    QueryCacheHitRate;
+    QueryCacheHitRate,
+
+    /* -------------------------------------------------------------------- */
+    /******* NPETest benchmark section *******/
+
+    /**
+     * Milliseconds from the start of test generation until the first NPE thrown at
+     * npe_target_class:npe_target_line, or -1 if it was never thrown
+     */
+    Time_To_First_NPE,
+    /**
+     * Number of tests executed per second of search
+     */
+    Tests_Executed_Per_Second,
+    /**
+     * Milliseconds spent in the NPETest static analysis of the class under test
+     */
+    Static_Analysis_Time,
+    /**
+     * Peak heap usage of the client process, in MB
+     */
+    Peak_Heap_Usage,
+
+    /* -------------------------------------------------------------------- */
+    /******* Memory per phase section, see PhaseMemoryMonitor *******/
+
+    /**
+     * Heap usage at the end of the phase, in MB
+     */
+    Heap_Usage_Initialization,
+    Heap_Usage_Search,
+    Heap_Usage_Minimization,
+    Heap_Usage_Assertion_Generation,
+    Heap_Usage_Writing_Tests,
+    /**
+     * Memory allocated by the client threads during the phase, in MB
+     */
+    Allocated_Memory_Initialization,
+    Allocated_Memory_Search,
+    Allocated_Memory_Minimization,
+    Allocated_Memory_Assertion_Generation,
+    Allocated_Memory_Writing_Tests,
+    /**
+     * Milliseconds spent in garbage collection during the phase
+     */
+    GC_Time_Initialization,
+    GC_Time_Search,
+    GC_Time_Minimization,
+    GC_Time_Assertion_Generation,
+    GC_Time_Writing_Tests,
+
+    /* -------------------------------------------------------------------- */
+    /******* Time per component section, see ComponentProfiler *******/
+
+    /**
+     * Milliseconds spent creating and mutating tests
+     */
+    Time_Test_Generation,
+    /**
+     * Milliseconds spent executing tests
+     */
+    Time_Test_Execution,
+    /**
+     * Milliseconds spent computing fitness values, excluding test execution
+     */
+    Time_Fitness_Evaluation,
+    /**
+     * Milliseconds spent updating the archive
+     */
+    Time_Archive,
+    /**
+     * Milliseconds spent in the NPETest static analysis
+     */
+    Time_Static_Analysis;
 
     /* -------------------------------------------------- */
 
@@ -50,10 +50,14 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
         this.startTime = time;
     }
 
-    protected abstract T getValue(TestSuiteChromosome individual);
+    protected abstract T getValue(StatisticsSnapshot individual);
 
     public void update(TestSuiteChromosome individual) {
-        timeStamps.add(System.currentTimeMillis() - startTime);
+        update(StatisticsSnapshot.of(individual));
+    }
+
+    public void update(StatisticsSnapshot individual) {
+        timeStamps.add(individual.getTimestamp() - startTime);
         values.add(getValue(individual));
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output variables and test suite snapshots collected in a client, sent to
+ * the master in a single RMI call. Entries are kept in the order in which they
+ * were produced, as later values overwrite earlier ones.
+ */
+public class StatisticsBatch implements Serializable {
+
+    private static final long serialVersionUID = -2811393416326525542L;
+
+    /**
+     * Either an output variable value or a {@link StatisticsSnapshot}
+     */
+    public static class Entry implements Serializable {
+
+        private static final long serialVersionUID = 2431957400426618371L;
+
+        private final RuntimeVariable variable;
+
+        private final Object value;
+
+        private final StatisticsSnapshot snapshot;
+
+        private Entry(RuntimeVariable variable, Object value, StatisticsSnapshot snapshot) {
+            this.variable = variable;
+            this.value = value;
+            this.snapshot = snapshot;
+        }
+
+        public static Entry ofVariable(RuntimeVariable variable, Object value) {
+            return new Entry(variable, value, null);
+        }
+
+        public static Entry ofSnapshot(StatisticsSnapshot snapshot) {
+            return new Entry(null, null, snapshot);
+        }
+
+        public boolean isSnapshot() {
+            return snapshot != null;
+        }
+
+        public RuntimeVariable getVariable() {
+            return variable;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public StatisticsSnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        @Override
+        public String toString() {
+            return isSnapshot() ? "snapshot@" + snapshot.getTimestamp() : variable + "=" + value;
+        }
+    }
+
+    private final List<Entry> entries;
+
+    public StatisticsBatch(List<Entry> entries) {
+        this.entries = new ArrayList<>(entries);
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+}
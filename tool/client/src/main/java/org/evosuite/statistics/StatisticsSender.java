@@ -60,6 +60,9 @@ public class StatisticsSender {
         if (!Properties.NEW_STATISTICS)
             return;
 
+        if (sendSnapshot(individual))
+            return;
+
         ClientServices.<T>getInstance().getClientNode().updateStatistics(individual);
     }
 
@@ -108,6 +111,9 @@ public class StatisticsSender {
         if (!Properties.NEW_STATISTICS)
             return;
 
+        if (sendSnapshot(individual))
+            return;
+
         ClientServices.<T>getInstance().getClientNode().updateStatisticsNPETest(individual);
     }
     
@@ -147,6 +153,22 @@ public class StatisticsSender {
 
     // -------- private methods ------------------------
 
+    /**
+     * Queue only the statistics values of the individual, if the master does not need the whole test suite
+     *
+     * @return true if the snapshot was queued
+     */
+    private static boolean sendSnapshot(Chromosome<?> individual) {
+        if (!Properties.COMPACT_STATISTICS || Properties.STATISTICS_BACKEND == Properties.StatisticsBackend.HTML)
+            return false;
+        if (!(individual instanceof TestSuiteChromosome))
+            return false;
+
+        StatisticsSnapshot snapshot = StatisticsSnapshot.of((TestSuiteChromosome) individual);
+        ClientServices.getInstance().getClientNode().updateStatistics(snapshot);
+        return true;
+    }
+
     private static void sendExceptionInfo(TestSuiteChromosome testSuite) {
 
         List<ExecutionResult> results = new ArrayList<>();
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testsuite.TestSuiteChromosome;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The values of a test suite that the master needs to compute its output
+ * variables and timelines. This is what is sent to the master instead of the
+ * whole test suite when <code>compact_statistics</code> is enabled.
+ */
+public class StatisticsSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 6164416442547367474L;
+
+    /**
+     * When the snapshot was taken, as the snapshot might arrive at the master later
+     */
+    private final long timestamp;
+
+    private final int size;
+
+    private final int length;
+
+    private final double fitness;
+
+    private final double coverage;
+
+    private final int numOfNotCoveredGoals;
+
+    /**
+     * Fitness values by the class of the fitness function that computed them
+     */
+    private final Map<Class<?>, Double> fitnessValues = new LinkedHashMap<>();
+
+    /**
+     * Coverage values by the class of the fitness function that computed them
+     */
+    private final Map<Class<?>, Double> coverageValues = new LinkedHashMap<>();
+
+    private StatisticsSnapshot(long timestamp, TestSuiteChromosome individual) {
+        this.timestamp = timestamp;
+        this.size = individual.size();
+        this.length = individual.totalLengthOfTestCases();
+        this.fitness = individual.getFitness();
+        this.coverage = individual.getCoverage();
+        this.numOfNotCoveredGoals = individual.getNumOfNotCoveredGoals();
+
+        for (Map.Entry<FitnessFunction<TestSuiteChromosome>, Double> entry : individual.getFitnessValues().entrySet()) {
+            fitnessValues.putIfAbsent(entry.getKey().getClass(), entry.getValue());
+        }
+        for (Map.Entry<FitnessFunction<TestSuiteChromosome>, Double> entry : individual.getCoverageValues().entrySet()) {
+            coverageValues.putIfAbsent(entry.getKey().getClass(), entry.getValue());
+        }
+    }
+
+    /**
+     * Takes a snapshot of the given test suite at the current time
+     *
+     * @param individual
+     * @return
+     */
+    public static StatisticsSnapshot of(TestSuiteChromosome individual) {
+        return new StatisticsSnapshot(System.currentTimeMillis(), individual);
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int totalLengthOfTestCases() {
+        return length;
+    }
+
+    public double getFitness() {
+        return fitness;
+    }
+
+    public double getCoverage() {
+        return coverage;
+    }
+
+    public int getNumOfNotCoveredGoals() {
+        return numOfNotCoveredGoals;
+    }
+
+    /**
+     * Same semantics as {@link TestSuiteChromosome#getFitnessInstanceOf(Class)}
+     */
+    public double getFitnessInstanceOf(Class<?> clazz) {
+        return getInstanceOf(fitnessValues, clazz);
+    }
+
+    /**
+     * Same semantics as {@link TestSuiteChromosome#getCoverageInstanceOf(Class)}
+     */
+    public double getCoverageInstanceOf(Class<?> clazz) {
+        return getInstanceOf(coverageValues, clazz);
+    }
+
+    private static double getInstanceOf(Map<Class<?>, Double> values, Class<?> clazz) {
+        for (Map.Entry<Class<?>, Double> entry : values.entrySet()) {
+            if (clazz.isAssignableFrom(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return 0.0;
+    }
+}
@@ -23,12 +23,15 @@ import org.evosuite.Properties;
 import org.evosuite.Properties.Criterion;
 import org.evosuite.analysis.ClassInfo;
 import org.evosuite.analysis.MethodInfo;
+import org.evosuite.analysis.NPECandidateIndex;
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
 import org.evosuite.coverage.TestFitnessFactory;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.archive.Archive;
 import org.evosuite.ga.archive.ArchiveTestChromosomeFactory;
 import org.evosuite.ga.archive.GuidedArchiveTestChromosomeFactory;
+import org.evosuite.ga.archive.NPEArchiveSeeds;
 import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
 import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.ga.stoppingconditions.MaxTestsStoppingCondition;
@@ -37,6 +40,8 @@ import org.evosuite.ga.stoppingconditions.StoppingCondition;
 import org.evosuite.result.TestGenerationResultBuilder;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.rmi.service.ClientState;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.statistics.StatisticsSender;
 import org.evosuite.testcase.TestChromosome;
@@ -76,11 +81,21 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
 
     private static final Logger logger = LoggerFactory.getLogger(NPEGuidedStrategy.class);
 
+    // Tests of this run which threw NPEs at new lines or reached new candidate lines, for npe_warm_start
+    private final NPEArchiveSeeds seeds = new NPEArchiveSeeds();
+
     private HashSet<TestChromosome> buildInitialPopulation() {
         HashSet<TestChromosome> tcSet = new HashSet<>();
 
         LoggingUtils.getEvoLogger().info("BUILD INITIAL POPULATION");
             
+        if (Properties.NPE_WARM_START) {
+            for (TestChromosome test : seeds.load()) {
+                Archive.getArchiveInstance().updateArchive(test);
+                tcSet.add(test);
+            }
+        }
+
         ChromosomeFactory<TestChromosome> defaultFactory = new GuidedRandomLengthTestFactory();
 
         for (int i = 0; i < ClassInfo.getInstance().getTargetMethods().size() * (Randomness.nextInt(5)+3); i++) {
@@ -96,7 +111,14 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
         return tcSet;
     }
 
-    
+    // Rescore the methods when the executed tests reached new basic blocks
+    private void updateBlockCoverage() {
+        if (Properties.NPE_BLOCK_COVERAGE && BasicBlockCoverage.getInstance().update()) {
+            MethodInfo.getInstance().updateCoverageScores();
+        }
+    }
+
+
     protected boolean isFinished(StoppingCondition<TestSuiteChromosome> stoppingCondition) {
         if (stoppingCondition.isFinished())
             return true;
@@ -140,6 +162,10 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
         }
         ChromosomeFactory<TestChromosome> factory = new GuidedArchiveTestChromosomeFactory();
 
+        if (Properties.NPE_BLOCK_COVERAGE) {
+            BasicBlockCoverage.getInstance().enable();
+        }
+
         StoppingCondition<TestSuiteChromosome> stoppingCondition = getStoppingCondition();
 
         int number_generations = 0;
@@ -161,14 +187,15 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
 
                     if (methodKey == null) break;
 
-                    if (!ClassInfo.getInstance().getFoundNPELineInfo(methodKey).contains(trace.getLineNumber())) {
+                    if (NPECandidateIndex.getInstance().markFound(trace.getClassName(), trace.getLineNumber())) {
 
                         test.setTriggeredNPE(trace.getLineNumber());
     
                         test.setChanged(false);
     
                         MethodInfo.getInstance().deleteNPEPathMap(methodKey, trace.getLineNumber());
-                        ClassInfo.getInstance().updateFoundNPELineInfo(methodKey, trace.getLineNumber());    
+
+                        if (Properties.NPE_WARM_START) seeds.add(test);
                     }
                     break;
                 }
@@ -176,8 +203,14 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
             suite.addTest(test);
         }
 
-        for (FitnessFunction<TestSuiteChromosome> fitness_function : fitnessFunctions)
-            fitness_function.getFitness(suite);
+        updateBlockCoverage();
+
+        if (Properties.NPE_WARM_START) seeds.reachedNewCandidates();
+
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.FITNESS)) {
+            for (FitnessFunction<TestSuiteChromosome> fitness_function : fitnessFunctions)
+                fitness_function.getFitness(suite);
+        }
 
         ClientServices.getInstance().getClientNode().changeState(ClientState.SEARCH);
 
@@ -186,16 +219,21 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
             number_generations++;
             TestChromosome test = factory.getChromosome();
 
-            TestSuiteChromosome clone = suite.clone();
+            // the tests of the suite are not modified here, so they do not need to be copied
+            TestSuiteChromosome clone = suite.copyOnWriteClone();
 
             
             clone.addTest(test);
-            for (FitnessFunction<TestSuiteChromosome> fitness_function : fitnessFunctions) {
-                fitness_function.getFitness(clone);
-                logger.debug("Old fitness: {}, new fitness: {}", suite.getFitness(),
-                        clone.getFitness());
+            try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.FITNESS)) {
+                for (FitnessFunction<TestSuiteChromosome> fitness_function : fitnessFunctions) {
+                    fitness_function.getFitness(clone);
+                    logger.debug("Old fitness: {}, new fitness: {}", suite.getFitness(),
+                            clone.getFitness());
+                }
             }
 
+            updateBlockCoverage();
+
             ExecutionResult result = clone.getTestChromosome(clone.size() - 1).getLastExecutionResult();
             
             Collection<Throwable> exceptions = result.getAllThrownExceptions();
@@ -208,12 +246,11 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
 
                         if (methodKey == null) break;
                         
-                        if (!ClassInfo.getInstance().getFoundNPELineInfo(methodKey).contains(trace.getLineNumber())) {
+                        if (NPECandidateIndex.getInstance().markFound(trace.getClassName(), trace.getLineNumber())) {
                             
                             added = true;
         
                             MethodInfo.getInstance().deleteNPEPathMap(methodKey, trace.getLineNumber());
-                            ClassInfo.getInstance().updateFoundNPELineInfo(methodKey, trace.getLineNumber());    
         
                             Archive.getArchiveInstance().updateArchive(test);
 
@@ -222,6 +259,10 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
                     }
                 }
             }
+
+            if (Properties.NPE_WARM_START && (seeds.reachedNewCandidates() || added)) {
+                seeds.add(test);
+            }
             
 
             if (clone.compareTo(suite) < 0 || added) {
@@ -230,6 +271,10 @@ public class NPEGuidedStrategy extends TestGenerationStrategy {
             
         }
          
+        BasicBlockCoverage.getInstance().disable();
+
+        if (Properties.NPE_WARM_START) seeds.save();
+
         LoggingUtils.getEvoLogger().info("* Search Budget:");
         LoggingUtils.getEvoLogger().info("\t- " + stoppingCondition);
         LoggingUtils.getEvoLogger().info("# Generations: " + Integer.toString(number_generations));
@@ -19,10 +19,12 @@
  */
 package org.evosuite.symbolic.dse.algorithm.strategies.implementations.CachingStrategies;
 
+import org.evosuite.Properties;
 import org.evosuite.symbolic.PathConditionUtils;
 import org.evosuite.symbolic.dse.DSEStatistics;
 import org.evosuite.symbolic.dse.algorithm.strategies.CachingStrategy;
 import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.solver.ConstraintIndependenceSlicer;
 import org.evosuite.symbolic.solver.SolverResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,8 +34,8 @@ import java.util.Set;
 
 /**
  * Resembles checks (a) and (b) of a counter-example cache strategy.
- * (b) Is performed only if exactly the same constraint set is found.
- *     TODO: Implement the solution for supersets.
+ * (b) Is performed for supersets only if constraint independence is enabled, as otherwise the model may
+ *     conflict with the rest of the path.
  * <p>
  * Counter-example cache strategy: Maps sets of constraints to counter-examples and performs three optimizations:
  * (a)  When a subset of a constraint set has no solution, then neither does the original set. i.e. as the query x>10 ∧ x<5 has no solution, neither does the original query x>10 ∧ x<5 ∧ y=0
@@ -98,10 +100,17 @@ public class CounterExampleCache implements CachingStrategy {
 
                 // Case (b) for for supra sets: The query is sat as there was a bigger query that was SAT
             } else if (cachedResult.isSAT()) {
-                // TODO: Implement me!
                 // We cannot use all the solution model from the superset as it may differ with other elements of this path.
-                // Implementation idea: reuse only the necessary elements of the model.
-                return new CacheQueryResult(CacheQueryStatus.MISS);
+                // Once queries are sliced by constraint independence, the remaining constraints of the path do not
+                // share variables with the query, so reusing only its elements of the model is enough.
+                if (!Properties.DSE_CONSTRAINT_INDEPENDENCE) {
+                    return new CacheQueryResult(CacheQueryStatus.MISS);
+                }
+
+                statisticsLogger.reportNewQueryCacheHit();
+                logger.debug("skipping solving of current query since a supra set of it is satisfiable in the query cache");
+                Map<String, Object> model = ConstraintIndependenceSlicer.restrictModel(cachedResult.getModel(), query);
+                return new CacheQueryResult(model, CacheQueryStatus.HIT_SAT);
             }
         }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
+
+import java.util.*;
+
+/**
+ * Constraint independence optimization (as in KLEE/EXE): a query is split into
+ * groups of constraints that share no variables, and only the group that
+ * contains the target (i.e. negated) constraint is sent to the solver.
+ * <p>
+ * Variables outside of that group keep the values of the previous concrete
+ * execution, which still satisfy the remaining constraints of the path.
+ */
+public abstract class ConstraintIndependenceSlicer {
+
+    public static final String CONSTRAINTS_CANNOT_BE_NULL = "Constraints cannot be null.";
+    public static final String TARGET_CONSTRAINT_CANNOT_BE_NULL = "Target constraint cannot be null.";
+
+    /**
+     * Returns the constraints that belong to the same connected component of the
+     * variable-sharing graph as the target constraint. The relative order of the
+     * constraints is preserved. If the target has no variables, an empty list is
+     * returned as there is nothing the solver could change.
+     *
+     * @param constraints a list of constraints containing the target
+     * @param target      the constraint whose dependencies must be kept
+     * @return
+     */
+    public static List<Constraint<?>> slice(List<Constraint<?>> constraints, Constraint<?> target) {
+        if (constraints == null) throw new IllegalArgumentException(CONSTRAINTS_CANNOT_BE_NULL);
+        if (target == null) throw new IllegalArgumentException(TARGET_CONSTRAINT_CANNOT_BE_NULL);
+
+        List<Constraint<?>> component = new LinkedList<>();
+        Set<Variable<?>> targetVariables = target.getVariables();
+        if (targetVariables.isEmpty())
+            return component;
+
+        // Index each variable to the constraints where it occurs
+        List<Set<Variable<?>>> variablesOfConstraint = new ArrayList<>(constraints.size());
+        Map<Variable<?>, List<Integer>> constraintsOfVariable = new HashMap<>();
+        for (int i = 0; i < constraints.size(); i++) {
+            Set<Variable<?>> variables = constraints.get(i).getVariables();
+            variablesOfConstraint.add(variables);
+            for (Variable<?> variable : variables) {
+                constraintsOfVariable.computeIfAbsent(variable, v -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // Traverse the variable-sharing graph starting from the target variables
+        boolean[] included = new boolean[constraints.size()];
+        Set<Variable<?>> visited = new HashSet<>(targetVariables);
+        Deque<Variable<?>> pending = new ArrayDeque<>(targetVariables);
+        while (!pending.isEmpty()) {
+            Variable<?> variable = pending.pop();
+            List<Integer> indexes = constraintsOfVariable.get(variable);
+            if (indexes == null)
+                continue;
+
+            for (int index : indexes) {
+                if (included[index])
+                    continue;
+
+                included[index] = true;
+                for (Variable<?> other : variablesOfConstraint.get(index)) {
+                    if (visited.add(other)) {
+                        pending.push(other);
+                    }
+                }
+            }
+        }
+
+        boolean containsTarget = false;
+        for (int i = 0; i < constraints.size(); i++) {
+            if (included[i]) {
+                Constraint<?> constraint = constraints.get(i);
+                containsTarget |= constraint.equals(target);
+                component.add(constraint);
+            }
+        }
+
+        if (!containsTarget)
+            component.add(target);
+
+        return component;
+    }
+
+    /**
+     * Restricts a model to the variables that appear in the given constraints.
+     * A model of a larger query satisfies all of its sub queries, but the values
+     * of variables outside of a sliced query must be taken from the current
+     * concrete execution instead.
+     *
+     * @param model       a solution of a query containing the given constraints
+     * @param constraints a (sliced) query
+     * @return
+     */
+    public static Map<String, Object> restrictModel(Map<String, Object> model, Collection<Constraint<?>> constraints) {
+        Set<String> variableNames = new HashSet<>();
+        for (Constraint<?> constraint : constraints) {
+            for (Variable<?> variable : constraint.getVariables()) {
+                variableNames.add(variable.getName());
+            }
+        }
+
+        Map<String, Object> restrictedModel = new HashMap<>();
+        for (Map.Entry<String, Object> entry : model.entrySet()) {
+            if (variableNames.contains(entry.getKey())) {
+                restrictedModel.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return restrictedModel;
+    }
+}
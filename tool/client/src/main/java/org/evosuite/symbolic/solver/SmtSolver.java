@@ -26,6 +26,7 @@ import org.evosuite.utils.ProcessTimeoutException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
 
 public abstract class SmtSolver extends Solver {
 
@@ -81,4 +82,56 @@ public abstract class SmtSolver extends Solver {
 
     }
 
+    /**
+     * Time the solver session is given on top of the time limit of the query,
+     * so that the solver can answer <code>unknown</code> before it is killed.
+     */
+    private static final int SESSION_TIMEOUT_GRACE_MILLIS = 1000;
+
+    /**
+     * Solves the query in a long-lived solver process taken from the {@link SmtSolverPool}.
+     * The query has to set its own time limit in the solver, see
+     * {@link #printSessionTimeout(long)}, otherwise a query exceeding
+     * <code>hardTimeout</code> kills the session.
+     *
+     * @param solverCmd    the solver command line, one argument per element
+     * @param prelude      the logic and options of the query
+     * @param smtQueryBody the declarations and assertions of the query
+     * @param hardTimeout
+     * @param stdout
+     * @throws IOException
+     * @throws SolverTimeoutException
+     * @throws SolverErrorException
+     */
+    protected static void solveInPooledSession(List<String> solverCmd, String prelude, String smtQueryBody,
+                                               int hardTimeout, OutputStream stdout)
+            throws IOException, SolverTimeoutException, SolverErrorException {
+
+        SmtSolverPool pool = SmtSolverPool.getInstance();
+        SmtSolverSession session;
+        try {
+            session = pool.acquire(solverCmd, prelude);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverErrorException("Interrupted while waiting for a solver session");
+        }
+
+        try {
+            session.solve(smtQueryBody, hardTimeout + SESSION_TIMEOUT_GRACE_MILLIS, stdout);
+        } finally {
+            pool.release(session);
+        }
+    }
+
+    /**
+     * Sets the time limit of the next query of a solver session. The options of
+     * the prelude are only sent when the session starts, so each query sets it again.
+     *
+     * @param timeoutMillis
+     * @return
+     */
+    protected static String printSessionTimeout(long timeoutMillis) {
+        return "(set-option :timeout " + timeoutMillis + ")\n";
+    }
+
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Keeps up to {@link Properties#SMT_SOLVER_POOL_SIZE} long-lived solver sessions
+ * per solver command and prelude, so that the solver process startup is not paid
+ * for every query.
+ */
+public class SmtSolverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtSolverPool.class);
+
+    /**
+     * Maximum time an idle session has to answer a health check
+     */
+    public static final long HEALTH_CHECK_TIMEOUT_MILLIS = 1000;
+
+    private static SmtSolverPool instance = null;
+
+    private final Map<String, Deque<SmtSolverSession>> idleSessions = new HashMap<>();
+
+    private final Map<String, Integer> openSessions = new HashMap<>();
+
+    private final Map<SmtSolverSession, String> sessionKeys = new IdentityHashMap<>();
+
+    private SmtSolverPool() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    public static synchronized SmtSolverPool getInstance() {
+        if (instance == null) {
+            instance = new SmtSolverPool();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a healthy idle session for the command, starting a new one if the
+     * pool is not full, or waiting for one to be released otherwise. Sessions
+     * are taken from the pool under its lock, but checked and started outside
+     * of it, so other threads do not wait for the solver processes.
+     *
+     * @param command the solver command line
+     * @param prelude logic and options of the queries solved in this session
+     * @return
+     * @throws IOException if a new solver process could not be started
+     * @throws InterruptedException
+     */
+    public SmtSolverSession acquire(List<String> command, String prelude)
+            throws IOException, InterruptedException {
+        String key = command.toString() + prelude;
+
+        while (true) {
+            SmtSolverSession idleSession = takeIdleOrReserve(key);
+            if (idleSession == null) {
+                return start(key, command, prelude);
+            }
+
+            if (idleSession.isHealthy(HEALTH_CHECK_TIMEOUT_MILLIS)) {
+                return idleSession;
+            }
+            logger.debug("Discarding unhealthy solver session {}", idleSession);
+            idleSession.close();
+            forget(idleSession);
+        }
+    }
+
+    /**
+     * @return an idle session, or <code>null</code> if a new session may be
+     * started, in which case it is already counted as open
+     */
+    private synchronized SmtSolverSession takeIdleOrReserve(String key) throws InterruptedException {
+        Deque<SmtSolverSession> idle = idleSessions.computeIfAbsent(key, k -> new ArrayDeque<>());
+        int poolSize = Math.max(1, Properties.SMT_SOLVER_POOL_SIZE);
+
+        while (true) {
+            if (!idle.isEmpty()) {
+                return idle.pop();
+            }
+            if (openSessions.getOrDefault(key, 0) < poolSize) {
+                openSessions.merge(key, 1, Integer::sum);
+                return null;
+            }
+            wait();
+        }
+    }
+
+    private SmtSolverSession start(String key, List<String> command, String prelude) throws IOException {
+        SmtSolverSession session;
+        try {
+            session = new SmtSolverSession(command, prelude);
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                openSessions.merge(key, -1, Integer::sum);
+                notifyAll();
+            }
+            throw e;
+        }
+        synchronized (this) {
+            sessionKeys.put(session, key);
+        }
+        return session;
+    }
+
+    /**
+     * Returns a session to the pool. Sessions whose process was killed (e.g. due
+     * to a timeout) are discarded and will be restarted on demand.
+     *
+     * @param session
+     */
+    public synchronized void release(SmtSolverSession session) {
+        String key = sessionKeys.get(session);
+        if (key == null)
+            return;
+
+        if (session.isAlive()) {
+            idleSessions.get(key).push(session);
+        } else {
+            discard(session);
+        }
+        notifyAll();
+    }
+
+    private void discard(SmtSolverSession session) {
+        session.close();
+        forget(session);
+    }
+
+    private synchronized void forget(SmtSolverSession session) {
+        String key = sessionKeys.remove(session);
+        if (key != null) {
+            openSessions.merge(key, -1, Integer::sum);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Terminates all idle solver processes
+     */
+    public synchronized void shutdown() {
+        for (Deque<SmtSolverSession> idle : idleSessions.values()) {
+            for (SmtSolverSession session : idle) {
+                discard(session);
+            }
+            idle.clear();
+        }
+        notifyAll();
+    }
+}
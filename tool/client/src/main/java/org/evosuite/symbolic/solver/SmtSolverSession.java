@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A long-lived SMT solver process that receives queries incrementally over
+ * stdin/stdout. Each query is wrapped into a <code>(push 1)</code>/<code>(pop 1)</code>
+ * scope, so declarations and assertions do not leak into the next query, and
+ * is terminated by an <code>(echo ...)</code> marker to know when the output is
+ * complete.
+ * <p>
+ * If a query exceeds its timeout or the process dies, the process is killed and
+ * the session is no longer alive. A query which the solver gave up on, i.e.
+ * answered <code>unknown</code> or <code>timeout</code>, also ends the session,
+ * as the solver may still hold on to the work spent on it. {@link SmtSolverPool}
+ * replaces such sessions.
+ */
+public class SmtSolverSession {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmtSolverSession.class);
+
+    public static final String END_OF_QUERY_MARKER = "evosuite-end-of-query";
+    public static final String PING_MARKER = "evosuite-ping";
+
+    /**
+     * Pushed by the reader thread when the solver closes its output
+     */
+    private static final String END_OF_STREAM = new String("<eos>");
+
+    private final List<String> command;
+
+    private final String prelude;
+
+    private Process process;
+
+    private Writer stdin;
+
+    private BlockingQueue<String> outputLines;
+
+    private int solvedQueries = 0;
+
+    /**
+     * Starts a new solver process
+     *
+     * @param command the solver command line, one argument per element
+     * @param prelude the logic and options, sent once after the process starts
+     * @throws IOException if the process could not be started
+     */
+    public SmtSolverSession(List<String> command, String prelude) throws IOException {
+        this.command = new ArrayList<>(command);
+        this.prelude = prelude;
+        start();
+    }
+
+    private void start() throws IOException {
+        logger.debug("Starting solver session {}", command);
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectErrorStream(true);
+        process = builder.start();
+        stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+
+        final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        final InputStream stdout = process.getInputStream();
+        Thread reader = new Thread(() -> pump(stdout, lines), "SmtSolverSession-reader");
+        reader.setDaemon(true);
+        reader.start();
+        outputLines = lines;
+
+        if (prelude != null && !prelude.isEmpty()) {
+            write(prelude);
+        }
+    }
+
+    private static void pump(InputStream stdout, BlockingQueue<String> lines) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stdout, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            // process was destroyed
+        } finally {
+            lines.add(END_OF_STREAM);
+        }
+    }
+
+    private void write(String str) throws IOException {
+        stdin.write(str);
+        stdin.flush();
+    }
+
+    /**
+     * Solves a query and copies the solver output to <code>stdout</code>.
+     *
+     * @param smtQueryBody declarations, assertions, check-sat and get-model commands
+     * @param timeoutMillis maximum time to wait for the solver answer
+     * @param stdout where to copy the solver output of this query
+     * @throws SolverTimeoutException if the solver did not answer in time. The process is killed.
+     * @throws SolverErrorException if the solver process terminated
+     * @throws IOException if the query could not be sent
+     */
+    public void solve(String smtQueryBody, long timeoutMillis, OutputStream stdout)
+            throws SolverTimeoutException, SolverErrorException, IOException {
+        try {
+            write("(push 1)\n" + smtQueryBody + echo(END_OF_QUERY_MARKER) + "(pop 1)\n");
+        } catch (IOException e) {
+            close();
+            throw new SolverErrorException("Solver session is not accepting queries: " + e.getMessage());
+        }
+
+        StringBuilder output = new StringBuilder();
+        long solverStartTimeMillis = System.currentTimeMillis();
+        try {
+            if (!readUntil(END_OF_QUERY_MARKER, timeoutMillis, output)) {
+                logger.debug("Solver session stopped due to solver timeout");
+                close();
+                throw new SolverTimeoutException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new SolverErrorException("Interrupted while waiting for the solver");
+        } finally {
+            logger.debug("Solver session query time was {}ms", System.currentTimeMillis() - solverStartTimeMillis);
+        }
+
+        solvedQueries++;
+        stdout.write(output.toString().getBytes(StandardCharsets.UTF_8));
+
+        if (isGivenUp(output)) {
+            logger.debug("Solver session stopped as the solver gave up on the query");
+            close();
+        }
+    }
+
+    private static boolean isGivenUp(CharSequence output) {
+        String answer = output.toString().trim();
+        return answer.startsWith("unknown") || answer.startsWith("timeout");
+    }
+
+    /**
+     * Checks that the process is alive and still answers commands.
+     *
+     * @param timeoutMillis
+     * @return
+     */
+    public boolean isHealthy(long timeoutMillis) {
+        if (!isAlive())
+            return false;
+
+        try {
+            write(echo(PING_MARKER));
+            return readUntil(PING_MARKER, timeoutMillis, new StringBuilder());
+        } catch (IOException | SolverErrorException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public boolean isAlive() {
+        return process != null && process.isAlive();
+    }
+
+    public int getSolvedQueries() {
+        return solvedQueries;
+    }
+
+    /**
+     * Terminates the solver process
+     */
+    public void close() {
+        if (process == null)
+            return;
+
+        try {
+            write("(exit)\n");
+        } catch (IOException e) {
+            // already closed
+        }
+        process.destroyForcibly();
+        process = null;
+    }
+
+    /**
+     * Reads output lines until a line contains the marker. Solvers differ on whether
+     * echo prints quotes, hence the marker is not compared to the whole line.
+     *
+     * @return false if the timeout was reached
+     */
+    private boolean readUntil(String marker, long timeoutMillis, StringBuilder output)
+            throws InterruptedException, SolverErrorException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0)
+                return false;
+
+            String line = outputLines.poll(remaining, TimeUnit.MILLISECONDS);
+            if (line == null)
+                return false;
+
+            if (line == END_OF_STREAM) {
+                close();
+                throw new SolverErrorException("Solver process terminated unexpectedly");
+            }
+
+            if (line.contains(marker))
+                return true;
+
+            output.append(line).append("\n");
+        }
+    }
+
+    private static String echo(String marker) {
+        return "(echo \"" + marker + "\")\n";
+    }
+
+    @Override
+    public String toString() {
+        return "SmtSolverSession" + command;
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.evosuite.symbolic.solver;
 
+import org.evosuite.Properties;
 import org.evosuite.symbolic.BranchCondition;
 import org.evosuite.symbolic.PathCondition;
 import org.evosuite.symbolic.expr.Constraint;
@@ -157,7 +158,9 @@ public abstract class SolverUtils {
 
     /**
      * Apply cone of influence reduction to constraints with respect to the last
-     * constraint in the list
+     * constraint in the list. If constraint independence is enabled, the whole
+     * connected component of the last constraint is kept instead of a single
+     * backwards pass.
      *
      * @param constraints
      * @return
@@ -165,6 +168,10 @@ public abstract class SolverUtils {
     private static List<Constraint<?>> reduce(List<Constraint<?>> constraints) {
 
         Constraint<?> target = constraints.get(constraints.size() - 1);
+        if (Properties.DSE_CONSTRAINT_INDEPENDENCE) {
+            return ConstraintIndependenceSlicer.slice(constraints, target);
+        }
+
         Set<Variable<?>> dependencies = getVariables(target);
 
         LinkedList<Constraint<?>> coi = new LinkedList<>();
@@ -109,7 +109,12 @@ public final class CVC4Solver extends SmtSolver {
 
         ByteArrayOutputStream stdout = new ByteArrayOutputStream();
         try {
-            launchNewSolvingProcess(cmd, smtQueryStr, (int) cvcTimeout, stdout);
+            if (Properties.SMT_SOLVER_POOL_SIZE > 0) {
+                solveInPooledSession(buildCVC4SessionCmd(cvcTimeout), printer.printPrelude(query),
+                        printer.printBody(query), (int) cvcTimeout, stdout);
+            } else {
+                launchNewSolvingProcess(cmd, smtQueryStr, (int) cvcTimeout, stdout);
+            }
             String output = stdout.toString("UTF-8");
 
             if (output.startsWith("unknown")) {
@@ -267,6 +272,24 @@ public final class CVC4Solver extends SmtSolver {
         return cmd;
     }
 
+    /**
+     * Same options as {@link #buildCVC4cmd(long)}, but reading queries interactively
+     * and applying the time limit to each query instead of the whole process.
+     */
+    private static List<String> buildCVC4SessionCmd(long cvcTimeout) {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Properties.CVC4_PATH);
+        cmd.add("--rewrite-divk");
+        cmd.add("--lang");
+        cmd.add("smt");
+        cmd.add("--finite-model-find");
+        cmd.add("--incremental");
+        cmd.add("--interactive");
+        cmd.add("--no-interactive-prompt");
+        cmd.add("--tlimit-per=" + cvcTimeout);
+        return cmd;
+    }
+
     private static boolean hasNonLinearConstraints(Collection<Constraint<?>> constraints) {
         NonLinearConstraintVisitor v = new NonLinearConstraintVisitor();
         for (Constraint<?> constraint : constraints) {
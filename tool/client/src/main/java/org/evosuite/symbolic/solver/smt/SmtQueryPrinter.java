@@ -29,6 +29,25 @@ import java.util.stream.Collectors;
 public class SmtQueryPrinter {
 
     public String print(SmtQuery query) {
+        StringBuffer buff = new StringBuffer();
+        buff.append(printPrelude(query));
+        buff.append(printBody(query));
+
+        buff.append("(exit)");
+        buff.append("\n");
+
+        return buff.toString();
+
+    }
+
+    /**
+     * Prints the logic and options of the query. These can only be set once at
+     * the beginning of a solver session.
+     *
+     * @param query
+     * @return
+     */
+    public String printPrelude(SmtQuery query) {
         StringBuffer buff = new StringBuffer();
         buff.append("\n");
 
@@ -44,6 +63,19 @@ public class SmtQueryPrinter {
         }
         buff.append("\n");
 
+        return buff.toString();
+    }
+
+    /**
+     * Prints the declarations, assertions and the check-sat/get-model commands of
+     * the query, without terminating the solver. Used for incremental sessions.
+     *
+     * @param query
+     * @return
+     */
+    public String printBody(SmtQuery query) {
+        StringBuffer buff = new StringBuffer();
+
         for (SmtConstantDeclaration constantDeclaration : query.getConstantDeclarations()) {
             String str = print(constantDeclaration);
             buff.append(str);
@@ -74,11 +106,7 @@ public class SmtQueryPrinter {
         buff.append("(get-model)");
         buff.append("\n");
 
-        buff.append("(exit)");
-        buff.append("\n");
-
         return buff.toString();
-
     }
 
     public String print(SmtAssertion smtAssertion) {
@@ -86,7 +86,14 @@ public class Z3Solver extends SmtSolver {
         ByteArrayOutputStream stdout = new ByteArrayOutputStream();
         String output;
         try {
-            launchNewSolvingProcess(z3Cmd, queryStr, (int) hard_timeout, stdout);
+            if (Properties.SMT_SOLVER_POOL_SIZE > 0) {
+                List<String> z3SessionCmd = Arrays.asList(Properties.Z3_PATH, "-smt2", "-in");
+                solveInPooledSession(z3SessionCmd, printer.printPrelude(query),
+                        printSessionTimeout(hard_timeout) + printer.printBody(query),
+                        (int) hard_timeout, stdout);
+            } else {
+                launchNewSolvingProcess(z3Cmd, queryStr, (int) hard_timeout, stdout);
+            }
             output = stdout.toString("UTF-8");
         } catch (SolverErrorException ex) {
             output = stdout.toString("UTF-8");
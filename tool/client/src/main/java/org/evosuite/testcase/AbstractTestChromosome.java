@@ -32,6 +32,14 @@ public abstract class AbstractTestChromosome<E extends AbstractTestChromosome<E>
      */
     protected TestCase test = new DefaultTestCase();
 
+    /**
+     * Whether {@link #test} may be shared with copy-on-write clones. Sharing is
+     * not counted, as clones are dropped without notice: each chromosome that
+     * shared its test case copies it on its first write, even if the other
+     * chromosomes are gone by then.
+     */
+    private boolean testShared = false;
+
     @Override
     public abstract void crossOver(E other, int position1, int position2) throws ConstructionFailedException;
 
@@ -43,6 +51,7 @@ public abstract class AbstractTestChromosome<E extends AbstractTestChromosome<E>
      * @param testCase a {@link org.evosuite.testcase.TestCase} object.
      */
     public void setTestCase(TestCase testCase) {
+        releaseTestCase();
         test = testCase;
         clearCachedResults();
         clearCachedMutationResults();
@@ -57,9 +66,55 @@ public abstract class AbstractTestChromosome<E extends AbstractTestChromosome<E>
      * @return a {@link org.evosuite.testcase.TestCase} object.
      */
     public TestCase getTestCase() {
+        unshareTestCase();
+        return test;
+    }
+
+    /**
+     * Returns the test case without copying it if it is shared with
+     * copy-on-write clones. The test case must not be modified or executed.
+     *
+     * @return a {@link org.evosuite.testcase.TestCase} object.
+     */
+    public TestCase getTestCaseForReading() {
         return test;
     }
 
+    /**
+     * Lets <code>copy</code> use the same test case object as this chromosome,
+     * until one of them needs to modify it.
+     *
+     * @param copy a freshly created chromosome
+     */
+    protected void shareTestCase(AbstractTestChromosome<E> copy) {
+        testShared = true;
+        copy.testShared = true;
+        copy.test = test;
+    }
+
+    /**
+     * Copies the test case if it may be shared with other chromosomes. Must be
+     * called before modifying {@link #test} directly.
+     */
+    protected void unshareTestCase() {
+        if (!testShared) {
+            return;
+        }
+        test = test.clone();
+        if (lastExecutionResult != null) {
+            lastExecutionResult.setTest(test);
+        }
+        testShared = false;
+    }
+
+    /**
+     * Stops sharing the test case without copying it. Must be called before
+     * replacing {@link #test} directly.
+     */
+    protected void releaseTestCase() {
+        testShared = false;
+    }
+
     public abstract ExecutionResult executeForFitnessFunction(
             TestSuiteFitnessFunction testSuiteFitnessFunction);
 }
@@ -93,6 +93,22 @@ public class DefaultTestCase implements TestCase, Serializable {
 
     private transient int triggeredNPE;
 
+    private transient long modificationCount = 0;
+
+    /**
+     * Counts the changes to the list of statements, in-place changes of the
+     * statements are counted by the statements themselves
+     */
+    private final Listener<Void> modificationListener = new Listener<Void>() {
+
+        private static final long serialVersionUID = 2880926785457221012L;
+
+        @Override
+        public void receiveEvent(Void event) {
+            modificationCount++;
+        }
+    };
+
     @Override
     public String getMUT() {
         return currentMUT;
@@ -120,6 +136,7 @@ public class DefaultTestCase implements TestCase, Serializable {
      */
     public DefaultTestCase() {
         statements = new ListenableList<>(new ArrayList<>());
+        statements.addListener(modificationListener);
         id = idGenerator.getAndIncrement();
 
         currentMUT = "";
@@ -129,6 +146,16 @@ public class DefaultTestCase implements TestCase, Serializable {
         return id;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public void incrementModificationCount() {
+        modificationCount++;
+    }
+
     /* (non-Javadoc)
      * @see org.evosuite.testcase.TestCase#accept(org.evosuite.testcase.TestVisitor)
      */
@@ -161,6 +188,7 @@ public class DefaultTestCase implements TestCase, Serializable {
                     statements.get(i).getAssertions().add(a.clone(this));
             }
         }
+        modificationCount++;
     }
 
     @Override
@@ -1022,6 +1050,7 @@ public class DefaultTestCase implements TestCase, Serializable {
     @Override
     public void setFailing() {
         isFailing = true;
+        modificationCount++;
     }
 
     /* (non-Javadoc)
@@ -1255,6 +1284,7 @@ public class DefaultTestCase implements TestCase, Serializable {
 
     public void setFailing(boolean failing) {
         isFailing = failing;
+        modificationCount++;
     }
 
     /* (non-Javadoc)
@@ -1275,6 +1305,7 @@ public class DefaultTestCase implements TestCase, Serializable {
     @Override
     public void setUnstable(boolean unstable) {
         this.unstable = unstable;
+        modificationCount++;
     }
 
     /* (non-Javadoc)
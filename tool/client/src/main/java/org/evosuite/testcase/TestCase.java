@@ -49,6 +49,21 @@ public interface TestCase extends Iterable<Statement>, Cloneable, Listenable<Voi
      */
     int getID();
 
+    /**
+     * Get the number of changes made to the statements and assertions of this
+     * test so far. The count only grows, so comparing it tells whether the test
+     * changed since it was last looked at.
+     *
+     * @return the modification count of this test
+     */
+    long getModificationCount();
+
+    /**
+     * Record a change to a statement or assertion of this test that was made
+     * in place, i.e. not by adding, removing or replacing statements
+     */
+    void incrementModificationCount();
+
     /**
      * Handle test visitor
      *
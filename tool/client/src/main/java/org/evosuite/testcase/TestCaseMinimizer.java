@@ -114,7 +114,8 @@ public class TestCaseMinimizer {
             return;
         }
         logger.info("Minimizing test case");
-
+        // statements are deleted from c.test directly
+        c.unshareTestCase();
 
         double fitness = fitnessFunction.getFitness(c);
         if (isTimeoutReached()) {
@@ -30,6 +30,8 @@ import org.evosuite.ga.localsearch.LocalSearchObjective;
 import org.evosuite.ga.operators.mutation.MutationHistory;
 import org.evosuite.runtime.util.AtMostOnceLogger;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.symbolic.BranchCondition;
 import org.evosuite.symbolic.ConcolicMutation;
 import org.evosuite.symbolic.dse.ConcolicExecutorImpl;
@@ -81,7 +83,7 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
         for (MethodCall m : this.getLastExecutionResult().getTrace().getMethodCalls()) {
             
             String executedMethod = m.className + "." + m.methodName;
-            if (executedMethod.contains("<init>") || executedMethod.equals(".")) {
+            if (isConstructorCall(executedMethod)) {
                 score += 0.1f;
                 continue;
             }
@@ -94,6 +96,17 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
         return score;
     }
 
+    /**
+     * Calls that {@link #getScore()} scores with a constant instead of the
+     * score of the method
+     *
+     * @param executedMethod class name and method name with descriptor
+     * @return
+     */
+    public static boolean isConstructorCall(String executedMethod) {
+        return executedMethod.contains("<init>") || executedMethod.equals(".");
+    }
+
     public float getScore() {
         return calculateScore();
     }
@@ -144,8 +157,33 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
      */
     @Override
     public TestChromosome clone() {
+        return copy(false);
+    }
+
+    /**
+     * Creates a copy of the chromosome that shares the test case with this one.
+     * Each of them copies the test case when it accesses it through
+     * {@link #getTestCase()} or is modified, while
+     * {@link #getTestCaseForReading()} does not copy. This avoids copying tests
+     * that are only evaluated from their cached execution results, e.g. the
+     * unchanged tests of a suite cloned to try an additional test.
+     * <p>
+     * References to the test case obtained before the call must not be used to
+     * modify it.
+     *
+     * @return
+     */
+    public TestChromosome copyOnWriteClone() {
+        return copy(true);
+    }
+
+    private TestChromosome copy(boolean copyOnWrite) {
         TestChromosome c = new TestChromosome();
-        c.test = test.clone();
+        if (copyOnWrite && (!Properties.LOCAL_SEARCH_SELECTIVE || mutationHistory.isEmpty())) {
+            shareTestCase(c);
+        } else {
+            c.test = test.clone();
+        }
         c.setFitnessValues(getFitnessValues());
         c.setPreviousFitnessValues(getPreviousFitnessValues());
         c.copyCachedResults(this);
@@ -216,6 +254,7 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
         }
         if (!Properties.CHECK_MAX_LENGTH
                 || offspring.test.size() <= Properties.CHROMOSOME_LENGTH) {
+            releaseTestCase();
             test = offspring.test;
             setChanged(true);
         }
@@ -316,6 +355,7 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
      */
     @Override
     public boolean localSearch(LocalSearchObjective<TestChromosome> objective) {
+        unshareTestCase();
         TestCaseLocalSearch<TestChromosome> localSearch =
                 TestCaseLocalSearch.selectTestCaseLocalSearch();
         return localSearch.doSearch(this, objective);
@@ -328,82 +368,88 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
      */
     @Override
     public void mutate() {
-        boolean changed = false;
-        mutationHistory.clear(); 
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.TEST_GENERATION)) {
+            unshareTestCase();
+            boolean changed = false;
+            mutationHistory.clear(); 
 
-        if (mockChange()) {
-            changed = true;
-        }
+            if (mockChange()) {
+                changed = true;
+            }
 
-        if (Properties.CHOP_MAX_LENGTH && size() >= Properties.CHROMOSOME_LENGTH) {
-            int lastPosition = getLastMutatableStatement();
-            test.chop(lastPosition + 1);
-        }
+            if (Properties.CHOP_MAX_LENGTH && size() >= Properties.CHROMOSOME_LENGTH) {
+                int lastPosition = getLastMutatableStatement();
+                test.chop(lastPosition + 1);
+            }
 
-        // Delete
-        if (Randomness.nextDouble() <= Properties.P_TEST_DELETE) {
-            logger.debug("Mutation: delete");
-            if (mutationDelete())
-                changed = true;
-        }
+            // Delete
+            if (Randomness.nextDouble() <= Properties.P_TEST_DELETE) {
+                logger.debug("Mutation: delete");
+                if (mutationDelete())
+                    changed = true;
+            }
 
-        // Change
-        if (Randomness.nextDouble() <= Properties.P_TEST_CHANGE) {
-            logger.debug("Mutation: change");
-            if (mutationChange())
-                changed = true;
-        }
+            // Change
+            if (Randomness.nextDouble() <= Properties.P_TEST_CHANGE) {
+                logger.debug("Mutation: change");
+                if (mutationChange())
+                    changed = true;
+            }
 
-        // Insert
-        if (Randomness.nextDouble() <= Properties.P_TEST_INSERT) {
-            logger.debug("Mutation: insert");
-            if (mutationInsert())
-                changed = true;
-        }
+            // Insert
+            if (Randomness.nextDouble() <= Properties.P_TEST_INSERT) {
+                logger.debug("Mutation: insert");
+                if (mutationInsert())
+                    changed = true;
+            }
 
-        if (changed) {
-            this.increaseNumberOfMutations();
-            setChanged(true);
-            test.clearCoveredGoals();
-        }
+            if (changed) {
+                this.increaseNumberOfMutations();
+                setChanged(true);
+                test.clearCoveredGoals();
+            }
 
-        test.forEach(Statement::isValid);
+            test.forEach(Statement::isValid);
+        }
     }
     
     public void guidedMutate() {
-        boolean changed = false;
-        mutationHistory.clear(); 
-        // LoggingUtils.getEvoLogger().info("CURRENT MUT FOR THE TEST: " + test.getMUT());
-        // LoggingUtils.getEvoLogger().info(test.toCode());
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.TEST_GENERATION)) {
+            unshareTestCase();
+            boolean changed = false;
+            mutationHistory.clear(); 
+            // LoggingUtils.getEvoLogger().info("CURRENT MUT FOR THE TEST: " + test.getMUT());
+            // LoggingUtils.getEvoLogger().info(test.toCode());
 
-        ClassInfo.getInstance().setCurrentMethod(test.getMUT());
+            ClassInfo.getInstance().setCurrentMethod(test.getMUT());
 
-        double rd = Randomness.nextDouble();
+            double rd = Randomness.nextDouble();
 
-        // Change
-        if (rd <= 0.5 && test.size() > 3) {
-            logger.debug("Mutation: change");            
-            if (guidedMutationChange())
-                changed = true;
-        } 
-        // else {
-        else if (rd <= 0.9) {
-            logger.debug("Mutation: insert");
-            if (guidedMutationInsert())
-                changed = true;
-        } 
-        else {
-            if (guidedMutationDelete())
-                changed = true;
-        }
+            // Change
+            if (rd <= 0.5 && test.size() > 3) {
+                logger.debug("Mutation: change");            
+                if (guidedMutationChange())
+                    changed = true;
+            } 
+            // else {
+            else if (rd <= 0.9) {
+                logger.debug("Mutation: insert");
+                if (guidedMutationInsert())
+                    changed = true;
+            } 
+            else {
+                if (guidedMutationDelete())
+                    changed = true;
+            }
 
-        if (changed) {
-            this.increaseNumberOfMutations();
-            setChanged(true);
-            test.clearCoveredGoals();
-        }
+            if (changed) {
+                this.increaseNumberOfMutations();
+                setChanged(true);
+                test.clearCoveredGoals();
+            }
 
-        test.forEach(Statement::isValid);
+            test.forEach(Statement::isValid);
+        }
     }
 
     private boolean mockChange() {
@@ -641,6 +687,7 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
      * @return
      */
     public boolean mutationInsert() {
+        unshareTestCase();
         boolean changed = false;
         final double ALPHA = Properties.P_STATEMENT_INSERTION; //0.5;
         int count = 0;
@@ -833,6 +880,7 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
      * @return
      */
     public boolean guidedMutationInsert() {
+        unshareTestCase();
         boolean changed = false;
         final double ALPHA = Properties.P_STATEMENT_INSERTION; //0.5;
         int count = 0;
@@ -963,6 +1011,8 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
     @Override
     public ExecutionResult executeForFitnessFunction(
             TestSuiteFitnessFunction testSuiteFitnessFunction) {
+        // execution updates the test case, e.g. its accessed environment
+        unshareTestCase();
         return testSuiteFitnessFunction.runTest(this.test);
     }
 
@@ -1049,6 +1099,7 @@ public final class TestChromosome extends AbstractTestChromosome<TestChromosome>
     }
 
     public void setTriggeredNPE(int pos) {
+        unshareTestCase();
         this.test.setTriggeredNPE(pos);
     }
 
@@ -58,7 +58,7 @@ public abstract class TestFitnessFunction
         logger.trace("Executing test case on original");
         ExecutionResult origResult = individual.getLastExecutionResult();
         if (origResult == null || individual.isChanged()) {
-            origResult = runTest(individual.test);
+            origResult = runTest(individual.getTestCase());
             individual.setLastExecutionResult(origResult);
             individual.setChanged(false);
         }
@@ -148,13 +148,13 @@ public abstract class TestFitnessFunction
      * @return a boolean.
      */
     public boolean isCovered(TestChromosome tc) {
-        if (tc.getTestCase().isGoalCovered(this)) {
+        if (tc.getTestCaseForReading().isGoalCovered(this)) {
             return true;
         }
 
         ExecutionResult result = tc.getLastExecutionResult();
         if (result == null || tc.isChanged()) {
-            result = runTest(tc.test);
+            result = runTest(tc.getTestCase());
             tc.setLastExecutionResult(result);
             tc.setChanged(false);
         }
@@ -173,8 +173,8 @@ public abstract class TestFitnessFunction
      */
     public boolean isCovered(TestChromosome individual, ExecutionResult result) {
         boolean covered = getFitness(individual, result) == 0.0;
-        if (covered) {
-            individual.test.addCoveredGoal(this);
+        if (covered && !individual.getTestCaseForReading().isGoalCovered(this)) {
+            individual.getTestCase().addCoveredGoal(this);
         }
         return covered;
     }
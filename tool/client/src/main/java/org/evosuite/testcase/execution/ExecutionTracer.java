@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -237,6 +238,17 @@ public class ExecutionTracer {
         // return copy;
     }
 
+    /**
+     * Mutants touched so far by the current execution. Unlike {@link #getTrace()}
+     * this does not finish the pending calls, so it can be used while a test is
+     * still running.
+     *
+     * @return the ids of the touched mutants
+     */
+    public Set<Integer> getTouchedMutants() {
+        return trace.getTouchedMutants();
+    }
+
     /**
      * Return the last explicitly thrown exception
      *
@@ -30,6 +30,9 @@ import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.runtime.util.JOptionPaneInputs;
 import org.evosuite.runtime.util.SystemInUtil;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
+import org.evosuite.statistics.NPEBenchmarkMonitor;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
 import org.slf4j.Logger;
@@ -265,14 +268,16 @@ public class TestCaseExecutor implements ThreadFactory {
      * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
      */
     public ExecutionResult execute(TestCase tc, int timeout) {
-        Scope scope = new Scope();
-        ExecutionResult result = execute(tc, scope, timeout);
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.TEST_EXECUTION)) {
+            Scope scope = new Scope();
+            ExecutionResult result = execute(tc, scope, timeout);
 
-        if (Properties.RESET_STATIC_FIELDS) {
-            logger.debug("Resetting classes after execution");
-            ClassReInitializer.getInstance().reInitializeClassesAfterTestExecution(tc, result);
+            if (Properties.RESET_STATIC_FIELDS) {
+                logger.debug("Resetting classes after execution");
+                ClassReInitializer.getInstance().reInitializeClassesAfterTestExecution(tc, result);
+            }
+            return result;
         }
-        return result;
     }
 
     /**
@@ -343,6 +348,7 @@ public class TestCaseExecutor implements ThreadFactory {
             long endTime = System.currentTimeMillis();
             timeExecuted += endTime - startTime;
             testsExecuted++;
+            NPEBenchmarkMonitor.testExecuted(result);
             return result;
         } catch (ThreadDeath t) {
             logger.warn("Caught ThreadDeath during test execution");
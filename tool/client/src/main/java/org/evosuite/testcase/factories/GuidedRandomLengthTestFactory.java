@@ -22,6 +22,8 @@ package org.evosuite.testcase.factories;
 import org.evosuite.Properties;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.DefaultTestCase;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
@@ -100,11 +102,13 @@ public class GuidedRandomLengthTestFactory implements ChromosomeFactory<TestChro
      */
     @Override
     public TestChromosome getChromosome() {
-        TestChromosome c = new TestChromosome();
-        
-        c.setTestCase(getRandomTestCase(Properties.CHROMOSOME_LENGTH));
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.TEST_GENERATION)) {
+            TestChromosome c = new TestChromosome();
 
-        return c;
+            c.setTestCase(getRandomTestCase(Properties.CHROMOSOME_LENGTH));
+
+            return c;
+        }
     }
 
     public static TestChromosome getInitializedChromosome() {
@@ -21,6 +21,8 @@ package org.evosuite.testcase.factories;
 
 import org.evosuite.Properties;
 import org.evosuite.ga.ChromosomeFactory;
+import org.evosuite.statistics.ComponentProfiler;
+import org.evosuite.statistics.ComponentProfiler.Component;
 import org.evosuite.testcase.DefaultTestCase;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
@@ -90,9 +92,11 @@ public class RandomLengthTestFactory implements ChromosomeFactory<TestChromosome
      */
     @Override
     public TestChromosome getChromosome() {
-        TestChromosome c = new TestChromosome();
-        c.setTestCase(getRandomTestCase(Properties.CHROMOSOME_LENGTH));
-        return c;
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.TEST_GENERATION)) {
+            TestChromosome c = new TestChromosome();
+            c.setTestCase(getRandomTestCase(Properties.CHROMOSOME_LENGTH));
+            return c;
+        }
     }
 
     /**
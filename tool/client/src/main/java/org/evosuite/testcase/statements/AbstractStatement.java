@@ -233,6 +233,7 @@ public abstract class AbstractStatement implements Statement, Serializable {
      */
     @Override
     public void setRetval(VariableReference newRetVal) {
+        tc.incrementModificationCount();
         this.retval = Objects.requireNonNull(newRetVal, "newRetVal cannot be null");
     }
 
@@ -262,6 +263,7 @@ public abstract class AbstractStatement implements Statement, Serializable {
 
     @Override
     public void addComment(String comment) {
+        tc.incrementModificationCount();
         this.comment += comment;
     }
 
@@ -365,6 +367,7 @@ public abstract class AbstractStatement implements Statement, Serializable {
      */
     @Override
     public void addAssertion(Assertion assertion) {
+        tc.incrementModificationCount();
         if (assertion == null) {
             logger.warn("Trying to add null assertion!");
         } else {
@@ -386,6 +389,7 @@ public abstract class AbstractStatement implements Statement, Serializable {
      */
     @Override
     public void setAssertions(Set<Assertion> assertions) {
+        tc.incrementModificationCount();
         assertions.forEach(a -> a.setStatement(this));
         this.assertions = assertions;
     }
@@ -414,6 +418,7 @@ public abstract class AbstractStatement implements Statement, Serializable {
      */
     @Override
     public void removeAssertions() {
+        tc.incrementModificationCount();
         assertions.clear();
     }
 
@@ -426,6 +431,7 @@ public abstract class AbstractStatement implements Statement, Serializable {
      */
     @Override
     public void removeAssertion(Assertion assertion) {
+        tc.incrementModificationCount();
         assertions.remove(assertion);
     }
 
@@ -539,6 +545,7 @@ public abstract class AbstractStatement implements Statement, Serializable {
      */
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
         getVariableReferences().forEach(v -> v.changeClassLoader(loader));
         assertions.forEach(a -> a.changeClassLoader(loader));
     }
@@ -306,6 +306,7 @@ public class ArrayStatement extends AbstractStatement {
      */
     @Override
     public boolean mutate(TestCase test, TestFactory factory) {
+        tc.incrementModificationCount();
         int maxAssignment = 0;
         for (Statement statement : test) {
             for (VariableReference var : statement.getVariableReferences()) {
@@ -392,6 +393,7 @@ public class ArrayStatement extends AbstractStatement {
      * @param lengths an array of int.
      */
     public void setLengths(int[] lengths) {
+        tc.incrementModificationCount();
         this.lengths = new int[lengths.length];
         System.arraycopy(lengths, 0, this.lengths, 0, lengths.length);
         ((ArrayReference) retval).setLengths(lengths);
@@ -406,6 +408,7 @@ public class ArrayStatement extends AbstractStatement {
      * @param index  an int.
      */
     public void setLength(int length, int index) {
+        tc.incrementModificationCount();
         lengths[index] = length;
         ((ArrayReference) retval).setLength(length, index);
     }
@@ -419,6 +422,7 @@ public class ArrayStatement extends AbstractStatement {
      * @param size a int.
      */
     public void setSize(int size) {
+        tc.incrementModificationCount();
         /// assert lengths.length == 1;
         this.lengths[0] = size;
         ((ArrayReference) retval).setArrayLength(size);
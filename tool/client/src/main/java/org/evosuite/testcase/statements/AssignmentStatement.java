@@ -94,6 +94,7 @@ public class AssignmentStatement extends AbstractStatement {
      * @param value
      */
     public void setValue(VariableReference value) {
+        tc.incrementModificationCount();
         this.parameter = value;
     }
 
@@ -230,6 +231,7 @@ public class AssignmentStatement extends AbstractStatement {
      */
     @Override
     public void replace(VariableReference var1, VariableReference var2) {
+        tc.incrementModificationCount();
         if (parameter.equals(var1))
             parameter = var2;
             //else if (retval.equals(var1))
@@ -386,6 +388,7 @@ public class AssignmentStatement extends AbstractStatement {
      */
     @Override
     public boolean mutate(TestCase test, TestFactory factory) {
+        tc.incrementModificationCount();
         assert (isValid());
 
         // Either mutate parameter, or source
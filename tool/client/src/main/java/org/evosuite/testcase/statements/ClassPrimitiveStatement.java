@@ -76,11 +76,13 @@ public class ClassPrimitiveStatement extends PrimitiveStatement<Class<?>> {
 
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         randomize();
     }
 
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         this.value = Properties.getTargetClassAndDontInitialise();
     }
 
@@ -116,6 +118,7 @@ public class ClassPrimitiveStatement extends PrimitiveStatement<Class<?>> {
 
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         if (!assignableClasses.isEmpty()) {
             value = Randomness.choice(assignableClasses);
         } else {
@@ -130,6 +133,7 @@ public class ClassPrimitiveStatement extends PrimitiveStatement<Class<?>> {
 
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
         super.changeClassLoader(loader);
         GenericClass<?> genericClass = GenericClassFactory.get(value);
         genericClass.changeClassLoader(loader);
@@ -132,6 +132,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
      * @param constructor a {@link java.lang.reflect.Constructor} object.
      */
     public void setConstructor(GenericConstructor constructor) {
+        tc.incrementModificationCount();
         this.constructor = constructor;
         retval.setType(constructor.getReturnType());
     }
@@ -179,6 +180,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
                         InstantiationException, CodeUnderTestException {
 
                     java.lang.reflect.Type[] parameterTypes = constructor.getParameterTypes();
+                    Class<?>[] rawParameterTypes = constructor.getConstructor().getParameterTypes();
                     for (int i = 0; i < parameters.size(); i++) {
                         VariableReference parameterVar = parameters.get(i);
                         try {
@@ -201,7 +203,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
                             throw new CodeUnderTestException(
                                     new UncompilableCodeException("Cannot assign " + parameterVar.getVariableClass().getName() + " to " + parameterTypes[i]));
                         }
-                        if (inputs[i] == null && constructor.getConstructor().getParameterTypes()[i].isPrimitive()) {
+                        if (inputs[i] == null && rawParameterTypes[i].isPrimitive()) {
                             throw new CodeUnderTestException(new NullPointerException());
                         }
 
@@ -361,6 +363,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
      */
     @Override
     public boolean mutate(TestCase test, TestFactory factory) {
+        tc.incrementModificationCount();
 
         if (Randomness.nextDouble() >= Properties.P_CHANGE_PARAMETER)
             return false;
@@ -456,6 +459,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
      */
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
         constructor.changeClassLoader(loader);
         super.changeClassLoader(loader);
     }
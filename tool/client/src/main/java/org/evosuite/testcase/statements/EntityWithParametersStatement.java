@@ -116,6 +116,7 @@ public abstract class EntityWithParametersStatement extends AbstractStatement {
      */
     @Override
     public void replace(VariableReference var1, VariableReference var2) {
+        tc.incrementModificationCount();
 
         if (retval.equals(var1)) {
             retval = var2;
@@ -181,6 +182,7 @@ public abstract class EntityWithParametersStatement extends AbstractStatement {
      * @param numParameter a int.
      */
     public void replaceParameterReference(VariableReference var, int numParameter) throws IllegalArgumentException {
+        tc.incrementModificationCount();
         Inputs.checkNull(var);
         if (numParameter < 0 || numParameter >= parameters.size()) {
             throw new IllegalArgumentException("Out of range index " + numParameter + " from list of size " + parameters.size());
@@ -145,6 +145,7 @@ public class EnumPrimitiveStatement<T extends Enum<T>> extends PrimitiveStatemen
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         if (constants.length <= 1) {
             return;
         }
@@ -187,6 +188,7 @@ public class EnumPrimitiveStatement<T extends Enum<T>> extends PrimitiveStatemen
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         if (constants.length == 0)
             return;
 
@@ -202,6 +204,7 @@ public class EnumPrimitiveStatement<T extends Enum<T>> extends PrimitiveStatemen
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         if (constants.length > 1) {
             int pos = Randomness.nextInt(constants.length);
             value = constants[pos];
@@ -218,6 +221,7 @@ public class EnumPrimitiveStatement<T extends Enum<T>> extends PrimitiveStatemen
     @SuppressWarnings("unchecked")
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
         try {
             int pos = 0;
             for (pos = 0; pos < constants.length; pos++) {
@@ -118,6 +118,7 @@ public class FieldStatement extends AbstractStatement {
      */
     @Override
     public boolean mutate(TestCase test, TestFactory factory) {
+        tc.incrementModificationCount();
 
         if (Randomness.nextDouble() >= Properties.P_CHANGE_PARAMETER)
             return false;
@@ -145,6 +146,7 @@ public class FieldStatement extends AbstractStatement {
      * @param source a {@link org.evosuite.testcase.variable.VariableReference} object.
      */
     public void setSource(VariableReference source) {
+        tc.incrementModificationCount();
         this.source = source;
     }
 
@@ -286,6 +288,7 @@ public class FieldStatement extends AbstractStatement {
      */
     @Override
     public void replace(VariableReference var1, VariableReference var2) {
+        tc.incrementModificationCount();
         if (!field.isStatic()) {
             if (source.equals(var1))
                 source = var2;
@@ -345,6 +348,7 @@ public class FieldStatement extends AbstractStatement {
      * @param field a {@link java.lang.reflect.Field} object.
      */
     public void setField(GenericField field) {
+        tc.incrementModificationCount();
         // assert (this.field.getType().equals(field.getType()));
         this.field = field;
     }
@@ -409,6 +413,7 @@ public class FieldStatement extends AbstractStatement {
      */
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
         field.changeClassLoader(loader);
         super.changeClassLoader(loader);
     }
@@ -166,6 +166,7 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
 
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
 
         targetClass.changeClassLoader(loader);
         for (MethodDescriptor descriptor : mockedMethods) {
@@ -355,6 +356,7 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
      * @return a ordered, non-null list of types of missing new inputs that will need to be provided
      */
     public List<Type> updateMockedMethods() throws ConstructionFailedException {
+        tc.incrementModificationCount();
 
         logger.debug("Executing updateMockedMethods. Parameter size: " + parameters.size());
 
@@ -456,6 +458,7 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
     }
 
     public void addMissingInputs(List<VariableReference> inputs) throws IllegalArgumentException {
+        tc.incrementModificationCount();
         Inputs.checkNull(inputs);
 
         logger.debug("Adding {} missing values", inputs.size());
@@ -492,6 +495,7 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
     }
 
     public void fillWithNullRefs() {
+        tc.incrementModificationCount();
         for (int i = 0; i < parameters.size(); i++) {
             VariableReference ref = parameters.get(i);
             if (ref == null) {
@@ -167,6 +167,7 @@ public class MethodStatement extends EntityWithParametersStatement {
      * @param method a {@link java.lang.reflect.Method} object.
      */
     public void setMethod(GenericMethod method) {
+        tc.incrementModificationCount();
         this.method = method;
     }
 
@@ -189,6 +190,7 @@ public class MethodStatement extends EntityWithParametersStatement {
      * @param callee a {@link org.evosuite.testcase.variable.VariableReference} object.
      */
     public void setCallee(VariableReference callee) {
+        tc.incrementModificationCount();
         if (!isStatic())
             this.callee = callee;
     }
@@ -229,10 +231,11 @@ public class MethodStatement extends EntityWithParametersStatement {
                     Object callee_object;
                     try {
                         java.lang.reflect.Type[] parameterTypes = method.getParameterTypes();
+                        Class<?>[] rawParameterTypes = method.getRawParameterTypes();
                         for (int i = 0; i < parameters.size(); i++) {
                             VariableReference parameterVar = parameters.get(i);
                             inputs[i] = parameterVar.getObject(scope);
-                            if (inputs[i] == null && method.getMethod().getParameterTypes()[i].isPrimitive()) {
+                            if (inputs[i] == null && rawParameterTypes[i].isPrimitive()) {
                                 throw new CodeUnderTestException(new NullPointerException());
                             }
                             if (inputs[i] != null && !TypeUtils.isAssignable(inputs[i].getClass(), parameterTypes[i])) {
@@ -262,14 +265,15 @@ public class MethodStatement extends EntityWithParametersStatement {
                     /*
                      * TODO: Sometimes we do want to cast an Object to String etc...
                      */
-                    if (method.getReturnType() instanceof Class<?>) {
-                        Class<?> returnClass = (Class<?>) method.getReturnType();
+                    java.lang.reflect.Type returnType = method.getReturnType();
+                    if (returnType instanceof Class<?>) {
+                        Class<?> returnClass = (Class<?>) returnType;
 
                         if (!returnClass.isPrimitive()
                                 && ret != null
                                 && !returnClass.isAssignableFrom(ret.getClass())) {
                             throw new CodeUnderTestException(new ClassCastException(
-                                    "Cannot assign " + method.getReturnType()
+                                    "Cannot assign " + returnType
                                             + " to variable of type " + retval.getType()));
                         }
                     }
@@ -378,6 +382,7 @@ public class MethodStatement extends EntityWithParametersStatement {
      */
     @Override
     public void replace(VariableReference oldVar, VariableReference newVar) {
+        tc.incrementModificationCount();
         super.replace(oldVar, newVar);
 
         if (isInstanceMethod()) {
@@ -569,6 +574,7 @@ public class MethodStatement extends EntityWithParametersStatement {
      */
     @Override
     public boolean mutate(TestCase test, TestFactory factory) {
+        tc.incrementModificationCount();
 
         if (Randomness.nextDouble() >= Properties.P_CHANGE_PARAMETER)
             return false;
@@ -659,6 +665,7 @@ public class MethodStatement extends EntityWithParametersStatement {
      */
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
         method.changeClassLoader(loader);
         super.changeClassLoader(loader);
     }
@@ -154,6 +154,7 @@ public class NullStatement extends PrimitiveStatement<Void> {
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         logger.info("Method delta not implemented: What is the delta for null?");
     }
 
@@ -162,6 +163,7 @@ public class NullStatement extends PrimitiveStatement<Void> {
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         logger.info("Method zero not implemented: How to zero null?");
     }
 
@@ -170,6 +172,7 @@ public class NullStatement extends PrimitiveStatement<Void> {
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         logger.info("Method randomize not implemented: How to randomize null?");
     }
 
@@ -238,6 +238,7 @@ public class PrimitiveExpression extends AbstractStatement {
      */
     @Override
     public void replace(VariableReference oldVar, VariableReference newVar) {
+        tc.incrementModificationCount();
         if (leftOperand.equals(oldVar)) {
             leftOperand = newVar;
         }
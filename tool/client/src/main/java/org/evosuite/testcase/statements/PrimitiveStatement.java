@@ -107,6 +107,7 @@ public abstract class PrimitiveStatement<T> extends AbstractStatement {
      * @param val a T object.
      */
     public void setValue(T val) {
+        tc.incrementModificationCount();
         this.value = val;
     }
 
@@ -270,6 +271,7 @@ public abstract class PrimitiveStatement<T> extends AbstractStatement {
      */
     @Override
     public void replace(VariableReference var1, VariableReference var2) {
+        tc.incrementModificationCount();
         if (retval.equals(var1)) {
             retval = var2;
         }
@@ -388,6 +390,7 @@ public abstract class PrimitiveStatement<T> extends AbstractStatement {
      */
     @Override
     public boolean mutate(TestCase test, TestFactory factory) {
+        tc.incrementModificationCount();
         if (!hasMoreThanOneValue())
             return false;
 
@@ -439,6 +442,7 @@ public abstract class PrimitiveStatement<T> extends AbstractStatement {
      */
     @Override
     public void changeClassLoader(ClassLoader loader) {
+        tc.incrementModificationCount();
         super.changeClassLoader(loader);
     }
 
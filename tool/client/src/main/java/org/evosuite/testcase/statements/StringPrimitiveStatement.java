@@ -77,6 +77,7 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         value = "";
     }
 
@@ -111,6 +112,7 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
 
         String s = value;
         if (s == null) {
@@ -167,6 +169,7 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
      * </p>
      */
     public void increment() {
+        tc.incrementModificationCount();
         String s = value;
         if (s == null) {
             randomize();
@@ -189,6 +192,7 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL)
             value = Randomness.nextString(Randomness.nextInt(Properties.STRING_LENGTH));
         else {
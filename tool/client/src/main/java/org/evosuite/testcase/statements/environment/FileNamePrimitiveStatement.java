@@ -78,6 +78,7 @@ public class FileNamePrimitiveStatement extends EnvironmentDataStatement<EvoSuit
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         randomize();
     }
 
@@ -102,6 +103,7 @@ public class FileNamePrimitiveStatement extends EnvironmentDataStatement<EvoSuit
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         String path = Randomness.choice(tc.getAccessedEnvironment().getViewOfAccessedFiles());
         if (path != null) {
             setValue(new EvoSuiteFile(path));
@@ -67,16 +67,19 @@ public class LocalAddressPrimitiveStatement extends EnvironmentDataStatement<Evo
 
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         randomize();
     }
 
     @Override
     public void zero() {
+        tc.incrementModificationCount();
 
     }
 
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
 
         EvoSuiteLocalAddress addr;
 
@@ -68,16 +68,19 @@ public class RemoteAddressPrimitiveStatement extends EnvironmentDataStatement<Ev
 
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         randomize();
     }
 
     @Override
     public void zero() {
+        tc.incrementModificationCount();
 
     }
 
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         EvoSuiteRemoteAddress addr;
 
         double threshold = 0.8; //TODO parameter
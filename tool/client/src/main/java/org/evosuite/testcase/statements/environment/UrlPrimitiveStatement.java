@@ -64,16 +64,19 @@ public class UrlPrimitiveStatement extends EnvironmentDataStatement<EvoSuiteURL>
 
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         randomize();
     }
 
     @Override
     public void zero() {
+        tc.incrementModificationCount();
 
     }
 
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         String url = Randomness.choice(tc.getAccessedEnvironment().getViewOfRemoteURLs());
         if (url != null) {
             setValue(new EvoSuiteURL(url));
@@ -61,6 +61,7 @@ public class BooleanPrimitiveStatement extends NumericalPrimitiveStatement<Boole
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         value = false;
     }
 
@@ -73,6 +74,7 @@ public class BooleanPrimitiveStatement extends NumericalPrimitiveStatement<Boole
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         value = !value;
     }
 
@@ -85,6 +87,7 @@ public class BooleanPrimitiveStatement extends NumericalPrimitiveStatement<Boole
      */
     @Override
     public void increment(long delta) {
+        tc.incrementModificationCount();
         delta();
     }
 
@@ -97,6 +100,7 @@ public class BooleanPrimitiveStatement extends NumericalPrimitiveStatement<Boole
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         value = Randomness.nextBoolean();
     }
 
@@ -109,6 +113,7 @@ public class BooleanPrimitiveStatement extends NumericalPrimitiveStatement<Boole
      */
     @Override
     public void increment() {
+        tc.incrementModificationCount();
         delta();
     }
 
@@ -154,6 +159,7 @@ public class BooleanPrimitiveStatement extends NumericalPrimitiveStatement<Boole
      */
     @Override
     public void negate() {
+        tc.incrementModificationCount();
         value = !value;
     }
 }
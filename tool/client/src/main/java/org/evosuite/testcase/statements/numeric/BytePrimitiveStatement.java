@@ -83,6 +83,7 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         value = (byte) 0;
     }
 
@@ -95,6 +96,7 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         byte delta = (byte) Math.floor(Randomness.nextGaussian() * Properties.MAX_DELTA);
         value = (byte) (value + delta);
     }
@@ -108,6 +110,7 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
      */
     @Override
     public void increment(long delta) {
+        tc.incrementModificationCount();
         value = (byte) (value + delta);
     }
 
@@ -120,6 +123,7 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL)
             value = (byte) (Randomness.nextInt(256) - 128);
         else {
@@ -137,6 +141,7 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
      */
     @Override
     public void increment() {
+        tc.incrementModificationCount();
         increment((byte) 1);
     }
 
@@ -161,6 +166,7 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
      */
     @Override
     public void setMid(Byte min, Byte max) {
+        tc.incrementModificationCount();
         value = (byte) (min + ((max - min) / 2));
     }
 
@@ -182,6 +188,7 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
      */
     @Override
     public void negate() {
+        tc.incrementModificationCount();
         value = (byte) -value;
     }
 }
@@ -63,6 +63,7 @@ public class CharPrimitiveStatement extends NumericalPrimitiveStatement<Characte
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         value = (char) 0;
     }
 
@@ -75,6 +76,7 @@ public class CharPrimitiveStatement extends NumericalPrimitiveStatement<Characte
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         int delta = Randomness.nextInt(2 * Properties.MAX_DELTA) - Properties.MAX_DELTA;
         value = (char) (value + delta);
     }
@@ -88,6 +90,7 @@ public class CharPrimitiveStatement extends NumericalPrimitiveStatement<Characte
      */
     @Override
     public void increment(long delta) {
+        tc.incrementModificationCount();
         value = (char) (value + delta);
     }
 
@@ -100,6 +103,7 @@ public class CharPrimitiveStatement extends NumericalPrimitiveStatement<Characte
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         value = Randomness.nextChar();
     }
 
@@ -112,6 +116,7 @@ public class CharPrimitiveStatement extends NumericalPrimitiveStatement<Characte
      */
     @Override
     public void increment() {
+        tc.incrementModificationCount();
         increment((char) 1);
     }
 
@@ -124,6 +129,7 @@ public class CharPrimitiveStatement extends NumericalPrimitiveStatement<Characte
      */
     @Override
     public void setMid(Character min, Character max) {
+        tc.incrementModificationCount();
         value = (char) (min + ((max - min) / 2));
     }
 
@@ -72,6 +72,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         value = 0.0;
     }
 
@@ -84,6 +85,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         double P = Randomness.nextDouble();
         if (P < 1d / 3d) {
             value += Randomness.nextGaussian() * Properties.MAX_DELTA;
@@ -104,6 +106,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void increment(long delta) {
+        tc.incrementModificationCount();
         value = value + delta;
     }
 
@@ -124,6 +127,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void increment(double delta) {
+        tc.incrementModificationCount();
         value = value + delta;
     }
 
@@ -136,6 +140,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL) {
             value = Randomness.nextGaussian() * Properties.MAX_INT;
             int precision = Randomness.nextInt(15);
@@ -155,6 +160,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void increment() {
+        tc.incrementModificationCount();
         increment(1.0);
     }
 
@@ -167,6 +173,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void setMid(Double min, Double max) {
+        tc.incrementModificationCount();
         value = min + ((max - min) / 2);
     }
 
@@ -199,6 +206,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
      */
     @Override
     public void negate() {
+        tc.incrementModificationCount();
         value = -value;
     }
 }
@@ -69,6 +69,7 @@ public class IntPrimitiveStatement extends NumericalPrimitiveStatement<Integer>
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         value = 0;
     }
 
@@ -81,6 +82,7 @@ public class IntPrimitiveStatement extends NumericalPrimitiveStatement<Integer>
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         int delta = (int) Math.floor(Randomness.nextGaussian() * Properties.MAX_DELTA);
         value = value + delta;
     }
@@ -94,6 +96,7 @@ public class IntPrimitiveStatement extends NumericalPrimitiveStatement<Integer>
      */
     @Override
     public void increment(long delta) {
+        tc.incrementModificationCount();
         value = value + (int) delta;
     }
 
@@ -106,6 +109,7 @@ public class IntPrimitiveStatement extends NumericalPrimitiveStatement<Integer>
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL) {
             value = (int) (Randomness.nextGaussian() * Properties.MAX_INT);
         } else {
@@ -123,6 +127,7 @@ public class IntPrimitiveStatement extends NumericalPrimitiveStatement<Integer>
      */
     @Override
     public void increment() {
+        tc.incrementModificationCount();
         increment(1);
     }
 
@@ -135,6 +140,7 @@ public class IntPrimitiveStatement extends NumericalPrimitiveStatement<Integer>
      */
     @Override
     public void setMid(Integer min, Integer max) {
+        tc.incrementModificationCount();
         value = min + ((max - min) / 2);
     }
 
@@ -167,6 +173,7 @@ public class IntPrimitiveStatement extends NumericalPrimitiveStatement<Integer>
      */
     @Override
     public void negate() {
+        tc.incrementModificationCount();
         value = -value;
     }
 
@@ -72,6 +72,7 @@ public abstract class NumericalPrimitiveStatement<T> extends PrimitiveStatement<
      * @param delta a double.
      */
     public void increment(double delta) {
+        tc.incrementModificationCount();
         increment((long) delta);
     }
 
@@ -69,6 +69,7 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
      */
     @Override
     public void zero() {
+        tc.incrementModificationCount();
         value = (short) 0;
     }
 
@@ -81,6 +82,7 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
      */
     @Override
     public void delta() {
+        tc.incrementModificationCount();
         short delta = (short) Math.floor(Randomness.nextGaussian() * Properties.MAX_DELTA);
         value = (short) (value + delta);
     }
@@ -94,6 +96,7 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
      */
     @Override
     public void increment(long delta) {
+        tc.incrementModificationCount();
         value = (short) (value + (short) delta);
     }
 
@@ -106,6 +109,7 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
      */
     @Override
     public void randomize() {
+        tc.incrementModificationCount();
         short max = (short) Math.min(Properties.MAX_INT, 32767);
         if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL) {
             value = (short) ((Randomness.nextGaussian() * max));
@@ -124,6 +128,7 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
      */
     @Override
     public void increment() {
+        tc.incrementModificationCount();
         increment((short) 1);
     }
 
@@ -136,6 +141,7 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
      */
     @Override
     public void setMid(Short min, Short max) {
+        tc.incrementModificationCount();
         value = (short) (min + ((max - min) / 2));
     }
 
@@ -168,6 +174,7 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
      */
     @Override
     public void negate() {
+        tc.incrementModificationCount();
         value = (short) -value;
     }
 }
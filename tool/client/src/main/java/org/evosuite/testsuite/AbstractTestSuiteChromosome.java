@@ -35,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 import static java.util.stream.Collectors.toList;
 
@@ -84,9 +85,19 @@ public abstract class AbstractTestSuiteChromosome<T extends AbstractTestSuiteChr
      * @param source a {@link org.evosuite.testsuite.AbstractTestSuiteChromosome} object.
      */
     protected AbstractTestSuiteChromosome(T source) {
+        this(source, E::clone);
+    }
+
+    /**
+     * Creates a copy of source, copying each test with the given function.
+     *
+     * @param source   a {@link org.evosuite.testsuite.AbstractTestSuiteChromosome} object.
+     * @param copyTest creates the copy of a test of source
+     */
+    protected AbstractTestSuiteChromosome(T source, UnaryOperator<E> copyTest) {
         this(source.testChromosomeFactory);
 
-        source.tests.forEach(e -> addTest(e.clone()));
+        source.tests.forEach(e -> addTest(copyTest.apply(e)));
 
         //this.setFitness(source.getFitness());
         this.setFitnessValues(source.getFitnessValues());
@@ -29,6 +29,7 @@ import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testsuite.localsearch.TestSuiteLocalSearch;
 
 import java.util.*;
+import java.util.function.UnaryOperator;
 
 import static java.util.stream.Collectors.toCollection;
 
@@ -134,6 +135,10 @@ public final class TestSuiteChromosome
         super(source);
     }
 
+    private TestSuiteChromosome(TestSuiteChromosome source, UnaryOperator<TestChromosome> copyTest) {
+        super(source, copyTest);
+    }
+
     /**
      * Add a test to a test suite
      *
@@ -170,6 +175,17 @@ public final class TestSuiteChromosome
         return new TestSuiteChromosome(this);
     }
 
+    /**
+     * Creates a copy of this test suite whose tests share their test cases with
+     * the tests of this suite until they are accessed or modified, see
+     * {@link TestChromosome#copyOnWriteClone()}
+     *
+     * @return
+     */
+    public TestSuiteChromosome copyOnWriteClone() {
+        return new TestSuiteChromosome(this, TestChromosome::copyOnWriteClone);
+    }
+
     /* (non-Javadoc)
      * @see org.evosuite.ga.Chromosome#compareSecondaryObjective(org.evosuite.ga.Chromosome)
      */
@@ -198,7 +214,7 @@ public final class TestSuiteChromosome
      */
     public void deleteTest(TestCase testCase) {
         if (testCase != null) {
-            tests.removeIf(t -> t.getTestCase().equals(testCase));
+            tests.removeIf(t -> t.getTestCaseForReading().equals(testCase));
         }
     }
     
@@ -213,14 +229,16 @@ public final class TestSuiteChromosome
     public Set<TestFitnessFunction> getCoveredGoals() {
         Set<TestFitnessFunction> goals = new LinkedHashSet<>();
         for (TestChromosome t : tests) {
-            Set<TestFitnessFunction> coveredGoals = t.getTestCase().getCoveredGoals();
+            Set<TestFitnessFunction> coveredGoals = t.getTestCaseForReading().getCoveredGoals();
             goals.addAll(coveredGoals);
         }
         return goals;
     }
 
     public void removeCoveredGoal(TestFitnessFunction f) {
-        tests.forEach(t -> t.getTestCase().removeCoveredGoal(f));
+        tests.stream()
+                .filter(t -> t.getTestCaseForReading().isGoalCovered(f))
+                .forEach(t -> t.getTestCase().removeCoveredGoal(f));
     }
 
     /**
@@ -275,9 +293,9 @@ public final class TestSuiteChromosome
             result += "Test " + i + ": \n";
             i++;
             if (test.getLastExecutionResult() != null) {
-                result += test.getTestCase().toCode(test.getLastExecutionResult().exposeExceptionMapping());
+                result += test.getTestCaseForReading().toCode(test.getLastExecutionResult().exposeExceptionMapping());
             } else {
-                result += test.getTestCase().toCode() + "\n";
+                result += test.getTestCaseForReading().toCode() + "\n";
             }
         }
         return result;
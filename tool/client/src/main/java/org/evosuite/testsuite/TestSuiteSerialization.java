@@ -120,11 +120,15 @@ public class TestSuiteSerialization {
                     if (obj instanceof TestChromosome) {
                         //this check might fail if old version is used, and EvoSuite got updated
                         TestChromosome tc = (TestChromosome) obj;
-                        for (Statement st : tc.getTestCase()) {
-                            st.changeClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
+                        try {
+                            for (Statement st : tc.getTestCase()) {
+                                st.changeClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
+                            }
+                            list.add(tc);
+                        } catch (RuntimeException e) {
+                            // the test does not fit the current classes, the next ones may still do
+                            logger.debug("Skipping a serialized test from " + target.getAbsolutePath() + " : " + e.getMessage());
                         }
-
-                        list.add(tc);
                     }
                     obj = in.readObject();
                 }
@@ -42,6 +42,16 @@ public class GenericConstructor extends GenericExecutable<GenericConstructor, Co
 
     private transient Constructor<?> constructor;
 
+    /*
+     * The exact parameter types are needed on every execution of the
+     * constructor, see GenericMethod
+     */
+    private transient Constructor<?> exactTypesConstructor;
+
+    private transient Type exactTypesOwner;
+
+    private transient Type[] exactParameterTypes;
+
     public GenericConstructor(Constructor<?> constructor, Class<?> clazz) {
         super(GenericClassFactory.get(clazz));
         this.constructor = constructor;
@@ -95,6 +105,9 @@ public class GenericConstructor extends GenericExecutable<GenericConstructor, Co
     public GenericConstructor copy() {
         GenericConstructor copy = new GenericConstructor(constructor, GenericClassFactory.get(owner));
         copyTypeVariables(copy);
+        copy.exactTypesConstructor = exactTypesConstructor;
+        copy.exactTypesOwner = exactTypesOwner;
+        copy.exactParameterTypes = exactParameterTypes;
         return copy;
     }
 
@@ -198,7 +211,18 @@ public class GenericConstructor extends GenericExecutable<GenericConstructor, Co
     }
 
     public Type[] getParameterTypes() {
-        Type[] types = getExactParameterTypes(constructor, owner.getType());
+        Type ownerType = owner.getType();
+        if (exactTypesConstructor != constructor || exactTypesOwner != ownerType
+                || exactParameterTypes == null) {
+            exactParameterTypes = getResolvedParameterTypes(ownerType);
+            exactTypesConstructor = constructor;
+            exactTypesOwner = ownerType;
+        }
+        return exactParameterTypes.clone();
+    }
+
+    private Type[] getResolvedParameterTypes(Type ownerType) {
+        Type[] types = getExactParameterTypes(constructor, ownerType);
         Type[] rawTypes = constructor.getParameterTypes();
 
         // Generic member classes should have the enclosing instance as a parameter
@@ -52,6 +52,20 @@ public class GenericMethod extends GenericExecutable<GenericMethod, Method> {
      */
     private transient Method method;
 
+    /*
+     * The exact parameter and return types are needed on every execution of
+     * the method, but resolving them through the type hierarchy is costly. They
+     * only depend on the method and the owner type, which are kept to detect
+     * when they have to be resolved again.
+     */
+    private transient Method exactTypesMethod;
+
+    private transient Type exactTypesOwner;
+
+    private transient Type[] exactParameterTypes;
+
+    private transient Type exactReturnType;
+
     /**
      * Constructs a new {@code GenericMethod} according to the specified Java Reflection {@code
      * Method} object and the given owning {@code type}.
@@ -111,6 +125,10 @@ public class GenericMethod extends GenericExecutable<GenericMethod, Method> {
     public GenericMethod copy() {
         GenericMethod copy = new GenericMethod(method, GenericClassFactory.get(owner));
         copyTypeVariables(copy);
+        copy.exactTypesMethod = exactTypesMethod;
+        copy.exactTypesOwner = exactTypesOwner;
+        copy.exactParameterTypes = exactParameterTypes;
+        copy.exactReturnType = exactReturnType;
         return copy;
     }
 
@@ -135,9 +153,23 @@ public class GenericMethod extends GenericExecutable<GenericMethod, Method> {
         return method.getDeclaringClass();
     }
 
+    private void checkExactTypes() {
+        Type ownerType = owner.getType();
+        if (exactTypesMethod != method || exactTypesOwner != ownerType) {
+            exactTypesMethod = method;
+            exactTypesOwner = ownerType;
+            exactParameterTypes = null;
+            exactReturnType = null;
+        }
+    }
+
     @Override
     public Type[] getParameterTypes() {
-        return getExactParameterTypes(method, owner.getType());
+        checkExactTypes();
+        if (exactParameterTypes == null) {
+            exactParameterTypes = getExactParameterTypes(method, exactTypesOwner);
+        }
+        return exactParameterTypes.clone();
     }
 
     @Override
@@ -175,7 +207,11 @@ public class GenericMethod extends GenericExecutable<GenericMethod, Method> {
 
     @Override
     public Type getReturnType() {
-        Type returnType = getExactReturnType(method, owner.getType());
+        checkExactTypes();
+        if (exactReturnType != null)
+            return exactReturnType;
+
+        Type returnType = getExactReturnType(method, exactTypesOwner);
         if (returnType == null) {
             LoggingUtils.getEvoLogger().info("Exact return type is null for {} with owner {}", method, owner);
             for (StackTraceElement elem : Thread.currentThread().getStackTrace()) {
@@ -185,6 +221,7 @@ public class GenericMethod extends GenericExecutable<GenericMethod, Method> {
 
             returnType = method.getGenericReturnType();
         }
+        exactReturnType = returnType;
         return returnType;
     }
 
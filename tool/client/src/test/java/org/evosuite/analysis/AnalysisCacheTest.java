@@ -0,0 +1,138 @@
+package org.evosuite.analysis;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class AnalysisCacheTest {
+
+    private File directory;
+
+    private final Map<String, AnalysisCache.MethodResult> previous = new HashMap<>();
+
+    private final Map<String, Long> previousFields = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("npe_analysis").toFile();
+
+        // a() calls b(), b() reads f, c() writes f, d() is independent
+        previous.put("Foo.a()", method(1, "Foo.b()", null, null));
+        previous.put("Foo.b()", method(2, null, "Foo#f", null));
+        previous.put("Foo.c()", method(3, null, null, "Foo#f"));
+        previous.put("Foo.d()", method(4, null, null, null));
+        previousFields.put("Foo#f", 10L);
+        previousFields.put("Foo#g", 11L);
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    private static AnalysisCache.MethodResult method(long hash, String callee, String read, String written) {
+        AnalysisCache.MethodResult result = new AnalysisCache.MethodResult(hash);
+        if (callee != null) result.callees.add(callee);
+        if (read != null) result.readFields.add(read);
+        if (written != null) result.writtenFields.add(written);
+        return result;
+    }
+
+    private Map<String, AnalysisCache.MethodResult> copy() {
+        Map<String, AnalysisCache.MethodResult> current = new HashMap<>();
+        for (Map.Entry<String, AnalysisCache.MethodResult> entry : previous.entrySet()) {
+            AnalysisCache.MethodResult old = entry.getValue();
+            AnalysisCache.MethodResult result = new AnalysisCache.MethodResult(old.hash);
+            result.callees.addAll(old.callees);
+            result.readFields.addAll(old.readFields);
+            result.writtenFields.addAll(old.writtenFields);
+            current.put(entry.getKey(), result);
+        }
+        return current;
+    }
+
+    @Test
+    public void testNothingChanged() {
+        assertTrue(AnalysisCache.getInvalidated(previous, copy(), previousFields, new HashMap<>(previousFields)).isEmpty());
+    }
+
+    @Test
+    public void testCallersOfChangedMethodsAreInvalidated() {
+        Map<String, AnalysisCache.MethodResult> current = copy();
+        current.put("Foo.b()", method(20, null, "Foo#f", null));
+
+        assertEquals(new HashSet<>(Arrays.asList("Foo.a()", "Foo.b()")),
+                AnalysisCache.getInvalidated(previous, current, previousFields, previousFields));
+    }
+
+    @Test
+    public void testReadersOfWrittenFieldsAreInvalidated() {
+        Map<String, AnalysisCache.MethodResult> current = copy();
+        current.put("Foo.c()", method(30, null, null, "Foo#f"));
+
+        assertEquals(new HashSet<>(Arrays.asList("Foo.a()", "Foo.b()", "Foo.c()")),
+                AnalysisCache.getInvalidated(previous, current, previousFields, previousFields));
+    }
+
+    @Test
+    public void testRemovedMethodsAndChangedFields() {
+        Map<String, AnalysisCache.MethodResult> current = copy();
+        current.remove("Foo.c()");
+
+        // the readers of the fields c() wrote are invalidated
+        assertEquals(new HashSet<>(Arrays.asList("Foo.a()", "Foo.b()")),
+                AnalysisCache.getInvalidated(previous, current, previousFields, previousFields));
+
+        Map<String, Long> fields = new HashMap<>(previousFields);
+        fields.put("Foo#f", 12L);
+        assertEquals(new HashSet<>(Arrays.asList("Foo.a()", "Foo.b()")),
+                AnalysisCache.getInvalidated(previous, copy(), previousFields, fields));
+    }
+
+    @Test
+    public void testStoreAndLoad() throws Exception {
+        AnalysisCache.MethodResult a = previous.get("Foo.a()");
+        a.returnNull = true;
+        a.target = true;
+        a.npeLines = new int[]{2, 5};
+        a.npePaths = new int[]{3, 1};
+
+        AnalysisCache cache = new AnalysisCache(new File(directory, "Foo.bin"));
+        cache.store("Foo", 42L, previousFields, previous);
+
+        Map<String, Long> fields = new HashMap<>();
+        Map<String, AnalysisCache.MethodResult> methods = new HashMap<>();
+        assertFalse(cache.load("Foo", 43L, fields, methods));
+        assertFalse(cache.load("Bar", 42L, fields, methods));
+        assertTrue(cache.load("Foo", 42L, fields, methods));
+
+        assertEquals(previousFields, fields);
+        assertEquals(previous.keySet(), methods.keySet());
+
+        AnalysisCache.MethodResult loaded = methods.get("Foo.a()");
+        assertEquals(1, loaded.hash);
+        assertEquals(a.callees, loaded.callees);
+        assertEquals(Boolean.TRUE, loaded.returnNull);
+        assertTrue(loaded.target);
+        assertArrayEquals(new int[]{2, 5}, loaded.npeLines);
+        assertArrayEquals(new int[]{3, 1}, loaded.npePaths);
+
+        assertNull(methods.get("Foo.d()").returnNull);
+        assertEquals(previous.get("Foo.c()").writtenFields, methods.get("Foo.c()").writtenFields);
+    }
+}
@@ -0,0 +1,64 @@
+package org.evosuite.analysis;
+
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NPECandidateIndexTest {
+
+    private NPECandidateIndex index;
+
+    @Before
+    public void setUp() {
+        NPECandidateIndex.resetSingleton();
+        index = NPECandidateIndex.getInstance();
+    }
+
+    @Test
+    public void testFoundLines() {
+        index.addCandidate("com.example.Foo", 12);
+
+        assertTrue(index.markFound("com.example.Foo$Inner", 12));
+        assertFalse(index.markFound("com.example.Foo", 12));
+        assertFalse(index.markFound("com.example.Foo$1", 12));
+
+        // lines without candidates are recorded too
+        assertTrue(index.markFound("com.example.Foo", 20));
+        assertFalse(index.markFound("com.example.Foo", 20));
+        assertTrue(index.markFound("com.example.Bar", 20));
+
+        assertFalse(index.markFound("com.example.Foo", -1));
+    }
+
+    @Test
+    public void testCoveredCandidates() {
+        index.addCandidate("com.example.Covered", 3);
+        index.addCandidate("com.example.Covered$Inner", 4);
+        // the same line again is the same candidate
+        index.addCandidate("com.example.Covered", 3);
+
+        BasicBlockCoverage coverage = BasicBlockCoverage.getInstance();
+        int method = coverage.registerMethod("com.example.Covered$Inner", "run()V", new int[][]{{2}, {3}, {5}});
+        coverage.enable();
+        try {
+            BasicBlockCoverage.passedBlock(method, 1);
+            coverage.update();
+        } finally {
+            coverage.reset();
+        }
+
+        // reset() forgets the covered lines
+        assertEquals(0, index.getNumCoveredCandidates());
+
+        coverage.enable();
+        try {
+            BasicBlockCoverage.passedBlock(method, 1);
+            coverage.update();
+            assertEquals(1, index.getNumCoveredCandidates());
+        } finally {
+            coverage.reset();
+        }
+    }
+}
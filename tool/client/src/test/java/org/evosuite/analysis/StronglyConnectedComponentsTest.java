@@ -0,0 +1,46 @@
+package org.evosuite.analysis;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StronglyConnectedComponentsTest {
+
+    private static List<int[]> graph(int[]... next) {
+        List<int[]> result = new ArrayList<>();
+        for (int[] n : next) result.add(n);
+        return result;
+    }
+
+    @Test
+    public void testCyclesAreGrouped() {
+        // 0 -> 1 <-> 2 -> 3, 3 -> 3
+        int[] component = StronglyConnectedComponents.compute(graph(
+                new int[]{1}, new int[]{2}, new int[]{1, 3}, new int[]{3}));
+
+        assertEquals(3, StronglyConnectedComponents.count(component));
+        assertEquals(component[1], component[2]);
+        assertTrue(component[0] != component[1]);
+        assertTrue(component[2] != component[3]);
+    }
+
+    @Test
+    public void testCalleesAreNumberedFirst() {
+        // 0 -> 1 -> 2, 0 -> 2, 3 -> 0
+        int[] component = StronglyConnectedComponents.compute(graph(
+                new int[]{1, 2}, new int[]{2}, new int[0], new int[]{0}));
+
+        assertEquals(4, StronglyConnectedComponents.count(component));
+        assertTrue(component[2] < component[1]);
+        assertTrue(component[1] < component[0]);
+        assertTrue(component[0] < component[3]);
+    }
+
+    @Test
+    public void testEmptyGraph() {
+        assertEquals(0, StronglyConnectedComponents.count(StronglyConnectedComponents.compute(graph())));
+    }
+}
@@ -0,0 +1,106 @@
+package org.evosuite.analysis.controlflow;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class ReachabilityIndexTest {
+
+    private final ControlFlowGraph graph = new ControlFlowGraph();
+
+    private ControlFlowNode node(BranchKind kind) {
+        ControlFlowNode n = new ControlFlowNode(null, graph, kind);
+        graph.addVertex(n);
+        return n;
+    }
+
+    @Test
+    public void testLoopIsOneComponent() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode head = node(BranchKind.LOOPENTRY);
+        ControlFlowNode body = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, head);
+        graph.addEdge(head, body);
+        graph.addEdge(body, head);
+        graph.addEdge(head, exit);
+
+        ReachabilityIndex index = graph.getReachabilityIndex();
+
+        assertEquals(3, index.getNumberOfComponents());
+        assertTrue(index.reaches(begin, exit));
+        assertTrue(index.reaches(body, body));
+        assertFalse(index.reaches(begin, begin));
+        assertFalse(index.reaches(exit, head));
+
+        assertEquals(new HashSet<>(Arrays.asList(begin, head, body)), index.getPredecessors(exit));
+        assertEquals(new HashSet<>(Arrays.asList(begin, head, body)), index.getPredecessors(head));
+        assertEquals(new HashSet<>(Arrays.asList(head, body, exit)), index.getSuccessors(body));
+        assertTrue(index.getPredecessors(begin).isEmpty());
+    }
+
+    @Test
+    public void testBranchesDoNotReachEachOther() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode left = node(BranchKind.STATEMENT);
+        ControlFlowNode right = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, left);
+        graph.addEdge(begin, right);
+        graph.addEdge(left, exit);
+        graph.addEdge(right, exit);
+
+        ReachabilityIndex index = graph.getReachabilityIndex();
+
+        assertFalse(index.reaches(left, right));
+        assertFalse(index.reaches(right, left));
+        assertEquals(new HashSet<>(Arrays.asList(begin, left, right)), index.getPredecessors(exit));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenTheGraphChanges() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+
+        assertFalse(graph.getReachabilityIndex().reaches(begin, exit));
+
+        graph.addEdge(begin, exit);
+        assertTrue(graph.getReachabilityIndex().reaches(begin, exit));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenEdgesAreRemoved() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode body = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, body);
+        ControlFlowEdge edge = graph.addEdge(body, exit);
+        assertTrue(graph.getReachabilityIndex().reaches(begin, exit));
+
+        graph.removeEdge(begin, body);
+        assertFalse(graph.getReachabilityIndex().reaches(begin, exit));
+        assertTrue(graph.getReachabilityIndex().reaches(body, exit));
+
+        graph.removeEdge(edge);
+        assertFalse(graph.getReachabilityIndex().reaches(body, exit));
+
+        assertTrue(graph.addEdge(body, exit, edge));
+        assertTrue(graph.getReachabilityIndex().reaches(body, exit));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenNodesAreRemoved() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode body = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, body);
+        graph.addEdge(body, exit);
+        assertTrue(graph.getReachabilityIndex().reaches(begin, exit));
+
+        graph.removeVertex(body);
+        assertFalse(graph.getReachabilityIndex().reaches(begin, exit));
+    }
+}
@@ -0,0 +1,150 @@
+package org.evosuite.analysis.dataflow;
+
+import org.evosuite.analysis.controlflow.BranchKind;
+import org.evosuite.analysis.controlflow.ControlFlowGraph;
+import org.evosuite.analysis.controlflow.ControlFlowNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class DataflowAnalysisTest {
+
+    private ControlFlowGraph graph;
+
+    private final Map<ControlFlowNode, BitSet> gen = new HashMap<>();
+
+    private final Map<ControlFlowNode, BitSet> kill = new HashMap<>();
+
+    @Before
+    public void setUp() {
+        graph = new ControlFlowGraph();
+        gen.clear();
+        kill.clear();
+    }
+
+    private ControlFlowNode node(BranchKind kind) {
+        ControlFlowNode n = new ControlFlowNode(null, graph, kind);
+        graph.addVertex(n);
+        return n;
+    }
+
+    private static BitSet bits(int... facts) {
+        BitSet result = new BitSet();
+        for (int f : facts) result.set(f);
+        return result;
+    }
+
+    private DataflowAnalysis analysis(DataflowAnalysis.Direction direction, boolean may) {
+        return new DataflowAnalysis(graph, direction, may) {
+            @Override
+            protected int getNumberOfFacts() {
+                return 3;
+            }
+
+            @Override
+            protected BitSet gen(ControlFlowNode n) {
+                return gen.getOrDefault(n, EMPTY);
+            }
+
+            @Override
+            protected BitSet kill(ControlFlowNode n) {
+                return kill.getOrDefault(n, EMPTY);
+            }
+        };
+    }
+
+    @Test
+    public void testMayAndMustJoinOfBranches() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode left = node(BranchKind.STATEMENT);
+        ControlFlowNode right = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, left);
+        graph.addEdge(begin, right);
+        graph.addEdge(left, exit);
+        graph.addEdge(right, exit);
+
+        gen.put(begin, bits(0));
+        gen.put(left, bits(1));
+        gen.put(right, bits(2));
+
+        DataflowAnalysis may = analysis(DataflowAnalysis.Direction.FORWARD, true);
+        may.solve();
+        assertEquals(bits(0, 1, 2), may.getIn(exit));
+
+        DataflowAnalysis must = analysis(DataflowAnalysis.Direction.FORWARD, false);
+        must.solve();
+        assertEquals(bits(0), must.getIn(exit));
+        assertEquals(bits(0, 1), must.getOut(left));
+    }
+
+    @Test
+    public void testLoopReachesFixedPoint() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode head = node(BranchKind.LOOPENTRY);
+        ControlFlowNode body = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, head);
+        graph.addEdge(head, body);
+        graph.addEdge(body, head).setBackEdge(true);
+        graph.addEdge(head, exit);
+
+        gen.put(begin, bits(0));
+        kill.put(body, bits(0));
+        gen.put(body, bits(1));
+
+        DataflowAnalysis may = analysis(DataflowAnalysis.Direction.FORWARD, true);
+        may.solve();
+        assertEquals(bits(0, 1), may.getIn(head));
+        assertEquals(bits(0, 1), may.getIn(exit));
+
+        DataflowAnalysis must = analysis(DataflowAnalysis.Direction.FORWARD, false);
+        must.solve();
+        assertEquals(bits(), must.getIn(exit));
+        assertEquals(bits(1), must.getOut(body));
+    }
+
+    @Test
+    public void testBackwardAnalysis() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode first = node(BranchKind.STATEMENT);
+        ControlFlowNode second = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, first);
+        graph.addEdge(first, second);
+        graph.addEdge(second, exit);
+
+        // like liveness: second uses 0, first overwrites it
+        gen.put(second, bits(0));
+        kill.put(first, bits(0));
+        gen.put(first, bits(2));
+
+        DataflowAnalysis backward = analysis(DataflowAnalysis.Direction.BACKWARD, true);
+        backward.solve();
+        assertEquals(bits(0), backward.getOut(first));
+        assertEquals(bits(2), backward.getIn(first));
+        assertEquals(bits(2), backward.getOut(begin));
+        assertEquals(bits(), backward.getIn(exit));
+    }
+
+    @Test
+    public void testBoundaryOfUnreachableNodes() {
+        ControlFlowNode begin = node(BranchKind.BEGIN);
+        ControlFlowNode dead = node(BranchKind.STATEMENT);
+        ControlFlowNode exit = node(BranchKind.EXIT);
+        graph.addEdge(begin, exit);
+        graph.addEdge(dead, exit);
+
+        gen.put(begin, bits(0));
+
+        DataflowAnalysis must = analysis(DataflowAnalysis.Direction.FORWARD, false);
+        must.solve();
+        assertEquals(bits(), must.getIn(exit));
+        assertTrue(must.getIterations() >= 3);
+    }
+}
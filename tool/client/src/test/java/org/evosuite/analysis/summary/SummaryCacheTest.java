@@ -0,0 +1,92 @@
+package org.evosuite.analysis.summary;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class SummaryCacheTest {
+
+    private File directory;
+
+    private SummaryCache cache;
+
+    private final Map<String, Long> stamps = new TreeMap<>();
+
+    private final Map<String, MethodSummary> summaries = new HashMap<>();
+
+    private final Map<String, String> fallbackKeys = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("npe_summaries").toFile();
+        cache = new SummaryCache(new File(directory, "summaries.bin"));
+
+        stamps.put("/src/a/Foo.java", 1L);
+        stamps.put("/src/a/Bar.java", 2L);
+
+        BitSet dereferenced = new BitSet();
+        dereferenced.set(1);
+        dereferenced.set(70);
+        summaries.put("a.Foo.get(int)", new MethodSummary(true, dereferenced,
+                new HashSet<>(Arrays.asList(MethodSummary.fieldKey("a.Foo", "value"), MethodSummary.fieldKey("a.Bar", "next")))));
+        summaries.put("a.Bar.size()", new MethodSummary(false, new BitSet(), Collections.emptySet()));
+        fallbackKeys.put("a.Foo.get(int)", "a.Foo.get/1");
+        fallbackKeys.put("a.Bar.size()", "a.Bar.size/0");
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testSummariesAreStored() throws Exception {
+        cache.store("/src", stamps, summaries, fallbackKeys);
+
+        Map<String, MethodSummary> loaded = new HashMap<>();
+        Map<String, String> loadedKeys = new HashMap<>();
+        assertTrue(cache.load("/src", stamps, loaded, loadedKeys));
+        assertEquals(summaries, loaded);
+        assertEquals(fallbackKeys, loadedKeys);
+        assertTrue(loaded.get("a.Foo.get(int)").isDereferenced(70));
+        assertFalse(loaded.get("a.Foo.get(int)").isDereferenced(0));
+    }
+
+    @Test
+    public void testChangedSourcesInvalidateTheCache() throws Exception {
+        cache.store("/src", stamps, summaries, fallbackKeys);
+
+        assertFalse(cache.load("/other", stamps, new HashMap<>(), new HashMap<>()));
+
+        Map<String, Long> modified = new TreeMap<>(stamps);
+        modified.put("/src/a/Foo.java", 3L);
+        assertFalse(cache.load("/src", modified, new HashMap<>(), new HashMap<>()));
+
+        Map<String, Long> added = new TreeMap<>(stamps);
+        added.put("/src/a/Baz.java", 1L);
+        assertFalse(cache.load("/src", added, new HashMap<>(), new HashMap<>()));
+    }
+
+    @Test
+    public void testMissingCache() {
+        assertFalse(cache.load("/src", stamps, new HashMap<>(), new HashMap<>()));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.assertion;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.execution.ExecutionObserver;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.Scope;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PrefixSkippingObserverTest {
+
+    private static class RecordingObserver extends ExecutionObserver {
+
+        private final List<Integer> observed = new ArrayList<>();
+
+        @Override
+        public void output(int position, String output) {
+        }
+
+        @Override
+        public void beforeStatement(Statement statement, Scope scope) {
+        }
+
+        @Override
+        public void afterStatement(Statement statement, Scope scope, Throwable exception) {
+            observed.add(statement.getPosition());
+        }
+
+        @Override
+        public void testExecutionFinished(ExecutionResult r, Scope s) {
+        }
+
+        @Override
+        public void clear() {
+            observed.clear();
+        }
+    }
+
+    private static DefaultTestCase createTest(int size) {
+        DefaultTestCase test = new DefaultTestCase();
+        for (int i = 0; i < size; i++) {
+            test.addStatement(new IntPrimitiveStatement(test, i));
+        }
+        return test;
+    }
+
+    private static void execute(DefaultTestCase test, ExecutionObserver observer) {
+        Scope scope = new Scope();
+        for (int i = 0; i < test.size(); i++) {
+            observer.beforeStatement(test.getStatement(i), scope);
+            observer.afterStatement(test.getStatement(i), scope, null);
+        }
+    }
+
+    @Test
+    public void testPrefixIsNotObserved() {
+        DefaultTestCase test = createTest(4);
+        RecordingObserver recording = new RecordingObserver();
+        PrefixSkippingObserver observer = new PrefixSkippingObserver(recording);
+
+        execute(test, observer);
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3), recording.observed);
+
+        observer.clear();
+        observer.setFirstObservedPosition(2);
+        execute(test, observer);
+        Assert.assertEquals(Arrays.asList(2, 3), recording.observed);
+    }
+
+    @Test
+    public void testFirstReachingStatement() {
+        DefaultTestCase test = createTest(4);
+        Set<Integer> touched = new HashSet<>();
+        MutantReachObserver observer = new MutantReachObserver(() -> touched);
+        Scope scope = new Scope();
+
+        observer.beforeStatement(test.getStatement(0), scope);
+        observer.afterStatement(test.getStatement(0), scope, null);
+        observer.beforeStatement(test.getStatement(1), scope);
+        touched.add(7);
+        observer.afterStatement(test.getStatement(1), scope, null);
+        // touched after the statement was observed, e.g. by another observer
+        touched.add(8);
+        observer.beforeStatement(test.getStatement(2), scope);
+        observer.afterStatement(test.getStatement(2), scope, null);
+        touched.add(7);
+        touched.add(9);
+        observer.testExecutionFinished(null, scope);
+
+        Assert.assertEquals(1, observer.getFirstPosition(7));
+        Assert.assertEquals(1, observer.getFirstPosition(8));
+        Assert.assertEquals(2, observer.getFirstPosition(9));
+        Assert.assertEquals(0, observer.getFirstPosition(10));
+
+        observer.clear();
+        Assert.assertTrue(observer.getFirstPositions().isEmpty());
+    }
+}
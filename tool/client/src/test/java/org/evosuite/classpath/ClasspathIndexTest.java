@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.classpath;
+
+import com.examples.with.different.packagename.classpath.Foo;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.Opcodes;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.Assert.*;
+
+public class ClasspathIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+
+    private File jar;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = folder.newFolder("classpath_index");
+        jar = new File(directory, "classes.jar");
+    }
+
+    private void writeJar(Class<?>... classes) throws Exception {
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+            for (Class<?> clazz : classes) {
+                String resource = clazz.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new JarEntry(resource));
+                try (InputStream in = ClassLoader.getSystemResourceAsStream(resource)) {
+                    byte[] buffer = new byte[4096];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                    }
+                }
+                out.closeEntry();
+            }
+        }
+    }
+
+    @Test
+    public void testHeadersAreStored() throws Exception {
+        writeJar(Foo.class, Runnable.class);
+        ClasspathIndex index = new ClasspathIndex(new File(directory, "index"));
+
+        Map<String, Integer> classes = index.getClasses(jar);
+        assertEquals(2, classes.size());
+        assertEquals(0, classes.get(Foo.class.getName()) & Opcodes.ACC_INTERFACE);
+        assertEquals(ClasspathIndex.TESTABLE, classes.get(Foo.class.getName()) & ClasspathIndex.TESTABLE);
+        assertEquals(Opcodes.ACC_INTERFACE, classes.get("java.lang.Runnable") & Opcodes.ACC_INTERFACE);
+
+        String[] indexFiles = new File(directory, "index").list();
+        assertNotNull(indexFiles);
+        assertEquals(1, indexFiles.length);
+
+        // second lookup is answered by the index, without a jar scan
+        assertEquals(classes, index.getClasses(jar));
+    }
+
+    @Test
+    public void testChangedJarIsRescanned() throws Exception {
+        writeJar(Foo.class);
+        ClasspathIndex index = new ClasspathIndex(new File(directory, "index"));
+        assertEquals(1, index.getClasses(jar).size());
+
+        writeJar(Foo.class, Runnable.class);
+        Map<String, Integer> classes = index.getClasses(jar);
+        assertEquals(2, classes.size());
+        assertTrue(classes.containsKey("java.lang.Runnable"));
+    }
+
+    @Test
+    public void testScanWithoutHeaders() throws Exception {
+        writeJar(Foo.class);
+        Map<String, Integer> classes = ClasspathIndex.scan(jar, false);
+        assertEquals(ClasspathIndex.UNKNOWN, (int) classes.get(Foo.class.getName()));
+    }
+}
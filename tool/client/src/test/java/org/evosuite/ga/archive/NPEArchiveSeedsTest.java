@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.archive;
+
+import org.evosuite.Properties;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+public class NPEArchiveSeedsTest {
+
+    @Before
+    public void setUp() {
+        Properties.TARGET_CLASS = "com.example.Foo";
+    }
+
+    @After
+    public void tearDown() {
+        Properties.getInstance().resetToDefaults();
+    }
+
+    private static ExecutionResult createResult(Throwable exception, String... classes) {
+        DefaultTestCase tc = new DefaultTestCase();
+        tc.addStatement(new IntPrimitiveStatement(tc, 1));
+
+        ExecutionResult result = new ExecutionResult(tc);
+        if (exception != null) {
+            StackTraceElement[] trace = new StackTraceElement[classes.length];
+            for (int i = 0; i < classes.length; i++) {
+                trace[i] = new StackTraceElement(classes[i], "bar", "Foo.java", 10 + i);
+            }
+            exception.setStackTrace(trace);
+            result.reportNewThrownException(0, exception);
+        }
+        return result;
+    }
+
+    @Test
+    public void testNPEInTargetClass() {
+        assertTrue(NPEArchiveSeeds.throwsNPEInTargetClass(
+                createResult(new NullPointerException(), "com.example.Foo")));
+        assertTrue(NPEArchiveSeeds.throwsNPEInTargetClass(
+                createResult(new NullPointerException(), "java.util.Objects", "com.example.Foo$Inner")));
+
+        assertFalse(NPEArchiveSeeds.throwsNPEInTargetClass(createResult(null)));
+        assertFalse(NPEArchiveSeeds.throwsNPEInTargetClass(
+                createResult(new NullPointerException(), "com.example.FooBar")));
+        assertFalse(NPEArchiveSeeds.throwsNPEInTargetClass(
+                createResult(new IllegalStateException(), "com.example.Foo")));
+    }
+
+    @Test
+    public void testSeedsAreCopiedOnce() {
+        DefaultTestCase tc = new DefaultTestCase();
+        tc.addStatement(new IntPrimitiveStatement(tc, 1));
+        TestChromosome test = new TestChromosome();
+        test.setTestCase(tc);
+
+        NPEArchiveSeeds seeds = new NPEArchiveSeeds();
+        seeds.add(test);
+        seeds.add(test);
+        assertEquals(1, seeds.getNumSeeds());
+
+        // later changes of the test do not change the seed
+        tc.addStatement(new IntPrimitiveStatement(tc, 2));
+        seeds.add(test);
+        assertEquals(2, seeds.getNumSeeds());
+    }
+
+    @Test
+    public void testFile() {
+        Properties.CTG_DIR = ".evosuite";
+        assertEquals(new File(".evosuite", "npe_seeds" + File.separator + "com.example.Foo.ser"),
+                NPEArchiveSeeds.getFile());
+
+        Properties.NPE_WARM_START_FILE = "seeds.ser";
+        assertEquals(new File("seeds.ser").getAbsoluteFile(), NPEArchiveSeeds.getFile());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.archive;
+
+import org.evosuite.Properties;
+import org.evosuite.coverage.method.MethodCoverageTestFitness;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTraceImpl;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NPEArchiveTest {
+
+    private NPEArchive archive;
+
+    @Before
+    public void setUp() {
+        Properties.NPETEST_ON = true;
+        archive = new NPEArchive();
+    }
+
+    @After
+    public void tearDown() {
+        Properties.getInstance().resetToDefaults();
+    }
+
+    /**
+     * A test with one statement per value, which throws an NPE at the given
+     * line unless it is negative
+     */
+    private static TestChromosome createTest(int npeLine, int... values) {
+        DefaultTestCase tc = new DefaultTestCase();
+        for (int value : values) {
+            tc.addStatement(new IntPrimitiveStatement(tc, value));
+        }
+        TestChromosome test = new TestChromosome();
+        test.setTestCase(tc);
+
+        ExecutionResult result = new ExecutionResult(tc);
+        result.setTrace(new ExecutionTraceImpl());
+        if (npeLine >= 0) {
+            NullPointerException npe = new NullPointerException();
+            npe.setStackTrace(new StackTraceElement[]{
+                    new StackTraceElement("com.example.Foo", "bar", "Foo.java", npeLine)});
+            result.reportNewThrownException(values.length - 1, npe);
+        }
+        test.setLastExecutionResult(result);
+        return test;
+    }
+
+    @Test
+    public void testArchivedTestsDoNotKeepExecutionResults() {
+        TestChromosome test = createTest(-1, 1, 2);
+        archive.updateArchive(test);
+
+        assertNotNull(test.getLastExecutionResult());
+        TestChromosome archived = archive.getStoredArchives().iterator().next();
+        assertEquals(test, archived);
+        assertNotSame(test, archived);
+        assertNull(archived.getLastExecutionResult());
+    }
+
+    @Test
+    public void testCoveringSolutionsDoNotKeepExecutionResults() {
+        Properties.CRITERION = new Properties.Criterion[]{Properties.Criterion.METHOD};
+        MethodCoverageTestFitness target = new MethodCoverageTestFitness("com.example.Foo", "bar()V");
+        archive.addTarget(target);
+
+        TestChromosome test = createTest(-1, 1, 2);
+        archive.updateArchive(target, test, 0.0);
+
+        TestChromosome solution = archive.getSolution(target);
+        assertEquals(test, solution);
+        assertNull(solution.getLastExecutionResult());
+        assertTrue(archive.getStoredArchives().contains(solution));
+    }
+
+    @Test
+    public void testUnboundedByDefault() {
+        for (int i = 0; i < 20; i++) {
+            archive.updateArchive(createTest(-1, i));
+        }
+        assertEquals(20, archive.getStoredArchives().size());
+        assertEquals(0, archive.getNumberOfEvictedTests());
+    }
+
+    @Test
+    public void testOldestIsEvicted() {
+        Properties.NPE_ARCHIVE_MAX_SIZE = 2;
+        Properties.NPE_ARCHIVE_EVICTION = Properties.NPEArchiveEviction.OLDEST;
+
+        TestChromosome first = createTest(-1, 1);
+        archive.updateArchive(first);
+        archive.updateArchive(createTest(-1, 2));
+        archive.updateArchive(createTest(-1, 3));
+
+        assertEquals(2, archive.getStoredArchives().size());
+        assertFalse(archive.getStoredArchives().contains(first));
+        assertEquals(1, archive.getNumberOfEvictedTests());
+    }
+
+    @Test
+    public void testDominatedIsEvicted() {
+        Properties.NPE_ARCHIVE_MAX_SIZE = 3;
+        Properties.NPE_ARCHIVE_EVICTION = Properties.NPEArchiveEviction.DOMINATED;
+
+        TestChromosome longNPE = createTest(10, 1, 2, 3);
+        TestChromosome otherNPE = createTest(20, 4, 5, 6, 7);
+        TestChromosome shortNPE = createTest(10, 8);
+        archive.updateArchive(longNPE);
+        archive.updateArchive(otherNPE);
+        archive.updateArchive(shortNPE);
+        archive.updateArchive(createTest(-1, 9));
+
+        // otherNPE is longer, but no shorter test throws its NPE
+        assertFalse(archive.getStoredArchives().contains(longNPE));
+        assertTrue(archive.getStoredArchives().contains(otherNPE));
+        assertTrue(archive.getStoredArchives().contains(shortNPE));
+    }
+
+    @Test
+    public void testStatementsBound() {
+        Properties.NPE_ARCHIVE_MAX_STATEMENTS = 5;
+        Properties.NPE_ARCHIVE_EVICTION = Properties.NPEArchiveEviction.OLDEST;
+
+        archive.updateArchive(createTest(-1, 1, 2, 3));
+        archive.updateArchive(createTest(-1, 4, 5));
+        assertEquals(2, archive.getStoredArchives().size());
+
+        archive.updateArchive(createTest(-1, 6));
+        assertEquals(2, archive.getStoredArchives().size());
+    }
+
+    @Test
+    public void testReset() {
+        archive.updateArchive(createTest(-1, 1));
+        archive.reset();
+        assertTrue(archive.isArchiveEmpty());
+
+        archive.updateArchive(createTest(-1, 1));
+        assertFalse(archive.isArchiveEmpty());
+    }
+}
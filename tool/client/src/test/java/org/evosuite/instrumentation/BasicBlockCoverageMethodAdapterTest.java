@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.instrumentation;
+
+import org.evosuite.analysis.dynamic.BasicBlockCoverage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+public class BasicBlockCoverageMethodAdapterTest {
+
+    public static class Fixture {
+
+        public static int abs(int x) {
+            if (x < 0) {
+                return -x;
+            }
+            return x;
+        }
+
+        public static int line() {
+            return new Throwable().getStackTrace()[0].getLineNumber();
+        }
+
+        public static int afterCall(boolean fail) {
+            check(fail);
+            return callerLine();
+        }
+
+        private static void check(boolean fail) {
+            if (fail) {
+                throw new IllegalStateException();
+            }
+        }
+
+        private static int callerLine() {
+            return new Throwable().getStackTrace()[1].getLineNumber();
+        }
+    }
+
+    private static final String FIXTURE = Fixture.class.getName();
+
+    @Before
+    public void setUp() {
+        BasicBlockCoverage.getInstance().reset();
+        BasicBlockCoverage.getInstance().enable();
+    }
+
+    @After
+    public void tearDown() {
+        BasicBlockCoverage.getInstance().reset();
+    }
+
+    private static Class<?> instrument() throws Exception {
+        String resource = FIXTURE.replace('.', '/') + ".class";
+        ClassReader reader;
+        try (InputStream in = BasicBlockCoverageMethodAdapterTest.class.getClassLoader().getResourceAsStream(resource)) {
+            reader = new ClassReader(in);
+        }
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        reader.accept(new ClassVisitor(Opcodes.ASM9, writer) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                             String[] exceptions) {
+                MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+                return new BasicBlockCoverageMethodAdapter(mv, FIXTURE, access, name, descriptor, signature, exceptions);
+            }
+        }, ClassReader.SKIP_FRAMES);
+
+        byte[] bytes = writer.toByteArray();
+        ClassLoader loader = new ClassLoader(BasicBlockCoverageMethodAdapterTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.equals(FIXTURE)) {
+                    synchronized (getClassLoadingLock(name)) {
+                        Class<?> c = findLoadedClass(name);
+                        return c != null ? c : defineClass(name, bytes, 0, bytes.length);
+                    }
+                }
+                return super.loadClass(name, resolve);
+            }
+        };
+        return loader.loadClass(FIXTURE);
+    }
+
+    @Test
+    public void testBranchesAreSeparateBlocks() throws Exception {
+        Method abs = instrument().getMethod("abs", int.class);
+        String methodKey = FIXTURE + ".abs(I)I";
+
+        assertEquals(5, abs.invoke(null, 5));
+        BasicBlockCoverage.getInstance().update();
+        assertEquals(2, BasicBlockCoverage.getInstance().getCoveredBasicBlockCount(methodKey));
+
+        assertEquals(1, abs.invoke(null, -1));
+        BasicBlockCoverage.getInstance().update();
+        assertEquals(3, BasicBlockCoverage.getInstance().getCoveredBasicBlockCount(methodKey));
+        assertEquals(1.0f, BasicBlockCoverage.getInstance().getCoverage(methodKey), 0.0f);
+    }
+
+    @Test
+    public void testExecutedLinesAreCovered() throws Exception {
+        Method line = instrument().getMethod("line");
+
+        int executed = (Integer) line.invoke(null);
+        assertFalse(BasicBlockCoverage.getInstance().isLineCovered(FIXTURE, executed));
+
+        assertTrue(BasicBlockCoverage.getInstance().update());
+        assertTrue(BasicBlockCoverage.getInstance().isLineCovered(FIXTURE, executed));
+        assertFalse(BasicBlockCoverage.getInstance().update());
+    }
+
+    @Test
+    public void testBlocksEndAtCalls() throws Exception {
+        Method afterCall = instrument().getMethod("afterCall", boolean.class);
+        String methodKey = FIXTURE + ".afterCall(Z)I";
+        int returnLine = Fixture.afterCall(false);
+
+        try {
+            afterCall.invoke(null, true);
+            fail("Expected exception");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        BasicBlockCoverage.getInstance().update();
+        assertEquals(1, BasicBlockCoverage.getInstance().getCoveredBasicBlockCount(methodKey));
+        assertFalse(BasicBlockCoverage.getInstance().isLineCovered(FIXTURE, returnLine));
+
+        assertEquals(returnLine, afterCall.invoke(null, false));
+        BasicBlockCoverage.getInstance().update();
+        assertEquals(1.0f, BasicBlockCoverage.getInstance().getCoverage(methodKey), 0.0f);
+        assertTrue(BasicBlockCoverage.getInstance().isLineCovered(FIXTURE, returnLine));
+    }
+
+    @Test
+    public void testDisabledProbesRecordNothing() throws Exception {
+        Method abs = instrument().getMethod("abs", int.class);
+        BasicBlockCoverage.getInstance().disable();
+
+        abs.invoke(null, 5);
+        assertFalse(BasicBlockCoverage.getInstance().update());
+        assertEquals(0, BasicBlockCoverage.getInstance().getCoveredBasicBlockCount(FIXTURE + ".abs(I)I"));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit.writer;
+
+import org.evosuite.junit.JUnit4TestAdapter;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestCodeVisitor;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.LongPrimitiveStatement;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+public class TestCodeCacheTest {
+
+    private static class CountingVisitor extends TestCodeVisitor {
+
+        private int visits = 0;
+
+        @Override
+        public void visitTestCase(TestCase test) {
+            visits++;
+            super.visitTestCase(test);
+        }
+    }
+
+    private final JUnit4TestAdapter adapter = new JUnit4TestAdapter();
+
+    @Before
+    public void setUp() {
+        TestCodeCache.resetSingleton();
+    }
+
+    @After
+    public void tearDown() {
+        TestCodeCache.resetSingleton();
+    }
+
+    private static DefaultTestCase createTest(int value) throws NoSuchMethodException {
+        DefaultTestCase test = new DefaultTestCase();
+        test.addStatement(new IntPrimitiveStatement(test, value));
+        GenericConstructor constructor = new GenericConstructor(Date.class.getConstructor(), Date.class);
+        test.addStatement(new ConstructorStatement(test, constructor, new ArrayList<>()));
+        return test;
+    }
+
+    private String getCode(TestCase test, Map<Integer, Throwable> exceptions, TestCodeVisitor visitor) {
+        return TestCodeCache.getInstance().getTestCode(adapter, 0, test, exceptions, visitor);
+    }
+
+    @Test
+    public void testCodeIsReusedAcrossVisitors() throws NoSuchMethodException {
+        DefaultTestCase test = createTest(42);
+        CountingVisitor first = new CountingVisitor();
+        String code = getCode(test, Collections.emptyMap(), first);
+        Assert.assertEquals(1, first.visits);
+
+        CountingVisitor second = new CountingVisitor();
+        Assert.assertEquals(code, getCode(test, Collections.emptyMap(), second));
+        Assert.assertEquals(0, second.visits);
+        // the imports of the test are collected without visiting it
+        Assert.assertEquals(first.getImports(), second.getImports());
+        Assert.assertTrue(second.getImports().contains(Date.class));
+    }
+
+    @Test
+    public void testChangedValueIsRenderedAgain() throws NoSuchMethodException {
+        DefaultTestCase test = createTest(42);
+        String code = getCode(test, Collections.emptyMap(), new CountingVisitor());
+        Assert.assertTrue(code.contains("42"));
+
+        ((IntPrimitiveStatement) test.getStatement(0)).setValue(17);
+        CountingVisitor visitor = new CountingVisitor();
+        code = getCode(test, Collections.emptyMap(), visitor);
+        Assert.assertEquals(1, visitor.visits);
+        Assert.assertTrue(code.contains("17"));
+        Assert.assertFalse(code.contains("42"));
+    }
+
+    @Test
+    public void testValueWithSameHashIsRenderedAgain() {
+        DefaultTestCase test = new DefaultTestCase();
+        test.addStatement(new LongPrimitiveStatement(test, 0L));
+        getCode(test, Collections.emptyMap(), new CountingVisitor());
+
+        // 0L and -1L have the same hash code
+        ((LongPrimitiveStatement) test.getStatement(0)).increment(-1L);
+        CountingVisitor visitor = new CountingVisitor();
+        String code = getCode(test, Collections.emptyMap(), visitor);
+        Assert.assertEquals(1, visitor.visits);
+        Assert.assertTrue(code.contains("-1L"));
+    }
+
+    @Test
+    public void testRemovedStatementIsRenderedAgain() throws NoSuchMethodException {
+        DefaultTestCase test = createTest(42);
+        getCode(test, Collections.emptyMap(), new CountingVisitor());
+
+        test.remove(1);
+        CountingVisitor visitor = new CountingVisitor();
+        String code = getCode(test, Collections.emptyMap(), visitor);
+        Assert.assertEquals(1, visitor.visits);
+        Assert.assertFalse(code.contains("Date"));
+    }
+
+    @Test
+    public void testOtherExceptionsAreRenderedAgain() throws NoSuchMethodException {
+        DefaultTestCase test = createTest(42);
+        getCode(test, Collections.emptyMap(), new CountingVisitor());
+
+        Map<Integer, Throwable> exceptions = new HashMap<>();
+        exceptions.put(1, new IllegalStateException("first"));
+        CountingVisitor visitor = new CountingVisitor();
+        getCode(test, exceptions, visitor);
+        Assert.assertEquals(1, visitor.visits);
+
+        // an equal exception from another execution does not change the code
+        exceptions.put(1, new IllegalStateException("first"));
+        visitor = new CountingVisitor();
+        getCode(test, exceptions, visitor);
+        Assert.assertEquals(0, visitor.visits);
+
+        exceptions.put(1, new IllegalStateException("second"));
+        getCode(test, exceptions, visitor);
+        Assert.assertEquals(1, visitor.visits);
+    }
+
+    @Test
+    public void testClassNameConflictIsRenderedAgain() throws NoSuchMethodException {
+        DefaultTestCase test = createTest(42);
+        String code = getCode(test, Collections.emptyMap(), new CountingVisitor());
+        Assert.assertFalse(code.contains("java.util.Date"));
+
+        CountingVisitor visitor = new CountingVisitor();
+        Assert.assertEquals("Date", visitor.getClassName(java.sql.Date.class));
+        code = getCode(test, Collections.emptyMap(), visitor);
+        Assert.assertEquals(1, visitor.visits);
+        Assert.assertTrue(code.contains("java.util.Date"));
+        Assert.assertFalse(visitor.getImports().contains(Date.class));
+    }
+}
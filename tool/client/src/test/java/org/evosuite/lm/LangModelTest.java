@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.lm;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class LangModelTest {
+
+    private static LangModel model;
+
+    @BeforeClass
+    public static void loadModel() throws IOException {
+        model = new LangModel("ukwac_char_lm");
+    }
+
+    @Test
+    public void testCompiledScoreMatchesVerboseScore() {
+        for (String str : new String[]{"hello world", "x", "qzxj", "a\u00e9\u4e2d!", "  "}) {
+            assertEquals(str, model.score(str, true), model.score(str), 1e-12);
+        }
+    }
+
+    @Test
+    public void testEnglishIsMoreLikely() {
+        assertTrue(model.score("the house") > model.score("xqzv jkwq"));
+    }
+
+    @Test
+    public void testPredictions() {
+        String first = model.predict_char("q", 0);
+        assertNotNull(first);
+        assertTrue(model.predict_char_prob("q", 0) >= model.predict_char_prob("q", 1));
+        assertEquals(model.predict_char("<w>", 0), model.predict_char(" ", 0));
+
+        assertNull(model.predict_char("q", 10));
+        assertNull(model.predict_char("\u4e2d", 0));
+        assertEquals(0.0, model.predict_char_prob("\u4e2d", 0), 0.0);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.*;
+
+public class InheritanceTreeIndexTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("inheritance", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    private static InheritanceTree createTree() {
+        InheritanceTree tree = new InheritanceTree();
+        tree.addSuperclass("java/util/AbstractList", "java/lang/Object", 0);
+        tree.addInterface("java/util/AbstractList", "java/util/List");
+        tree.registerAbstractClass("java/util/AbstractList");
+        tree.addSuperclass("java/util/ArrayList", "java/util/AbstractList", 0);
+        tree.addInterface("java/util/ArrayList", "java/util/RandomAccess");
+        tree.addSuperclass("com/example/Unicod\u00e9", "java/util/ArrayList", 0);
+        tree.addAnalyzedMethod("java.util.ArrayList", "size", "()I");
+        tree.addAnalyzedMethod("java.util.ArrayList", "add", "(Ljava/lang/Object;)Z");
+        tree.addAnalyzedMethod("java.util.AbstractList", "add", "(Ljava/lang/Object;)Z");
+        return tree;
+    }
+
+    @Test
+    public void testQueriesInPlace() throws Exception {
+        InheritanceTree tree = createTree();
+        InheritanceTreeIndex.write(tree, file);
+        InheritanceTreeIndex index = InheritanceTreeIndex.map(file);
+
+        assertEquals(tree.getNumClasses(), index.getNumClasses());
+        assertTrue(index.hasClass("java.util.ArrayList"));
+        assertFalse(index.hasClass("java.util.LinkedList"));
+        assertTrue(index.isInterface("java.util.List"));
+        assertFalse(index.isInterface("java.util.ArrayList"));
+        assertTrue(index.isAbstractClass("java.util.AbstractList"));
+
+        assertTrue(index.isClassDefined("java.util.ArrayList"));
+        assertFalse(index.isClassDefined("java.util.List"));
+        assertTrue(index.isMethodDefined("java.util.ArrayList", "size()I"));
+        assertFalse(index.isMethodDefined("java.util.AbstractList", "size()I"));
+        assertFalse(index.isMethodDefined("java.util.ArrayList", "clear()V"));
+
+        assertEquals(tree.getSubclasses("java.util.AbstractList"), index.getSubclasses("java.util.AbstractList"));
+        assertEquals(tree.getSuperclasses("com.example.Unicod\u00e9"), index.getSuperclasses("com.example.Unicod\u00e9"));
+        assertEquals(Collections.emptySet(), index.getSubclasses("java.util.LinkedList"));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        InheritanceTree tree = createTree();
+        InheritanceTreeGenerator.writeInheritanceTreeIndex(tree, file);
+        assertTrue(InheritanceTreeIndex.isIndex(file));
+
+        InheritanceTree copy = InheritanceTreeGenerator.readInheritanceTree(file.getAbsolutePath());
+        assertEquals(tree.getAllClasses(), new LinkedHashSet<>(copy.getAllClasses()));
+        assertEquals(Arrays.asList("java.util.ArrayList", "java.util.AbstractList", "java.util.RandomAccess",
+                        "java.lang.Object", "java.util.List"),
+                copy.getOrderedSuperclasses("java.util.ArrayList"));
+        assertTrue(copy.isInterface("java.util.RandomAccess"));
+        assertTrue(copy.isAbstractClass("java.util.AbstractList"));
+        assertTrue(copy.isMethodDefined("java.util.ArrayList", "add", "(Ljava/lang/Object;)Z"));
+        assertFalse(copy.isMethodDefined("java.util.AbstractList", "size", "()I"));
+    }
+
+    @Test
+    public void testXmlIsStillReadable() throws Exception {
+        InheritanceTree tree = createTree();
+        InheritanceTreeGenerator.writeInheritanceTree(tree, file);
+        assertFalse(InheritanceTreeIndex.isIndex(file));
+
+        InheritanceTree copy = InheritanceTreeGenerator.readInheritanceTree(file.getAbsolutePath());
+        assertEquals(tree.getSubclasses("java.lang.Object"), copy.getSubclasses("java.lang.Object"));
+    }
+}
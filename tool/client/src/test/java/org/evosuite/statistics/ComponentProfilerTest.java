@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.evosuite.Properties;
+import org.evosuite.statistics.ComponentProfiler.Component;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ComponentProfilerTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private long now = 0;
+
+    @Before
+    public void setUp() {
+        Properties.PROFILE_COMPONENTS = true;
+        ComponentProfiler.setClock(() -> now);
+        ComponentProfiler.reset();
+    }
+
+    @After
+    public void tearDown() {
+        Properties.PROFILE_COMPONENTS = false;
+        Properties.PROFILE_COMPONENTS_JFR = false;
+        ComponentProfiler.setClock(System::nanoTime);
+        ComponentProfiler.reset();
+    }
+
+    private void advance(long millis) {
+        now += millis * MILLIS;
+    }
+
+    @Test
+    public void testDisabledProfilerDoesNotTime() {
+        Properties.PROFILE_COMPONENTS = false;
+
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.FITNESS)) {
+            assertNull(timer);
+            advance(5);
+        }
+
+        assertEquals(0, ComponentProfiler.getNumberOfSections(Component.FITNESS));
+        assertEquals(0, ComponentProfiler.getTime(Component.FITNESS));
+    }
+
+    @Test
+    public void testNestedSectionsAreNotCountedTwice() {
+        try (ComponentProfiler.Timer fitness = ComponentProfiler.time(Component.FITNESS)) {
+            advance(20);
+            try (ComponentProfiler.Timer execution = ComponentProfiler.time(Component.TEST_EXECUTION)) {
+                advance(50);
+            }
+            advance(20);
+        }
+
+        assertEquals(40, ComponentProfiler.getTime(Component.FITNESS));
+        assertEquals(50, ComponentProfiler.getTime(Component.TEST_EXECUTION));
+        assertEquals(1, ComponentProfiler.getNumberOfSections(Component.FITNESS));
+        assertEquals(1, ComponentProfiler.getNumberOfSections(Component.TEST_EXECUTION));
+    }
+
+    @Test
+    public void testRecursiveSectionsOfSameComponent() {
+        try (ComponentProfiler.Timer outer = ComponentProfiler.time(Component.TEST_GENERATION)) {
+            advance(10);
+            try (ComponentProfiler.Timer inner = ComponentProfiler.time(Component.TEST_GENERATION)) {
+                advance(10);
+            }
+        }
+
+        assertEquals(20, ComponentProfiler.getTime(Component.TEST_GENERATION));
+        assertEquals(2, ComponentProfiler.getNumberOfSections(Component.TEST_GENERATION));
+    }
+
+    @Test
+    public void testLeakedTimerDoesNotBreakEnclosingSection() {
+        try (ComponentProfiler.Timer archive = ComponentProfiler.time(Component.ARCHIVE)) {
+            ComponentProfiler.time(Component.TEST_EXECUTION);
+            advance(10);
+        }
+
+        // the enclosing section is closed, so new sections are top-level again
+        try (ComponentProfiler.Timer fitness = ComponentProfiler.time(Component.FITNESS)) {
+            advance(10);
+        }
+
+        assertEquals(1, ComponentProfiler.getNumberOfSections(Component.ARCHIVE));
+        assertEquals(0, ComponentProfiler.getNumberOfSections(Component.TEST_EXECUTION));
+        assertEquals(10, ComponentProfiler.getTime(Component.FITNESS));
+    }
+
+    @Test
+    public void testFlightRecorderEvents() {
+        Properties.PROFILE_COMPONENTS_JFR = true;
+
+        // without jdk.jfr the events are dropped, but the sections are still timed
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.ARCHIVE)) {
+            advance(5);
+        }
+
+        assertEquals(5, ComponentProfiler.getTime(Component.ARCHIVE));
+        assertEquals(1, ComponentProfiler.getNumberOfSections(Component.ARCHIVE));
+    }
+
+    @Test
+    public void testReset() {
+        try (ComponentProfiler.Timer timer = ComponentProfiler.time(Component.STATIC_ANALYSIS)) {
+            advance(5);
+        }
+        assertEquals(1, ComponentProfiler.getNumberOfSections(Component.STATIC_ANALYSIS));
+
+        ComponentProfiler.reset();
+
+        assertEquals(0, ComponentProfiler.getNumberOfSections(Component.STATIC_ANALYSIS));
+        assertEquals(0, ComponentProfiler.getTime(Component.STATIC_ANALYSIS));
+        for (Component component : Component.values()) {
+            assertEquals(Long.valueOf(0), ComponentProfiler.getTimes().get(component));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NPEBenchmarkMonitorTest {
+
+    private static final String TARGET = "com.example.Foo";
+
+    private static NullPointerException npeAt(String className, int line) {
+        NullPointerException npe = new NullPointerException();
+        npe.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement(className, "bar", "Foo.java", line),
+                new StackTraceElement("com.example.Caller", "call", "Caller.java", 10)
+        });
+        return npe;
+    }
+
+    @Test
+    public void testNPEAtTargetLine() {
+        assertTrue(NPEBenchmarkMonitor.isTargetNPE(npeAt(TARGET, 42), TARGET, 42));
+        assertTrue(NPEBenchmarkMonitor.isTargetNPE(npeAt(TARGET + "$Inner", 42), TARGET, 42));
+    }
+
+    @Test
+    public void testNPEElsewhere() {
+        assertFalse(NPEBenchmarkMonitor.isTargetNPE(npeAt(TARGET, 41), TARGET, 42));
+        assertFalse(NPEBenchmarkMonitor.isTargetNPE(npeAt(TARGET + "Helper", 42), TARGET, 42));
+    }
+
+    @Test
+    public void testWrappedNPE() {
+        RuntimeException wrapper = new RuntimeException(npeAt(TARGET, 42));
+        assertTrue(NPEBenchmarkMonitor.isTargetNPE(wrapper, TARGET, 42));
+
+        IllegalStateException other = new IllegalStateException();
+        other.setStackTrace(npeAt(TARGET, 42).getStackTrace());
+        assertFalse(NPEBenchmarkMonitor.isTargetNPE(other, TARGET, 42));
+    }
+}
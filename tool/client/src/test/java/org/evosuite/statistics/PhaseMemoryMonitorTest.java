@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.evosuite.rmi.service.ClientState;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PhaseMemoryMonitorTest {
+
+    private static PhaseMemoryMonitor.Sample sample(long heapMB, long gcTime, long threadBytes) {
+        Map<Long, Long> allocated = new HashMap<>();
+        allocated.put(1L, threadBytes);
+        return new PhaseMemoryMonitor.Sample(heapMB * 1024 * 1024, gcTime, allocated);
+    }
+
+    @Test
+    public void testPhaseValues() {
+        PhaseMemoryMonitor monitor = new PhaseMemoryMonitor();
+        Map<RuntimeVariable, Object> values = monitor.getValues(ClientState.SEARCH,
+                sample(10, 100, 0), sample(50, 130, 200L * 1024 * 1024));
+
+        assertEquals(50L, values.get(RuntimeVariable.Heap_Usage_Search));
+        assertEquals(200L, values.get(RuntimeVariable.Allocated_Memory_Search));
+        assertEquals(30L, values.get(RuntimeVariable.GC_Time_Search));
+    }
+
+    @Test
+    public void testRepeatedPhaseIsSummedUp() {
+        PhaseMemoryMonitor monitor = new PhaseMemoryMonitor();
+        monitor.getValues(ClientState.MINIMIZING_VALUES, sample(10, 0, 0), sample(20, 5, 1024 * 1024));
+        Map<RuntimeVariable, Object> values = monitor.getValues(ClientState.MINIMIZATION,
+                sample(20, 5, 0), sample(15, 15, 2L * 1024 * 1024));
+
+        assertEquals(15L, values.get(RuntimeVariable.Heap_Usage_Minimization));
+        assertEquals(3L, values.get(RuntimeVariable.Allocated_Memory_Minimization));
+        assertEquals(15L, values.get(RuntimeVariable.GC_Time_Minimization));
+    }
+
+    @Test
+    public void testNewThreadsAreCounted() {
+        Map<Long, Long> end = new HashMap<>();
+        end.put(1L, 300L);
+        end.put(2L, 50L);
+        PhaseMemoryMonitor.Sample start = new PhaseMemoryMonitor.Sample(0, 0, Collections.singletonMap(1L, 100L));
+
+        assertEquals(250L, new PhaseMemoryMonitor.Sample(0, 0, end).getAllocatedBytesSince(start));
+    }
+
+    @Test
+    public void testUnreportedPhase() {
+        PhaseMemoryMonitor monitor = new PhaseMemoryMonitor();
+        assertTrue(monitor.getValues(ClientState.JUNIT_CHECK, sample(1, 0, 0), sample(2, 0, 0)).isEmpty());
+        // the first phase has no start sample
+        assertTrue(monitor.phaseChanged(ClientState.INITIALIZATION).isEmpty());
+        assertEquals(3, monitor.phaseChanged(ClientState.INITIALIZATION).size());
+    }
+}
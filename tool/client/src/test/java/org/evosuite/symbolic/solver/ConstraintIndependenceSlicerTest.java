@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class ConstraintIndependenceSlicerTest {
+
+    private static IntegerVariable var(String name) {
+        return new IntegerVariable(name, 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static IntegerConstraint gt(IntegerVariable v, long value) {
+        return new IntegerConstraint(v, Comparator.GT, new IntegerConstant(value));
+    }
+
+    private static IntegerConstraint eq(IntegerVariable left, IntegerVariable right) {
+        return new IntegerConstraint(left, Comparator.EQ, right);
+    }
+
+    @Test
+    public void independentConstraintsAreRemoved() {
+        IntegerVariable x = var("x");
+        IntegerVariable y = var("y");
+
+        Constraint<?> c0 = gt(y, 10);
+        Constraint<?> target = gt(x, 0);
+        List<Constraint<?>> query = new ArrayList<>(Arrays.asList(c0, target));
+
+        List<Constraint<?>> sliced = ConstraintIndependenceSlicer.slice(query, target);
+        assertEquals(Collections.singletonList(target), sliced);
+    }
+
+    @Test
+    public void transitiveDependenciesAreKeptInOrder() {
+        IntegerVariable x = var("x");
+        IntegerVariable z = var("z");
+        IntegerVariable w = var("w");
+
+        // z is only related to the target through a constraint that appears before c2
+        Constraint<?> c0 = eq(x, z);
+        Constraint<?> c1 = gt(w, 1);
+        Constraint<?> c2 = gt(z, 3);
+        Constraint<?> target = gt(x, 0);
+        List<Constraint<?>> query = new ArrayList<>(Arrays.asList(c0, c1, c2, target));
+
+        List<Constraint<?>> sliced = ConstraintIndependenceSlicer.slice(query, target);
+        assertEquals(Arrays.asList(c0, c2, target), sliced);
+    }
+
+    @Test
+    public void targetWithoutVariablesProducesEmptySlice() {
+        Constraint<?> target = new IntegerConstraint(new IntegerConstant(1), Comparator.EQ, new IntegerConstant(2));
+        List<Constraint<?>> query = new ArrayList<>(Arrays.asList(gt(var("x"), 0), target));
+
+        assertTrue(ConstraintIndependenceSlicer.slice(query, target).isEmpty());
+    }
+
+    @Test
+    public void modelIsRestrictedToQueryVariables() {
+        IntegerVariable x = var("x");
+        Map<String, Object> model = new HashMap<>();
+        model.put("x", 5L);
+        model.put("y", 7L);
+
+        Map<String, Object> restricted = ConstraintIndependenceSlicer.restrictModel(model,
+                Collections.singletonList(gt(x, 0)));
+        assertEquals(1, restricted.size());
+        assertEquals(5L, restricted.get("x"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.Properties;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the solver pool against a stub solver written in bash that answers
+ * <code>sat</code> with a model containing its own process id.
+ */
+public class SmtSolverPoolTest {
+
+    private static final String STUB_SOLVER = "#!/bin/bash\n"
+            + "slow=0\n"
+            + "hard=0\n"
+            + "while IFS= read -r line; do\n"
+            + "  case \"$line\" in\n"
+            + "    *\"(assert slow)\"*) slow=1;;\n"
+            + "    *\"(assert hard)\"*) hard=1;;\n"
+            + "    *\"(check-sat)\"*) if [ \"$slow\" = 1 ]; then sleep 10; fi;"
+            + " if [ \"$hard\" = 1 ]; then echo \"unknown\"; else echo \"sat\"; fi;;\n"
+            + "    *\"(get-model)\"*) echo \"(model (define-fun pid () Int $$))\";;\n"
+            + "    *\"(echo \"*) m=${line#*\\\"}; echo \"${m%\\\"*}\";;\n"
+            + "    *\"(exit)\"*) exit 0;;\n"
+            + "  esac\n"
+            + "done\n";
+
+    private static final String QUERY = "(check-sat)\n(get-model)\n";
+
+    private List<String> stubCommand;
+
+    private File stub;
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeTrue(new File("/bin/bash").exists());
+        stub = File.createTempFile("stub_solver", ".sh");
+        Files.write(stub.toPath(), STUB_SOLVER.getBytes(StandardCharsets.UTF_8));
+        stubCommand = Arrays.asList("/bin/bash", stub.getAbsolutePath());
+        Properties.SMT_SOLVER_POOL_SIZE = 1;
+    }
+
+    @After
+    public void tearDown() {
+        SmtSolverPool.getInstance().shutdown();
+        Properties.getInstance().resetToDefaults();
+        if (stub != null) {
+            stub.delete();
+        }
+    }
+
+    private String solve(String query, long timeout) throws Exception {
+        SmtSolverPool pool = SmtSolverPool.getInstance();
+        SmtSolverSession session = pool.acquire(stubCommand, "");
+        try {
+            ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+            session.solve(query, timeout, stdout);
+            return stdout.toString("UTF-8");
+        } finally {
+            pool.release(session);
+        }
+    }
+
+    @Test
+    public void testSessionIsReused() throws Exception {
+        String first = solve(QUERY, 5000);
+        String second = solve(QUERY, 5000);
+
+        assertTrue(first.startsWith("sat"));
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testSessionIsRestartedAfterTimeout() throws Exception {
+        String first = solve(QUERY, 5000);
+
+        try {
+            solve("(assert slow)\n" + QUERY, 500);
+            fail("Expected a solver timeout");
+        } catch (SolverTimeoutException e) {
+            // expected
+        }
+
+        String second = solve(QUERY, 5000);
+        assertTrue(second.startsWith("sat"));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void testSessionIsRestartedAfterUnknown() throws Exception {
+        String first = solve(QUERY, 5000);
+
+        assertTrue(solve("(assert hard)\n" + QUERY, 5000).startsWith("unknown"));
+
+        String second = solve(QUERY, 5000);
+        assertTrue(second.startsWith("sat"));
+        assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase;
+
+import org.evosuite.Properties;
+import org.evosuite.coverage.branch.BranchCoverageGoal;
+import org.evosuite.coverage.branch.BranchCoverageTestFitness;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTraceImpl;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestChromosomeCopyOnWriteTest {
+
+    private static TestChromosome createChromosome(int... values) {
+        DefaultTestCase tc = new DefaultTestCase();
+        for (int value : values) {
+            tc.addStatement(new IntPrimitiveStatement(tc, value));
+        }
+        TestChromosome chromosome = new TestChromosome();
+        chromosome.setTestCase(tc);
+        return chromosome;
+    }
+
+    @After
+    public void tearDown() {
+        Properties.getInstance().resetToDefaults();
+    }
+
+    @Test
+    public void testTestCaseIsSharedUntilAccessed() {
+        TestChromosome original = createChromosome(1, 2);
+        TestChromosome copy = original.copyOnWriteClone();
+
+        // read-only operations do not copy
+        Assert.assertSame(original.test, copy.test);
+        Assert.assertEquals(original, copy);
+        Assert.assertEquals(2, copy.size());
+
+        TestCase copyTest = copy.getTestCase();
+        Assert.assertNotSame(original.test, copyTest);
+        copyTest.remove(1);
+
+        Assert.assertEquals(2, original.getTestCase().size());
+        Assert.assertEquals(1, copy.getTestCase().size());
+    }
+
+    @Test
+    public void testEachOwnerCopiesOnce() {
+        TestChromosome original = createChromosome(1);
+        TestChromosome copy = original.copyOnWriteClone();
+
+        // the copy may already be gone, so the original copies as well
+        TestCase shared = original.test;
+        TestCase originalTest = original.getTestCase();
+        Assert.assertNotSame(shared, originalTest);
+        Assert.assertSame(originalTest, original.getTestCase());
+
+        TestCase copyTest = copy.getTestCase();
+        Assert.assertNotSame(shared, copyTest);
+        Assert.assertSame(copyTest, copy.getTestCase());
+    }
+
+    @Test
+    public void testReadingDoesNotCopy() {
+        TestChromosome original = createChromosome(1);
+        TestChromosome copy = original.copyOnWriteClone();
+
+        Assert.assertSame(original.test, copy.getTestCaseForReading());
+        Assert.assertSame(original.getTestCaseForReading(), copy.getTestCaseForReading());
+    }
+
+    @Test
+    public void testReplacedTestCaseIsNotCopied() {
+        TestChromosome original = createChromosome(1);
+        TestChromosome copy = original.copyOnWriteClone();
+
+        TestCase shared = original.test;
+        copy.setTestCase(new DefaultTestCase());
+        Assert.assertSame(shared, original.getTestCaseForReading());
+        Assert.assertEquals(0, copy.size());
+    }
+
+    @Test
+    public void testSuiteCopyOnWriteClone() {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        suite.addTest(createChromosome(1));
+        suite.addTest(createChromosome(2, 3));
+
+        TestSuiteChromosome copy = suite.copyOnWriteClone();
+        copy.addTest(createChromosome(4));
+
+        Assert.assertEquals(2, suite.size());
+        Assert.assertEquals(3, copy.size());
+        Assert.assertSame(suite.getTestChromosome(1).test, copy.getTestChromosome(1).test);
+
+        copy.getTestChromosome(1).getTestCase().remove(0);
+        Assert.assertEquals(2, suite.getTestChromosome(1).getTestCase().size());
+    }
+
+    @Test
+    public void testReevaluatingUnchangedCloneKeepsTestShared() {
+        Properties.TEST_ARCHIVE = false;
+        TestChromosome original = createChromosome(1);
+        ExecutionTraceImpl trace = new ExecutionTraceImpl();
+        trace.enteredMethod("com.example.Foo", "bar()V", null);
+        ExecutionResult result = new ExecutionResult(original.getTestCaseForReading());
+        result.setTrace(trace);
+
+        BranchCoverageTestFitness goal = new BranchCoverageTestFitness(
+                new BranchCoverageGoal("com.example.Foo", "bar()V"));
+        Assert.assertEquals(0.0, goal.getFitness(original, result), 0.0);
+        Assert.assertTrue(original.getTestCaseForReading().isGoalCovered(goal));
+
+        // the goal is already recorded, so covering it again must not copy
+        TestChromosome copy = original.copyOnWriteClone();
+        Assert.assertEquals(0.0, goal.getFitness(copy, result), 0.0);
+        Assert.assertSame(original.test, copy.test);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils.generic;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * The exact types of methods and constructors are memoized, and have to be
+ * resolved again once their classes are loaded by another class loader.
+ */
+public class GenericExecutableClassLoaderTest {
+
+    public static class Holder {
+
+        public Holder(Person person) {
+        }
+
+        public Person swap(Person person) {
+            return person;
+        }
+    }
+
+    /**
+     * Loads the test classes again, without delegating to the class loader of this test
+     */
+    private static ClassLoader createIsolatedLoader() {
+        URL classes = GenericExecutableClassLoaderTest.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[]{classes}, null);
+    }
+
+    @Test
+    public void testMethodTypesAfterChangeClassLoader() throws Exception {
+        GenericMethod method = new GenericMethod(Holder.class.getMethod("swap", Person.class), Holder.class);
+        Assert.assertEquals(Person.class, method.getParameterTypes()[0]);
+        Assert.assertEquals(Person.class, method.getReturnType());
+
+        ClassLoader loader = createIsolatedLoader();
+        Class<?> person = loader.loadClass(Person.class.getName());
+        Assert.assertNotSame(Person.class, person);
+
+        method.changeClassLoader(loader);
+        Assert.assertSame(loader, method.getDeclaringClass().getClassLoader());
+
+        Type[] parameterTypes = method.getParameterTypes();
+        Assert.assertSame(person, parameterTypes[0]);
+        Assert.assertSame(person, method.getReturnType());
+        Assert.assertSame(person, method.getRawParameterTypes()[0]);
+    }
+
+    @Test
+    public void testCopyAfterChangeClassLoader() throws Exception {
+        GenericMethod method = new GenericMethod(Holder.class.getMethod("swap", Person.class), Holder.class);
+        Assert.assertEquals(Person.class, method.getParameterTypes()[0]);
+
+        ClassLoader loader = createIsolatedLoader();
+        GenericMethod copy = method.copy();
+        copy.changeClassLoader(loader);
+
+        Assert.assertSame(loader.loadClass(Person.class.getName()), copy.getParameterTypes()[0]);
+        Assert.assertSame(Person.class, method.getParameterTypes()[0]);
+    }
+
+    @Test
+    public void testConstructorTypesAfterChangeClassLoader() throws Exception {
+        GenericConstructor constructor = new GenericConstructor(Holder.class.getConstructor(Person.class), Holder.class);
+        Assert.assertEquals(Person.class, constructor.getParameterTypes()[0]);
+
+        ClassLoader loader = createIsolatedLoader();
+        constructor.changeClassLoader(loader);
+
+        Assert.assertSame(loader.loadClass(Person.class.getName()), constructor.getParameterTypes()[0]);
+        Assert.assertSame(loader, constructor.getConstructor().getDeclaringClass().getClassLoader());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.jmh;
+
+import org.evosuite.analysis.ClassInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of the method key of a signature, called for every executed method
+ * call of the class under test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassInfoBenchmark {
+
+    private static final String CLASS_NAME = "com.example.Service";
+
+    @Param({"10", "100", "1000"})
+    public int methods;
+
+    private String signature;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClassInfo.resetSingleton();
+        for (int i = 0; i < methods; i++) {
+            ClassInfo.getInstance().addMethod(CLASS_NAME + ".method" + i + "(java.lang.String,int)");
+        }
+        // the methods are kept in a hash set, so the position of a method in the scan is arbitrary
+        signature = "method" + (methods / 2) + "(java.lang.String,int)";
+    }
+
+    @Benchmark
+    public String getMethodKey() {
+        return ClassInfo.getInstance().getMethodKey(signature);
+    }
+
+    // misses are not cached, so this scans all methods
+    @Benchmark
+    public String getMethodKeyMissing() {
+        return ClassInfo.getInstance().getMethodKey("unknown(int)");
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.jmh;
+
+import org.evosuite.Properties;
+import org.evosuite.testcase.execution.ExecutionTracer;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Callback executed by the instrumented code at every branch
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionTracerBenchmark {
+
+    private static final int BRANCHES = 64;
+
+    private int branch = 0;
+
+    private int value = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Properties.getInstance().resetToDefaults();
+        ExecutionTracer.enable();
+        ExecutionTracer.setThread(Thread.currentThread());
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTrace() {
+        ExecutionTracer.getExecutionTracer().clear();
+    }
+
+    @Benchmark
+    public void passedBranch() {
+        branch = (branch + 1) % BRANCHES;
+        value++;
+        ExecutionTracer.passedBranch(value, Opcodes.IFEQ, branch, branch);
+    }
+
+    @Benchmark
+    public void passedBranchIntInt() {
+        branch = (branch + 1) % BRANCHES;
+        value++;
+        ExecutionTracer.passedBranch(value, branch, Opcodes.IF_ICMPLT, branch, branch);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.jmh;
+
+import org.evosuite.jmh.sut.Account;
+import org.evosuite.utils.generic.GenericMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflective calls as done by the statements and inspectors, against the same
+ * calls through method handles. The handles are kept in fields, as an
+ * invocation cache per {@link GenericMethod} would keep them, so they are not
+ * constant-folded. The last two cases measure the resolution of the exact
+ * parameter types which a method statement needs on every execution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectiveInvocationBenchmark {
+
+    private Object account;
+
+    private Object[] arguments;
+
+    private Method withdraw;
+
+    private MethodHandle withdrawHandle;
+
+    private Method getBalance;
+
+    private MethodHandle getBalanceHandle;
+
+    private Field balance;
+
+    private MethodHandle balanceGetter;
+
+    private GenericMethod genericMethod;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        account = new Account("alice");
+        // more than the balance, so the account is not changed
+        arguments = new Object[]{1};
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        // MethodStatement: target and an argument array
+        withdraw = Account.class.getMethod("withdraw", int.class);
+        withdraw.setAccessible(true);
+        withdrawHandle = lookup.unreflect(withdraw)
+                .asSpreader(Object[].class, 1)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+
+        // Inspector: no arguments
+        getBalance = Account.class.getMethod("getBalance");
+        getBalance.setAccessible(true);
+        getBalanceHandle = lookup.unreflect(getBalance)
+                .asType(MethodType.methodType(Object.class, Object.class));
+
+        // FieldStatement
+        balance = Account.class.getDeclaredField("balance");
+        balance.setAccessible(true);
+        balanceGetter = lookup.unreflectGetter(balance)
+                .asType(MethodType.methodType(Object.class, Object.class));
+
+        genericMethod = new GenericMethod(withdraw, Account.class);
+    }
+
+    @Benchmark
+    public Object methodInvoke() throws Exception {
+        return withdraw.invoke(account, arguments);
+    }
+
+    @Benchmark
+    public Object methodHandleInvoke() throws Throwable {
+        return (Object) withdrawHandle.invokeExact(account, arguments);
+    }
+
+    @Benchmark
+    public Object inspectorInvoke() throws Exception {
+        return getBalance.invoke(account);
+    }
+
+    @Benchmark
+    public Object inspectorHandleInvoke() throws Throwable {
+        return (Object) getBalanceHandle.invokeExact(account);
+    }
+
+    @Benchmark
+    public Object fieldGet() throws Exception {
+        return balance.get(account);
+    }
+
+    @Benchmark
+    public Object fieldHandleGet() throws Throwable {
+        return (Object) balanceGetter.invokeExact(account);
+    }
+
+    @Benchmark
+    public Type[] exactParameterTypes() {
+        return genericMethod.getExactParameterTypes(withdraw, Account.class);
+    }
+
+    @Benchmark
+    public Type[] memoizedParameterTypes() {
+        return genericMethod.getParameterTypes();
+    }
+}
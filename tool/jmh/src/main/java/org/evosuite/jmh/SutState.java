@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.jmh;
+
+import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
+import org.evosuite.analysis.ClassInfo;
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.jmh.sut.Account;
+import org.evosuite.setup.DependencyAnalysis;
+import org.evosuite.symbolic.TestCaseBuilder;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.variable.VariableReference;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Analyzes {@link Account} as the class under test, as the client does before the
+ * search (including the npetest static analysis), and builds a test for it.
+ * <p>
+ * The static analysis reads the source of the class from
+ * <code>${evosuite.jmh.dir}/src/main/java</code>, where <code>evosuite.jmh.dir</code>
+ * defaults to the working directory, ie the benchmarks are meant to be run from
+ * the jmh module directory.
+ */
+@State(Scope.Benchmark)
+public class SutState {
+
+    /**
+     * <code>
+     * String string0 = "alice";
+     * Account account0 = new Account(string0);
+     * int int0 = 10;
+     * account0.deposit(int0);
+     * String string1 = null;
+     * Account account1 = new Account(string1);
+     * boolean boolean0 = account0.transfer(account1, int0);
+     * </code>
+     */
+    public DefaultTestCase test;
+
+    public TestChromosome chromosome;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Properties.getInstance().resetToDefaults();
+        Properties.TARGET_CLASS = Account.class.getName();
+        Properties.TARGET_DIR = System.getProperty("evosuite.jmh.dir", ".");
+        Properties.NPETEST_ON = true;
+        Properties.SANDBOX = false;
+
+        ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+        String cp = ClassPathHandler.getInstance().getTargetProjectClasspath();
+        DependencyAnalysis.analyzeClass(Properties.TARGET_CLASS, Arrays.asList(cp.split(File.pathSeparator)));
+
+        Class<?> sut = TestGenerationContext.getInstance().getClassLoaderForSUT().loadClass(Properties.TARGET_CLASS);
+        TestCaseBuilder builder = new TestCaseBuilder();
+        VariableReference owner = builder.appendStringPrimitive("alice");
+        VariableReference account = builder.appendConstructor(sut.getConstructor(String.class), owner);
+        VariableReference amount = builder.appendIntPrimitive(10);
+        builder.appendMethod(account, sut.getMethod("deposit", int.class), amount);
+        VariableReference noOwner = builder.appendNull(String.class);
+        VariableReference other = builder.appendConstructor(sut.getConstructor(String.class), noOwner);
+        builder.appendMethod(account, sut.getMethod("transfer", sut, int.class), other, amount);
+
+        test = builder.getDefaultTestCase();
+        String methodKey = ClassInfo.getInstance().getMethodKey("transfer");
+        test.setMUT(methodKey != null ? methodKey : "");
+
+        chromosome = new TestChromosome();
+        chromosome.setTestCase(test);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.jmh;
+
+import org.evosuite.testcase.TestChromosome;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mutation operators. Each operation mutates a fresh clone, so
+ * {@link #cloneOnly} is the baseline to subtract.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestChromosomeBenchmark {
+
+    @Benchmark
+    public TestChromosome cloneOnly(SutState state) {
+        return state.chromosome.clone();
+    }
+
+    @Benchmark
+    public TestChromosome mutate(SutState state) {
+        TestChromosome chromosome = state.chromosome.clone();
+        chromosome.mutate();
+        return chromosome;
+    }
+
+    @Benchmark
+    public TestChromosome guidedMutate(SutState state) {
+        TestChromosome chromosome = state.chromosome.clone();
+        chromosome.guidedMutate();
+        return chromosome;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.jmh;
+
+import org.evosuite.analysis.WeightedCollection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted selection of a test from the NPE archive
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeightedCollectionBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private WeightedCollection<Integer> collection;
+
+    private Map<Integer, Float> scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(0);
+        scores = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            scores.put(i, random.nextFloat());
+        }
+        collection = new WeightedCollection<>(scores);
+    }
+
+    @Benchmark
+    public Integer next() {
+        return collection.next();
+    }
+
+    @Benchmark
+    public WeightedCollection<Integer> build() {
+        return new WeightedCollection<>(scores);
+    }
+}
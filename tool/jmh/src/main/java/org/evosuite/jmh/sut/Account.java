@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.jmh.sut;
+
+/**
+ * Tiny class under test used by the benchmarks. {@link #transfer} throws an
+ * NPE when the target account has no owner.
+ */
+public class Account {
+
+    private String owner;
+
+    private int balance;
+
+    public Account(String owner) {
+        this.owner = owner;
+    }
+
+    public void deposit(int amount) {
+        if (amount <= 0)
+            throw new IllegalArgumentException("Amount must be positive");
+        balance += amount;
+    }
+
+    public boolean withdraw(int amount) {
+        if (amount > balance)
+            return false;
+        balance -= amount;
+        return true;
+    }
+
+    public boolean transfer(Account target, int amount) {
+        if (target.owner.equals(owner))
+            return false;
+        if (!withdraw(amount))
+            return false;
+        target.deposit(amount);
+        return true;
+    }
+
+    public int getBalance() {
+        return balance;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+}
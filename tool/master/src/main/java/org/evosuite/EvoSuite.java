@@ -77,9 +77,9 @@ public class EvoSuite {
         // Clear current inheritance file to make sure a new one is generated
         Properties.INHERITANCE_FILE = "";
         InheritanceTree tree = InheritanceTreeGenerator.createFromClassPath(cpList);
-        File outputFile = File.createTempFile("ES_inheritancetree", ".xml.gz");
+        File outputFile = File.createTempFile("ES_inheritancetree", ".bin");
         outputFile.deleteOnExit();
-        InheritanceTreeGenerator.writeInheritanceTree(tree, outputFile);
+        InheritanceTreeGenerator.writeInheritanceTreeIndex(tree, outputFile);
         return outputFile.getAbsolutePath();
     }
 
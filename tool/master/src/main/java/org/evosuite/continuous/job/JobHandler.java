@@ -24,6 +24,7 @@ import org.evosuite.Properties.StoppingCondition;
 import org.evosuite.classpath.ClassPathHandler;
 import org.evosuite.continuous.persistency.StorageManager;
 import org.evosuite.coverage.CoverageCriteriaAnalyzer;
+import org.evosuite.rmi.MasterServices;
 import org.evosuite.runtime.util.JarPathing;
 import org.evosuite.runtime.util.JavaExecCmdUtil;
 import org.evosuite.statistics.RuntimeVariable;
@@ -35,14 +36,23 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.rmi.NotBoundException;
+import java.rmi.RemoteException;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * The class that actually execute the job as a separated process
+ * The class that actually execute the job as a separated process.
+ * <p>
+ * With {@link Properties#CTG_WORKER_POOL}, the handler instead keeps a
+ * {@link JobWorker} process, which runs job after job until it grows too much.
  *
  * @author arcuri
  */
@@ -54,6 +64,28 @@ public class JobHandler extends Thread {
 
     private Process latestProcess;
 
+    /**
+     * TODO: this will likely need better handling
+     */
+    private static final int MASTER_MB = 250;
+
+    private static final int WORKER_START_TIMEOUT_MS = 60_000;
+
+    private static final AtomicInteger workerCounter = new AtomicInteger(0);
+
+    private String workerName;
+
+    private Process workerProcess;
+
+    private JobWorkerRemote worker;
+
+    /**
+     * Maximum heap the worker was started with
+     */
+    private int workerMemoryInMB;
+
+    private volatile boolean runningOnWorker = false;
+
     /**
      * Main constructor
      */
@@ -84,6 +116,16 @@ public class JobHandler extends Thread {
      * @return
      */
     public static JobHandler[] getPool(int n, JobExecutor executor) {
+        if (Properties.CTG_WORKER_POOL && MasterServices.getInstance().getRegistryPort() < 0) {
+            /*
+             * the workers register themselves in the registry of this process
+             */
+            if (!MasterServices.getInstance().startRegistry()) {
+                logger.error("Failed to start the RMI registry for the workers. Starting a new process for each job");
+                Properties.CTG_WORKER_POOL = false;
+            }
+        }
+
         JobHandler[] jobs = new JobHandler[n];
         for (int i = 0; i < jobs.length; i++) {
             jobs[i] = new JobHandler(executor);
@@ -94,6 +136,14 @@ public class JobHandler extends Thread {
 
     public void stopExecution() {
         this.interrupt();
+
+        /*
+         * a remote call cannot be interrupted
+         */
+        Process process = workerProcess;
+        if (runningOnWorker && process != null) {
+            process.destroy();
+        }
     }
 
     @Override
@@ -111,6 +161,11 @@ public class JobHandler extends Thread {
 
             try {
 
+                if (Properties.CTG_WORKER_POOL) {
+                    executeOnWorker(job);
+                    continue; //the job is still marked as done in the finally block
+                }
+
                 List<String> commands = getCommandString(job);
 
                 String baseDir = System.getProperty("user.dir");
@@ -168,6 +223,124 @@ public class JobHandler extends Thread {
                 executor.doneWithJob(job);
             }
         }
+
+        if (workerProcess != null) {
+            stopWorker();
+        }
+    }
+
+    private void executeOnWorker(JobDefinition job) throws InterruptedException, IOException {
+
+        if (worker != null && job.memoryInMB > workerMemoryInMB) {
+            logger.debug("Restarting " + workerName + " as job for " + job.cut + " needs "
+                    + job.memoryInMB + "MB, but the worker has " + workerMemoryInMB + "MB");
+            stopWorker();
+        }
+
+        if (worker == null) {
+            startWorker(job);
+        }
+
+        LoggingUtils.getEvoLogger().info("Going to start job for: " + job.cut + " on " + workerName
+                + ". Expected to end in " + job.seconds + " seconds, by "
+                + LocalDateTime.now().plus(job.seconds, ChronoUnit.SECONDS));
+
+        /*
+         * master and client of the job share the heap of the worker
+         */
+        List<String> args = getEvoSuiteArguments(job, job.memoryInMB);
+        args.add("-Dclient_on_thread=true");
+
+        try {
+            runningOnWorker = true;
+            boolean completed = worker.runJob(args.toArray(new String[0]));
+            runningOnWorker = false;
+
+            if (!completed) {
+                logger.warn("Job crashed: " + job.cut + ". See the logs of " + workerName);
+            }
+            /*
+             * the state of a worker might be broken after a crash
+             */
+            if (!completed || worker.needsRestart()) {
+                stopWorker();
+            }
+        } catch (RemoteException e) {
+            runningOnWorker = false;
+            destroyWorker();
+            if (isInterrupted()) {
+                throw new InterruptedException();
+            }
+            logger.warn("Worker died while executing job: " + job.cut + ". See the logs of " + workerName);
+        }
+    }
+
+    private void startWorker(JobDefinition job) throws IOException, InterruptedException {
+
+        workerName = JobWorker.class.getSimpleName() + "-" + workerCounter.incrementAndGet();
+        int port = MasterServices.getInstance().getRegistryPort();
+
+        /*
+         * the worker runs both master and client of the jobs
+         */
+        workerMemoryInMB = job.memoryInMB;
+        List<String> commands = getJavaCommand(workerName, workerMemoryInMB);
+        commands.add(JobWorker.class.getName());
+        commands.add("" + port);
+        commands.add(workerName);
+        commands.add("" + Properties.CTG_WORKER_MAX_HEAP);
+        commands.add("" + Properties.CTG_WORKER_MAX_LOADED_CLASSES);
+
+        ProcessBuilder builder = new ProcessBuilder(commands);
+        builder.directory(new File(System.getProperty("user.dir")));
+        builder.redirectErrorStream(true);
+        /*
+         * the output of a long-lived process has to be consumed, otherwise it could block
+         */
+        File logs = new File(executor.getStorage().getTmpLogs(), workerName);
+        logs.mkdirs();
+        builder.redirectOutput(ProcessBuilder.Redirect.appendTo(new File(logs, "console.log")));
+
+        logger.debug("Starting " + workerName);
+        workerProcess = builder.start();
+        latestProcess = workerProcess;
+
+        Registry registry = LocateRegistry.getRegistry(port);
+        long end = System.currentTimeMillis() + WORKER_START_TIMEOUT_MS;
+        while (worker == null) {
+            try {
+                worker = (JobWorkerRemote) registry.lookup(workerName);
+            } catch (NotBoundException e) {
+                if (!workerProcess.isAlive() || System.currentTimeMillis() > end) {
+                    destroyWorker();
+                    throw new IllegalStateException("Worker did not register in the RMI registry");
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private void stopWorker() {
+        try {
+            worker.shutdown();
+            workerProcess.waitFor(10, TimeUnit.SECONDS);
+        } catch (RemoteException | InterruptedException e) {
+            //the process is destroyed anyway
+        }
+        destroyWorker();
+    }
+
+    private void destroyWorker() {
+        if (workerProcess != null) {
+            workerProcess.destroy();
+        }
+        try {
+            LocateRegistry.getRegistry(MasterServices.getInstance().getRegistryPort()).unbind(workerName);
+        } catch (RemoteException | NotBoundException e) {
+            //already gone
+        }
+        worker = null;
+        workerProcess = null;
     }
 
     /**
@@ -207,6 +380,26 @@ public class JobHandler extends Thread {
 
     private List<String> getCommandString(JobDefinition job) {
 
+        List<String> commands = getJavaCommand(job.cut, MASTER_MB);
+
+		/*
+			Actual call to EvoSuite. "Commands" before this line will be applied
+			to the spawn process, whereas the ones after will be its input parameters
+		 */
+        commands.add(org.evosuite.EvoSuite.class.getName());
+
+        commands.addAll(getEvoSuiteArguments(job, job.memoryInMB - MASTER_MB));
+
+        return commands;
+    }
+
+    /**
+     * @param logFolder   name of the folder, in the logs of the CTG run, for the logs of the process
+     * @param memoryInMB  maximum heap of the process
+     * @return the command to start a JVM, without its main class
+     */
+    private List<String> getJavaCommand(String logFolder, int memoryInMB) {
+
         List<String> commands = new ArrayList<>();
         commands.add(JavaExecCmdUtil.getJavaBinExecutablePath()/*"java"*/);
 
@@ -231,19 +424,13 @@ public class JobHandler extends Thread {
 
         StorageManager storage = executor.getStorage();
         File logs = storage.getTmpLogs();
-        commands.add("-Devosuite.log.folder=" + logs.getAbsolutePath() + File.separator + job.cut);
+        commands.add("-Devosuite.log.folder=" + logs.getAbsolutePath() + File.separator + logFolder);
 
         if (Properties.LOG_LEVEL != null && !Properties.LOG_LEVEL.isEmpty()) {
             commands.add("-Dlog.level=" + Properties.LOG_LEVEL);
         }
 
-        /*
-         * TODO: this will likely need better handling
-         */
-        int masterMB = 250;
-        int clientMB = job.memoryInMB - masterMB;
-
-        commands.add("-Xmx" + masterMB + "m");
+        commands.add("-Xmx" + memoryInMB + "m");
 
         if (Properties.CTG_DEBUG_PORT != null) {
             //set for Master
@@ -253,11 +440,18 @@ public class JobHandler extends Thread {
             );
         }
 
-		/*
-			Actual call to EvoSuite. "Commands" before this line will be applied
-			to the spawn process, whereas the ones after will be its input parameters
-		 */
-        commands.add(org.evosuite.EvoSuite.class.getName());
+        return commands;
+    }
+
+    /**
+     * @param job       the job to run
+     * @param clientMB  maximum heap of the client of the job
+     * @return the EvoSuite command line of the job
+     */
+    private List<String> getEvoSuiteArguments(JobDefinition job, int clientMB) {
+
+        List<String> commands = new ArrayList<>();
+        StorageManager storage = executor.getStorage();
 
         if (Properties.CTG_DEBUG_PORT != null) {
             //set for Client
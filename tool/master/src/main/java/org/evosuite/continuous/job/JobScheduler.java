@@ -79,6 +79,9 @@ public class JobScheduler {
             case HISTORY:
                 currentSchedule = new HistorySchedule(this);
                 break;
+            case NPE:
+                currentSchedule = new NPESchedule(this);
+                break;
             default:
                 throw new IllegalArgumentException("Schedule '" + schedule + "' is not supported");
         }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job;
+
+import org.evosuite.EvoSuite;
+import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
+import org.evosuite.TimeController;
+import org.evosuite.analysis.staticanalysis.NPEAnalysisManager;
+import org.evosuite.coverage.exception.ExceptionCoverageFactory;
+import org.evosuite.ga.archive.Archive;
+import org.evosuite.rmi.UtilsRMI;
+import org.evosuite.testcase.execution.TestCaseExecutor;
+import org.evosuite.testcase.execution.reset.ClassReInitializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.rmi.RemoteException;
+import java.rmi.registry.LocateRegistry;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A long-lived process which runs CTG jobs one after the other, so that each
+ * job does not need to start new JVMs for master and client (and so re-pay JIT
+ * warmup, class loading, classpath scanning, etc).
+ * <p>
+ * The worker registers itself in the RMI registry of the CTG process, and then
+ * waits for the calls of its {@link JobHandler}. Master and client of a job run
+ * in the worker, the latter on a thread. Between jobs, the static state of
+ * EvoSuite and of the NPE analysis is reset.
+ */
+public class JobWorker implements JobWorkerRemote {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobWorker.class);
+
+    private final CountDownLatch shutdown = new CountDownLatch(1);
+
+    /**
+     * Fraction of the maximum heap, see {@link Properties#CTG_WORKER_MAX_HEAP}
+     */
+    private final double maxHeap;
+
+    /**
+     * See {@link Properties#CTG_WORKER_MAX_LOADED_CLASSES}
+     */
+    private final int maxLoadedClasses;
+
+    /**
+     * System properties before the first job, as EvoSuite sets the -D options of a job as system properties
+     */
+    private final java.util.Properties systemProperties = (java.util.Properties) System.getProperties().clone();
+
+    /*
+     * The limits are given by the CTG process, as the properties are reset after each job
+     */
+    public JobWorker(double maxHeap, int maxLoadedClasses) {
+        this.maxHeap = maxHeap;
+        this.maxLoadedClasses = maxLoadedClasses;
+    }
+
+    @Override
+    public synchronized boolean runJob(String[] args) {
+        try {
+            new EvoSuite().parseCommandLine(args);
+            return true;
+        } catch (Throwable t) {
+            logger.error("Fatal crash on EvoSuite worker process. Class " + Properties.TARGET_CLASS, t);
+            return false;
+        } finally {
+            reset();
+        }
+    }
+
+    private void reset() {
+        TestCaseExecutor.getInstance().newObservers();
+        TestGenerationContext.getInstance().resetContext();
+        ClassReInitializer.resetSingleton();
+        TimeController.resetSingleton();
+        System.setProperties((java.util.Properties) systemProperties.clone());
+        Properties.getInstance().resetToDefaults();
+        ExceptionCoverageFactory.getGoals().clear();
+        Archive.getArchiveInstance().reset();
+        NPEAnalysisManager.reset();
+    }
+
+    @Override
+    public synchronized boolean needsRestart() {
+        System.gc();
+
+        int loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        if (loadedClasses > maxLoadedClasses) {
+            logger.info("Restarting worker, as it has loaded " + loadedClasses + " classes");
+            return true;
+        }
+
+        /*
+         * -Xmx is always set by the handler
+         */
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        if (heap.getMax() > 0 && heap.getUsed() > maxHeap * heap.getMax()) {
+            logger.info("Restarting worker, as it uses " + (heap.getUsed() / (1024 * 1024)) + "MB of heap");
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown.countDown();
+    }
+
+    /**
+     * @param args port of the RMI registry of the CTG process, name of the worker in it,
+     *             maximum fraction of heap and maximum number of loaded classes
+     */
+    public static void main(String[] args) {
+        int port = Integer.parseInt(args[0]);
+        String name = args[1];
+
+        JobWorker worker = new JobWorker(Double.parseDouble(args[2]), Integer.parseInt(args[3]));
+        try {
+            UtilsRMI.ensureRegistryOnLoopbackAddress();
+            JobWorkerRemote stub = (JobWorkerRemote) UtilsRMI.exportObject(worker);
+            LocateRegistry.getRegistry(port).rebind(name, stub);
+
+            worker.shutdown.await();
+        } catch (RemoteException e) {
+            logger.error("Failed to register worker " + name + " on port " + port, e);
+            System.exit(1);
+        } catch (InterruptedException e) {
+            // terminate
+        }
+
+        /*
+         * Threads started by the SUT could still be running
+         */
+        System.exit(0);
+    }
+}
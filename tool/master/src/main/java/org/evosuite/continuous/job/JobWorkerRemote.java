@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+
+/**
+ * Remote interface of a {@link JobWorker}, through which a {@link JobHandler}
+ * runs its jobs
+ */
+public interface JobWorkerRemote extends Remote {
+
+    /**
+     * Run EvoSuite on a job, and reset the static state afterwards
+     *
+     * @param args the EvoSuite command line of the job
+     * @return <code>false</code> if EvoSuite crashed
+     * @throws RemoteException
+     */
+    boolean runJob(String[] args) throws RemoteException;
+
+    /**
+     * @return <code>true</code> if the worker grew too much, and should be replaced by a new process
+     * @throws RemoteException
+     */
+    boolean needsRestart() throws RemoteException;
+
+    /**
+     * Let the worker process terminate once this call returned
+     *
+     * @throws RemoteException
+     */
+    void shutdown() throws RemoteException;
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job.schedule;
+
+import org.evosuite.analysis.summary.NPERisk;
+import org.evosuite.continuous.job.JobDefinition;
+import org.evosuite.continuous.job.JobScheduler;
+import org.evosuite.continuous.project.ProjectStaticData;
+import org.evosuite.continuous.project.ProjectStaticData.ClassInfo;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * CUTs where the static NPE pre-pass found more NPE candidates will be given
+ * more time.
+ * <p>
+ * The expected number of NPEs found in a CUT after <i>t</i> seconds is modeled as
+ * <i>w (1 - e<sup>-t/tau</sup>)</i>, where <i>w</i> is the number of NPE
+ * candidates and nullable fields, and <i>tau</i> grows with the complexity of the
+ * methods of the CUT, as complex methods need more time to reach their
+ * candidates. After the minimum time per job, the budget is given in steps to
+ * the CUT with the highest expected yield for the next step, ie the highest
+ * NPEs per second. As the model has diminishing returns, this maximizes the
+ * expected yield of the whole budget.
+ * <p>
+ * If no CUT has a risk, eg if the sources of the project were not found, this
+ * falls back to {@link BudgetSchedule}.
+ */
+public class NPESchedule extends OneTimeSchedule {
+
+    /**
+     * Seconds given at once to a CUT
+     */
+    static final int STEP = 10;
+
+    /**
+     * Time constant, in seconds, of a CUT without branches or loops
+     */
+    private static final double BASE_TIME_CONSTANT = 60.0;
+
+    /**
+     * Complexity which doubles the time constant of a CUT
+     */
+    private static final double COMPLEXITY_SCALE = 20.0;
+
+    public NPESchedule(JobScheduler scheduler) {
+        super(scheduler);
+    }
+
+    @Override
+    protected List<JobDefinition> createScheduleOnce() {
+
+        ProjectStaticData data = scheduler.getProjectData();
+
+        List<ClassInfo> infos = new ArrayList<>();
+        List<NPERisk> risks = new ArrayList<>();
+        boolean anyRisk = false;
+        for (ClassInfo info : data.getClassInfos()) {
+            if (!info.isTestable()) {
+                continue;
+            }
+            infos.add(info);
+            risks.add(info.getNPERisk());
+            anyRisk |= getWeight(info.getNPERisk()) > 0;
+        }
+
+        if (!anyRisk) {
+            return new BudgetSchedule(scheduler).createScheduleOnce();
+        }
+
+        int maximumBudgetPerCore = 60 * scheduler.getConfiguration().timeInMinutes;
+        int totalBudget = maximumBudgetPerCore * scheduler.getConfiguration().getNumberOfUsableCores();
+        int minBudgetPerJob = 60 * scheduler.getConfiguration().minMinutesPerJob;
+        int extraTime = totalBudget - minBudgetPerJob * infos.size();
+
+        int[] budgets = allocate(risks, minBudgetPerJob, maximumBudgetPerCore, extraTime);
+
+        int totalLeftOver = extraTime;
+        List<JobDefinition> jobs = new LinkedList<>();
+        for (int i = 0; i < infos.size(); i++) {
+            totalLeftOver -= budgets[i] - minBudgetPerJob;
+            jobs.add(new JobDefinition(budgets[i], scheduler.getConfiguration().getConstantMemoryPerJob(),
+                    infos.get(i).getClassName(), 0, null, null));
+        }
+
+        if (totalLeftOver > 0) {
+            /*
+             * all CUTs with a risk already have the maximum budget
+             */
+            distributeExtraBudgetEvenly(jobs, totalLeftOver, maximumBudgetPerCore);
+        }
+
+        /*
+         * as in BudgetSchedule, the most expensive jobs are executed first
+         */
+        jobs.sort((a, b) -> b.seconds - a.seconds);
+
+        return jobs;
+    }
+
+    /**
+     * Greedily allocate the extra time to the CUTs with the highest expected NPE yield per second
+     *
+     * @return the budget of each CUT, between the minimum and maximum budget per job. Time which
+     * would not increase the expected yield is not allocated
+     */
+    static int[] allocate(List<NPERisk> risks, int minBudgetPerJob, int maximumBudgetPerJob, int extraTime) {
+        int[] budgets = new int[risks.size()];
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(1, risks.size()),
+                (a, b) -> Double.compare(getGain(risks.get(b), budgets[b]), getGain(risks.get(a), budgets[a])));
+
+        for (int i = 0; i < budgets.length; i++) {
+            budgets[i] = minBudgetPerJob;
+            if (getWeight(risks.get(i)) > 0 && budgets[i] < maximumBudgetPerJob) {
+                queue.add(i);
+            }
+        }
+
+        while (extraTime > 0 && !queue.isEmpty()) {
+            int i = queue.poll();
+            int step = Math.min(STEP, Math.min(extraTime, maximumBudgetPerJob - budgets[i]));
+            budgets[i] += step;
+            extraTime -= step;
+            if (budgets[i] < maximumBudgetPerJob) {
+                // the gain of the CUT changed, so it has to be reinserted
+                queue.add(i);
+            }
+        }
+
+        return budgets;
+    }
+
+    /**
+     * @return expected number of NPEs found in a CUT with the given budget
+     */
+    static double getExpectedYield(NPERisk risk, int seconds) {
+        double timeConstant = BASE_TIME_CONSTANT * (1.0 + risk.getComplexity() / COMPLEXITY_SCALE);
+        return getWeight(risk) * (1.0 - Math.exp(-seconds / timeConstant));
+    }
+
+    private static double getGain(NPERisk risk, int seconds) {
+        return getExpectedYield(risk, seconds + STEP) - getExpectedYield(risk, seconds);
+    }
+
+    private static int getWeight(NPERisk risk) {
+        return risk.getCandidates() + risk.getNullableFields();
+    }
+}
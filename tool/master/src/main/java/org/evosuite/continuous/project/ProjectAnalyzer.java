@@ -22,6 +22,9 @@ package org.evosuite.continuous.project;
 import org.evosuite.Properties;
 import org.evosuite.Properties.AvailableSchedule;
 import org.evosuite.TestGenerationContext;
+import org.evosuite.analysis.summary.NPERisk;
+import org.evosuite.analysis.summary.NPERiskAnalyzer;
+import org.evosuite.analysis.summary.NullnessSummaries;
 import org.evosuite.classpath.ClassPathHacker;
 import org.evosuite.classpath.ClassPathHandler;
 import org.evosuite.classpath.ResourceList;
@@ -244,7 +247,42 @@ public class ProjectAnalyzer {
             }
         }
 
+        if (Properties.CTG_SCHEDULE == AvailableSchedule.NPE) {
+            analyzeNPERisk(data);
+        }
+
         return data;
     }
+
+    /**
+     * Run the static NPE pre-pass on the sources of the project, and attach the
+     * risk of each CUT to its class info
+     */
+    private void analyzeNPERisk(ProjectStaticData data) {
+        if (Properties.TARGET_DIR == null || Properties.TARGET_DIR.isEmpty()) {
+            logger.warn("No target_dir with the sources of the project, cannot compute the NPE risk of the CUTs");
+            return;
+        }
+
+        String root = NPERiskAnalyzer.getSourceRoot(Properties.TARGET_DIR);
+        if (Properties.NPE_SUMMARIES) {
+            // cached for the clients as well
+            NullnessSummaries.getInstance().load(root);
+        }
+
+        Map<String, NPERisk> risks = new NPERiskAnalyzer().analyze(root);
+
+        for (ClassInfo info : data.getClassInfos()) {
+            String className = info.getClassName();
+            if (className.contains("$")) {
+                // nested CUTs are in the source of their top level class
+                className = className.substring(0, className.indexOf('$'));
+            }
+            NPERisk risk = risks.get(className);
+            if (risk != null) {
+                info.setNPERisk(risk);
+            }
+        }
+    }
 }
 
@@ -20,6 +20,7 @@
 package org.evosuite.continuous.project;
 
 import org.evosuite.Properties;
+import org.evosuite.analysis.summary.NPERisk;
 import org.evosuite.continuous.persistency.StorageManager;
 import org.evosuite.xsd.CUT;
 import org.evosuite.xsd.Generation;
@@ -163,6 +164,11 @@ public class ProjectStaticData {
          */
         private int memoryInMB = 0;
 
+        /**
+         * static NPE risk of the CUT, only computed for the NPE schedule
+         */
+        private NPERisk npeRisk = NPERisk.NONE;
+
         public ClassInfo(Class<?> theClass, int numberOfBranches, boolean hasCode) {
             super();
             this.theClass = theClass;
@@ -209,6 +215,14 @@ public class ProjectStaticData {
         public int getMemoryInMB() {
             return memoryInMB;
         }
+
+        public void setNPERisk(NPERisk npeRisk) {
+            this.npeRisk = npeRisk;
+        }
+
+        public NPERisk getNPERisk() {
+            return npeRisk;
+        }
     }
 
     /**
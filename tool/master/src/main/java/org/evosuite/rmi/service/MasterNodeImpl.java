@@ -26,6 +26,7 @@ import org.evosuite.ga.Chromosome;
 import org.evosuite.result.TestGenerationResult;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.statistics.SearchStatistics;
+import org.evosuite.statistics.StatisticsBatch;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
 import org.slf4j.Logger;
@@ -174,6 +175,12 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
         SearchStatistics.getInstance(clientRmiIdentifier).setOutputVariable(variable, value);
     }
 
+    @Override
+    public void evosuite_collectStatisticsBatch(String clientRmiIdentifier, StatisticsBatch batch)
+            throws RemoteException {
+        SearchStatistics.getInstance(clientRmiIdentifier).collectBatch(batch);
+    }
+
     @Override
     public void evosuite_collectTestGenerationResult(
             String clientRmiIdentifier, List<TestGenerationResult> results)
@@ -75,6 +75,12 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
      */
     private TestSuiteChromosome bestIndividual = null;
 
+    /**
+     * Values of the best individual received so far. With compact statistics,
+     * this might be all we get from the client.
+     */
+    private StatisticsSnapshot bestSnapshot = null;
+
     /**
      * Backend used to output the data
      */
@@ -193,13 +199,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
 
         logger.debug("Received individual");
         bestIndividual = (TestSuiteChromosome) individual;
-        
-        for (ChromosomeOutputVariableFactory<?> v : variableFactories.values()) {
-            setOutputVariable(v.getVariable((TestSuiteChromosome) individual));
-        }
-        for (SequenceOutputVariableFactory<?> v : sequenceOutputVariableFactories.values()) {
-            v.update((TestSuiteChromosome) individual);
-        }
+        currentSnapshot(StatisticsSnapshot.of(bestIndividual));
     }
 
     /**
@@ -219,11 +219,41 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
 
         logger.debug("Received individual");
         bestIndividual = (TestSuiteChromosome) individual;
+        currentSnapshot(StatisticsSnapshot.of(bestIndividual));
+    }
+
+    /**
+     * This method is called when the values of the best individual of the
+     * current generation are sent from a client, instead of the individual itself.
+     *
+     * @param snapshot values of the best individual of current generation
+     */
+    public void currentSnapshot(StatisticsSnapshot snapshot) {
+        if (backend == null)
+            return;
+
+        bestSnapshot = snapshot;
         for (ChromosomeOutputVariableFactory<?> v : variableFactories.values()) {
-            setOutputVariable(v.getVariable((TestSuiteChromosome) individual));
+            setOutputVariable(v.getVariable(snapshot));
         }
         for (SequenceOutputVariableFactory<?> v : sequenceOutputVariableFactories.values()) {
-            v.update((TestSuiteChromosome) individual);
+            v.update(snapshot);
+        }
+    }
+
+    /**
+     * Applies, in order, the output variables and snapshots sent by a client
+     * in a single batch.
+     *
+     * @param batch
+     */
+    public void collectBatch(StatisticsBatch batch) {
+        for (StatisticsBatch.Entry entry : batch.getEntries()) {
+            if (entry.isSnapshot()) {
+                currentSnapshot(entry.getSnapshot());
+            } else {
+                setOutputVariable(entry.getVariable(), entry.getValue());
+            }
         }
     }
 
@@ -314,7 +344,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
     /**
      * Shorthand for getOutputVariables(individual, false)
      */
-    private Map<String, OutputVariable<?>> getOutputVariables(TestSuiteChromosome individual) {
+    private Map<String, OutputVariable<?>> getOutputVariables(StatisticsSnapshot individual) {
         return getOutputVariables(individual, false);
     }
 
@@ -326,7 +356,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
      * @param skip_missing whether or not to skip missing output variables
      * @return <code>null</code> if some data is missing
      */
-    private Map<String, OutputVariable<?>> getOutputVariables(TestSuiteChromosome individual, boolean skip_missing) {
+    private Map<String, OutputVariable<?>> getOutputVariables(StatisticsSnapshot individual, boolean skip_missing) {
         Map<String, OutputVariable<?>> variables = new LinkedHashMap<>();
 
         for (String variableName : getOutputVariableNames()) {
@@ -373,12 +403,12 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
 
         outputVariables.put(RuntimeVariable.Total_Time.name(), new OutputVariable<Object>(RuntimeVariable.Total_Time.name(), System.currentTimeMillis() - startTime));
 
-        if (bestIndividual == null) {
+        if (bestSnapshot == null) {
             logger.error("No statistics has been saved because EvoSuite failed to generate any test case");
             return false;
         }
 
-        TestSuiteChromosome individual = bestIndividual;
+        StatisticsSnapshot individual = bestSnapshot;
 
         Map<String, OutputVariable<?>> map = getOutputVariables(individual);
         if (map == null) {
@@ -424,7 +454,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
             logger.error("Not going to write down statistics data, as some data is invalid");
             return false;
         } else {
-            backend.writeData(individual, map);
+            backend.writeData(bestIndividual, map);
             return true;
         }
     }
@@ -444,7 +474,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         outputVariables.put(RuntimeVariable.Total_Time.name(), new OutputVariable<Object>(RuntimeVariable.Total_Time.name(), System.currentTimeMillis() - startTime));
 
         TestSuiteChromosome individual = new TestSuiteChromosome();
-        Map<String, OutputVariable<?>> map = getOutputVariables(individual);
+        Map<String, OutputVariable<?>> map = getOutputVariables(StatisticsSnapshot.of(individual));
         if (map == null) {
             logger.error("Not going to write down statistics data, as some are missing");
             return false;
@@ -500,7 +530,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Integer getData(TestSuiteChromosome individual) {
+        protected Integer getData(StatisticsSnapshot individual) {
             return individual.totalLengthOfTestCases();
         }
     }
@@ -514,7 +544,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Integer getData(TestSuiteChromosome individual) {
+        protected Integer getData(StatisticsSnapshot individual) {
             return individual.size();
         }
     }
@@ -528,7 +558,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Double getData(TestSuiteChromosome individual) {
+        protected Double getData(StatisticsSnapshot individual) {
             return individual.getFitness();
         }
     }
@@ -542,7 +572,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Double getData(TestSuiteChromosome individual) {
+        protected Double getData(StatisticsSnapshot individual) {
             return individual.getCoverage();
         }
     }
@@ -557,7 +587,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Double getValue(TestSuiteChromosome individual) {
+        protected Double getValue(StatisticsSnapshot individual) {
             return individual.getFitness();
         }
     }
@@ -572,7 +602,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverage();
         }
     }
@@ -587,7 +617,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(StatisticsSnapshot individual) {
             return individual.size();
         }
     }
@@ -602,7 +632,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(StatisticsSnapshot individual) {
             return individual.totalLengthOfTestCases();
         }
     }
@@ -617,7 +647,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(StatisticsSnapshot individual) {
             return individual.getNumOfNotCoveredGoals();
         }
     }
@@ -629,7 +659,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(BranchCoverageSuiteFitness.class);
         }
     }
@@ -641,7 +671,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -653,7 +683,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -665,7 +695,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -677,7 +707,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -689,7 +719,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -701,7 +731,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -713,7 +743,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -725,7 +755,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -737,7 +767,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -749,7 +779,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -761,7 +791,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             Double d = individual.getFitnessInstanceOf(RhoCoverageSuiteFitness.class);
             return d > 1.0 ? 0.0 : d;
         }
@@ -774,7 +804,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(AmbiguityCoverageSuiteFitness.class);
         }
     }
@@ -786,7 +816,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -798,7 +828,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -810,7 +840,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -822,7 +852,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -834,7 +864,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -846,7 +876,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -858,7 +888,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -870,7 +900,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -882,7 +912,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(WeakMutationSuiteFitness.class);
         }
     }
@@ -894,7 +924,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getFitnessInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
@@ -906,7 +936,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(StatisticsSnapshot individual) {
             return individual.getCoverageInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JobWorkerTest {
+
+    @Test
+    public void testNoRestartWithinLimits() {
+        JobWorker worker = new JobWorker(1.0, Integer.MAX_VALUE);
+        Assert.assertFalse(worker.needsRestart());
+    }
+
+    @Test
+    public void testRestartOnLoadedClasses() {
+        JobWorker worker = new JobWorker(1.0, 0);
+        Assert.assertTrue(worker.needsRestart());
+    }
+
+    @Test
+    public void testRestartOnHeap() {
+        JobWorker worker = new JobWorker(0.0, Integer.MAX_VALUE);
+        Assert.assertTrue(worker.needsRestart());
+    }
+}
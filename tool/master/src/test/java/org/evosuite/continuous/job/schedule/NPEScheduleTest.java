@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.continuous.job.schedule;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.evosuite.analysis.summary.NPERisk;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NPEScheduleTest {
+
+    @Test
+    public void testRiskyClassGetsMoreTime() {
+        List<NPERisk> risks = Arrays.asList(NPERisk.NONE, new NPERisk(10, 2, 5), new NPERisk(2, 0, 5));
+
+        int[] budgets = NPESchedule.allocate(risks, 60, 600, 300);
+
+        Assert.assertEquals(60, budgets[0]);
+        Assert.assertTrue(budgets[1] > budgets[2]);
+        Assert.assertTrue(budgets[2] > 60);
+        Assert.assertEquals(60 * 3 + 300, budgets[0] + budgets[1] + budgets[2]);
+    }
+
+    @Test
+    public void testMaximumBudgetPerJob() {
+        List<NPERisk> risks = Arrays.asList(new NPERisk(100, 0, 0), new NPERisk(1, 0, 0));
+
+        int[] budgets = NPESchedule.allocate(risks, 60, 120, 1000);
+
+        Assert.assertEquals(120, budgets[0]);
+        Assert.assertEquals(120, budgets[1]);
+    }
+
+    @Test
+    public void testComplexClassSaturatesLater() {
+        NPERisk simple = new NPERisk(5, 0, 0);
+        NPERisk complex = new NPERisk(5, 0, 100);
+
+        Assert.assertTrue(NPESchedule.getExpectedYield(simple, 60) > NPESchedule.getExpectedYield(complex, 60));
+        Assert.assertTrue(NPESchedule.getExpectedYield(complex, 6000) > 4.9);
+        Assert.assertEquals(0.0, NPESchedule.getExpectedYield(NPERisk.NONE, 600), 0.0);
+    }
+}
@@ -19,13 +19,42 @@
  */
 package org.evosuite.statistics;
 
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.junit.After;
 import org.junit.Test;
 
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
 public class SearchStatisticsTest {
 
+    private static final String CLIENT = "SearchStatisticsTest";
+
+    @After
+    public void tearDown() {
+        SearchStatistics.clearInstance(CLIENT);
+    }
+
     @Test
     public void test_setOutputVariable() {
         SearchStatistics statistics = SearchStatistics.getInstance();
         statistics.setOutputVariable(RuntimeVariable.DiversityTimeline, 0.42);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_collectBatchAppliesEntriesInOrder() {
+        SearchStatistics statistics = SearchStatistics.getInstance(CLIENT);
+        StatisticsSnapshot snapshot = StatisticsSnapshot.of(new TestSuiteChromosome());
+
+        statistics.collectBatch(new StatisticsBatch(Arrays.asList(
+                StatisticsBatch.Entry.ofVariable(RuntimeVariable.Size, 7),
+                StatisticsBatch.Entry.ofSnapshot(snapshot))));
+        assertEquals(0, statistics.getOutputVariables().get(RuntimeVariable.Size.name()).getValue());
+
+        statistics.collectBatch(new StatisticsBatch(Arrays.asList(
+                StatisticsBatch.Entry.ofSnapshot(snapshot),
+                StatisticsBatch.Entry.ofVariable(RuntimeVariable.Size, 7))));
+        assertEquals(7, statistics.getOutputVariables().get(RuntimeVariable.Size.name()).getValue());
+    }
+}